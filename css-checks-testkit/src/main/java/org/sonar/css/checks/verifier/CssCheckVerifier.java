@@ -33,7 +33,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
-import org.sonar.css.parser.CssParserBuilder;
+import org.sonar.css.FileContent;
+import org.sonar.css.parser.CssParserFactory;
 import org.sonar.css.tree.impl.CssTree;
 import org.sonar.css.visitors.CharsetAwareVisitor;
 import org.sonar.css.visitors.CssVisitorContext;
@@ -53,6 +54,11 @@ import static org.junit.Assert.fail;
  */
 public class CssCheckVerifier extends SubscriptionVisitorCheck {
 
+  /**
+   * Shared by all the verified files, so that parsers are built once per concurrent test rather than once per file.
+   */
+  static final CssParserFactory PARSER_FACTORY = new CssParserFactory();
+
   private final List<TestIssue> expectedIssues = new ArrayList<>();
 
   /**
@@ -120,8 +126,9 @@ public class CssCheckVerifier extends SubscriptionVisitorCheck {
    * @param charset Charset of the file to test.
    */
   public static void verify(CssCheck check, File file, Charset charset) {
-    CssTree tree = (CssTree) CssParserBuilder.createParser(charset).parse(file);
-    CssVisitorContext context = new CssVisitorContext(tree, file);
+    FileContent fileContent = FileContent.read(file, charset);
+    CssTree tree = (CssTree) PARSER_FACTORY.parse(fileContent.text());
+    CssVisitorContext context = new CssVisitorContext(tree, file, fileContent);
 
     CssCheckVerifier checkVerifier = new CssCheckVerifier();
     checkVerifier.scanFile(context);
@@ -25,7 +25,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-import org.sonar.css.parser.CssParserBuilder;
+import org.sonar.css.FileContent;
 import org.sonar.css.tree.impl.CssTree;
 import org.sonar.css.visitors.CssVisitorContext;
 import org.sonar.plugins.css.api.CssCheck;
@@ -43,8 +43,9 @@ class TreeCheckTest {
   public static Collection<CheckMessage> getIssues(String relativePath, CssCheck check, Charset charset) {
     File file = new File(relativePath);
 
-    CssTree tree = (CssTree) CssParserBuilder.createParser(charset).parse(file);
-    CssVisitorContext context = new CssVisitorContext(tree, file);
+    FileContent fileContent = FileContent.read(file, charset);
+    CssTree tree = (CssTree) CssCheckVerifier.PARSER_FACTORY.parse(fileContent.text());
+    CssVisitorContext context = new CssVisitorContext(tree, file, fileContent);
     List<Issue> issues = check.scanFile(context);
 
     return getCheckMessages(issues);
@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.CaseInsensitiveFlagTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,12 +38,18 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.BROWSER_COMPATIBILITY})
 @SqaleConstantRemediation("5min")
 @ActivatedByDefault
-public class CaseInsensitiveFlagCheck extends DoubleDispatchVisitorCheck {
+public class CaseInsensitiveFlagCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.CASE_INSENSITIVE_FLAG);
+  }
 
   @Override
-  public void visitCaseInsensitiveFlag(CaseInsensitiveFlagTree tree) {
-    addPreciseIssue(tree, "Remove this usage of the case-insensitive flag.");
-    super.visitCaseInsensitiveFlag(tree);
+  public void visitNode(Tree tree) {
+    CaseInsensitiveFlagTree caseInsensitiveFlagTree = (CaseInsensitiveFlagTree) tree;
+
+    addPreciseIssue(caseInsensitiveFlagTree, "Remove this usage of the case-insensitive flag.");
   }
 
 }
@@ -19,12 +19,17 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.css.model.atrule.standard.Charset;
 import org.sonar.plugins.css.api.tree.AtRuleTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -35,16 +40,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.BUG})
 @SqaleConstantRemediation("5min")
 @ActivatedByDefault
-public class CharsetFirstCheck extends DoubleDispatchVisitorCheck {
+public class CharsetFirstCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.AT_RULE);
+  }
 
   @Override
-  public void visitAtRule(AtRuleTree tree) {
-    if (tree.standardAtRule() instanceof Charset && !isFirst(tree.atKeyword().atSymbol())) {
+  public void visitNode(Tree tree) {
+    AtRuleTree atRuleTree = (AtRuleTree) tree;
+
+    if (atRuleTree.standardAtRule() instanceof Charset && !isFirst(atRuleTree.atKeyword().atSymbol())) {
       addPreciseIssue(
-        tree.atKeyword(),
+        atRuleTree.atKeyword(),
         "Move the @charset rule to the very beginning of the style sheet.");
     }
-    super.visitAtRule(tree);
   }
 
   private boolean isFirst(SyntaxToken atSymbol) {
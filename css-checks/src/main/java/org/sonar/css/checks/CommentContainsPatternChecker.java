@@ -19,7 +19,7 @@
  */
 package org.sonar.css.checks;
 
-import org.apache.commons.lang.StringUtils;
+import org.sonar.css.tree.impl.InternalSyntaxTrivia;
 import org.sonar.plugins.css.api.tree.SyntaxTrivia;
 import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
 
@@ -36,15 +36,16 @@ public class CommentContainsPatternChecker extends DoubleDispatchVisitorCheck {
   @Override
   public void visitComment(SyntaxTrivia trivia) {
     String comment = trivia.text();
-    if (StringUtils.containsIgnoreCase(comment, pattern) && !isLetterAround(comment, pattern)) {
+    // The scan of the comment is computed once and shared with the metrics and the other comment checks
+    int start = ((InternalSyntaxTrivia) trivia).commentScan().indexOfIgnoreCase(pattern);
+    if (start != -1 && !isLetterAround(comment, start, pattern.length())) {
       addPreciseIssue(trivia, message);
     }
     super.visitComment(trivia);
   }
 
-  private static boolean isLetterAround(String line, String pattern) {
-    int start = StringUtils.indexOfIgnoreCase(line, pattern);
-    int end = start + pattern.length();
+  private static boolean isLetterAround(String line, int start, int length) {
+    int end = start + length;
 
     boolean pre = start > 0 && Character.isLetter(line.charAt(start - 1));
     boolean post = end < line.length() - 1 && Character.isLetter(line.charAt(end));
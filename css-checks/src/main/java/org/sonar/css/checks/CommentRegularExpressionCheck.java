@@ -53,9 +53,11 @@ public class CommentRegularExpressionCheck extends DoubleDispatchVisitorCheck {
     defaultValue = DEFAULT_MESSAGE)
   public String message = DEFAULT_MESSAGE;
 
+  private Pattern pattern;
+
   @Override
   public void visitComment(SyntaxTrivia trivia) {
-    if (trivia.text().matches(regularExpression)) {
+    if (pattern().matcher(trivia.text()).matches()) {
       addPreciseIssue(trivia, message);
     }
     super.visitComment(trivia);
@@ -64,12 +66,22 @@ public class CommentRegularExpressionCheck extends DoubleDispatchVisitorCheck {
   @Override
   public void validateParameters() {
     try {
-      Pattern.compile(regularExpression);
+      pattern = Pattern.compile(regularExpression);
     } catch (PatternSyntaxException exception) {
       throw new IllegalStateException(paramsErrorMessage(), exception);
     }
   }
 
+  /**
+   * Compiled once instead of on every comment, and again only if the parameter is changed afterwards.
+   */
+  private Pattern pattern() {
+    if (pattern == null || !pattern.pattern().equals(regularExpression)) {
+      pattern = Pattern.compile(regularExpression);
+    }
+    return pattern;
+  }
+
   private String paramsErrorMessage() {
     return CheckUtils.paramsErrorMessage(
       this.getClass(),
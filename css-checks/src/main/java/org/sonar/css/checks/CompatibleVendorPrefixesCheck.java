@@ -21,7 +21,7 @@ package org.sonar.css.checks;
 
 import com.google.common.collect.Sets;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,7 +31,6 @@ import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.css.model.Vendor;
 import org.sonar.css.model.property.StandardProperty;
-import org.sonar.css.model.property.StandardPropertyFactory;
 import org.sonar.plugins.css.api.tree.AtRuleTree;
 import org.sonar.plugins.css.api.tree.PropertyDeclarationTree;
 import org.sonar.plugins.css.api.tree.RulesetTree;
@@ -46,7 +45,7 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 @SqaleConstantRemediation("10min")
 public class CompatibleVendorPrefixesCheck extends DoubleDispatchVisitorCheck {
 
-  private final Map<String, Set<Vendor>> properties = new HashMap<>();
+  private final Map<StandardProperty, Set<Vendor>> properties = new LinkedHashMap<>();
 
   @Override
   public void visitAtRule(AtRuleTree tree) {
@@ -61,8 +60,8 @@ public class CompatibleVendorPrefixesCheck extends DoubleDispatchVisitorCheck {
     super.visitRuleset(tree);
 
     List<String> missingVendorPrefixes;
-    for (Map.Entry<String, Set<Vendor>> props : properties.entrySet()) {
-      StandardProperty p = StandardPropertyFactory.getByName(props.getKey());
+    for (Map.Entry<StandardProperty, Set<Vendor>> props : properties.entrySet()) {
+      StandardProperty p = props.getKey();
       missingVendorPrefixes = p.getVendors()
         .stream()
         .filter(vendor -> !props.getValue().contains(vendor))
@@ -79,12 +78,12 @@ public class CompatibleVendorPrefixesCheck extends DoubleDispatchVisitorCheck {
   @Override
   public void visitPropertyDeclaration(PropertyDeclarationTree tree) {
     if (tree.property().isVendorPrefixed()) {
-      String standardPropertyName = tree.property().standardProperty().getName();
+      StandardProperty standardProperty = tree.property().standardProperty();
       Vendor vendor = tree.property().vendor();
-      if (properties.containsKey(standardPropertyName)) {
-        properties.get(standardPropertyName).add(vendor);
+      if (properties.containsKey(standardProperty)) {
+        properties.get(standardProperty).add(vendor);
       } else {
-        properties.put(standardPropertyName, Sets.newHashSet(vendor));
+        properties.put(standardProperty, Sets.newHashSet(vendor));
       }
     }
     super.visitPropertyDeclaration(tree);
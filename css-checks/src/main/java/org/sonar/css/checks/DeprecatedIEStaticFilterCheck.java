@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.FunctionTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,16 +38,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.BROWSER_COMPATIBILITY})
 @SqaleConstantRemediation("10min")
 @ActivatedByDefault
-public class DeprecatedIEStaticFilterCheck extends DoubleDispatchVisitorCheck {
+public class DeprecatedIEStaticFilterCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.FUNCTION);
+  }
 
   @Override
-  public void visitFunction(FunctionTree tree) {
-    if (tree.standardFunction().isIeStaticFilter()) {
+  public void visitNode(Tree tree) {
+    FunctionTree functionTree = (FunctionTree) tree;
+
+    if (functionTree.standardFunction().isIeStaticFilter()) {
       addPreciseIssue(
-        tree,
-        "Remove this usage of the \"" + tree.standardFunction().getName() + "\" Internet Explorer static filter.");
+        functionTree,
+        "Remove this usage of the \"" + functionTree.standardFunction().getName() + "\" Internet Explorer static filter.");
     }
-    super.visitFunction(tree);
   }
 
 }
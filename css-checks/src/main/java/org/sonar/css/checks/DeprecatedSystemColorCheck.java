@@ -19,12 +19,18 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.css.model.Color;
+import org.sonar.css.model.KeywordSet;
 import org.sonar.plugins.css.api.tree.IdentifierTree;
+import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.plugins.css.api.tree.ValueTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -35,15 +41,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION, Tags.PITFALL, Tags.BROWSER_COMPATIBILITY})
 @ActivatedByDefault
 @SqaleConstantRemediation("10min")
-public class DeprecatedSystemColorCheck extends DoubleDispatchVisitorCheck {
+public class DeprecatedSystemColorCheck extends SubscriptionVisitorCheck {
+
+  private static final KeywordSet SYSTEM_COLORS = KeywordSet.of(Color.CSS2_SYSTEM_COLORS);
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.VALUE);
+  }
 
   @Override
-  public void visitValue(ValueTree valueTree) {
+  public void visitNode(Tree tree) {
+    ValueTree valueTree = (ValueTree) tree;
+
     valueTree.valueElementsOfType(IdentifierTree.class).stream()
-      .filter(t -> Color.CSS2_SYSTEM_COLORS.contains(t.text().toLowerCase()))
+      .filter(t -> SYSTEM_COLORS.contains(t.text()))
       .forEach(t -> addPreciseIssue(t, "Remove this usage of the deprecated \"" + t.text() + "\" system color."));
-
-    super.visitValue(valueTree);
   }
 
 }
@@ -19,15 +19,17 @@
  */
 package org.sonar.css.checks;
 
-import java.util.Set;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.css.model.property.StandardProperty;
-import org.sonar.css.model.property.StandardPropertyFactory;
 import org.sonar.plugins.css.api.tree.PropertyDeclarationTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
 @Rule(
@@ -36,28 +38,27 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   priority = Priority.MINOR,
   tags = {Tags.PITFALL, Tags.UNDERSTANDABILITY})
 @SqaleConstantRemediation("5min")
-public class DoNotUseShorthandPropertyCheck extends DoubleDispatchVisitorCheck {
+public class DoNotUseShorthandPropertyCheck extends SubscriptionVisitorCheck {
 
-  private static final Set<String> SHORTHAND_PROPERTIES = StandardPropertyFactory.getAll()
-    .stream()
-    .filter(StandardProperty::isShorthand)
-    .map(StandardProperty::getName)
-    .collect(Collectors.toSet());
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.PROPERTY_DECLARATION);
+  }
 
   @Override
-  public void visitPropertyDeclaration(PropertyDeclarationTree tree) {
-    StandardProperty standardProperty = tree.property().standardProperty();
+  public void visitNode(Tree tree) {
+    PropertyDeclarationTree propertyDeclarationTree = (PropertyDeclarationTree) tree;
+
+    StandardProperty standardProperty = propertyDeclarationTree.property().standardProperty();
     String propertyName = standardProperty.getName();
 
-    if (SHORTHAND_PROPERTIES.contains(propertyName)
-      && tree.value().sanitizedValueElements().size() > 1) {
+    if (standardProperty.isShorthand()
+      && propertyDeclarationTree.value().sanitizedValueElements().size() > 1) {
       addPreciseIssue(
-        tree.property(),
+        propertyDeclarationTree.property(),
         "Replace this \"" + propertyName + "\" shorthand property with its longhand properties: "
           + standardProperty.getShorthandForPropertyNames().stream().sorted().collect(Collectors.joining(", ")));
     }
-
-    super.visitPropertyDeclaration(tree);
   }
 
 }
@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.AtRuleTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,16 +38,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION, Tags.BROWSER_COMPATIBILITY})
 @SqaleConstantRemediation("5min")
 @ActivatedByDefault
-public class ExperimentalAtRuleCheck extends DoubleDispatchVisitorCheck {
+public class ExperimentalAtRuleCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.AT_RULE);
+  }
 
   @Override
-  public void visitAtRule(AtRuleTree tree) {
-    if (tree.isVendorPrefixed() || tree.standardAtRule().isExperimental()) {
+  public void visitNode(Tree tree) {
+    AtRuleTree atRuleTree = (AtRuleTree) tree;
+
+    if (atRuleTree.isVendorPrefixed() || atRuleTree.standardAtRule().isExperimental()) {
       addPreciseIssue(
-        tree.atKeyword(),
-        "Remove this usage of the experimental \"" + tree.standardAtRule().getName() + "\" @-rule.");
+        atRuleTree.atKeyword(),
+        "Remove this usage of the experimental \"" + atRuleTree.standardAtRule().getName() + "\" @-rule.");
     }
-    super.visitAtRule(tree);
   }
 
 }
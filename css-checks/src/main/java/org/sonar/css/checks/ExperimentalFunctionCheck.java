@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.FunctionTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,16 +38,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION, Tags.BROWSER_COMPATIBILITY})
 @SqaleConstantRemediation("5min")
 @ActivatedByDefault
-public class ExperimentalFunctionCheck extends DoubleDispatchVisitorCheck {
+public class ExperimentalFunctionCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.FUNCTION);
+  }
 
   @Override
-  public void visitFunction(FunctionTree tree) {
-    if (tree.isVendorPrefixed() || tree.standardFunction().isExperimental()) {
+  public void visitNode(Tree tree) {
+    FunctionTree functionTree = (FunctionTree) tree;
+
+    if (functionTree.isVendorPrefixed() || functionTree.standardFunction().isExperimental()) {
       addPreciseIssue(
-        tree.function(),
-        "Remove this usage of the experimental \"" + tree.standardFunction().getName() + "\" function.");
+        functionTree.function(),
+        "Remove this usage of the experimental \"" + functionTree.standardFunction().getName() + "\" function.");
     }
-    super.visitFunction(tree);
   }
 
 }
@@ -19,11 +19,16 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.IdentifierTree;
+import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.plugins.css.api.tree.ValueTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -34,16 +39,21 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION, Tags.BROWSER_COMPATIBILITY})
 @SqaleConstantRemediation("5min")
 @ActivatedByDefault
-public class ExperimentalIdentifierCheck extends DoubleDispatchVisitorCheck {
+public class ExperimentalIdentifierCheck extends SubscriptionVisitorCheck {
 
   @Override
-  public void visitValue(ValueTree tree) {
-    tree.valueElementsOfType(IdentifierTree.class)
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.VALUE);
+  }
+
+  @Override
+  public void visitNode(Tree tree) {
+    ValueTree valueTree = (ValueTree) tree;
+
+    valueTree.valueElementsOfType(IdentifierTree.class)
       .stream()
       .filter(IdentifierTree::isVendorPrefixed)
       .forEach(i -> addPreciseIssue(i, "Remove this usage of the experimental \"" + i.text() + "\" identifier."));
-
-    super.visitValue(tree);
   }
 
 }
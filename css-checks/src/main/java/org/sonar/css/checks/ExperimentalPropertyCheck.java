@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.PropertyTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,16 +38,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION, Tags.BROWSER_COMPATIBILITY})
 @SqaleConstantRemediation("5min")
 @ActivatedByDefault
-public class ExperimentalPropertyCheck extends DoubleDispatchVisitorCheck {
+public class ExperimentalPropertyCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.PROPERTY);
+  }
 
   @Override
-  public void visitProperty(PropertyTree tree) {
-    if (tree.isVendorPrefixed() || tree.standardProperty().isExperimental()) {
+  public void visitNode(Tree tree) {
+    PropertyTree propertyTree = (PropertyTree) tree;
+
+    if (propertyTree.isVendorPrefixed() || propertyTree.standardProperty().isExperimental()) {
       addPreciseIssue(
-        tree,
-        "Remove this usage of the experimental \"" + tree.standardProperty().getName() + "\" property.");
+        propertyTree,
+        "Remove this usage of the experimental \"" + propertyTree.standardProperty().getName() + "\" property.");
     }
-    super.visitProperty(tree);
   }
 
 }
@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.SelectorCombinatorTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,15 +38,21 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION, Tags.BROWSER_COMPATIBILITY})
 @SqaleConstantRemediation("5min")
 @ActivatedByDefault
-public class ExperimentalSelectorCombinatorCheck extends DoubleDispatchVisitorCheck {
+public class ExperimentalSelectorCombinatorCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.SELECTOR_COMBINATOR);
+  }
 
   @Override
-  public void visitSelectorCombinator(SelectorCombinatorTree tree) {
-    if (tree.type() == SelectorCombinatorTree.COMBINATOR.DESCENDANT
-      || tree.type() == SelectorCombinatorTree.COMBINATOR.COLUMN) {
-      addPreciseIssue(tree, "Remove this experimental selector combinator.");
+  public void visitNode(Tree tree) {
+    SelectorCombinatorTree selectorCombinatorTree = (SelectorCombinatorTree) tree;
+
+    if (selectorCombinatorTree.type() == SelectorCombinatorTree.COMBINATOR.DESCENDANT
+      || selectorCombinatorTree.type() == SelectorCombinatorTree.COMBINATOR.COLUMN) {
+      addPreciseIssue(selectorCombinatorTree, "Remove this experimental selector combinator.");
     }
-    super.visitSelectorCombinator(tree);
   }
 
 }
@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.IdSelectorTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,12 +38,18 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.DESIGN})
 @SqaleConstantRemediation("1h")
 @ActivatedByDefault
-public class IdInSelectorCheck extends DoubleDispatchVisitorCheck {
+public class IdInSelectorCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.ID_SELECTOR);
+  }
 
   @Override
-  public void visitIdSelector(IdSelectorTree tree) {
-    addPreciseIssue(tree, "Remove ID \"" + tree.identifier().text() + "\" from this selector.");
-    super.visitIdSelector(tree);
+  public void visitNode(Tree tree) {
+    IdSelectorTree idSelectorTree = (IdSelectorTree) tree;
+
+    addPreciseIssue(idSelectorTree, "Remove ID \"" + idSelectorTree.identifier().text() + "\" from this selector.");
   }
 
 }
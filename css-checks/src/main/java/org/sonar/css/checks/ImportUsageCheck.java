@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.AtKeywordTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,14 +38,20 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.PERFORMANCE})
 @SqaleConstantRemediation("1h")
 @ActivatedByDefault
-public class ImportUsageCheck extends DoubleDispatchVisitorCheck {
+public class ImportUsageCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.AT_KEYWORD);
+  }
 
   @Override
-  public void visitAtKeyword(AtKeywordTree tree) {
-    if ("import".equalsIgnoreCase(tree.keyword().text())) {
-      addPreciseIssue(tree, "Remove this @import rule.");
+  public void visitNode(Tree tree) {
+    AtKeywordTree atKeywordTree = (AtKeywordTree) tree;
+
+    if ("import".equalsIgnoreCase(atKeywordTree.keyword().text())) {
+      addPreciseIssue(atKeywordTree, "Remove this @import rule.");
     }
-    super.visitAtKeyword(tree);
   }
 
 }
@@ -19,11 +19,16 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.ImportantTree;
+import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.plugins.css.api.tree.ValueTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -34,16 +39,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.BUG})
 @ActivatedByDefault
 @SqaleConstantRemediation("5min")
-public class ImportantPositionCheck extends DoubleDispatchVisitorCheck {
+public class ImportantPositionCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.VALUE);
+  }
 
   @Override
-  public void visitValue(ValueTree tree) {
-    for (int i = 0; i < tree.valueElements().size() - 1; i++) {
-      if (tree.valueElements().get(i) instanceof ImportantTree) {
-        addPreciseIssue(tree.valueElements().get(i), "Move the \"!important\" annotation to the end of the declaration.");
+  public void visitNode(Tree tree) {
+    ValueTree valueTree = (ValueTree) tree;
+
+    for (int i = 0; i < valueTree.valueElements().size() - 1; i++) {
+      if (valueTree.valueElements().get(i) instanceof ImportantTree) {
+        addPreciseIssue(valueTree.valueElements().get(i), "Move the \"!important\" annotation to the end of the declaration.");
       }
     }
-    super.visitValue(tree);
   }
 
 }
@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.ImportantTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,11 +38,17 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.PITFALL, Tags.DESIGN})
 @SqaleConstantRemediation("1h")
 @ActivatedByDefault
-public class ImportantUsageCheck extends DoubleDispatchVisitorCheck {
+public class ImportantUsageCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.IMPORTANT);
+  }
 
   @Override
-  public void visitImportant(ImportantTree tree) {
-    addPreciseIssue(tree, "Remove this usage of the \"!important\" annotation.");
-    super.visitImportant(tree);
+  public void visitNode(Tree tree) {
+    ImportantTree importantTree = (ImportantTree) tree;
+
+    addPreciseIssue(importantTree, "Remove this usage of the \"!important\" annotation.");
   }
 }
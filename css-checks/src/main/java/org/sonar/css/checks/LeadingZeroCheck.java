@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.NumberTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,14 +38,20 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION})
 @ActivatedByDefault
 @SqaleConstantRemediation("2min")
-public class LeadingZeroCheck extends DoubleDispatchVisitorCheck {
+public class LeadingZeroCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.NUMBER);
+  }
 
   @Override
-  public void visitNumber(NumberTree tree) {
-    if (tree.text().startsWith("0.")) {
-      addPreciseIssue(tree, "Remove the leading zero.");
+  public void visitNode(Tree tree) {
+    NumberTree numberTree = (NumberTree) tree;
+
+    if (numberTree.text().startsWith("0.")) {
+      addPreciseIssue(numberTree, "Remove the leading zero.");
     }
-    super.visitNumber(tree);
   }
 
 }
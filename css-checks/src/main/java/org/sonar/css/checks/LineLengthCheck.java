@@ -20,17 +20,13 @@
 package org.sonar.css.checks;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.io.Files;
 
-import java.io.IOException;
-import java.nio.charset.Charset;
 import java.text.MessageFormat;
-import java.util.List;
 
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
-import org.sonar.css.visitors.CharsetAwareVisitor;
+import org.sonar.css.FileContent;
 import org.sonar.plugins.css.api.tree.StyleSheetTree;
 import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
@@ -43,10 +39,9 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION})
 @SqaleConstantRemediation("1min")
 @ActivatedByDefault
-public class LineLengthCheck extends DoubleDispatchVisitorCheck implements CharsetAwareVisitor {
+public class LineLengthCheck extends DoubleDispatchVisitorCheck {
 
   private static final int DEFAULT_MAXIMUM_LINE_LENGTH = 120;
-  private Charset charset;
 
   @RuleProperty(
     key = "maximumLineLength",
@@ -56,27 +51,16 @@ public class LineLengthCheck extends DoubleDispatchVisitorCheck implements Chars
 
   @Override
   public void visitStyleSheet(StyleSheetTree tree) {
-    List<String> lines;
-    try {
-      lines = Files.readLines(getContext().getFile(), charset);
-    } catch (IOException e) {
-      throw new IllegalStateException(readFileErrorMessage(), e);
-    }
-
-    for (int i = 0; i < lines.size(); i++) {
-      String line = lines.get(i);
-      if (line.length() > maximumLineLength) {
-        addLineIssue(i + 1, issueMessage(line.length()));
+    FileContent fileContent = getContext().getFileContent();
+    for (int line = 1; line <= fileContent.lineCount(); line++) {
+      int lineLength = fileContent.lineLength(line);
+      if (lineLength > maximumLineLength) {
+        addLineIssue(line, issueMessage(lineLength));
       }
     }
     super.visitStyleSheet(tree);
   }
 
-  @Override
-  public void setCharset(Charset charset) {
-    this.charset = charset;
-  }
-
   @VisibleForTesting
   public void setMaximumLineLength(int maximumLineLength) {
     this.maximumLineLength = maximumLineLength;
@@ -88,9 +72,4 @@ public class LineLengthCheck extends DoubleDispatchVisitorCheck implements Chars
       lineLength,
       maximumLineLength);
   }
-
-  private String readFileErrorMessage() {
-    return "Check css:" + this.getClass().getAnnotation(Rule.class).key()
-      + ": Error while reading " + getContext().getFile().getName();
-  }
 }
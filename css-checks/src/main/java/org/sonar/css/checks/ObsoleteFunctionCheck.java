@@ -19,12 +19,16 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
 import java.text.MessageFormat;
+import java.util.List;
 
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.FunctionTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -35,18 +39,24 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.BROWSER_COMPATIBILITY})
 @ActivatedByDefault
 @SqaleConstantRemediation("10min")
-public class ObsoleteFunctionCheck extends DoubleDispatchVisitorCheck {
+public class ObsoleteFunctionCheck extends SubscriptionVisitorCheck {
 
   @Override
-  public void visitFunction(FunctionTree tree) {
-    if (tree.standardFunction().isObsolete()) {
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.FUNCTION);
+  }
+
+  @Override
+  public void visitNode(Tree tree) {
+    FunctionTree functionTree = (FunctionTree) tree;
+
+    if (functionTree.standardFunction().isObsolete()) {
       addPreciseIssue(
-        tree.function(),
+        functionTree.function(),
         MessageFormat.format(
           "Remove this usage of the obsolete / not on W3C Standards track \"{0}\" function.",
-          tree.standardFunction().getName()));
+          functionTree.standardFunction().getName()));
     }
-    super.visitFunction(tree);
   }
 
 }
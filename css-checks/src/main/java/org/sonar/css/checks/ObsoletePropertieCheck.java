@@ -19,12 +19,16 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
 import java.text.MessageFormat;
+import java.util.List;
 
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.PropertyTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -35,18 +39,24 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.BROWSER_COMPATIBILITY})
 @ActivatedByDefault
 @SqaleConstantRemediation("10min")
-public class ObsoletePropertieCheck extends DoubleDispatchVisitorCheck {
+public class ObsoletePropertieCheck extends SubscriptionVisitorCheck {
 
   @Override
-  public void visitProperty(PropertyTree tree) {
-    if (tree.standardProperty().isObsolete()) {
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.PROPERTY);
+  }
+
+  @Override
+  public void visitNode(Tree tree) {
+    PropertyTree propertyTree = (PropertyTree) tree;
+
+    if (propertyTree.standardProperty().isObsolete()) {
       addPreciseIssue(
-        tree,
+        propertyTree,
         MessageFormat.format(
           "Remove this usage of the obsolete / not on W3C Standards track \"{0}\" property.",
-          tree.standardProperty().getName()));
+          propertyTree.standardProperty().getName()));
     }
-    super.visitProperty(tree);
   }
 
 }
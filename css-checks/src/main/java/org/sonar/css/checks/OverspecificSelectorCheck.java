@@ -20,15 +20,18 @@
 package org.sonar.css.checks;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 
 import java.text.MessageFormat;
+import java.util.List;
 
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.css.api.tree.CompoundSelectorTree;
 import org.sonar.plugins.css.api.tree.SelectorTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.plugins.css.api.visitors.issue.PreciseIssue;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
@@ -40,7 +43,7 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.DESIGN})
 @SqaleConstantRemediation("2h")
 @ActivatedByDefault
-public class OverspecificSelectorCheck extends DoubleDispatchVisitorCheck {
+public class OverspecificSelectorCheck extends SubscriptionVisitorCheck {
 
   private static final int DEFAULT_NUM_LEVELS = 3;
 
@@ -51,22 +54,27 @@ public class OverspecificSelectorCheck extends DoubleDispatchVisitorCheck {
   private int deepnessThreshold = DEFAULT_NUM_LEVELS;
 
   @Override
-  public void visitSelector(SelectorTree tree) {
-    if (tree.compoundSelectors().size() > deepnessThreshold) {
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.SELECTOR);
+  }
+
+  @Override
+  public void visitNode(Tree tree) {
+    SelectorTree selectorTree = (SelectorTree) tree;
+
+    if (selectorTree.compoundSelectors().size() > deepnessThreshold) {
 
       PreciseIssue issue = addPreciseIssue(
-        tree,
+        selectorTree,
         MessageFormat.format(
           "Simplify this over-specified selector. Maximum allowed depth: {0}. Actual depth: {1}",
           deepnessThreshold,
-          tree.compoundSelectors().size()));
+          selectorTree.compoundSelectors().size()));
 
-      for (CompoundSelectorTree compoundSelector : tree.compoundSelectors()) {
+      for (CompoundSelectorTree compoundSelector : selectorTree.compoundSelectors()) {
         issue.secondary(compoundSelector, "+1");
       }
     }
-
-    super.visitSelector(tree);
   }
 
   @VisibleForTesting
@@ -19,6 +19,9 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -26,7 +29,8 @@ import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.check.RuleProperty;
 import org.sonar.plugins.css.api.tree.PropertyTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.NoSqale;
 import org.sonar.squidbridge.annotations.RuleTemplate;
 
@@ -36,7 +40,7 @@ import org.sonar.squidbridge.annotations.RuleTemplate;
   priority = Priority.MAJOR)
 @RuleTemplate
 @NoSqale
-public class PropertyRegularExpressionCheck extends DoubleDispatchVisitorCheck {
+public class PropertyRegularExpressionCheck extends SubscriptionVisitorCheck {
 
   private static final String DEFAULT_REGULAR_EXPRESSION = "";
   private static final String DEFAULT_MESSAGE = "The regular expression matches this property.";
@@ -54,11 +58,17 @@ public class PropertyRegularExpressionCheck extends DoubleDispatchVisitorCheck {
   private String message = DEFAULT_MESSAGE;
 
   @Override
-  public void visitProperty(PropertyTree tree) {
-    if (tree.property().text().matches(regularExpression)) {
-      addPreciseIssue(tree, message);
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.PROPERTY);
+  }
+
+  @Override
+  public void visitNode(Tree tree) {
+    PropertyTree propertyTree = (PropertyTree) tree;
+
+    if (propertyTree.property().text().matches(regularExpression)) {
+      addPreciseIssue(propertyTree, message);
     }
-    super.visitProperty(tree);
   }
 
   public void setRegularExpression(String regularExpression) {
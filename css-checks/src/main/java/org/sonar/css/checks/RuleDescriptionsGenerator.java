@@ -104,18 +104,18 @@ public class RuleDescriptionsGenerator {
     .build();
 
   private final Map<String, String> tags = ImmutableMap.<String, String>builder()
-    .put("[[allProperties]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardProperty.class, o -> true)))
-    .put("[[allFunctions]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardFunction.class, o -> true)))
-    .put("[[allAtRules]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardAtRule.class, o -> true)))
-    .put("[[allPseudos]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardPseudoComponent.class, o -> true)))
-    .put("[[experimentalProperties]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardProperty.class, StandardCssObject::isExperimental)))
-    .put("[[experimentalFunctions]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardFunction.class, StandardCssObject::isExperimental)))
-    .put("[[experimentalAtRules]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardAtRule.class, StandardCssObject::isExperimental)))
-    .put("[[experimentalPseudos]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardPseudoComponent.class, StandardCssObject::isExperimental)))
-    .put("[[obsoleteProperties]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardProperty.class, StandardCssObject::isObsolete)))
-    .put("[[obsoleteFunctions]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardFunction.class, StandardCssObject::isObsolete)))
-    .put("[[obsoleteAtRules]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardAtRule.class, StandardCssObject::isObsolete)))
-    .put("[[obsoletePseudos]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardPseudoComponent.class, StandardCssObject::isObsolete)))
+    .put("[[allProperties]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardProperty.class)))
+    .put("[[allFunctions]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardFunction.class)))
+    .put("[[allAtRules]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardAtRule.class)))
+    .put("[[allPseudos]]", generateHtmlTable(StandardCssObjectFactory.getStandardCssObjects(StandardPseudoComponent.class)))
+    .put("[[experimentalProperties]]", generateHtmlTable(StandardCssObjectFactory.getExperimentalStandardCssObjects(StandardProperty.class)))
+    .put("[[experimentalFunctions]]", generateHtmlTable(StandardCssObjectFactory.getExperimentalStandardCssObjects(StandardFunction.class)))
+    .put("[[experimentalAtRules]]", generateHtmlTable(StandardCssObjectFactory.getExperimentalStandardCssObjects(StandardAtRule.class)))
+    .put("[[experimentalPseudos]]", generateHtmlTable(StandardCssObjectFactory.getExperimentalStandardCssObjects(StandardPseudoComponent.class)))
+    .put("[[obsoleteProperties]]", generateHtmlTable(StandardCssObjectFactory.getObsoleteStandardCssObjects(StandardProperty.class)))
+    .put("[[obsoleteFunctions]]", generateHtmlTable(StandardCssObjectFactory.getObsoleteStandardCssObjects(StandardFunction.class)))
+    .put("[[obsoleteAtRules]]", generateHtmlTable(StandardCssObjectFactory.getObsoleteStandardCssObjects(StandardAtRule.class)))
+    .put("[[obsoletePseudos]]", generateHtmlTable(StandardCssObjectFactory.getObsoleteStandardCssObjects(StandardPseudoComponent.class)))
     .put("[[vendors]]", generateListOfVendors())
     .put("[[vendorPrefixedProperties]]", generateVendorPrefixedPropertiesHtmlTable())
     .put("[[propertyValidators]]", generateValidatorsHtmlTable())
@@ -175,7 +175,7 @@ public class RuleDescriptionsGenerator {
     StringBuilder description = new StringBuilder();
 
     StandardProperty property;
-    for (StandardCssObject cssObject : StandardCssObjectFactory.getStandardCssObjects(StandardProperty.class, StandardCssObject::hasVendors)) {
+    for (StandardCssObject cssObject : StandardCssObjectFactory.getVendorPrefixedStandardCssObjects(StandardProperty.class)) {
       property = (StandardProperty) cssObject;
       description.append("  <tr>\n").append("    <td nowrap=\"nowrap\">");
       if (!property.getLinks().isEmpty()) {
@@ -204,13 +204,7 @@ public class RuleDescriptionsGenerator {
   private String generateShorthandPropertiesHtmlTable() {
     StringBuilder description = new StringBuilder();
 
-    List<StandardProperty> shorthandProperties = StandardPropertyFactory.getAll()
-      .stream()
-      .filter(StandardProperty::isShorthand)
-      .sorted((o1, o2) -> o1.getName().compareTo(o2.getName()))
-      .collect(Collectors.toList());
-
-    for (StandardProperty property : shorthandProperties) {
+    for (StandardProperty property : StandardPropertyFactory.getShorthandProperties()) {
       description.append("  <tr>\n").append("    <td nowrap=\"nowrap\">");
       if (!property.getLinks().isEmpty()) {
         description.append("<a target=\"_blank\" href=\"").append(property.getLinks().get(0)).append("\">");
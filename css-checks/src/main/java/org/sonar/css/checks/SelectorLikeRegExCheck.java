@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.AttributeMatcherTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,14 +38,20 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.PERFORMANCE})
 @SqaleConstantRemediation("1h")
 @ActivatedByDefault
-public class SelectorLikeRegExCheck extends DoubleDispatchVisitorCheck {
+public class SelectorLikeRegExCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.ATTRIBUTE_MATCHER);
+  }
 
   @Override
-  public void visitAttributeMatcher(AttributeMatcherTree tree) {
-    if (tree.type() != AttributeMatcherTree.MATCHER.EQUALS) {
-      addPreciseIssue(tree, "Remove this regular expression like selector.");
+  public void visitNode(Tree tree) {
+    AttributeMatcherTree attributeMatcherTree = (AttributeMatcherTree) tree;
+
+    if (attributeMatcherTree.type() != AttributeMatcherTree.MATCHER.EQUALS) {
+      addPreciseIssue(attributeMatcherTree, "Remove this regular expression like selector.");
     }
-    super.visitAttributeMatcher(tree);
   }
 
 }
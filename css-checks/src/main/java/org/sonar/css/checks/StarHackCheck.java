@@ -19,10 +19,15 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.PropertyTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -33,14 +38,20 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION})
 @SqaleConstantRemediation("1h")
 @ActivatedByDefault
-public class StarHackCheck extends DoubleDispatchVisitorCheck {
+public class StarHackCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.PROPERTY);
+  }
 
   @Override
-  public void visitProperty(PropertyTree tree) {
-    if ("*".equals(tree.hack())) {
-      addPreciseIssue(tree, "Remove this usage of the \"*\" hack.");
+  public void visitNode(Tree tree) {
+    PropertyTree propertyTree = (PropertyTree) tree;
+
+    if ("*".equals(propertyTree.hack())) {
+      addPreciseIssue(propertyTree, "Remove this usage of the \"*\" hack.");
     }
-    super.visitProperty(tree);
   }
 
 }
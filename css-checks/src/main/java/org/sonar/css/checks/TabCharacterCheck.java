@@ -19,15 +19,8 @@
  */
 package org.sonar.css.checks;
 
-import com.google.common.io.Files;
-
-import java.io.IOException;
-import java.nio.charset.Charset;
-import java.util.List;
-
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
-import org.sonar.css.visitors.CharsetAwareVisitor;
 import org.sonar.plugins.css.api.tree.StyleSheetTree;
 import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
@@ -40,31 +33,14 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.CONVENTION})
 @ActivatedByDefault
 @SqaleConstantRemediation("2min")
-public class TabCharacterCheck extends DoubleDispatchVisitorCheck implements CharsetAwareVisitor {
-
-  private Charset charset;
+public class TabCharacterCheck extends DoubleDispatchVisitorCheck {
 
   @Override
   public void visitStyleSheet(StyleSheetTree tree) {
-    List<String> lines;
-    try {
-      lines = Files.readLines(getContext().getFile(), charset);
-    } catch (IOException e) {
-      throw new IllegalStateException("Check css:" + this.getClass().getAnnotation(Rule.class).key()
-        + ": Error while reading " + getContext().getFile().getName(), e);
-    }
-    for (String line : lines) {
-      if (line.contains("\t")) {
-        addFileIssue("Replace all tab characters in this file by sequences of whitespaces.");
-        break;
-      }
+    if (getContext().getFileContent().text().indexOf('\t') >= 0) {
+      addFileIssue("Replace all tab characters in this file by sequences of whitespaces.");
     }
     super.visitStyleSheet(tree);
   }
 
-  @Override
-  public void setCharset(Charset charset) {
-    this.charset = charset;
-  }
-
 }
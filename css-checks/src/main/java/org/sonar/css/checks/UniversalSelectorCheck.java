@@ -19,14 +19,17 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
 import java.util.List;
 
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.SelectorTree;
 import org.sonar.plugins.css.api.tree.SimpleSelectorTree;
+import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.plugins.css.api.tree.TypeSelectorTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -37,11 +40,18 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.PERFORMANCE})
 @SqaleConstantRemediation("1h")
 @ActivatedByDefault
-public class UniversalSelectorCheck extends DoubleDispatchVisitorCheck {
+public class UniversalSelectorCheck extends SubscriptionVisitorCheck {
 
   @Override
-  public void visitSelector(SelectorTree tree) {
-    List<SimpleSelectorTree> lastCompoundSelector = tree.compoundSelectors().get(tree.compoundSelectors().size() - 1).selectors();
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.SELECTOR);
+  }
+
+  @Override
+  public void visitNode(Tree tree) {
+    SelectorTree selectorTree = (SelectorTree) tree;
+
+    List<SimpleSelectorTree> lastCompoundSelector = selectorTree.compoundSelectors().get(selectorTree.compoundSelectors().size() - 1).selectors();
     if (lastCompoundSelector.size() == 1
       && lastCompoundSelector.get(0) instanceof TypeSelectorTree
       && "*".equals(((TypeSelectorTree) lastCompoundSelector.get(0)).identifier().text())) {
@@ -49,7 +59,6 @@ public class UniversalSelectorCheck extends DoubleDispatchVisitorCheck {
         ((TypeSelectorTree) lastCompoundSelector.get(0)).identifier(),
         "Remove this usage of the universal selector as key part.");
     }
-    super.visitSelector(tree);
   }
 
 }
@@ -19,11 +19,16 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.css.model.atrule.UnknownAtRule;
 import org.sonar.plugins.css.api.tree.AtRuleTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -34,16 +39,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.PITFALL})
 @SqaleConstantRemediation("10min")
 @ActivatedByDefault
-public class UnknownAtRuleCheck extends DoubleDispatchVisitorCheck {
+public class UnknownAtRuleCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.AT_RULE);
+  }
 
   @Override
-  public void visitAtRule(AtRuleTree tree) {
-    if (tree.standardAtRule() instanceof UnknownAtRule && !tree.isVendorPrefixed()) {
+  public void visitNode(Tree tree) {
+    AtRuleTree atRuleTree = (AtRuleTree) tree;
+
+    if (atRuleTree.standardAtRule() instanceof UnknownAtRule && !atRuleTree.isVendorPrefixed()) {
       addPreciseIssue(
-        tree.atKeyword(),
-        "Remove this usage of the unknown \"" + tree.standardAtRule().getName() + "\" @-rule.");
+        atRuleTree.atKeyword(),
+        "Remove this usage of the unknown \"" + atRuleTree.standardAtRule().getName() + "\" @-rule.");
     }
-    super.visitAtRule(tree);
   }
 
 }
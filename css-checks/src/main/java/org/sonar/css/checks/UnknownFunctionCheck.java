@@ -19,11 +19,16 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.css.model.function.UnknownFunction;
 import org.sonar.plugins.css.api.tree.FunctionTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -34,16 +39,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.PITFALL})
 @SqaleConstantRemediation("10min")
 @ActivatedByDefault
-public class UnknownFunctionCheck extends DoubleDispatchVisitorCheck {
+public class UnknownFunctionCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.FUNCTION);
+  }
 
   @Override
-  public void visitFunction(FunctionTree tree) {
-    if (tree.standardFunction() instanceof UnknownFunction && !tree.isVendorPrefixed()) {
+  public void visitNode(Tree tree) {
+    FunctionTree functionTree = (FunctionTree) tree;
+
+    if (functionTree.standardFunction() instanceof UnknownFunction && !functionTree.isVendorPrefixed()) {
       addPreciseIssue(
-        tree.function(),
-        "Remove this usage of the unknown \"" + tree.standardFunction().getName() + "\" function.");
+        functionTree.function(),
+        "Remove this usage of the unknown \"" + functionTree.standardFunction().getName() + "\" function.");
     }
-    super.visitFunction(tree);
   }
 
 }
@@ -19,11 +19,16 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.css.model.property.UnknownProperty;
 import org.sonar.plugins.css.api.tree.PropertyTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -34,16 +39,22 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.PITFALL})
 @SqaleConstantRemediation("10min")
 @ActivatedByDefault
-public class UnknownPropertyCheck extends DoubleDispatchVisitorCheck {
+public class UnknownPropertyCheck extends SubscriptionVisitorCheck {
+
+  @Override
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.PROPERTY);
+  }
 
   @Override
-  public void visitProperty(PropertyTree tree) {
-    if (tree.standardProperty() instanceof UnknownProperty && !tree.isVendorPrefixed()) {
+  public void visitNode(Tree tree) {
+    PropertyTree propertyTree = (PropertyTree) tree;
+
+    if (propertyTree.standardProperty() instanceof UnknownProperty && !propertyTree.isVendorPrefixed()) {
       addPreciseIssue(
-        tree,
-        "Remove this usage of the unknown \"" + tree.standardProperty().getName() + "\" property.");
+        propertyTree,
+        "Remove this usage of the unknown \"" + propertyTree.standardProperty().getName() + "\" property.");
     }
-    super.visitProperty(tree);
   }
 
 }
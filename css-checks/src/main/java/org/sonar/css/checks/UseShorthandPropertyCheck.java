@@ -21,16 +21,13 @@ package org.sonar.css.checks;
 
 import com.google.common.collect.ImmutableList;
 
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.css.model.property.StandardProperty;
 import org.sonar.css.model.property.StandardPropertyFactory;
+import org.sonar.css.model.property.StandardPropertySet;
 import org.sonar.plugins.css.api.tree.AtRuleTree;
 import org.sonar.plugins.css.api.tree.PropertyTree;
 import org.sonar.plugins.css.api.tree.RulesetTree;
@@ -47,12 +44,12 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 @SqaleConstantRemediation("5min")
 public class UseShorthandPropertyCheck extends SubscriptionVisitorCheck {
 
-  private static final List<StandardProperty> SHORTHAND_PROPERTIES = StandardPropertyFactory.getAll()
-    .stream()
-    .filter(StandardProperty::isShorthand)
-    .collect(Collectors.toList());
+  private final StandardPropertySet declaredProperties = new StandardPropertySet();
 
-  private final Map<String, PropertyTree> declaredProperties = new HashMap<>();
+  /**
+   * Last declaration of each property of {@link #declaredProperties}, by property id
+   */
+  private final PropertyTree[] declaredPropertyTrees = new PropertyTree[StandardPropertyFactory.size()];
 
   @Override
   public List<Tree.Kind> nodesToVisit() {
@@ -66,7 +63,11 @@ public class UseShorthandPropertyCheck extends SubscriptionVisitorCheck {
   public void visitNode(Tree tree) {
     if (tree.is(Tree.Kind.PROPERTY)) {
       PropertyTree propertyTree = (PropertyTree) tree;
-      declaredProperties.put(propertyTree.standardProperty().getName(), propertyTree);
+      StandardProperty standardProperty = propertyTree.standardProperty();
+      if (standardProperty.getId() >= 0) {
+        declaredProperties.add(standardProperty);
+        declaredPropertyTrees[standardProperty.getId()] = propertyTree;
+      }
     } else {
       declaredProperties.clear();
     }
@@ -74,11 +75,12 @@ public class UseShorthandPropertyCheck extends SubscriptionVisitorCheck {
 
   @Override
   public void leaveNode(Tree tree) {
-    if (tree.is(Tree.Kind.RULESET, Tree.Kind.AT_RULE)) {
-      SHORTHAND_PROPERTIES
-        .stream()
-        .filter(p -> declaredProperties.keySet().containsAll(p.getShorthandForPropertyNames()))
-        .forEach(p -> createIssue(p, tree));
+    if (tree.is(Tree.Kind.RULESET, Tree.Kind.AT_RULE) && !declaredProperties.isEmpty()) {
+      for (StandardProperty shorthandProperty : StandardPropertyFactory.getShorthandProperties()) {
+        if (declaredProperties.containsAll(shorthandProperty.getShorthandForPropertySet())) {
+          createIssue(shorthandProperty, tree);
+        }
+      }
     }
   }
 
@@ -92,11 +94,9 @@ public class UseShorthandPropertyCheck extends SubscriptionVisitorCheck {
 
     PreciseIssue issue = addPreciseIssue(primaryIssueLocation, "Use the \"" + shorthandProperty.getName() + "\" shorthand property instead.");
 
-    for (Iterator<Map.Entry<String, PropertyTree>> it = declaredProperties.entrySet().iterator(); it.hasNext();) {
-      Map.Entry<String, PropertyTree> entry = it.next();
-      if (shorthandProperty.getShorthandForPropertyNames().contains(entry.getKey())) {
-        issue.secondary(entry.getValue(), "\"" + shorthandProperty.getName() + "\" property");
-      }
+    StandardPropertySet longhandProperties = shorthandProperty.getShorthandForPropertySet();
+    for (int id = longhandProperties.nextId(0); id >= 0; id = longhandProperties.nextId(id + 1)) {
+      issue.secondary(declaredPropertyTrees[id], "\"" + shorthandProperty.getName() + "\" property");
     }
   }
 
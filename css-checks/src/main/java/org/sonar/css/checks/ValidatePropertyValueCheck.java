@@ -19,12 +19,16 @@
  */
 package org.sonar.css.checks;
 
+import com.google.common.collect.ImmutableList;
+
 import java.text.MessageFormat;
+import java.util.List;
 
 import org.sonar.check.Priority;
 import org.sonar.check.Rule;
 import org.sonar.plugins.css.api.tree.PropertyDeclarationTree;
-import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitorCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorCheck;
 import org.sonar.squidbridge.annotations.ActivatedByDefault;
 import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
 
@@ -35,19 +39,25 @@ import org.sonar.squidbridge.annotations.SqaleConstantRemediation;
   tags = {Tags.BUG})
 @ActivatedByDefault
 @SqaleConstantRemediation("10min")
-public class ValidatePropertyValueCheck extends DoubleDispatchVisitorCheck {
+public class ValidatePropertyValueCheck extends SubscriptionVisitorCheck {
 
   @Override
-  public void visitPropertyDeclaration(PropertyDeclarationTree tree) {
-    if (!tree.property().isVendorPrefixed() && !tree.isValid()) {
+  public List<Tree.Kind> nodesToVisit() {
+    return ImmutableList.of(Tree.Kind.PROPERTY_DECLARATION);
+  }
+
+  @Override
+  public void visitNode(Tree tree) {
+    PropertyDeclarationTree propertyDeclarationTree = (PropertyDeclarationTree) tree;
+
+    if (!propertyDeclarationTree.property().isVendorPrefixed() && !propertyDeclarationTree.isValid()) {
       addPreciseIssue(
-        tree,
+        propertyDeclarationTree,
         MessageFormat.format(
           "Update the invalid value of property \"{0}\". Expected format: {1}",
-          tree.property().standardProperty().getName(),
-          tree.property().standardProperty().getValidatorFormat()));
+          propertyDeclarationTree.property().standardProperty().getName(),
+          propertyDeclarationTree.property().standardProperty().getValidatorFormat()));
     }
-    super.visitPropertyDeclaration(tree);
   }
 
 }
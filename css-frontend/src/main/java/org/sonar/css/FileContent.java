@@ -0,0 +1,130 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css;
+
+import java.io.File;
+import java.nio.charset.Charset;
+
+/**
+ * Decoded content of a file, read once and shared by the parser and the visitors.
+ * Lines are split on "\r\n", "\n" and "\r" like {@link com.google.common.io.Files#readLines(File, Charset)},
+ * and the line index is only built on the first access to a line.
+ */
+public class FileContent {
+
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+  private final String text;
+  private int[] lineStarts;
+  private int[] lineEnds;
+  private int lineCount = -1;
+
+  public FileContent(String text) {
+    this.text = text;
+  }
+
+  public static FileContent read(File file, Charset charset) {
+    return new FileContent(FileUtils.fileContent(file, charset));
+  }
+
+  public String text() {
+    return text;
+  }
+
+  public boolean startsWithBOM() {
+    return !text.isEmpty() && text.charAt(0) == BYTE_ORDER_MARK;
+  }
+
+  public int lineCount() {
+    buildLineIndex();
+    return lineCount;
+  }
+
+  /**
+   * @param line 1-based line number
+   * @return the content of the line without its line terminator
+   */
+  public String line(int line) {
+    buildLineIndex();
+    if (line < 1 || line > lineCount) {
+      throw new IllegalArgumentException("Line " + line + " is out of range [1, " + lineCount + "]");
+    }
+    return text.substring(lineStarts[line - 1], lineEnds[line - 1]);
+  }
+
+  /**
+   * @param line 1-based line number
+   * @return the length of the line without its line terminator
+   */
+  public int lineLength(int line) {
+    buildLineIndex();
+    return lineEnds[line - 1] - lineStarts[line - 1];
+  }
+
+  private void buildLineIndex() {
+    if (lineCount >= 0) {
+      return;
+    }
+
+    int[] starts = new int[16];
+    int[] ends = new int[16];
+    int count = 0;
+    int start = 0;
+    int length = text.length();
+
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (c == '\n' || c == '\r') {
+        if (count == starts.length) {
+          starts = grow(starts);
+          ends = grow(ends);
+        }
+        starts[count] = start;
+        ends[count] = i;
+        count++;
+        if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+          i++;
+        }
+        start = i + 1;
+      }
+    }
+
+    if (start < length) {
+      if (count == starts.length) {
+        starts = grow(starts);
+        ends = grow(ends);
+      }
+      starts[count] = start;
+      ends[count] = length;
+      count++;
+    }
+
+    lineStarts = starts;
+    lineEnds = ends;
+    lineCount = count;
+  }
+
+  private static int[] grow(int[] array) {
+    int[] grown = new int[array.length * 2];
+    System.arraycopy(array, 0, grown, 0, array.length);
+    return grown;
+  }
+
+}
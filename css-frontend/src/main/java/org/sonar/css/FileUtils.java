@@ -31,7 +31,7 @@ public class FileUtils {
   }
 
   public static boolean startsWithBOM(File file, Charset charset) {
-    return fileContent(file, charset).startsWith(Character.toString('\uFEFF'));
+    return FileContent.read(file, charset).startsWithBOM();
   }
 
   public static String fileContent(File file, Charset charset) {
@@ -187,11 +187,11 @@ public class Color {
     "graytext",
     "highlight",
     "highlighttext",
-    "inactiveBorder",
+    "inactiveborder",
     "inactivecaption",
     "inactivecaptiontext",
     "infobackground",
-    "infoText",
+    "infotext",
     "menu",
     "menutext",
     "scrollbar",
@@ -0,0 +1,110 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Immutable set of keywords matched ASCII case-insensitively, as CSS keywords are.
+ * Lookups neither lower-case nor otherwise copy the looked up text.
+ */
+public final class KeywordSet {
+
+  private final String[] table;
+  private final int[] indexes;
+  private final int mask;
+  private final int size;
+
+  private KeywordSet(Collection<String> keywords) {
+    int capacity = Integer.highestOneBit(Math.max(keywords.size(), 1) * 2 - 1) << 1;
+    table = new String[capacity];
+    indexes = new int[capacity];
+    mask = capacity - 1;
+    int count = 0;
+    int index = 0;
+    for (String keyword : keywords) {
+      String lowerCaseKeyword = keyword.toLowerCase(Locale.ENGLISH);
+      int slot = hash(lowerCaseKeyword) & mask;
+      while (table[slot] != null && !table[slot].equals(lowerCaseKeyword)) {
+        slot = (slot + 1) & mask;
+      }
+      if (table[slot] == null) {
+        table[slot] = lowerCaseKeyword;
+        indexes[slot] = index;
+        count++;
+      }
+      index++;
+    }
+    size = count;
+  }
+
+  public static KeywordSet of(Collection<String> keywords) {
+    return new KeywordSet(keywords);
+  }
+
+  public boolean contains(CharSequence text) {
+    return indexOf(text) >= 0;
+  }
+
+  /**
+   * @return the position of the keyword in the collection the set was built from (its first position if it was
+   * there several times), or -1 if the text is not a keyword of the set
+   */
+  public int indexOf(CharSequence text) {
+    int slot = hash(text) & mask;
+    while (table[slot] != null) {
+      if (equalsIgnoreAsciiCase(table[slot], text)) {
+        return indexes[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private static int hash(CharSequence text) {
+    int hash = 0;
+    for (int i = 0; i < text.length(); i++) {
+      hash = 31 * hash + toAsciiLowerCase(text.charAt(i));
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean equalsIgnoreAsciiCase(String lowerCaseKeyword, CharSequence text) {
+    if (lowerCaseKeyword.length() != text.length()) {
+      return false;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      if (lowerCaseKeyword.charAt(i) != toAsciiLowerCase(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static char toAsciiLowerCase(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+}
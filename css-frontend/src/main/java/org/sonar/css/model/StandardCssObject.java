@@ -30,6 +30,7 @@ import java.util.Set;
 public abstract class StandardCssObject {
 
   private String name;
+  private int id;
   private boolean obsolete;
   private boolean experimental;
 
@@ -45,7 +46,7 @@ public abstract class StandardCssObject {
   private final List<String> links;
 
   public StandardCssObject() {
-    name = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_HYPHEN, this.getClass().getSimpleName());
+    id = -1;
     obsolete = false;
     experimental = false;
     vendors = new HashSet<>();
@@ -56,6 +57,10 @@ public abstract class StandardCssObject {
     this.name = name;
   }
 
+  void setId(int id) {
+    this.id = id;
+  }
+
   public void setObsolete(boolean obsolete) {
     this.obsolete = obsolete;
   }
@@ -72,10 +77,25 @@ public abstract class StandardCssObject {
     links.addAll(Lists.newArrayList(allLinks));
   }
 
+  /**
+   * Unless set otherwise, the name is derived from the class name on first access.
+   * Standard CSS objects created through {@link StandardCssObjectRegistry} get their name from the registry.
+   */
   public String getName() {
+    if (name == null) {
+      name = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_HYPHEN, this.getClass().getSimpleName());
+    }
     return name;
   }
 
+  /**
+   * @return the position of this object in the catalogue of its type, sorted by name, from 0 to the size of the
+   * catalogue (excluded). -1 for objects that are not part of a catalogue, such as unknown objects.
+   */
+  public int getId() {
+    return id;
+  }
+
   public boolean isObsolete() {
     return obsolete;
   }
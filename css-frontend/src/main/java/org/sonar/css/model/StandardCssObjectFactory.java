@@ -19,7 +19,13 @@
  */
 package org.sonar.css.model;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -32,32 +38,88 @@ import org.sonar.css.model.property.StandardPropertyFactory;
 import org.sonar.css.model.pseudo.StandardPseudoComponent;
 import org.sonar.css.model.pseudo.StandardPseudoComponentFactory;
 
+/**
+ * Queries on the catalogue of standard CSS objects. Lists are sorted by name, immutable and built once per type
+ * of standard CSS object, on first query.
+ */
 public class StandardCssObjectFactory {
 
+  private static final Supplier<Catalogue> PROPERTIES = Suppliers.memoize(() -> new Catalogue(StandardPropertyFactory.getAll()));
+  private static final Supplier<Catalogue> AT_RULES = Suppliers.memoize(() -> new Catalogue(StandardAtRuleFactory.getAll()));
+  private static final Supplier<Catalogue> FUNCTIONS = Suppliers.memoize(() -> new Catalogue(StandardFunctionFactory.getAll()));
+  private static final Supplier<Catalogue> PSEUDO_COMPONENTS = Suppliers.memoize(() -> new Catalogue(StandardPseudoComponentFactory.getAll()));
+
   private StandardCssObjectFactory() {
   }
 
+  public static List<StandardCssObject> getStandardCssObjects(Class<? extends StandardCssObject> type) {
+    return catalogue(type).all;
+  }
+
+  public static List<StandardCssObject> getExperimentalStandardCssObjects(Class<? extends StandardCssObject> type) {
+    return catalogue(type).experimental;
+  }
+
+  public static List<StandardCssObject> getObsoleteStandardCssObjects(Class<? extends StandardCssObject> type) {
+    return catalogue(type).obsolete;
+  }
+
+  /**
+   * @return the standard CSS objects with at least one vendor
+   */
+  public static List<StandardCssObject> getVendorPrefixedStandardCssObjects(Class<? extends StandardCssObject> type) {
+    return catalogue(type).vendorPrefixed;
+  }
+
+  public static List<StandardCssObject> getStandardCssObjects(Class<? extends StandardCssObject> type, Vendor vendor) {
+    return catalogue(type).byVendor.get(vendor);
+  }
+
   public static List<StandardCssObject> getStandardCssObjects(Class<? extends StandardCssObject> type, Predicate<StandardCssObject> filteringFunction) {
-    try {
-      List<? extends StandardCssObject> all;
-      if (type.newInstance() instanceof StandardProperty) {
-        all = StandardPropertyFactory.getAll();
-      } else if (type.newInstance() instanceof StandardAtRule) {
-        all = StandardAtRuleFactory.getAll();
-      } else if (type.newInstance() instanceof StandardFunction) {
-        all = StandardFunctionFactory.getAll();
-      } else if (type.newInstance() instanceof StandardPseudoComponent) {
-        all = StandardPseudoComponentFactory.getAll();
-      } else {
-        throw new IllegalArgumentException("Cannot get all CSS Standard Elements of type " + type.getName() + ". Unknown Standard CSS object");
-      }
-      return all
+    return catalogue(type).all
+      .stream()
+      .filter(filteringFunction)
+      .collect(Collectors.toList());
+  }
+
+  private static Catalogue catalogue(Class<? extends StandardCssObject> type) {
+    if (StandardProperty.class.isAssignableFrom(type)) {
+      return PROPERTIES.get();
+    } else if (StandardAtRule.class.isAssignableFrom(type)) {
+      return AT_RULES.get();
+    } else if (StandardFunction.class.isAssignableFrom(type)) {
+      return FUNCTIONS.get();
+    } else if (StandardPseudoComponent.class.isAssignableFrom(type)) {
+      return PSEUDO_COMPONENTS.get();
+    }
+    throw new IllegalArgumentException("Cannot get all CSS Standard Elements of type " + type.getName() + ". Unknown Standard CSS object");
+  }
+
+  private static class Catalogue {
+
+    private final List<StandardCssObject> all;
+    private final List<StandardCssObject> experimental;
+    private final List<StandardCssObject> obsolete;
+    private final List<StandardCssObject> vendorPrefixed;
+    private final Map<Vendor, List<StandardCssObject>> byVendor = new EnumMap<>(Vendor.class);
+
+    Catalogue(List<? extends StandardCssObject> standardCssObjects) {
+      all = ImmutableList.copyOf(standardCssObjects
         .stream()
-        .filter(filteringFunction).sorted((o1, o2) -> o1.getName().compareTo(o2.getName()))
-        .collect(Collectors.toList());
-    } catch (IllegalAccessException | InstantiationException e) {
-      throw new IllegalArgumentException("Unknown Standard CSS object", e);
+        .sorted((o1, o2) -> o1.getName().compareTo(o2.getName()))
+        .collect(Collectors.toList()));
+      experimental = filter(StandardCssObject::isExperimental);
+      obsolete = filter(StandardCssObject::isObsolete);
+      vendorPrefixed = filter(StandardCssObject::hasVendors);
+      for (Vendor vendor : Vendor.values()) {
+        byVendor.put(vendor, filter(o -> o.getVendors().contains(vendor)));
+      }
     }
+
+    private List<StandardCssObject> filter(Predicate<StandardCssObject> filteringFunction) {
+      return ImmutableList.copyOf(all.stream().filter(filteringFunction).iterator());
+    }
+
   }
 
 }
@@ -0,0 +1,136 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.CheckForNull;
+
+/**
+ * Precomputed catalogue of standard CSS objects of a given type: the name and class of each entry are known
+ * upfront, so that neither the classes are loaded nor the names are derived from the class names until needed.
+ * Each entry is instantiated on first access and then shared.
+ */
+public final class StandardCssObjectRegistry<T extends StandardCssObject> {
+
+  private final String description;
+  private final Class<T> type;
+  private final String classNamePrefix;
+  private final String[] names;
+  private final String[] simpleClassNames;
+  private final Map<String, Integer> indexByName;
+  private final KeywordSet nameSet;
+  private final AtomicReferenceArray<T> instances;
+
+  /**
+   * @param description description of the type of entries, such as "CSS property", for error messages
+   * @param type type of the entries
+   * @param classNamePrefix prefix of the fully qualified class names of the entries, such as their package name and a dot
+   * @param namesAndSimpleClassNames name then simple class name of each entry, sorted by name
+   */
+  public StandardCssObjectRegistry(String description, Class<T> type, String classNamePrefix, String... namesAndSimpleClassNames) {
+    if (namesAndSimpleClassNames.length % 2 != 0) {
+      throw new IllegalArgumentException("Missing class name for " + description + " '"
+        + namesAndSimpleClassNames[namesAndSimpleClassNames.length - 1] + "'");
+    }
+    this.description = description;
+    this.type = type;
+    this.classNamePrefix = classNamePrefix;
+    int size = namesAndSimpleClassNames.length / 2;
+    names = new String[size];
+    simpleClassNames = new String[size];
+    indexByName = new HashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      names[i] = namesAndSimpleClassNames[2 * i];
+      simpleClassNames[i] = namesAndSimpleClassNames[2 * i + 1];
+      indexByName.put(names[i], i);
+    }
+    nameSet = KeywordSet.of(Arrays.asList(names));
+    if (nameSet.size() != size) {
+      throw new IllegalArgumentException("Duplicated " + description + " names in " + Arrays.toString(names));
+    }
+    instances = new AtomicReferenceArray<>(size);
+  }
+
+  /**
+   * Does not allocate for entries already instantiated.
+   *
+   * @param name name, ignoring ASCII case
+   * @return the entry with this name or {@code null} if there is none
+   */
+  @CheckForNull
+  public T get(String name) {
+    // Names are usually written in lower case: exact match first, relying on the string's cached hash code
+    Integer exactMatchIndex = indexByName.get(name);
+    int index = exactMatchIndex != null ? exactMatchIndex : nameSet.indexOf(name);
+    return index >= 0 ? materialize(index) : null;
+  }
+
+  public boolean contains(CharSequence name) {
+    return nameSet.contains(name);
+  }
+
+  /**
+   * @return all entries, sorted by name. Instantiates all entries not instantiated yet.
+   */
+  public List<T> getAll() {
+    List<T> all = new ArrayList<>(names.length);
+    for (int i = 0; i < names.length; i++) {
+      all.add(materialize(i));
+    }
+    return all;
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  private T materialize(int index) {
+    T instance = instances.get(index);
+    if (instance == null) {
+      // Reentrant on purpose: creating an entry may look up other entries of the same registry,
+      // for instance shorthand properties looking up their longhand properties.
+      synchronized (this) {
+        instance = instances.get(index);
+        if (instance == null) {
+          instance = create(index);
+          instances.set(index, instance);
+        }
+      }
+    }
+    return instance;
+  }
+
+  private T create(int index) {
+    try {
+      T instance = Class.forName(classNamePrefix + simpleClassNames[index], true, type.getClassLoader()).asSubclass(type).newInstance();
+      instance.setName(names[index]);
+      instance.setId(index);
+      return instance;
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new IllegalStateException(description + " '" + names[index] + "' cannot be created.", e);
+    }
+  }
+
+}
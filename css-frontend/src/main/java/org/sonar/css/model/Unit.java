@@ -20,16 +20,88 @@
 package org.sonar.css.model;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 
-public class Unit {
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.CheckForNull;
 
-  public static final ImmutableList<String> LENGTH_UNITS = ImmutableList.of("em", "ex", "ch", "rem", "vw", "vh", "vmin", "vmax", "cm", "mm", "in", "px", "pt", "pc");
-  public static final ImmutableList<String> ANGLE_UNITS = ImmutableList.of("deg", "grad", "rad", "turn");
-  public static final ImmutableList<String> FREQUENCY_UNITS = ImmutableList.of("Hz", "kHz");
-  public static final ImmutableList<String> RESOLUTION_UNITS = ImmutableList.of("dpi", "dpcm", "dppx");
-  public static final ImmutableList<String> TIME_UNITS = ImmutableList.of("ms", "s");
+public enum Unit {
 
-  private Unit() {
+  EM("em", Type.LENGTH),
+  EX("ex", Type.LENGTH),
+  CH("ch", Type.LENGTH),
+  REM("rem", Type.LENGTH),
+  VW("vw", Type.LENGTH),
+  VH("vh", Type.LENGTH),
+  VMIN("vmin", Type.LENGTH),
+  VMAX("vmax", Type.LENGTH),
+  CM("cm", Type.LENGTH),
+  MM("mm", Type.LENGTH),
+  IN("in", Type.LENGTH),
+  PX("px", Type.LENGTH),
+  PT("pt", Type.LENGTH),
+  PC("pc", Type.LENGTH),
+  DEG("deg", Type.ANGLE),
+  GRAD("grad", Type.ANGLE),
+  RAD("rad", Type.ANGLE),
+  TURN("turn", Type.ANGLE),
+  HZ("Hz", Type.FREQUENCY),
+  KHZ("kHz", Type.FREQUENCY),
+  DPI("dpi", Type.RESOLUTION),
+  DPCM("dpcm", Type.RESOLUTION),
+  DPPX("dppx", Type.RESOLUTION),
+  MS("ms", Type.TIME),
+  S("s", Type.TIME);
+
+  public enum Type {
+    LENGTH, ANGLE, FREQUENCY, RESOLUTION, TIME
+  }
+
+  public static final ImmutableList<String> LENGTH_UNITS = textsOf(Type.LENGTH);
+  public static final ImmutableList<String> ANGLE_UNITS = textsOf(Type.ANGLE);
+  public static final ImmutableList<String> FREQUENCY_UNITS = textsOf(Type.FREQUENCY);
+  public static final ImmutableList<String> RESOLUTION_UNITS = textsOf(Type.RESOLUTION);
+  public static final ImmutableList<String> TIME_UNITS = textsOf(Type.TIME);
+
+  private static final ImmutableMap<String, Unit> BY_TEXT = Maps.uniqueIndex(ImmutableList.copyOf(values()), Unit::getText);
+
+  private final String text;
+  private final Type type;
+
+  Unit(String text, Type type) {
+    this.text = text;
+    this.type = type;
+  }
+
+  /**
+   * @param text unit as written in the stylesheet. Case-sensitive, for instance "Hz" but not "hz".
+   * @return the unit or {@code null} if the text is not a known unit
+   */
+  @CheckForNull
+  public static Unit fromText(String text) {
+    return BY_TEXT.get(text);
+  }
+
+  public static Set<Unit> unitsOf(Type type) {
+    return Stream.of(values())
+      .filter(u -> u.type == type)
+      .collect(Collectors.toCollection(() -> EnumSet.noneOf(Unit.class)));
+  }
+
+  public String getText() {
+    return text;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  private static ImmutableList<String> textsOf(Type type) {
+    return ImmutableList.copyOf(unitsOf(type).stream().map(Unit::getText).iterator());
   }
 
 }
@@ -0,0 +1,65 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of unknown CSS objects shared by all files and threads, so that stylesheets full of custom or
+ * hacked names do not create a new unknown object for every occurrence of these names.
+ * Unknown objects are keyed by their lower-case name.
+ */
+public final class UnknownCssObjectCache<T extends StandardCssObject> {
+
+  @VisibleForTesting
+  static final int MAXIMUM_SIZE = 10_000;
+
+  private final Cache<String, T> cache = CacheBuilder.newBuilder()
+    .maximumSize(MAXIMUM_SIZE)
+    .build();
+
+  private final Function<String, T> unknownCssObjectFactory;
+
+  /**
+   * @param unknownCssObjectFactory creates the unknown object from its lower-case name
+   */
+  public UnknownCssObjectCache(Function<String, T> unknownCssObjectFactory) {
+    this.unknownCssObjectFactory = unknownCssObjectFactory;
+  }
+
+  public T get(String name) {
+    String lowerCaseName = name.toLowerCase(Locale.ENGLISH);
+    T unknownCssObject = cache.getIfPresent(lowerCaseName);
+    if (unknownCssObject == null) {
+      unknownCssObject = cache.asMap().computeIfAbsent(lowerCaseName, unknownCssObjectFactory);
+    }
+    return unknownCssObject;
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+}
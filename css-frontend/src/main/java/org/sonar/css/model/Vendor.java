@@ -19,6 +19,9 @@
  */
 package org.sonar.css.model;
 
+import java.util.Arrays;
+import javax.annotation.CheckForNull;
+
 /**
  * See:
  * https://www.w3.org/TR/CSS22/syndata.html#vendor-keyword-history
@@ -45,6 +48,27 @@ public enum Vendor {
   WEBKIT("-webkit-", "Safari, Chrome (and other WebKit-based browsers)"),
   OPERA2("-xv-", "Opera Software");
 
+  /**
+   * Vendors by the first letter of their prefix, the leading '-' excluded, for prefixes starting with '-'.
+   */
+  private static final Vendor[][] DASHED_PREFIX_VENDORS_BY_FIRST_LETTER = new Vendor[26][0];
+
+  /**
+   * Vendors by the first letter of their prefix, for prefixes not starting with '-'.
+   */
+  private static final Vendor[][] PREFIX_VENDORS_BY_FIRST_LETTER = new Vendor[26][0];
+
+  static {
+    for (Vendor vendor : values()) {
+      boolean dashed = vendor.prefix.charAt(0) == '-';
+      Vendor[][] vendorsByFirstLetter = dashed ? DASHED_PREFIX_VENDORS_BY_FIRST_LETTER : PREFIX_VENDORS_BY_FIRST_LETTER;
+      int letter = vendor.prefix.charAt(dashed ? 1 : 0) - 'a';
+      Vendor[] vendors = vendorsByFirstLetter[letter];
+      vendorsByFirstLetter[letter] = Arrays.copyOf(vendors, vendors.length + 1);
+      vendorsByFirstLetter[letter][vendors.length] = vendor;
+    }
+  }
+
   private final String prefix;
   private final String description;
 
@@ -53,6 +77,32 @@ public enum Vendor {
     this.description = description;
   }
 
+  /**
+   * @return the vendor whose prefix starts the text, ignoring ASCII case, or {@code null} if there is none
+   */
+  @CheckForNull
+  public static Vendor fromPrefixOf(String text) {
+    if (text.length() < 2) {
+      return null;
+    }
+    Vendor[] candidates;
+    if (text.charAt(0) == '-') {
+      int letter = toAsciiLowerCase(text.charAt(1)) - 'a';
+      candidates = letter >= 0 && letter < 26 ? DASHED_PREFIX_VENDORS_BY_FIRST_LETTER[letter] : null;
+    } else {
+      int letter = toAsciiLowerCase(text.charAt(0)) - 'a';
+      candidates = letter >= 0 && letter < 26 ? PREFIX_VENDORS_BY_FIRST_LETTER[letter] : null;
+    }
+    if (candidates != null) {
+      for (Vendor candidate : candidates) {
+        if (startsWithIgnoreAsciiCase(text, candidate.prefix)) {
+          return candidate;
+        }
+      }
+    }
+    return null;
+  }
+
   public String getPrefix() {
     return prefix;
   }
@@ -60,4 +110,21 @@ public enum Vendor {
   public String getDescription() {
     return description;
   }
+
+  private static boolean startsWithIgnoreAsciiCase(String text, String lowerCasePrefix) {
+    if (text.length() < lowerCasePrefix.length()) {
+      return false;
+    }
+    for (int i = 0; i < lowerCasePrefix.length(); i++) {
+      if (toAsciiLowerCase(text.charAt(i)) != lowerCasePrefix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static char toAsciiLowerCase(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
 }
@@ -19,75 +19,65 @@
  */
 package org.sonar.css.model.atrule;
 
-import com.google.common.collect.ImmutableSet;
+import java.util.List;
 
-import java.util.*;
-
-import org.sonar.css.model.atrule.standard.*;
+import org.sonar.css.model.StandardCssObjectRegistry;
+import org.sonar.css.model.UnknownCssObjectCache;
 
 public class StandardAtRuleFactory {
 
-  private static final Set<Class> ALL_AT_RULE_CLASSES = ImmutableSet.of(
-    Annotation.class,
-    BottomCenter.class,
-    BottomLeft.class,
-    BottomLeftCorner.class,
-    BottomRight.class,
-    BottomRightCorner.class,
-    CharacterVariant.class,
-    Charset.class,
-    CounterStyle.class,
-    CustomMedia.class,
-    Document.class,
-    FontFace.class,
-    FontFeatureValues.class,
-    Import.class,
-    Keyframes.class,
-    LeftBottom.class,
-    LeftMiddle.class,
-    LeftTop.class,
-    Media.class,
-    Namespace.class,
-    Ornaments.class,
-    Page.class,
-    RightBottom.class,
-    RightMiddle.class,
-    RightTop.class,
-    Styleset.class,
-    Stylistic.class,
-    Supports.class,
-    Swash.class,
-    TopCenter.class,
-    TopLeft.class,
-    TopLeftCorner.class,
-    TopRight.class,
-    TopRightCorner.class,
-    Viewport.class);
-
-  private static final Map<String, StandardAtRule> ALL = new HashMap<>();
+  private static final StandardCssObjectRegistry<StandardAtRule> REGISTRY = new StandardCssObjectRegistry<>(
+    "CSS at-rule",
+    StandardAtRule.class,
+    "org.sonar.css.model.atrule.standard.",
+    "annotation", "Annotation",
+    "bottom-center", "BottomCenter",
+    "bottom-left", "BottomLeft",
+    "bottom-left-corner", "BottomLeftCorner",
+    "bottom-right", "BottomRight",
+    "bottom-right-corner", "BottomRightCorner",
+    "character-variant", "CharacterVariant",
+    "charset", "Charset",
+    "counter-style", "CounterStyle",
+    "custom-media", "CustomMedia",
+    "document", "Document",
+    "font-face", "FontFace",
+    "font-feature-values", "FontFeatureValues",
+    "import", "Import",
+    "keyframes", "Keyframes",
+    "left-bottom", "LeftBottom",
+    "left-middle", "LeftMiddle",
+    "left-top", "LeftTop",
+    "media", "Media",
+    "namespace", "Namespace",
+    "ornaments", "Ornaments",
+    "page", "Page",
+    "right-bottom", "RightBottom",
+    "right-middle", "RightMiddle",
+    "right-top", "RightTop",
+    "styleset", "Styleset",
+    "stylistic", "Stylistic",
+    "supports", "Supports",
+    "swash", "Swash",
+    "top-center", "TopCenter",
+    "top-left", "TopLeft",
+    "top-left-corner", "TopLeftCorner",
+    "top-right", "TopRight",
+    "top-right-corner", "TopRightCorner",
+    "viewport", "Viewport");
 
-  static {
-    try {
-      StandardAtRule standardAtRule;
-      for (Class clazz : ALL_AT_RULE_CLASSES) {
-        standardAtRule = (StandardAtRule) clazz.newInstance();
-        ALL.put(standardAtRule.getName(), standardAtRule);
-      }
-    } catch (InstantiationException | IllegalAccessException e) {
-      throw new IllegalStateException("CSS at-rule full list cannot be created.", e);
-    }
-  }
+  private static final UnknownCssObjectCache<UnknownAtRule> UNKNOWN_AT_RULES = new UnknownCssObjectCache<>(UnknownAtRule::new);
 
   private StandardAtRuleFactory() {
   }
 
   public static StandardAtRule getByName(String atRuleName) {
-    StandardAtRule standardAtRule = ALL.get(atRuleName.toLowerCase(Locale.ENGLISH));
-    return standardAtRule != null ? standardAtRule : new UnknownAtRule(atRuleName);
+    StandardAtRule standardAtRule = REGISTRY.get(atRuleName);
+    return standardAtRule != null ? standardAtRule : UNKNOWN_AT_RULES.get(atRuleName);
   }
 
   public static List<StandardAtRule> getAll() {
-    return new ArrayList<>(ALL.values());
+    return REGISTRY.getAll();
   }
 
 }
@@ -19,150 +19,140 @@
  */
 package org.sonar.css.model.function;
 
-import com.google.common.collect.ImmutableSet;
+import java.util.List;
 
-import java.util.*;
-
-import org.sonar.css.model.function.standard.*;
+import org.sonar.css.model.StandardCssObjectRegistry;
+import org.sonar.css.model.UnknownCssObjectCache;
 
 public class StandardFunctionFactory {
 
-  private static final Set<Class> ALL_FUNCTION_CLASSES = ImmutableSet.of(
-    Alpha.class,
-    Annotation.class,
-    Attr.class,
-    Basicimage.class,
-    Blendtrans.class,
-    Blur.class,
-    Brightness.class,
-    Calc.class,
-    CharacterVariant.class,
-    Chroma.class,
-    Circle.class,
-    ColorStop.class,
-    Compositor.class,
-    ConicGradient.class,
-    Contrast.class,
-    Counter.class,
-    Counters.class,
-    CrossFade.class,
-    CubicBezier.class,
-    Domain.class,
-    DropShadow.class,
-    Ease.class,
-    EaseIn.class,
-    EaseInOut.class,
-    EaseOut.class,
-    Element.class,
-    Ellipse.class,
-    Emboss.class,
-    Engrave.class,
-    Expression.class,
-    FitContent.class,
-    Fliph.class,
-    Flipv.class,
-    Format.class,
-    From.class,
-    Glow.class,
-    Gray.class,
-    Grayscale.class,
-    Hsl.class,
-    Hsla.class,
-    HueRotate.class,
-    Icmfilter.class,
-    Image.class,
-    ImageSet.class,
-    Inset.class,
-    Invert.class,
-    Light.class,
-    Linear.class,
-    LinearGradient.class,
-    Local.class,
-    MaskFilter.class,
-    Matrix.class,
-    Matrix3d.class,
-    Max.class,
-    Min.class,
-    Minmax.class,
-    Motionblur.class,
-    Opacity.class,
-    Ornaments.class,
-    Perspective.class,
-    Polygon.class,
-    RadialGradient.class,
-    Rect.class,
-    Redirect.class,
-    Regexp.class,
-    RepeatingConicGradient.class,
-    RepeatingLinearGradient.class,
-    RepeatingRadialGradient.class,
-    Revealtrans.class,
-    Rgb.class,
-    Rgba.class,
-    Rotate.class,
-    Rotate3d.class,
-    Rotatex.class,
-    Rotatey.class,
-    Rotatez.class,
-    Running.class,
-    Saturate.class,
-    Scale.class,
-    Scale3d.class,
-    Scalex.class,
-    Scaley.class,
-    Scalez.class,
-    Sepia.class,
-    Shadow.class,
-    Skew.class,
-    Skewx.class,
-    Skewy.class,
-    Snapinterval.class,
-    Snaplist.class,
-    StepEnd.class,
-    Steps.class,
-    StepStart.class,
-    Styleset.class,
-    Stylistic.class,
-    Supports.class,
-    Swash.class,
-    Symbols.class,
-    To.class,
-    Toggle.class,
-    Translate.class,
-    Translate3d.class,
-    Translatex.class,
-    Translatey.class,
-    Translatez.class,
-    Url.class,
-    UrlPrefix.class,
-    Var.class,
-    Wave.class,
-    Xray.class);
-
-  private static final Map<String, StandardFunction> ALL = new HashMap<>();
+  private static final StandardCssObjectRegistry<StandardFunction> REGISTRY = new StandardCssObjectRegistry<>(
+    "CSS function",
+    StandardFunction.class,
+    "org.sonar.css.model.function.standard.",
+    "alpha", "Alpha",
+    "annotation", "Annotation",
+    "attr", "Attr",
+    "basicimage", "Basicimage",
+    "blendtrans", "Blendtrans",
+    "blur", "Blur",
+    "brightness", "Brightness",
+    "calc", "Calc",
+    "character-variant", "CharacterVariant",
+    "chroma", "Chroma",
+    "circle", "Circle",
+    "color-stop", "ColorStop",
+    "compositor", "Compositor",
+    "conic-gradient", "ConicGradient",
+    "contrast", "Contrast",
+    "counter", "Counter",
+    "counters", "Counters",
+    "cross-fade", "CrossFade",
+    "cubic-bezier", "CubicBezier",
+    "domain", "Domain",
+    "drop-shadow", "DropShadow",
+    "ease", "Ease",
+    "ease-in", "EaseIn",
+    "ease-in-out", "EaseInOut",
+    "ease-out", "EaseOut",
+    "element", "Element",
+    "ellipse", "Ellipse",
+    "emboss", "Emboss",
+    "engrave", "Engrave",
+    "expression", "Expression",
+    "fit-content", "FitContent",
+    "fliph", "Fliph",
+    "flipv", "Flipv",
+    "format", "Format",
+    "from", "From",
+    "glow", "Glow",
+    "gray", "Gray",
+    "grayscale", "Grayscale",
+    "hsl", "Hsl",
+    "hsla", "Hsla",
+    "hue-rotate", "HueRotate",
+    "icmfilter", "Icmfilter",
+    "image", "Image",
+    "image-set", "ImageSet",
+    "inset", "Inset",
+    "invert", "Invert",
+    "light", "Light",
+    "linear", "Linear",
+    "linear-gradient", "LinearGradient",
+    "local", "Local",
+    "mask-filter", "MaskFilter",
+    "matrix", "Matrix",
+    "matrix3d", "Matrix3d",
+    "max", "Max",
+    "min", "Min",
+    "minmax", "Minmax",
+    "motionblur", "Motionblur",
+    "opacity", "Opacity",
+    "ornaments", "Ornaments",
+    "perspective", "Perspective",
+    "polygon", "Polygon",
+    "radial-gradient", "RadialGradient",
+    "rect", "Rect",
+    "redirect", "Redirect",
+    "regexp", "Regexp",
+    "repeating-conic-gradient", "RepeatingConicGradient",
+    "repeating-linear-gradient", "RepeatingLinearGradient",
+    "repeating-radial-gradient", "RepeatingRadialGradient",
+    "revealtrans", "Revealtrans",
+    "rgb", "Rgb",
+    "rgba", "Rgba",
+    "rotate", "Rotate",
+    "rotate3d", "Rotate3d",
+    "rotatex", "Rotatex",
+    "rotatey", "Rotatey",
+    "rotatez", "Rotatez",
+    "running", "Running",
+    "saturate", "Saturate",
+    "scale", "Scale",
+    "scale3d", "Scale3d",
+    "scalex", "Scalex",
+    "scaley", "Scaley",
+    "scalez", "Scalez",
+    "sepia", "Sepia",
+    "shadow", "Shadow",
+    "skew", "Skew",
+    "skewx", "Skewx",
+    "skewy", "Skewy",
+    "snapinterval", "Snapinterval",
+    "snaplist", "Snaplist",
+    "step-end", "StepEnd",
+    "step-start", "StepStart",
+    "steps", "Steps",
+    "styleset", "Styleset",
+    "stylistic", "Stylistic",
+    "supports", "Supports",
+    "swash", "Swash",
+    "symbols", "Symbols",
+    "to", "To",
+    "toggle", "Toggle",
+    "translate", "Translate",
+    "translate3d", "Translate3d",
+    "translatex", "Translatex",
+    "translatey", "Translatey",
+    "translatez", "Translatez",
+    "url", "Url",
+    "url-prefix", "UrlPrefix",
+    "var", "Var",
+    "wave", "Wave",
+    "xray", "Xray");
 
-  static {
-    try {
-      StandardFunction standardFunction;
-      for (Class clazz : ALL_FUNCTION_CLASSES) {
-        standardFunction = (StandardFunction) clazz.newInstance();
-        ALL.put(standardFunction.getName(), standardFunction);
-      }
-    } catch (InstantiationException | IllegalAccessException e) {
-      throw new IllegalStateException("CSS function full list cannot be created.", e);
-    }
-  }
+  private static final UnknownCssObjectCache<UnknownFunction> UNKNOWN_FUNCTIONS = new UnknownCssObjectCache<>(UnknownFunction::new);
 
   private StandardFunctionFactory() {
   }
 
   public static StandardFunction getByName(String functionName) {
-    StandardFunction standardFunction = ALL.get(functionName.toLowerCase(Locale.ENGLISH));
-    return standardFunction != null ? standardFunction : new UnknownFunction(functionName);
+    StandardFunction standardFunction = REGISTRY.get(functionName);
+    return standardFunction != null ? standardFunction : UNKNOWN_FUNCTIONS.get(functionName);
   }
 
   public static List<StandardFunction> getAll() {
-    return new ArrayList<>(ALL.values());
+    return REGISTRY.getAll();
   }
 
 }
@@ -28,12 +28,18 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.sonar.css.model.StandardCssObject;
+import org.sonar.css.model.property.validator.PropertyValueValidationCache;
 import org.sonar.css.model.property.validator.Validator;
+import org.sonar.css.model.property.validator.syntax.ValueSyntaxValidator;
 
 public class StandardProperty extends StandardCssObject {
 
+  private static volatile boolean compiledValidatorsEnabled;
+
   private final List<Validator> validators;
   private final Set<StandardProperty> shorthandFor;
+  private volatile StandardPropertySet shorthandForPropertySet;
+  private volatile List<Validator> compiledValidators;
 
   public StandardProperty() {
     validators = new ArrayList<>();
@@ -48,6 +54,40 @@ public class StandardProperty extends StandardCssObject {
     return validators;
   }
 
+  /**
+   * Alternative backend to {@link #getValidators()}: validators are replaced by their compiled equivalent
+   * when they have one, see {@link ValueSyntaxValidator#compiledEquivalent(Validator)}.
+   */
+  public List<Validator> getCompiledValidators() {
+    List<Validator> compiled = compiledValidators;
+    if (compiled == null) {
+      compiled = validators.stream()
+        .map(ValueSyntaxValidator::compiledEquivalent)
+        .collect(Collectors.toList());
+      compiledValidators = compiled;
+    }
+    return compiled;
+  }
+
+  /**
+   * Validators that property values are validated with: {@link #getCompiledValidators()} if they are enabled,
+   * {@link #getValidators()} otherwise.
+   */
+  public List<Validator> getEnabledValidators() {
+    return compiledValidatorsEnabled ? getCompiledValidators() : validators;
+  }
+
+  /**
+   * Selects the validators returned by {@link #getEnabledValidators()} for all the properties. Disabled by default.
+   * The choice applies to the whole JVM, so it should be made before the analysis starts validating values.
+   */
+  public static void enableCompiledValidators(boolean enabled) {
+    if (enabled != compiledValidatorsEnabled) {
+      compiledValidatorsEnabled = enabled;
+      PropertyValueValidationCache.clear();
+    }
+  }
+
   public String getValidatorFormat() {
     return validators
       .stream()
@@ -69,6 +109,19 @@ public class StandardProperty extends StandardCssObject {
     return shorthandFor;
   }
 
+  /**
+   * Same as {@link #getShorthandFor()}, as an unmodifiable bitset. For instance, a block of declarations can be
+   * replaced by a shorthand property if the set of its declared properties contains all of the shorthand's set.
+   */
+  public StandardPropertySet getShorthandForPropertySet() {
+    StandardPropertySet set = shorthandForPropertySet;
+    if (set == null) {
+      set = StandardPropertySet.unmodifiableCopyOf(shorthandFor);
+      shorthandForPropertySet = set;
+    }
+    return set;
+  }
+
   public Set<String> getShorthandForPropertyNames() {
     return shorthandFor.stream().map(StandardProperty::getName).collect(Collectors.toSet());
   }
@@ -19,656 +19,665 @@
  */
 package org.sonar.css.model.property;
 
-import com.google.common.collect.ImmutableSet;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
 
-import java.util.*;
+import java.util.List;
 
-import org.sonar.css.model.property.standard.*;
-import org.sonar.css.model.property.standard.Float;
-import org.sonar.css.model.property.standard.System;
+import org.sonar.css.model.StandardCssObjectRegistry;
+import org.sonar.css.model.UnknownCssObjectCache;
 
 public class StandardPropertyFactory {
 
-  private static final Set<Class> ALL_PROPERTY_CLASSES = ImmutableSet.of(
-    Accelerator.class,
-    AdditiveSymbols.class,
-    AlignContent.class,
-    AlignItems.class,
-    AlignmentAdjust.class,
-    AlignmentBaseline.class,
-    AlignSelf.class,
-    All.class,
-    Animation.class,
-    AnimationDelay.class,
-    AnimationDirection.class,
-    AnimationDuration.class,
-    AnimationFillMode.class,
-    AnimationIterationCount.class,
-    AnimationName.class,
-    AnimationPlayState.class,
-    AnimationTimingFunction.class,
-    AnyHover.class,
-    AnyPointer.class,
-    Appearance.class,
-    AspectRatio.class,
-    Azimuth.class,
-    BackfaceVisibility.class,
-    Background.class,
-    BackgroundAttachment.class,
-    BackgroundBlendMode.class,
-    BackgroundClip.class,
-    BackgroundColor.class,
-    BackgroundImage.class,
-    BackgroundImageTransform.class,
-    BackgroundOrigin.class,
-    BackgroundPosition.class,
-    BackgroundPositionX.class,
-    BackgroundPositionY.class,
-    BackgroundRepeat.class,
-    BackgroundSize.class,
-    BaselineShift.class,
-    Behavior.class,
-    Binding.class,
-    Bleed.class,
-    BlockProgression.class,
-    BlockSize.class,
-    BookmarkLabel.class,
-    BookmarkLevel.class,
-    BookmarkState.class,
-    Border.class,
-    BorderBlockEnd.class,
-    BorderBlockEndColor.class,
-    BorderBlockEndStyle.class,
-    BorderBlockEndWidth.class,
-    BorderBlockStart.class,
-    BorderBlockStartColor.class,
-    BorderBlockStartStyle.class,
-    BorderBlockStartWidth.class,
-    BorderBottom.class,
-    BorderBottomColor.class,
-    BorderBottomLeftRadius.class,
-    BorderBottomRightRadius.class,
-    BorderBottomStyle.class,
-    BorderBottomWidth.class,
-    BorderBoundary.class,
-    BorderCollapse.class,
-    BorderColor.class,
-    BorderEnd.class,
-    BorderEndColor.class,
-    BorderEndStyle.class,
-    BorderEndWidth.class,
-    BorderImage.class,
-    BorderImageOutset.class,
-    BorderImageRepeat.class,
-    BorderImageSlice.class,
-    BorderImageSource.class,
-    BorderImageWidth.class,
-    BorderInlineEnd.class,
-    BorderInlineEndColor.class,
-    BorderInlineEndStyle.class,
-    BorderInlineEndWidth.class,
-    BorderInlineStart.class,
-    BorderInlineStartColor.class,
-    BorderInlineStartStyle.class,
-    BorderInlineStartWidth.class,
-    BorderLeft.class,
-    BorderLeftColor.class,
-    BorderLeftStyle.class,
-    BorderLeftWidth.class,
-    BorderRadius.class,
-    BorderRight.class,
-    BorderRightColor.class,
-    BorderRightStyle.class,
-    BorderRightWidth.class,
-    BorderSpacing.class,
-    BorderStart.class,
-    BorderStartColor.class,
-    BorderStartStyle.class,
-    BorderStartWidth.class,
-    BorderStyle.class,
-    BorderTop.class,
-    BorderTopColor.class,
-    BorderTopLeftRadius.class,
-    BorderTopRightRadius.class,
-    BorderTopStyle.class,
-    BorderTopWidth.class,
-    BorderWidth.class,
-    Bottom.class,
-    BoxAlign.class,
-    BoxDecorationBreak.class,
-    BoxDirection.class,
-    BoxFlex.class,
-    BoxFlexGroup.class,
-    BoxLines.class,
-    BoxOrdinalGroup.class,
-    BoxOrient.class,
-    BoxPack.class,
-    BoxShadow.class,
-    BoxSizing.class,
-    BoxSnap.class,
-    BoxSuppress.class,
-    BreakAfter.class,
-    BreakBefore.class,
-    BreakInside.class,
-    CaptionSide.class,
-    Caret.class,
-    CaretColor.class,
-    CaretShape.class,
-    Clear.class,
-    Clip.class,
-    ClipPath.class,
-    ClipRule.class,
-    Color.class,
-    ColorGamut.class,
-    ColorIndex.class,
-    ColorInterpolation.class,
-    ColorInterpolationFilters.class,
-    ColorRendering.class,
-    ColumnCount.class,
-    ColumnFill.class,
-    ColumnGap.class,
-    ColumnRule.class,
-    ColumnRuleColor.class,
-    ColumnRuleStyle.class,
-    ColumnRuleWidth.class,
-    Columns.class,
-    ColumnSpan.class,
-    ColumnWidth.class,
-    Content.class,
-    ContentZoomChaining.class,
-    ContentZooming.class,
-    ContentZoomLimit.class,
-    ContentZoomLimitMax.class,
-    ContentZoomLimitMin.class,
-    ContentZoomSnap.class,
-    ContentZoomSnapPoints.class,
-    ContentZoomSnapType.class,
-    CounterIncrement.class,
-    CounterReset.class,
-    CounterSet.class,
-    Cue.class,
-    CueAfter.class,
-    CueBefore.class,
-    Cursor.class,
-    DeviceAspectRatio.class,
-    DeviceHeight.class,
-    DevicePixelRatio.class,
-    DeviceWidth.class,
-    Direction.class,
-    Display.class,
-    DominantBaseline.class,
-    DropInitialAfterAdjust.class,
-    DropInitialAfterAlign.class,
-    DropInitialBeforeAdjust.class,
-    DropInitialBeforeAlign.class,
-    DropInitialSize.class,
-    DropInitialValue.class,
-    Elevation.class,
-    EmptyCells.class,
-    EnableBackground.class,
-    Fallback.class,
-    Fill.class,
-    FillOpacity.class,
-    FillRule.class,
-    Filter.class,
-    Fit.class,
-    FitPosition.class,
-    Flex.class,
-    FlexBasis.class,
-    FlexDirection.class,
-    FlexFlow.class,
-    FlexGrow.class,
-    FlexShrink.class,
-    FlexWrap.class,
-    Float.class,
-    FloatDefer.class,
-    FloatOffset.class,
-    FloatReference.class,
-    FloodColor.class,
-    FloodOpacity.class,
-    FlowFrom.class,
-    FlowInto.class,
-    Font.class,
-    FontFamily.class,
-    FontFeatureSettings.class,
-    FontKerning.class,
-    FontLanguageOverride.class,
-    FontSize.class,
-    FontSizeAdjust.class,
-    FontStretch.class,
-    FontStyle.class,
-    FontSynthesis.class,
-    FontVariant.class,
-    FontVariantAlternates.class,
-    FontVariantCaps.class,
-    FontVariantEastAsian.class,
-    FontVariantLigatures.class,
-    FontVariantNumeric.class,
-    FontVariantPosition.class,
-    FontWeight.class,
-    FootnoteDisplay.class,
-    FootnotePolicy.class,
-    GlyphOrientationHorizontal.class,
-    GlyphOrientationVertical.class,
-    Grid.class,
-    GridArea.class,
-    GridAutoColumns.class,
-    GridAutoFlow.class,
-    GridAutoRows.class,
-    GridCellStacking.class,
-    GridColumn.class,
-    GridColumnAlign.class,
-    GridColumnEnd.class,
-    GridColumnGap.class,
-    GridColumns.class,
-    GridColumnSizing.class,
-    GridColumnSpan.class,
-    GridColumnStart.class,
-    GridFlow.class,
-    GridGap.class,
-    GridLayer.class,
-    GridRow.class,
-    GridRowAlign.class,
-    GridRowEnd.class,
-    GridRowGap.class,
-    GridRows.class,
-    GridRowSizing.class,
-    GridRowSpan.class,
-    GridRowStart.class,
-    GridTemplate.class,
-    GridTemplateAreas.class,
-    GridTemplateColumns.class,
-    GridTemplateRows.class,
-    HangingPunctuation.class,
-    Height.class,
-    HighContrast.class,
-    HighContrastAdjust.class,
-    Hover.class,
-    HyphenateAfter.class,
-    HyphenateBefore.class,
-    HyphenateCharacter.class,
-    HyphenateLimitChars.class,
-    HyphenateLimitLast.class,
-    HyphenateLimitLines.class,
-    HyphenateLimitZone.class,
-    HyphenateLines.class,
-    HyphenateResource.class,
-    Hyphens.class,
-    ImageOrientation.class,
-    ImageRendering.class,
-    ImageResolution.class,
-    ImeMode.class,
-    InitialLetter.class,
-    InitialLetterAlign.class,
-    InitialLetterWrap.class,
-    InlineBoxAlign.class,
-    InlineSize.class,
-    Isolation.class,
-    JustifyContent.class,
-    JustifyItems.class,
-    JustifySelf.class,
-    Kerning.class,
-    LayoutFlow.class,
-    LayoutGrid.class,
-    LayoutGridChar.class,
-    LayoutGridLine.class,
-    LayoutGridMode.class,
-    LayoutGridType.class,
-    Left.class,
-    LetterSpacing.class,
-    LightingColor.class,
-    LineBreak.class,
-    LineGrid.class,
-    LineHeight.class,
-    LineSnap.class,
-    LineStacking.class,
-    LineStackingRuby.class,
-    LineStackingShift.class,
-    LineStackingStrategy.class,
-    ListStyle.class,
-    ListStyleImage.class,
-    ListStylePosition.class,
-    ListStyleType.class,
-    Margin.class,
-    MarginBlockEnd.class,
-    MarginBlockStart.class,
-    MarginBottom.class,
-    MarginEnd.class,
-    MarginInlineEnd.class,
-    MarginInlineStart.class,
-    MarginLeft.class,
-    MarginRight.class,
-    MarginStart.class,
-    MarginTop.class,
-    Marker.class,
-    MarkerEnd.class,
-    MarkerMid.class,
-    MarkerSide.class,
-    MarkerStart.class,
-    Marks.class,
-    Marquee.class,
-    MarqueeDir.class,
-    MarqueeDirection.class,
-    MarqueeIncrement.class,
-    MarqueeLoop.class,
-    MarqueePlayCount.class,
-    MarqueeRepetition.class,
-    MarqueeSpeed.class,
-    MarqueeStyle.class,
-    Mask.class,
-    MaskBorder.class,
-    MaskBorderMode.class,
-    MaskBorderOutset.class,
-    MaskBorderRepeat.class,
-    MaskBorderSlice.class,
-    MaskBorderSource.class,
-    MaskBorderWidth.class,
-    MaskClip.class,
-    MaskComposite.class,
-    MaskImage.class,
-    MaskMode.class,
-    MaskOrigin.class,
-    MaskPosition.class,
-    MaskRepeat.class,
-    MaskSize.class,
-    MaskType.class,
-    MaxBlockSize.class,
-    MaxDevicePixelRatio.class,
-    MaxHeight.class,
-    MaxInlineSize.class,
-    MaxLines.class,
-    MaxWidth.class,
-    MaxZoom.class,
-    MinBlockSize.class,
-    MinDevicePixelRatio.class,
-    MinHeight.class,
-    MinInlineSize.class,
-    MinWidth.class,
-    MinZoom.class,
-    MixBlendMode.class,
-    Monochrome.class,
-    Motion.class,
-    MotionOffset.class,
-    MotionPath.class,
-    MotionRotation.class,
-    MoveTo.class,
-    NavDown.class,
-    NavIndex.class,
-    NavLeft.class,
-    NavRight.class,
-    NavUp.class,
-    Negative.class,
-    ObjectFit.class,
-    ObjectPosition.class,
-    OffsetAfter.class,
-    OffsetAnchor.class,
-    OffsetBefore.class,
-    OffsetBlockEnd.class,
-    OffsetBlockStart.class,
-    OffsetDistance.class,
-    OffsetEnd.class,
-    OffsetInlineEnd.class,
-    OffsetInlineStart.class,
-    OffsetOrigin.class,
-    OffsetPath.class,
-    OffsetRotation.class,
-    OffsetStart.class,
-    Opacity.class,
-    Order.class,
-    Orientation.class,
-    Orphans.class,
-    Outline.class,
-    OutlineColor.class,
-    OutlineOffset.class,
-    OutlineStyle.class,
-    OutlineWidth.class,
-    Overflow.class,
-    OverflowBlock.class,
-    OverflowInline.class,
-    OverflowStyle.class,
-    OverflowWrap.class,
-    OverflowX.class,
-    OverflowY.class,
-    Pad.class,
-    Padding.class,
-    PaddingBlockEnd.class,
-    PaddingBlockStart.class,
-    PaddingBottom.class,
-    PaddingEnd.class,
-    PaddingInlineEnd.class,
-    PaddingInlineStart.class,
-    PaddingLeft.class,
-    PaddingRight.class,
-    PaddingStart.class,
-    PaddingTop.class,
-    Page.class,
-    PageBreakAfter.class,
-    PageBreakBefore.class,
-    PageBreakInside.class,
-    PagePolicy.class,
-    Pause.class,
-    PauseAfter.class,
-    PauseBefore.class,
-    Perspective.class,
-    PerspectiveOrigin.class,
-    Phonemes.class,
-    Pitch.class,
-    PitchRange.class,
-    PlayDuring.class,
-    Pointer.class,
-    PointerEvents.class,
-    Position.class,
-    Prefix.class,
-    PresentationLevel.class,
-    ProgressAppearance.class,
-    PunctuationTrim.class,
-    Quotes.class,
-    Range.class,
-    RegionFragment.class,
-    Resize.class,
-    Resolution.class,
-    Rest.class,
-    RestAfter.class,
-    RestBefore.class,
-    Richness.class,
-    Right.class,
-    Rotation.class,
-    RotationPoint.class,
-    RubyAlign.class,
-    RubyMerge.class,
-    RubyOverhang.class,
-    RubyPosition.class,
-    RubySpan.class,
-    Scan.class,
-    Scollbar3dlightColor.class,
-    ScollbarArrowColor.class,
-    ScollbarBaseColor.class,
-    ScollbarDarkShadowColor.class,
-    Scripting.class,
-    Scrollbar3dlightColor.class,
-    ScrollbarDarkshadowColor.class,
-    ScrollbarFaceColor.class,
-    ScrollbarHighlightColor.class,
-    ScrollbarShadowColor.class,
-    ScrollbarTrackColor.class,
-    ScrollBehavior.class,
-    ScrollChaining.class,
-    ScrollLimit.class,
-    ScrollLimitXMax.class,
-    ScrollLimitXMin.class,
-    ScrollLimitYMax.class,
-    ScrollLimitYMin.class,
-    ScrollRails.class,
-    ScrollSnapAlign.class,
-    ScrollSnapMargin.class,
-    ScrollSnapMarginBlock.class,
-    ScrollSnapMarginBlockEnd.class,
-    ScrollSnapMarginBlockStart.class,
-    ScrollSnapMarginBottom.class,
-    ScrollSnapMarginInline.class,
-    ScrollSnapMarginInlineEnd.class,
-    ScrollSnapMarginInlineStart.class,
-    ScrollSnapMarginLeft.class,
-    ScrollSnapMarginRight.class,
-    ScrollSnapMarginTop.class,
-    ScrollSnapPadding.class,
-    ScrollSnapPaddingBlock.class,
-    ScrollSnapPaddingBlockEnd.class,
-    ScrollSnapPaddingBlockStart.class,
-    ScrollSnapPaddingBottom.class,
-    ScrollSnapPaddingInline.class,
-    ScrollSnapPaddingInlineEnd.class,
-    ScrollSnapPaddingInlineStart.class,
-    ScrollSnapPaddingLeft.class,
-    ScrollSnapPaddingRight.class,
-    ScrollSnapPaddingTop.class,
-    ScrollSnapPointsX.class,
-    ScrollSnapPointsY.class,
-    ScrollSnapStop.class,
-    ScrollSnapType.class,
-    ScrollSnapX.class,
-    ScrollSnapY.class,
-    ScrollTranslation.class,
-    Shape.class,
-    ShapeImageThreshold.class,
-    ShapeInside.class,
-    ShapeMargin.class,
-    ShapeOutside.class,
-    ShapeRendering.class,
-    Size.class,
-    Speak.class,
-    SpeakAs.class,
-    SpeakHeader.class,
-    SpeakNumeral.class,
-    SpeakPunctuation.class,
-    SpeechRate.class,
-    Src.class,
-    StopColor.class,
-    StopOpacity.class,
-    Stress.class,
-    StringSet.class,
-    Stroke.class,
-    StrokeDasharray.class,
-    StrokeDashoffset.class,
-    StrokeLinecap.class,
-    StrokeLinejoin.class,
-    StrokeMiterlimit.class,
-    StrokeOpacity.class,
-    StrokeWidth.class,
-    Suffix.class,
-    Symbols.class,
-    System.class,
-    TableLayout.class,
-    TabSize.class,
-    Target.class,
-    TargetName.class,
-    TargetNew.class,
-    TargetPosition.class,
-    TextAlign.class,
-    TextAlignAll.class,
-    TextAlignLast.class,
-    TextAnchor.class,
-    TextAutoSpace.class,
-    TextCombineHorizontal.class,
-    TextCombineUpright.class,
-    TextDecoration.class,
-    TextDecorationColor.class,
-    TextDecorationLine.class,
-    TextDecorationSkip.class,
-    TextDecorationStyle.class,
-    TextEmphasis.class,
-    TextEmphasisColor.class,
-    TextEmphasisPosition.class,
-    TextEmphasisStyle.class,
-    TextHeight.class,
-    TextIndent.class,
-    TextJustify.class,
-    TextKashidaSpace.class,
-    TextOrientation.class,
-    TextOutline.class,
-    TextOverflow.class,
-    TextRendering.class,
-    TextShadow.class,
-    TextSizeAdjust.class,
-    TextSpaceCollapse.class,
-    TextSpaceTrim.class,
-    TextSpacing.class,
-    TextStroke.class,
-    TextTransform.class,
-    TextUnderlinePosition.class,
-    TextWrap.class,
-    Top.class,
-    TouchAction.class,
-    Transform.class,
-    TransformBox.class,
-    TransformOrigin.class,
-    TransformStyle.class,
-    Transition.class,
-    TransitionDelay.class,
-    TransitionDuration.class,
-    TransitionProperty.class,
-    TransitionTimingFunction.class,
-    UnicodeBidi.class,
-    UnicodeRange.class,
-    Update.class,
-    UserModify.class,
-    UserSelect.class,
-    UserZoom.class,
-    VerticalAlign.class,
-    ViewportFit.class,
-    ViewState.class,
-    Visibility.class,
-    VoiceBalance.class,
-    VoiceDuration.class,
-    VoiceFamily.class,
-    VoicePitch.class,
-    VoiceRange.class,
-    VoiceRate.class,
-    VoiceStress.class,
-    VoiceVolume.class,
-    Volume.class,
-    WhiteSpace.class,
-    WhiteSpaceCollapse.class,
-    Widows.class,
-    Width.class,
-    WillChange.class,
-    WordBreak.class,
-    WordSpacing.class,
-    WordWrap.class,
-    WrapAfter.class,
-    WrapBefore.class,
-    WrapFlow.class,
-    WrapInside.class,
-    WrapMargin.class,
-    WrapThrough.class,
-    WritingMode.class,
-    ZIndex.class,
-    Zoom.class);
+  private static final StandardCssObjectRegistry<StandardProperty> REGISTRY = new StandardCssObjectRegistry<>(
+    "CSS property",
+    StandardProperty.class,
+    "org.sonar.css.model.property.standard.",
+    "accelerator", "Accelerator",
+    "additive-symbols", "AdditiveSymbols",
+    "align-content", "AlignContent",
+    "align-items", "AlignItems",
+    "align-self", "AlignSelf",
+    "alignment-adjust", "AlignmentAdjust",
+    "alignment-baseline", "AlignmentBaseline",
+    "all", "All",
+    "animation", "Animation",
+    "animation-delay", "AnimationDelay",
+    "animation-direction", "AnimationDirection",
+    "animation-duration", "AnimationDuration",
+    "animation-fill-mode", "AnimationFillMode",
+    "animation-iteration-count", "AnimationIterationCount",
+    "animation-name", "AnimationName",
+    "animation-play-state", "AnimationPlayState",
+    "animation-timing-function", "AnimationTimingFunction",
+    "any-hover", "AnyHover",
+    "any-pointer", "AnyPointer",
+    "appearance", "Appearance",
+    "aspect-ratio", "AspectRatio",
+    "azimuth", "Azimuth",
+    "backface-visibility", "BackfaceVisibility",
+    "background", "Background",
+    "background-attachment", "BackgroundAttachment",
+    "background-blend-mode", "BackgroundBlendMode",
+    "background-clip", "BackgroundClip",
+    "background-color", "BackgroundColor",
+    "background-image", "BackgroundImage",
+    "background-image-transform", "BackgroundImageTransform",
+    "background-origin", "BackgroundOrigin",
+    "background-position", "BackgroundPosition",
+    "background-position-x", "BackgroundPositionX",
+    "background-position-y", "BackgroundPositionY",
+    "background-repeat", "BackgroundRepeat",
+    "background-size", "BackgroundSize",
+    "baseline-shift", "BaselineShift",
+    "behavior", "Behavior",
+    "binding", "Binding",
+    "bleed", "Bleed",
+    "block-progression", "BlockProgression",
+    "block-size", "BlockSize",
+    "bookmark-label", "BookmarkLabel",
+    "bookmark-level", "BookmarkLevel",
+    "bookmark-state", "BookmarkState",
+    "border", "Border",
+    "border-block-end", "BorderBlockEnd",
+    "border-block-end-color", "BorderBlockEndColor",
+    "border-block-end-style", "BorderBlockEndStyle",
+    "border-block-end-width", "BorderBlockEndWidth",
+    "border-block-start", "BorderBlockStart",
+    "border-block-start-color", "BorderBlockStartColor",
+    "border-block-start-style", "BorderBlockStartStyle",
+    "border-block-start-width", "BorderBlockStartWidth",
+    "border-bottom", "BorderBottom",
+    "border-bottom-color", "BorderBottomColor",
+    "border-bottom-left-radius", "BorderBottomLeftRadius",
+    "border-bottom-right-radius", "BorderBottomRightRadius",
+    "border-bottom-style", "BorderBottomStyle",
+    "border-bottom-width", "BorderBottomWidth",
+    "border-boundary", "BorderBoundary",
+    "border-collapse", "BorderCollapse",
+    "border-color", "BorderColor",
+    "border-end", "BorderEnd",
+    "border-end-color", "BorderEndColor",
+    "border-end-style", "BorderEndStyle",
+    "border-end-width", "BorderEndWidth",
+    "border-image", "BorderImage",
+    "border-image-outset", "BorderImageOutset",
+    "border-image-repeat", "BorderImageRepeat",
+    "border-image-slice", "BorderImageSlice",
+    "border-image-source", "BorderImageSource",
+    "border-image-width", "BorderImageWidth",
+    "border-inline-end", "BorderInlineEnd",
+    "border-inline-end-color", "BorderInlineEndColor",
+    "border-inline-end-style", "BorderInlineEndStyle",
+    "border-inline-end-width", "BorderInlineEndWidth",
+    "border-inline-start", "BorderInlineStart",
+    "border-inline-start-color", "BorderInlineStartColor",
+    "border-inline-start-style", "BorderInlineStartStyle",
+    "border-inline-start-width", "BorderInlineStartWidth",
+    "border-left", "BorderLeft",
+    "border-left-color", "BorderLeftColor",
+    "border-left-style", "BorderLeftStyle",
+    "border-left-width", "BorderLeftWidth",
+    "border-radius", "BorderRadius",
+    "border-right", "BorderRight",
+    "border-right-color", "BorderRightColor",
+    "border-right-style", "BorderRightStyle",
+    "border-right-width", "BorderRightWidth",
+    "border-spacing", "BorderSpacing",
+    "border-start", "BorderStart",
+    "border-start-color", "BorderStartColor",
+    "border-start-style", "BorderStartStyle",
+    "border-start-width", "BorderStartWidth",
+    "border-style", "BorderStyle",
+    "border-top", "BorderTop",
+    "border-top-color", "BorderTopColor",
+    "border-top-left-radius", "BorderTopLeftRadius",
+    "border-top-right-radius", "BorderTopRightRadius",
+    "border-top-style", "BorderTopStyle",
+    "border-top-width", "BorderTopWidth",
+    "border-width", "BorderWidth",
+    "bottom", "Bottom",
+    "box-align", "BoxAlign",
+    "box-decoration-break", "BoxDecorationBreak",
+    "box-direction", "BoxDirection",
+    "box-flex", "BoxFlex",
+    "box-flex-group", "BoxFlexGroup",
+    "box-lines", "BoxLines",
+    "box-ordinal-group", "BoxOrdinalGroup",
+    "box-orient", "BoxOrient",
+    "box-pack", "BoxPack",
+    "box-shadow", "BoxShadow",
+    "box-sizing", "BoxSizing",
+    "box-snap", "BoxSnap",
+    "box-suppress", "BoxSuppress",
+    "break-after", "BreakAfter",
+    "break-before", "BreakBefore",
+    "break-inside", "BreakInside",
+    "caption-side", "CaptionSide",
+    "caret", "Caret",
+    "caret-color", "CaretColor",
+    "caret-shape", "CaretShape",
+    "clear", "Clear",
+    "clip", "Clip",
+    "clip-path", "ClipPath",
+    "clip-rule", "ClipRule",
+    "color", "Color",
+    "color-gamut", "ColorGamut",
+    "color-index", "ColorIndex",
+    "color-interpolation", "ColorInterpolation",
+    "color-interpolation-filters", "ColorInterpolationFilters",
+    "color-rendering", "ColorRendering",
+    "column-count", "ColumnCount",
+    "column-fill", "ColumnFill",
+    "column-gap", "ColumnGap",
+    "column-rule", "ColumnRule",
+    "column-rule-color", "ColumnRuleColor",
+    "column-rule-style", "ColumnRuleStyle",
+    "column-rule-width", "ColumnRuleWidth",
+    "column-span", "ColumnSpan",
+    "column-width", "ColumnWidth",
+    "columns", "Columns",
+    "content", "Content",
+    "content-zoom-chaining", "ContentZoomChaining",
+    "content-zoom-limit", "ContentZoomLimit",
+    "content-zoom-limit-max", "ContentZoomLimitMax",
+    "content-zoom-limit-min", "ContentZoomLimitMin",
+    "content-zoom-snap", "ContentZoomSnap",
+    "content-zoom-snap-points", "ContentZoomSnapPoints",
+    "content-zoom-snap-type", "ContentZoomSnapType",
+    "content-zooming", "ContentZooming",
+    "counter-increment", "CounterIncrement",
+    "counter-reset", "CounterReset",
+    "counter-set", "CounterSet",
+    "cue", "Cue",
+    "cue-after", "CueAfter",
+    "cue-before", "CueBefore",
+    "cursor", "Cursor",
+    "device-aspect-ratio", "DeviceAspectRatio",
+    "device-height", "DeviceHeight",
+    "device-pixel-ratio", "DevicePixelRatio",
+    "device-width", "DeviceWidth",
+    "direction", "Direction",
+    "display", "Display",
+    "dominant-baseline", "DominantBaseline",
+    "drop-initial-after-adjust", "DropInitialAfterAdjust",
+    "drop-initial-after-align", "DropInitialAfterAlign",
+    "drop-initial-before-adjust", "DropInitialBeforeAdjust",
+    "drop-initial-before-align", "DropInitialBeforeAlign",
+    "drop-initial-size", "DropInitialSize",
+    "drop-initial-value", "DropInitialValue",
+    "elevation", "Elevation",
+    "empty-cells", "EmptyCells",
+    "enable-background", "EnableBackground",
+    "fallback", "Fallback",
+    "fill", "Fill",
+    "fill-opacity", "FillOpacity",
+    "fill-rule", "FillRule",
+    "filter", "Filter",
+    "fit", "Fit",
+    "fit-position", "FitPosition",
+    "flex", "Flex",
+    "flex-basis", "FlexBasis",
+    "flex-direction", "FlexDirection",
+    "flex-flow", "FlexFlow",
+    "flex-grow", "FlexGrow",
+    "flex-shrink", "FlexShrink",
+    "flex-wrap", "FlexWrap",
+    "float", "Float",
+    "float-defer", "FloatDefer",
+    "float-offset", "FloatOffset",
+    "float-reference", "FloatReference",
+    "flood-color", "FloodColor",
+    "flood-opacity", "FloodOpacity",
+    "flow-from", "FlowFrom",
+    "flow-into", "FlowInto",
+    "font", "Font",
+    "font-family", "FontFamily",
+    "font-feature-settings", "FontFeatureSettings",
+    "font-kerning", "FontKerning",
+    "font-language-override", "FontLanguageOverride",
+    "font-size", "FontSize",
+    "font-size-adjust", "FontSizeAdjust",
+    "font-stretch", "FontStretch",
+    "font-style", "FontStyle",
+    "font-synthesis", "FontSynthesis",
+    "font-variant", "FontVariant",
+    "font-variant-alternates", "FontVariantAlternates",
+    "font-variant-caps", "FontVariantCaps",
+    "font-variant-east-asian", "FontVariantEastAsian",
+    "font-variant-ligatures", "FontVariantLigatures",
+    "font-variant-numeric", "FontVariantNumeric",
+    "font-variant-position", "FontVariantPosition",
+    "font-weight", "FontWeight",
+    "footnote-display", "FootnoteDisplay",
+    "footnote-policy", "FootnotePolicy",
+    "glyph-orientation-horizontal", "GlyphOrientationHorizontal",
+    "glyph-orientation-vertical", "GlyphOrientationVertical",
+    "grid", "Grid",
+    "grid-area", "GridArea",
+    "grid-auto-columns", "GridAutoColumns",
+    "grid-auto-flow", "GridAutoFlow",
+    "grid-auto-rows", "GridAutoRows",
+    "grid-cell-stacking", "GridCellStacking",
+    "grid-column", "GridColumn",
+    "grid-column-align", "GridColumnAlign",
+    "grid-column-end", "GridColumnEnd",
+    "grid-column-gap", "GridColumnGap",
+    "grid-column-sizing", "GridColumnSizing",
+    "grid-column-span", "GridColumnSpan",
+    "grid-column-start", "GridColumnStart",
+    "grid-columns", "GridColumns",
+    "grid-flow", "GridFlow",
+    "grid-gap", "GridGap",
+    "grid-layer", "GridLayer",
+    "grid-row", "GridRow",
+    "grid-row-align", "GridRowAlign",
+    "grid-row-end", "GridRowEnd",
+    "grid-row-gap", "GridRowGap",
+    "grid-row-sizing", "GridRowSizing",
+    "grid-row-span", "GridRowSpan",
+    "grid-row-start", "GridRowStart",
+    "grid-rows", "GridRows",
+    "grid-template", "GridTemplate",
+    "grid-template-areas", "GridTemplateAreas",
+    "grid-template-columns", "GridTemplateColumns",
+    "grid-template-rows", "GridTemplateRows",
+    "hanging-punctuation", "HangingPunctuation",
+    "height", "Height",
+    "high-contrast", "HighContrast",
+    "high-contrast-adjust", "HighContrastAdjust",
+    "hover", "Hover",
+    "hyphenate-after", "HyphenateAfter",
+    "hyphenate-before", "HyphenateBefore",
+    "hyphenate-character", "HyphenateCharacter",
+    "hyphenate-limit-chars", "HyphenateLimitChars",
+    "hyphenate-limit-last", "HyphenateLimitLast",
+    "hyphenate-limit-lines", "HyphenateLimitLines",
+    "hyphenate-limit-zone", "HyphenateLimitZone",
+    "hyphenate-lines", "HyphenateLines",
+    "hyphenate-resource", "HyphenateResource",
+    "hyphens", "Hyphens",
+    "image-orientation", "ImageOrientation",
+    "image-rendering", "ImageRendering",
+    "image-resolution", "ImageResolution",
+    "ime-mode", "ImeMode",
+    "initial-letter", "InitialLetter",
+    "initial-letter-align", "InitialLetterAlign",
+    "initial-letter-wrap", "InitialLetterWrap",
+    "inline-box-align", "InlineBoxAlign",
+    "inline-size", "InlineSize",
+    "isolation", "Isolation",
+    "justify-content", "JustifyContent",
+    "justify-items", "JustifyItems",
+    "justify-self", "JustifySelf",
+    "kerning", "Kerning",
+    "layout-flow", "LayoutFlow",
+    "layout-grid", "LayoutGrid",
+    "layout-grid-char", "LayoutGridChar",
+    "layout-grid-line", "LayoutGridLine",
+    "layout-grid-mode", "LayoutGridMode",
+    "layout-grid-type", "LayoutGridType",
+    "left", "Left",
+    "letter-spacing", "LetterSpacing",
+    "lighting-color", "LightingColor",
+    "line-break", "LineBreak",
+    "line-grid", "LineGrid",
+    "line-height", "LineHeight",
+    "line-snap", "LineSnap",
+    "line-stacking", "LineStacking",
+    "line-stacking-ruby", "LineStackingRuby",
+    "line-stacking-shift", "LineStackingShift",
+    "line-stacking-strategy", "LineStackingStrategy",
+    "list-style", "ListStyle",
+    "list-style-image", "ListStyleImage",
+    "list-style-position", "ListStylePosition",
+    "list-style-type", "ListStyleType",
+    "margin", "Margin",
+    "margin-block-end", "MarginBlockEnd",
+    "margin-block-start", "MarginBlockStart",
+    "margin-bottom", "MarginBottom",
+    "margin-end", "MarginEnd",
+    "margin-inline-end", "MarginInlineEnd",
+    "margin-inline-start", "MarginInlineStart",
+    "margin-left", "MarginLeft",
+    "margin-right", "MarginRight",
+    "margin-start", "MarginStart",
+    "margin-top", "MarginTop",
+    "marker", "Marker",
+    "marker-end", "MarkerEnd",
+    "marker-mid", "MarkerMid",
+    "marker-side", "MarkerSide",
+    "marker-start", "MarkerStart",
+    "marks", "Marks",
+    "marquee", "Marquee",
+    "marquee-dir", "MarqueeDir",
+    "marquee-direction", "MarqueeDirection",
+    "marquee-increment", "MarqueeIncrement",
+    "marquee-loop", "MarqueeLoop",
+    "marquee-play-count", "MarqueePlayCount",
+    "marquee-repetition", "MarqueeRepetition",
+    "marquee-speed", "MarqueeSpeed",
+    "marquee-style", "MarqueeStyle",
+    "mask", "Mask",
+    "mask-border", "MaskBorder",
+    "mask-border-mode", "MaskBorderMode",
+    "mask-border-outset", "MaskBorderOutset",
+    "mask-border-repeat", "MaskBorderRepeat",
+    "mask-border-slice", "MaskBorderSlice",
+    "mask-border-source", "MaskBorderSource",
+    "mask-border-width", "MaskBorderWidth",
+    "mask-clip", "MaskClip",
+    "mask-composite", "MaskComposite",
+    "mask-image", "MaskImage",
+    "mask-mode", "MaskMode",
+    "mask-origin", "MaskOrigin",
+    "mask-position", "MaskPosition",
+    "mask-repeat", "MaskRepeat",
+    "mask-size", "MaskSize",
+    "mask-type", "MaskType",
+    "max-block-size", "MaxBlockSize",
+    "max-device-pixel-ratio", "MaxDevicePixelRatio",
+    "max-height", "MaxHeight",
+    "max-inline-size", "MaxInlineSize",
+    "max-lines", "MaxLines",
+    "max-width", "MaxWidth",
+    "max-zoom", "MaxZoom",
+    "min-block-size", "MinBlockSize",
+    "min-device-pixel-ratio", "MinDevicePixelRatio",
+    "min-height", "MinHeight",
+    "min-inline-size", "MinInlineSize",
+    "min-width", "MinWidth",
+    "min-zoom", "MinZoom",
+    "mix-blend-mode", "MixBlendMode",
+    "monochrome", "Monochrome",
+    "motion", "Motion",
+    "motion-offset", "MotionOffset",
+    "motion-path", "MotionPath",
+    "motion-rotation", "MotionRotation",
+    "move-to", "MoveTo",
+    "nav-down", "NavDown",
+    "nav-index", "NavIndex",
+    "nav-left", "NavLeft",
+    "nav-right", "NavRight",
+    "nav-up", "NavUp",
+    "negative", "Negative",
+    "object-fit", "ObjectFit",
+    "object-position", "ObjectPosition",
+    "offset-after", "OffsetAfter",
+    "offset-anchor", "OffsetAnchor",
+    "offset-before", "OffsetBefore",
+    "offset-block-end", "OffsetBlockEnd",
+    "offset-block-start", "OffsetBlockStart",
+    "offset-distance", "OffsetDistance",
+    "offset-end", "OffsetEnd",
+    "offset-inline-end", "OffsetInlineEnd",
+    "offset-inline-start", "OffsetInlineStart",
+    "offset-origin", "OffsetOrigin",
+    "offset-path", "OffsetPath",
+    "offset-rotation", "OffsetRotation",
+    "offset-start", "OffsetStart",
+    "opacity", "Opacity",
+    "order", "Order",
+    "orientation", "Orientation",
+    "orphans", "Orphans",
+    "outline", "Outline",
+    "outline-color", "OutlineColor",
+    "outline-offset", "OutlineOffset",
+    "outline-style", "OutlineStyle",
+    "outline-width", "OutlineWidth",
+    "overflow", "Overflow",
+    "overflow-block", "OverflowBlock",
+    "overflow-inline", "OverflowInline",
+    "overflow-style", "OverflowStyle",
+    "overflow-wrap", "OverflowWrap",
+    "overflow-x", "OverflowX",
+    "overflow-y", "OverflowY",
+    "pad", "Pad",
+    "padding", "Padding",
+    "padding-block-end", "PaddingBlockEnd",
+    "padding-block-start", "PaddingBlockStart",
+    "padding-bottom", "PaddingBottom",
+    "padding-end", "PaddingEnd",
+    "padding-inline-end", "PaddingInlineEnd",
+    "padding-inline-start", "PaddingInlineStart",
+    "padding-left", "PaddingLeft",
+    "padding-right", "PaddingRight",
+    "padding-start", "PaddingStart",
+    "padding-top", "PaddingTop",
+    "page", "Page",
+    "page-break-after", "PageBreakAfter",
+    "page-break-before", "PageBreakBefore",
+    "page-break-inside", "PageBreakInside",
+    "page-policy", "PagePolicy",
+    "pause", "Pause",
+    "pause-after", "PauseAfter",
+    "pause-before", "PauseBefore",
+    "perspective", "Perspective",
+    "perspective-origin", "PerspectiveOrigin",
+    "phonemes", "Phonemes",
+    "pitch", "Pitch",
+    "pitch-range", "PitchRange",
+    "play-during", "PlayDuring",
+    "pointer", "Pointer",
+    "pointer-events", "PointerEvents",
+    "position", "Position",
+    "prefix", "Prefix",
+    "presentation-level", "PresentationLevel",
+    "progress-appearance", "ProgressAppearance",
+    "punctuation-trim", "PunctuationTrim",
+    "quotes", "Quotes",
+    "range", "Range",
+    "region-fragment", "RegionFragment",
+    "resize", "Resize",
+    "resolution", "Resolution",
+    "rest", "Rest",
+    "rest-after", "RestAfter",
+    "rest-before", "RestBefore",
+    "richness", "Richness",
+    "right", "Right",
+    "rotation", "Rotation",
+    "rotation-point", "RotationPoint",
+    "ruby-align", "RubyAlign",
+    "ruby-merge", "RubyMerge",
+    "ruby-overhang", "RubyOverhang",
+    "ruby-position", "RubyPosition",
+    "ruby-span", "RubySpan",
+    "scan", "Scan",
+    "scollbar-arrow-color", "ScollbarArrowColor",
+    "scollbar-base-color", "ScollbarBaseColor",
+    "scollbar-dark-shadow-color", "ScollbarDarkShadowColor",
+    "scollbar3dlight-color", "Scollbar3dlightColor",
+    "scripting", "Scripting",
+    "scroll-behavior", "ScrollBehavior",
+    "scroll-chaining", "ScrollChaining",
+    "scroll-limit", "ScrollLimit",
+    "scroll-limit-x-max", "ScrollLimitXMax",
+    "scroll-limit-x-min", "ScrollLimitXMin",
+    "scroll-limit-y-max", "ScrollLimitYMax",
+    "scroll-limit-y-min", "ScrollLimitYMin",
+    "scroll-rails", "ScrollRails",
+    "scroll-snap-align", "ScrollSnapAlign",
+    "scroll-snap-margin", "ScrollSnapMargin",
+    "scroll-snap-margin-block", "ScrollSnapMarginBlock",
+    "scroll-snap-margin-block-end", "ScrollSnapMarginBlockEnd",
+    "scroll-snap-margin-block-start", "ScrollSnapMarginBlockStart",
+    "scroll-snap-margin-bottom", "ScrollSnapMarginBottom",
+    "scroll-snap-margin-inline", "ScrollSnapMarginInline",
+    "scroll-snap-margin-inline-end", "ScrollSnapMarginInlineEnd",
+    "scroll-snap-margin-inline-start", "ScrollSnapMarginInlineStart",
+    "scroll-snap-margin-left", "ScrollSnapMarginLeft",
+    "scroll-snap-margin-right", "ScrollSnapMarginRight",
+    "scroll-snap-margin-top", "ScrollSnapMarginTop",
+    "scroll-snap-padding", "ScrollSnapPadding",
+    "scroll-snap-padding-block", "ScrollSnapPaddingBlock",
+    "scroll-snap-padding-block-end", "ScrollSnapPaddingBlockEnd",
+    "scroll-snap-padding-block-start", "ScrollSnapPaddingBlockStart",
+    "scroll-snap-padding-bottom", "ScrollSnapPaddingBottom",
+    "scroll-snap-padding-inline", "ScrollSnapPaddingInline",
+    "scroll-snap-padding-inline-end", "ScrollSnapPaddingInlineEnd",
+    "scroll-snap-padding-inline-start", "ScrollSnapPaddingInlineStart",
+    "scroll-snap-padding-left", "ScrollSnapPaddingLeft",
+    "scroll-snap-padding-right", "ScrollSnapPaddingRight",
+    "scroll-snap-padding-top", "ScrollSnapPaddingTop",
+    "scroll-snap-points-x", "ScrollSnapPointsX",
+    "scroll-snap-points-y", "ScrollSnapPointsY",
+    "scroll-snap-stop", "ScrollSnapStop",
+    "scroll-snap-type", "ScrollSnapType",
+    "scroll-snap-x", "ScrollSnapX",
+    "scroll-snap-y", "ScrollSnapY",
+    "scroll-translation", "ScrollTranslation",
+    "scrollbar-3dlight-color", "Scrollbar3dlightColor",
+    "scrollbar-darkshadow-color", "ScrollbarDarkshadowColor",
+    "scrollbar-face-color", "ScrollbarFaceColor",
+    "scrollbar-highlight-color", "ScrollbarHighlightColor",
+    "scrollbar-shadow-color", "ScrollbarShadowColor",
+    "scrollbar-track-color", "ScrollbarTrackColor",
+    "shape", "Shape",
+    "shape-image-threshold", "ShapeImageThreshold",
+    "shape-inside", "ShapeInside",
+    "shape-margin", "ShapeMargin",
+    "shape-outside", "ShapeOutside",
+    "shape-rendering", "ShapeRendering",
+    "size", "Size",
+    "speak", "Speak",
+    "speak-as", "SpeakAs",
+    "speak-header", "SpeakHeader",
+    "speak-numeral", "SpeakNumeral",
+    "speak-punctuation", "SpeakPunctuation",
+    "speech-rate", "SpeechRate",
+    "src", "Src",
+    "stop-color", "StopColor",
+    "stop-opacity", "StopOpacity",
+    "stress", "Stress",
+    "string-set", "StringSet",
+    "stroke", "Stroke",
+    "stroke-dasharray", "StrokeDasharray",
+    "stroke-dashoffset", "StrokeDashoffset",
+    "stroke-linecap", "StrokeLinecap",
+    "stroke-linejoin", "StrokeLinejoin",
+    "stroke-miterlimit", "StrokeMiterlimit",
+    "stroke-opacity", "StrokeOpacity",
+    "stroke-width", "StrokeWidth",
+    "suffix", "Suffix",
+    "symbols", "Symbols",
+    "system", "System",
+    "tab-size", "TabSize",
+    "table-layout", "TableLayout",
+    "target", "Target",
+    "target-name", "TargetName",
+    "target-new", "TargetNew",
+    "target-position", "TargetPosition",
+    "text-align", "TextAlign",
+    "text-align-all", "TextAlignAll",
+    "text-align-last", "TextAlignLast",
+    "text-anchor", "TextAnchor",
+    "text-auto-space", "TextAutoSpace",
+    "text-combine-horizontal", "TextCombineHorizontal",
+    "text-combine-upright", "TextCombineUpright",
+    "text-decoration", "TextDecoration",
+    "text-decoration-color", "TextDecorationColor",
+    "text-decoration-line", "TextDecorationLine",
+    "text-decoration-skip", "TextDecorationSkip",
+    "text-decoration-style", "TextDecorationStyle",
+    "text-emphasis", "TextEmphasis",
+    "text-emphasis-color", "TextEmphasisColor",
+    "text-emphasis-position", "TextEmphasisPosition",
+    "text-emphasis-style", "TextEmphasisStyle",
+    "text-height", "TextHeight",
+    "text-indent", "TextIndent",
+    "text-justify", "TextJustify",
+    "text-kashida-space", "TextKashidaSpace",
+    "text-orientation", "TextOrientation",
+    "text-outline", "TextOutline",
+    "text-overflow", "TextOverflow",
+    "text-rendering", "TextRendering",
+    "text-shadow", "TextShadow",
+    "text-size-adjust", "TextSizeAdjust",
+    "text-space-collapse", "TextSpaceCollapse",
+    "text-space-trim", "TextSpaceTrim",
+    "text-spacing", "TextSpacing",
+    "text-stroke", "TextStroke",
+    "text-transform", "TextTransform",
+    "text-underline-position", "TextUnderlinePosition",
+    "text-wrap", "TextWrap",
+    "top", "Top",
+    "touch-action", "TouchAction",
+    "transform", "Transform",
+    "transform-box", "TransformBox",
+    "transform-origin", "TransformOrigin",
+    "transform-style", "TransformStyle",
+    "transition", "Transition",
+    "transition-delay", "TransitionDelay",
+    "transition-duration", "TransitionDuration",
+    "transition-property", "TransitionProperty",
+    "transition-timing-function", "TransitionTimingFunction",
+    "unicode-bidi", "UnicodeBidi",
+    "unicode-range", "UnicodeRange",
+    "update", "Update",
+    "user-modify", "UserModify",
+    "user-select", "UserSelect",
+    "user-zoom", "UserZoom",
+    "vertical-align", "VerticalAlign",
+    "view-state", "ViewState",
+    "viewport-fit", "ViewportFit",
+    "visibility", "Visibility",
+    "voice-balance", "VoiceBalance",
+    "voice-duration", "VoiceDuration",
+    "voice-family", "VoiceFamily",
+    "voice-pitch", "VoicePitch",
+    "voice-range", "VoiceRange",
+    "voice-rate", "VoiceRate",
+    "voice-stress", "VoiceStress",
+    "voice-volume", "VoiceVolume",
+    "volume", "Volume",
+    "white-space", "WhiteSpace",
+    "white-space-collapse", "WhiteSpaceCollapse",
+    "widows", "Widows",
+    "width", "Width",
+    "will-change", "WillChange",
+    "word-break", "WordBreak",
+    "word-spacing", "WordSpacing",
+    "word-wrap", "WordWrap",
+    "wrap-after", "WrapAfter",
+    "wrap-before", "WrapBefore",
+    "wrap-flow", "WrapFlow",
+    "wrap-inside", "WrapInside",
+    "wrap-margin", "WrapMargin",
+    "wrap-through", "WrapThrough",
+    "writing-mode", "WritingMode",
+    "z-index", "ZIndex",
+    "zoom", "Zoom");
 
-  private static final Map<String, StandardProperty> ALL = new HashMap<>();
+  private static final UnknownCssObjectCache<UnknownProperty> UNKNOWN_PROPERTIES = new UnknownCssObjectCache<>(UnknownProperty::new);
 
-  static {
-    try {
-      StandardProperty standardProperty;
-      for (Class clazz : ALL_PROPERTY_CLASSES) {
-        standardProperty = (StandardProperty) clazz.newInstance();
-        ALL.put(standardProperty.getName(), standardProperty);
-      }
-    } catch (InstantiationException | IllegalAccessException e) {
-      throw new IllegalStateException("CSS property full list cannot be created.", e);
-    }
-  }
+  private static final Supplier<List<StandardProperty>> SHORTHAND_PROPERTIES = Suppliers.memoize(
+    () -> ImmutableList.copyOf(getAll().stream().filter(StandardProperty::isShorthand).iterator()));
 
   private StandardPropertyFactory() {
   }
 
   public static StandardProperty getByName(String propertyName) {
-    StandardProperty standardProperty = ALL.get(propertyName.toLowerCase(Locale.ENGLISH));
-    return standardProperty != null ? standardProperty : new UnknownProperty(propertyName);
+    StandardProperty standardProperty = REGISTRY.get(propertyName);
+    return standardProperty != null ? standardProperty : UNKNOWN_PROPERTIES.get(propertyName);
   }
 
   public static List<StandardProperty> getAll() {
-    return new ArrayList<>(ALL.values());
+    return REGISTRY.getAll();
+  }
+
+  /**
+   * @return the shorthand properties, sorted by name
+   */
+  public static List<StandardProperty> getShorthandProperties() {
+    return SHORTHAND_PROPERTIES.get();
+  }
+
+  /**
+   * @return the number of standard properties, which is also the upper bound (excluded) of their ids
+   */
+  public static int size() {
+    return REGISTRY.size();
   }
 
 }
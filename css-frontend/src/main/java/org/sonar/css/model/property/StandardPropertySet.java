@@ -0,0 +1,134 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model.property;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Set of standard properties backed by a bitset indexed by {@link StandardProperty#getId()}, so that set operations
+ * are a few word operations. Unknown properties, that have no id, are never part of the set.
+ */
+public final class StandardPropertySet {
+
+  private final long[] words;
+  private final boolean modifiable;
+
+  public StandardPropertySet() {
+    this(new long[wordCount()], true);
+  }
+
+  private StandardPropertySet(long[] words, boolean modifiable) {
+    this.words = words;
+    this.modifiable = modifiable;
+  }
+
+  public static StandardPropertySet unmodifiableCopyOf(Collection<StandardProperty> properties) {
+    StandardPropertySet set = new StandardPropertySet();
+    properties.forEach(set::add);
+    return new StandardPropertySet(set.words, false);
+  }
+
+  /**
+   * @return {@code true} if the property was added, {@code false} if it was already part of the set or if it is unknown
+   */
+  public boolean add(StandardProperty property) {
+    checkModifiable();
+    int id = property.getId();
+    if (id < 0 || contains(id)) {
+      return false;
+    }
+    words[id >>> 6] |= 1L << id;
+    return true;
+  }
+
+  public void clear() {
+    checkModifiable();
+    Arrays.fill(words, 0L);
+  }
+
+  public boolean contains(StandardProperty property) {
+    int id = property.getId();
+    return id >= 0 && contains(id);
+  }
+
+  public boolean containsAll(StandardPropertySet properties) {
+    for (int i = 0; i < words.length; i++) {
+      if ((properties.words[i] & ~words[i]) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public boolean isEmpty() {
+    for (long word : words) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public int size() {
+    int size = 0;
+    for (long word : words) {
+      size += Long.bitCount(word);
+    }
+    return size;
+  }
+
+  /**
+   * Iterates over the ids of the set in ascending order:
+   * {@code for (int id = set.nextId(0); id >= 0; id = set.nextId(id + 1))}.
+   *
+   * @return the first id of the set greater than or equal to {@code fromId}, or -1 if there is none
+   */
+  public int nextId(int fromId) {
+    int wordIndex = fromId >>> 6;
+    if (wordIndex >= words.length) {
+      return -1;
+    }
+    long word = words[wordIndex] & (-1L << fromId);
+    while (word == 0) {
+      wordIndex++;
+      if (wordIndex == words.length) {
+        return -1;
+      }
+      word = words[wordIndex];
+    }
+    return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+  }
+
+  private boolean contains(int id) {
+    return (words[id >>> 6] & (1L << id)) != 0;
+  }
+
+  private void checkModifiable() {
+    if (!modifiable) {
+      throw new UnsupportedOperationException("Unmodifiable set of standard properties");
+    }
+  }
+
+  private static int wordCount() {
+    return (StandardPropertyFactory.size() + 63) >>> 6;
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model.property.validator;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.function.BooleanSupplier;
+
+import org.sonar.css.model.property.StandardProperty;
+
+/**
+ * Bounded cache of property value validation results shared by all files and threads.
+ * Stylesheets repeat the same declarations ({@code display: block}, {@code margin: 0}, ...) a lot,
+ * and the validity of a declaration only depends on its standard property and on its value.
+ * Values are identified by their tokens, where any whitespace or comment between two tokens is
+ * normalized to a single space.
+ */
+public final class PropertyValueValidationCache {
+
+  @VisibleForTesting
+  static final int MAXIMUM_SIZE = 10_000;
+
+  private static final Cache<Key, Boolean> CACHE = CacheBuilder.newBuilder()
+    .maximumSize(MAXIMUM_SIZE)
+    .recordStats()
+    .build();
+
+  private PropertyValueValidationCache() {
+  }
+
+  public static boolean isValid(StandardProperty standardProperty, String normalizedValue, BooleanSupplier validation) {
+    Key key = new Key(standardProperty, normalizedValue);
+    Boolean valid = CACHE.getIfPresent(key);
+    if (valid == null) {
+      valid = validation.getAsBoolean();
+      CACHE.put(key, valid);
+    }
+    return valid;
+  }
+
+  /**
+   * Hit and miss counters, to tune the cache size.
+   */
+  public static CacheStats stats() {
+    return CACHE.stats();
+  }
+
+  public static long size() {
+    return CACHE.size();
+  }
+
+  /**
+   * Forgets all the results, for instance because the validators changed.
+   */
+  public static void clear() {
+    CACHE.invalidateAll();
+    CACHE.cleanUp();
+  }
+
+  private static class Key {
+
+    private final StandardProperty standardProperty;
+    private final String normalizedValue;
+
+    Key(StandardProperty standardProperty, String normalizedValue) {
+      this.standardProperty = standardProperty;
+      this.normalizedValue = normalizedValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return standardProperty.equals(key.standardProperty) && normalizedValue.equals(key.normalizedValue);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * standardProperty.hashCode() + normalizedValue.hashCode();
+    }
+
+  }
+
+}
@@ -0,0 +1,389 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model.property.validator.syntax;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.sonar.css.model.property.validator.ValidatorFactory;
+import org.sonar.css.model.property.validator.ValueElementValidator;
+import org.sonar.plugins.css.api.tree.Tree;
+
+/**
+ * Nondeterministic finite automaton over value elements, built from a {@link SyntaxNode} with Thompson's construction.
+ * Transitions either consume one value element accepted by a {@link ValueElementValidator}, or none.
+ * A list of value elements is matched in a single pass, tracking the set of active states:
+ * each validator is called at most once per value element. Lists with fewer or more elements
+ * than the syntax allows are rejected without calling any validator.
+ */
+final class Nfa {
+
+  /**
+   * Components of {@code &&} and {@code ||} combinations are expanded to all their orders.
+   */
+  static final int MAXIMUM_ANY_ORDER_COMPONENTS = 5;
+
+  private static final byte UNKNOWN = 0;
+  private static final byte VALID = 1;
+  private static final byte INVALID = 2;
+
+  private final ValueElementValidator[] validators;
+  private final int[] validatorIndexByState;
+  private final int[] targetByState;
+  private final BitSet[] closureByState;
+  private final long[] smallClosureByState;
+  private final int start;
+  private final int accept;
+  private final int minLength;
+  private final int maxLength;
+
+  private Nfa(Builder builder, int start, int accept, int minLength, int maxLength) {
+    this.validators = builder.validators.toArray(new ValueElementValidator[builder.validators.size()]);
+    int numberOfStates = builder.targets.size();
+    this.validatorIndexByState = new int[numberOfStates];
+    this.targetByState = new int[numberOfStates];
+    for (int state = 0; state < numberOfStates; state++) {
+      validatorIndexByState[state] = builder.validatorIndexes.get(state);
+      targetByState[state] = builder.targets.get(state);
+    }
+    this.closureByState = closures(builder.epsilons);
+    this.smallClosureByState = numberOfStates <= Long.SIZE && validators.length <= Long.SIZE ? smallClosures(closureByState) : null;
+    this.start = start;
+    this.accept = accept;
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+  }
+
+  static Nfa compile(SyntaxNode node) {
+    Builder builder = new Builder();
+    int[] fragment = builder.fragment(node);
+    return new Nfa(builder, fragment[0], fragment[1], minLength(node), maxLength(node));
+  }
+
+  int numberOfStates() {
+    return targetByState.length;
+  }
+
+  boolean matches(List<Tree> valueElements) {
+    if (valueElements.size() < minLength || maxLength != SyntaxNode.UNBOUNDED && valueElements.size() > maxLength) {
+      return false;
+    }
+    return smallClosureByState != null ? matchesWithMasks(valueElements) : matchesWithBitSets(valueElements);
+  }
+
+  private boolean matchesWithMasks(List<Tree> valueElements) {
+    long states = smallClosureByState[start];
+    for (Tree valueElement : valueElements) {
+      long validatedValidators = 0L;
+      long validValidators = 0L;
+      long nextStates = 0L;
+      for (long remainingStates = states; remainingStates != 0L; remainingStates &= remainingStates - 1) {
+        int state = Long.numberOfTrailingZeros(remainingStates);
+        int validatorIndex = validatorIndexByState[state];
+        if (validatorIndex != -1) {
+          long validator = 1L << validatorIndex;
+          if ((validatedValidators & validator) == 0L) {
+            validatedValidators |= validator;
+            if (validators[validatorIndex].isValid(valueElement)) {
+              validValidators |= validator;
+            }
+          }
+          if ((validValidators & validator) != 0L) {
+            nextStates |= smallClosureByState[targetByState[state]];
+          }
+        }
+      }
+      if (nextStates == 0L) {
+        return false;
+      }
+      states = nextStates;
+    }
+    return (states & (1L << accept)) != 0L;
+  }
+
+  private boolean matchesWithBitSets(List<Tree> valueElements) {
+    BitSet states = (BitSet) closureByState[start].clone();
+    BitSet nextStates = new BitSet(targetByState.length);
+    byte[] validity = new byte[validators.length];
+    for (Tree valueElement : valueElements) {
+      Arrays.fill(validity, UNKNOWN);
+      nextStates.clear();
+      for (int state = states.nextSetBit(0); state >= 0; state = states.nextSetBit(state + 1)) {
+        int validatorIndex = validatorIndexByState[state];
+        if (validatorIndex != -1 && isValid(validatorIndex, valueElement, validity)) {
+          nextStates.or(closureByState[targetByState[state]]);
+        }
+      }
+      if (nextStates.isEmpty()) {
+        return false;
+      }
+      BitSet swap = states;
+      states = nextStates;
+      nextStates = swap;
+    }
+    return states.get(accept);
+  }
+
+  private boolean isValid(int validatorIndex, Tree valueElement, byte[] validity) {
+    if (validity[validatorIndex] == UNKNOWN) {
+      validity[validatorIndex] = validators[validatorIndex].isValid(valueElement) ? VALID : INVALID;
+    }
+    return validity[validatorIndex] == VALID;
+  }
+
+  private static long[] smallClosures(BitSet[] closures) {
+    long[] smallClosures = new long[closures.length];
+    for (int state = 0; state < closures.length; state++) {
+      long[] words = closures[state].toLongArray();
+      smallClosures[state] = words.length == 0 ? 0L : words[0];
+    }
+    return smallClosures;
+  }
+
+  private static int minLength(SyntaxNode node) {
+    switch (node.kind()) {
+      case ELEMENT:
+        return 1;
+      case SEQUENCE:
+      case ALL_OF_ANY_ORDER:
+        return node.children().stream().mapToInt(Nfa::minLength).sum();
+      case ONE_OF:
+      case SOME_OF_ANY_ORDER:
+        return node.children().stream().mapToInt(Nfa::minLength).min().getAsInt();
+      case REPEATED:
+        int min = minLength(node.children().get(0)) * node.min();
+        return node.isCommaSeparated() && node.min() > 1 ? min + node.min() - 1 : min;
+      default:
+        throw new IllegalStateException("Unexpected syntax node: " + node.kind());
+    }
+  }
+
+  private static int maxLength(SyntaxNode node) {
+    int max = 0;
+    switch (node.kind()) {
+      case ELEMENT:
+        return 1;
+      case SEQUENCE:
+      case ALL_OF_ANY_ORDER:
+      case SOME_OF_ANY_ORDER:
+        for (SyntaxNode child : node.children()) {
+          int childMax = maxLength(child);
+          if (childMax == SyntaxNode.UNBOUNDED) {
+            return SyntaxNode.UNBOUNDED;
+          }
+          max += childMax;
+        }
+        return max;
+      case ONE_OF:
+        for (SyntaxNode child : node.children()) {
+          int childMax = maxLength(child);
+          if (childMax == SyntaxNode.UNBOUNDED) {
+            return SyntaxNode.UNBOUNDED;
+          }
+          max = Math.max(max, childMax);
+        }
+        return max;
+      case REPEATED:
+        int componentMax = maxLength(node.children().get(0));
+        if (node.max() == SyntaxNode.UNBOUNDED || componentMax == SyntaxNode.UNBOUNDED) {
+          return SyntaxNode.UNBOUNDED;
+        }
+        max = componentMax * node.max();
+        return node.isCommaSeparated() && node.max() > 1 ? max + node.max() - 1 : max;
+      default:
+        throw new IllegalStateException("Unexpected syntax node: " + node.kind());
+    }
+  }
+
+  private static BitSet[] closures(List<List<Integer>> epsilons) {
+    BitSet[] closures = new BitSet[epsilons.size()];
+    for (int state = 0; state < epsilons.size(); state++) {
+      BitSet closure = new BitSet(epsilons.size());
+      Deque<Integer> toVisit = new ArrayDeque<>();
+      closure.set(state);
+      toVisit.push(state);
+      while (!toVisit.isEmpty()) {
+        for (int target : epsilons.get(toVisit.pop())) {
+          if (!closure.get(target)) {
+            closure.set(target);
+            toVisit.push(target);
+          }
+        }
+      }
+      closures[state] = closure;
+    }
+    return closures;
+  }
+
+  private static class Builder {
+
+    private final List<ValueElementValidator> validators = new ArrayList<>();
+    private final Map<ValueElementValidator, Integer> validatorIndexOf = new IdentityHashMap<>();
+    private final List<Integer> validatorIndexes = new ArrayList<>();
+    private final List<Integer> targets = new ArrayList<>();
+    private final List<List<Integer>> epsilons = new ArrayList<>();
+
+    /**
+     * @return start and end states of the fragment matching the node
+     */
+    private int[] fragment(SyntaxNode node) {
+      switch (node.kind()) {
+        case ELEMENT:
+          return element(node.validator());
+        case SEQUENCE:
+          return sequence(node.children());
+        case ONE_OF:
+          return oneOf(node.children());
+        case ALL_OF_ANY_ORDER:
+          return anyOrder(node.children(), true);
+        case SOME_OF_ANY_ORDER:
+          return anyOrder(node.children(), false);
+        case REPEATED:
+          return repeated(node);
+        default:
+          throw new IllegalStateException("Unexpected syntax node: " + node.kind());
+      }
+    }
+
+    private int[] element(ValueElementValidator validator) {
+      int start = newState();
+      int end = newState();
+      Integer validatorIndex = validatorIndexOf.get(validator);
+      if (validatorIndex == null) {
+        validatorIndex = validators.size();
+        validators.add(validator);
+        validatorIndexOf.put(validator, validatorIndex);
+      }
+      validatorIndexes.set(start, validatorIndex);
+      targets.set(start, end);
+      return new int[] {start, end};
+    }
+
+    private int[] sequence(List<SyntaxNode> components) {
+      int start = newState();
+      int end = start;
+      for (SyntaxNode component : components) {
+        end = append(end, component, false);
+      }
+      return new int[] {start, end};
+    }
+
+    private int[] oneOf(List<SyntaxNode> components) {
+      int start = newState();
+      int end = newState();
+      for (SyntaxNode component : components) {
+        int[] fragment = fragment(component);
+        epsilon(start, fragment[0]);
+        epsilon(fragment[1], end);
+      }
+      return new int[] {start, end};
+    }
+
+    private int[] anyOrder(List<SyntaxNode> components, boolean all) {
+      if (components.size() > MAXIMUM_ANY_ORDER_COMPONENTS) {
+        throw new IllegalArgumentException("Unsupported value definition syntax: more than "
+          + MAXIMUM_ANY_ORDER_COMPONENTS + " components combined with " + (all ? "&&" : "||"));
+      }
+      int start = newState();
+      int end = newState();
+      anyOrder(start, end, components, all);
+      return new int[] {start, end};
+    }
+
+    private void anyOrder(int from, int end, List<SyntaxNode> remainingComponents, boolean all) {
+      for (SyntaxNode component : remainingComponents) {
+        int[] fragment = fragment(component);
+        epsilon(from, fragment[0]);
+        List<SyntaxNode> others = new ArrayList<>(remainingComponents);
+        others.remove(component);
+        if (others.isEmpty() || !all) {
+          epsilon(fragment[1], end);
+        }
+        anyOrder(fragment[1], end, others, all);
+      }
+    }
+
+    private int[] repeated(SyntaxNode node) {
+      SyntaxNode component = node.children().get(0);
+      if (node.min() > 0) {
+        return repeated(component, node.min(), node.max(), node.isCommaSeparated());
+      }
+      int start = newState();
+      int end = newState();
+      epsilon(start, end);
+      if (node.max() != 0) {
+        int[] fragment = repeated(component, 1, node.max(), node.isCommaSeparated());
+        epsilon(start, fragment[0]);
+        epsilon(fragment[1], end);
+      }
+      return new int[] {start, end};
+    }
+
+    private int[] repeated(SyntaxNode component, int min, int max, boolean commaSeparated) {
+      int start = newState();
+      int current = start;
+      for (int i = 0; i < min; i++) {
+        current = append(current, component, commaSeparated && i > 0);
+      }
+      int end = newState();
+      epsilon(current, end);
+      if (max == SyntaxNode.UNBOUNDED) {
+        epsilon(append(current, component, commaSeparated), current);
+      } else {
+        for (int i = min; i < max; i++) {
+          current = append(current, component, commaSeparated);
+          epsilon(current, end);
+        }
+      }
+      return new int[] {start, end};
+    }
+
+    private int append(int from, SyntaxNode component, boolean commaFirst) {
+      int current = from;
+      if (commaFirst) {
+        int[] comma = element(ValidatorFactory.getCommaDelimiterValidator());
+        epsilon(current, comma[0]);
+        current = comma[1];
+      }
+      int[] fragment = fragment(component);
+      epsilon(current, fragment[0]);
+      return fragment[1];
+    }
+
+    private int newState() {
+      validatorIndexes.add(-1);
+      targets.add(-1);
+      epsilons.add(new ArrayList<>());
+      return targets.size() - 1;
+    }
+
+    private void epsilon(int from, int to) {
+      epsilons.get(from).add(to);
+    }
+
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model.property.validator.syntax;
+
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+import org.sonar.css.model.property.validator.ValueElementValidator;
+
+/**
+ * Node of a parsed value definition syntax.
+ */
+class SyntaxNode {
+
+  enum Kind {
+    /** A single value element */
+    ELEMENT,
+    /** Juxtaposed components: all of them, in order */
+    SEQUENCE,
+    /** {@code a | b}: exactly one of the components */
+    ONE_OF,
+    /** {@code a && b}: all of the components, in any order */
+    ALL_OF_ANY_ORDER,
+    /** {@code a || b}: one or more of the components, in any order */
+    SOME_OF_ANY_ORDER,
+    /** Component followed by a multiplier */
+    REPEATED
+  }
+
+  /**
+   * Repetition upper bound of unbounded multipliers ({@code *}, {@code +}, {@code #}, {@code {m,}}).
+   */
+  static final int UNBOUNDED = -1;
+
+  private final Kind kind;
+  private final ValueElementValidator validator;
+  private final List<SyntaxNode> children;
+  private final int min;
+  private final int max;
+  private final boolean commaSeparated;
+
+  private SyntaxNode(Kind kind, @Nullable ValueElementValidator validator, List<SyntaxNode> children, int min, int max, boolean commaSeparated) {
+    this.kind = kind;
+    this.validator = validator;
+    this.children = children;
+    this.min = min;
+    this.max = max;
+    this.commaSeparated = commaSeparated;
+  }
+
+  static SyntaxNode element(ValueElementValidator validator) {
+    return new SyntaxNode(Kind.ELEMENT, validator, Collections.emptyList(), 1, 1, false);
+  }
+
+  static SyntaxNode combination(Kind kind, List<SyntaxNode> children) {
+    return new SyntaxNode(kind, null, children, 1, 1, false);
+  }
+
+  static SyntaxNode repeated(SyntaxNode child, int min, int max, boolean commaSeparated) {
+    return new SyntaxNode(Kind.REPEATED, null, Collections.singletonList(child), min, max, commaSeparated);
+  }
+
+  Kind kind() {
+    return kind;
+  }
+
+  ValueElementValidator validator() {
+    if (validator == null) {
+      throw new IllegalStateException("Only element nodes have a validator");
+    }
+    return validator;
+  }
+
+  List<SyntaxNode> children() {
+    return children;
+  }
+
+  int min() {
+    return min;
+  }
+
+  int max() {
+    return max;
+  }
+
+  boolean isCommaSeparated() {
+    return commaSeparated;
+  }
+
+}
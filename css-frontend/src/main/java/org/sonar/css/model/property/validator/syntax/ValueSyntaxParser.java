@@ -0,0 +1,348 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model.property.validator.syntax;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.sonar.css.model.function.StandardFunction;
+import org.sonar.css.model.function.StandardFunctionFactory;
+import org.sonar.css.model.function.UnknownFunction;
+import org.sonar.css.model.property.validator.ValidatorFactory;
+import org.sonar.css.model.property.validator.ValueElementValidator;
+import org.sonar.css.model.property.validator.valueelement.DelimiterValidator;
+import org.sonar.css.model.property.validator.valueelement.IdentifierValidator;
+import org.sonar.css.model.property.validator.valueelement.dimension.AngleValidator;
+import org.sonar.css.model.property.validator.valueelement.dimension.FrequencyValidator;
+import org.sonar.css.model.property.validator.valueelement.dimension.LengthValidator;
+import org.sonar.css.model.property.validator.valueelement.dimension.ResolutionValidator;
+import org.sonar.css.model.property.validator.valueelement.dimension.TimeValidator;
+import org.sonar.css.model.property.validator.valueelement.function.FunctionValidator;
+import org.sonar.css.model.property.validator.valueelement.numeric.IntegerValidator;
+import org.sonar.css.model.property.validator.valueelement.numeric.NumberValidator;
+import org.sonar.css.model.property.validator.valueelement.numeric.PercentageValidator;
+
+/**
+ * Parses a value definition syntax, as returned by {@link org.sonar.css.model.property.validator.Validator#getValidatorFormat()}.
+ * See https://developer.mozilla.org/en-US/docs/Web/CSS/Value_definition_syntax
+ * <ul>
+ *   <li>Keywords ({@code auto}), literal {@code ,} and {@code /}</li>
+ *   <li>Data types ({@code <length>}), possibly restricted to positive values ({@code <length>(>=0)})</li>
+ *   <li>Functions ({@code <function>(cubic-bezier | steps)})</li>
+ *   <li>Brackets, juxtaposition, {@code &&}, {@code ||} and {@code |}, from the highest to the lowest precedence</li>
+ *   <li>Multipliers: {@code ?}, {@code *}, {@code +}, {@code #}, {@code {m}}, {@code {m,}} and {@code {m,n}}</li>
+ * </ul>
+ */
+class ValueSyntaxParser {
+
+  private final String syntax;
+  private final Map<SyntaxNode, String> keywords = new IdentityHashMap<>();
+  private int index;
+
+  private ValueSyntaxParser(String syntax) {
+    this.syntax = syntax;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the syntax is invalid or uses an unsupported data type
+   */
+  static SyntaxNode parse(String syntax) {
+    ValueSyntaxParser parser = new ValueSyntaxParser(syntax);
+    SyntaxNode node = parser.oneOf();
+    parser.skipSpaces();
+    if (parser.index != syntax.length()) {
+      throw parser.error("unexpected character");
+    }
+    return node;
+  }
+
+  private SyntaxNode oneOf() {
+    List<SyntaxNode> components = new ArrayList<>();
+    components.add(someOfAnyOrder());
+    while (consume("|")) {
+      components.add(someOfAnyOrder());
+    }
+    return combination(SyntaxNode.Kind.ONE_OF, mergeKeywords(components));
+  }
+
+  private SyntaxNode someOfAnyOrder() {
+    List<SyntaxNode> components = new ArrayList<>();
+    components.add(allOfAnyOrder());
+    while (consume("||")) {
+      components.add(allOfAnyOrder());
+    }
+    return combination(SyntaxNode.Kind.SOME_OF_ANY_ORDER, components);
+  }
+
+  private SyntaxNode allOfAnyOrder() {
+    List<SyntaxNode> components = new ArrayList<>();
+    components.add(sequence());
+    while (consume("&&")) {
+      components.add(sequence());
+    }
+    return combination(SyntaxNode.Kind.ALL_OF_ANY_ORDER, components);
+  }
+
+  private SyntaxNode sequence() {
+    List<SyntaxNode> components = new ArrayList<>();
+    do {
+      components.add(repeated());
+      skipSpaces();
+    } while (index < syntax.length() && syntax.charAt(index) != ']' && syntax.charAt(index) != '|' && !syntax.startsWith("&&", index));
+    return combination(SyntaxNode.Kind.SEQUENCE, components);
+  }
+
+  private SyntaxNode repeated() {
+    SyntaxNode node = term();
+    while (index < syntax.length()) {
+      char c = syntax.charAt(index);
+      if (c == '?') {
+        index++;
+        node = SyntaxNode.repeated(node, 0, 1, false);
+      } else if (c == '*') {
+        index++;
+        node = SyntaxNode.repeated(node, 0, SyntaxNode.UNBOUNDED, false);
+      } else if (c == '+') {
+        index++;
+        node = SyntaxNode.repeated(node, 1, SyntaxNode.UNBOUNDED, false);
+      } else if (c == '#') {
+        index++;
+        node = syntax.startsWith("{", index) ? bounds(node, true) : SyntaxNode.repeated(node, 1, SyntaxNode.UNBOUNDED, true);
+      } else if (c == '{') {
+        node = bounds(node, false);
+      } else {
+        break;
+      }
+    }
+    return node;
+  }
+
+  private SyntaxNode bounds(SyntaxNode node, boolean commaSeparated) {
+    expect("{");
+    int min = integer();
+    int max = min;
+    if (consume(",")) {
+      skipSpaces();
+      max = index < syntax.length() && Character.isDigit(syntax.charAt(index)) ? integer() : SyntaxNode.UNBOUNDED;
+    }
+    expect("}");
+    if (max != SyntaxNode.UNBOUNDED && max < min) {
+      throw error("multiplier upper bound lower than its lower bound");
+    }
+    return SyntaxNode.repeated(node, min, max, commaSeparated);
+  }
+
+  private int integer() {
+    skipSpaces();
+    int start = index;
+    while (index < syntax.length() && Character.isDigit(syntax.charAt(index))) {
+      index++;
+    }
+    if (start == index) {
+      throw error("integer expected");
+    }
+    return Integer.parseInt(syntax.substring(start, index));
+  }
+
+  private SyntaxNode term() {
+    skipSpaces();
+    if (index == syntax.length()) {
+      throw error("component expected");
+    }
+    char c = syntax.charAt(index);
+    if (c == '[') {
+      index++;
+      SyntaxNode node = oneOf();
+      expect("]");
+      return node;
+    }
+    if (c == '<') {
+      return dataType();
+    }
+    if (c == ',' || c == '/') {
+      index++;
+      return SyntaxNode.element(new DelimiterValidator(String.valueOf(c)));
+    }
+    int start = index;
+    while (index < syntax.length() && isKeywordCharacter(syntax.charAt(index))) {
+      index++;
+    }
+    if (start == index) {
+      throw error("component expected");
+    }
+    String keyword = syntax.substring(start, index);
+    SyntaxNode node = SyntaxNode.element(new IdentifierValidator(keyword));
+    keywords.put(node, keyword);
+    return node;
+  }
+
+  private SyntaxNode dataType() {
+    int start = index;
+    int end = syntax.indexOf('>', index);
+    if (end == -1) {
+      throw error("unclosed data type");
+    }
+    String name = syntax.substring(index + 1, end);
+    index = end + 1;
+    String argument = null;
+    if (syntax.startsWith("(", index)) {
+      int argumentEnd = syntax.indexOf(')', index);
+      if (argumentEnd == -1) {
+        throw error("unclosed data type argument");
+      }
+      argument = syntax.substring(index + 1, argumentEnd).trim();
+      index = argumentEnd + 1;
+    }
+    if ("function".equals(name)) {
+      if (argument == null) {
+        throw error("function names expected");
+      }
+      return SyntaxNode.element(functionValidator(argument));
+    }
+    if (argument != null && !">=0".equals(argument)) {
+      throw error("unsupported data type argument \"" + argument + "\"");
+    }
+    ValueElementValidator validator = dataTypeValidator(name, argument != null);
+    if (validator == null) {
+      index = start;
+      throw error("unsupported data type <" + name + ">" + (argument != null ? "(" + argument + ")" : ""));
+    }
+    return SyntaxNode.element(validator);
+  }
+
+  private FunctionValidator functionValidator(String functionNames) {
+    List<Class<? extends StandardFunction>> functions = new ArrayList<>();
+    for (String functionName : functionNames.split("\\|")) {
+      StandardFunction function = StandardFunctionFactory.getByName(functionName.trim());
+      if (function instanceof UnknownFunction) {
+        throw error("unknown function \"" + functionName.trim() + "\"");
+      }
+      functions.add(function.getClass());
+    }
+    return new FunctionValidator(functions);
+  }
+
+  private static ValueElementValidator dataTypeValidator(String name, boolean positiveOnly) {
+    switch (name) {
+      case "length":
+        return new LengthValidator(positiveOnly);
+      case "percentage":
+        return new PercentageValidator(positiveOnly);
+      case "number":
+        return new NumberValidator(positiveOnly);
+      case "integer":
+        return new IntegerValidator(positiveOnly);
+      case "time":
+        return new TimeValidator(positiveOnly);
+      default:
+        return positiveOnly ? null : dataTypeValidator(name);
+    }
+  }
+
+  private static ValueElementValidator dataTypeValidator(String name) {
+    switch (name) {
+      case "angle":
+        return new AngleValidator();
+      case "frequency":
+        return new FrequencyValidator();
+      case "resolution":
+        return new ResolutionValidator();
+      case "color":
+        return ValidatorFactory.getColorValidator();
+      case "string":
+        return ValidatorFactory.getStringValidator();
+      case "uri":
+        return ValidatorFactory.getUriValidator();
+      case "image":
+        return ValidatorFactory.getImageValidator();
+      case "identifier":
+        return ValidatorFactory.getAnyIdentifierValidator();
+      case "box":
+        return ValidatorFactory.getBoxValidator();
+      case "border-style":
+        return ValidatorFactory.getBorderStyleValidator();
+      case "border-width":
+        return ValidatorFactory.getBorderWidthValidator();
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Alternative keywords are matched by a single validator.
+   */
+  private List<SyntaxNode> mergeKeywords(List<SyntaxNode> components) {
+    List<String> alternativeKeywords = new ArrayList<>();
+    List<SyntaxNode> merged = new ArrayList<>();
+    int keywordsIndex = -1;
+    for (SyntaxNode component : components) {
+      String keyword = keywords.get(component);
+      if (keyword == null) {
+        merged.add(component);
+      } else {
+        if (keywordsIndex == -1) {
+          keywordsIndex = merged.size();
+          merged.add(component);
+        }
+        alternativeKeywords.add(keyword);
+      }
+    }
+    if (alternativeKeywords.size() > 1) {
+      merged.set(keywordsIndex, SyntaxNode.element(new IdentifierValidator(alternativeKeywords)));
+    }
+    return merged;
+  }
+
+  private static SyntaxNode combination(SyntaxNode.Kind kind, List<SyntaxNode> components) {
+    return components.size() == 1 ? components.get(0) : SyntaxNode.combination(kind, components);
+  }
+
+  private static boolean isKeywordCharacter(char c) {
+    return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_';
+  }
+
+  private boolean consume(String expected) {
+    skipSpaces();
+    if (syntax.startsWith(expected, index) && !("|".equals(expected) && syntax.startsWith("||", index))) {
+      index += expected.length();
+      return true;
+    }
+    return false;
+  }
+
+  private void expect(String expected) {
+    if (!consume(expected)) {
+      throw error("\"" + expected + "\" expected");
+    }
+  }
+
+  private void skipSpaces() {
+    while (index < syntax.length() && syntax.charAt(index) == ' ') {
+      index++;
+    }
+  }
+
+  private IllegalArgumentException error(String message) {
+    return new IllegalArgumentException("Invalid value definition syntax \"" + syntax + "\" at index " + index + ": " + message);
+  }
+
+}
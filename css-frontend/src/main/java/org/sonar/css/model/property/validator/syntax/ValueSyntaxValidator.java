@@ -0,0 +1,82 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model.property.validator.syntax;
+
+import org.sonar.css.model.property.validator.HashMultiplierValidator;
+import org.sonar.css.model.property.validator.MultiplierValidator;
+import org.sonar.css.model.property.validator.PlusMultiplierValidator;
+import org.sonar.css.model.property.validator.Validator;
+import org.sonar.css.model.property.validator.ValueValidator;
+import org.sonar.plugins.css.api.tree.ValueTree;
+
+/**
+ * Validator compiled from a value definition syntax such as {@code [ <length> | auto ]{1,4}}.
+ * See {@link ValueSyntaxParser} for the supported syntax.
+ */
+public class ValueSyntaxValidator implements ValueValidator {
+
+  private final String syntax;
+  private final Nfa nfa;
+
+  private ValueSyntaxValidator(String syntax, Nfa nfa) {
+    this.syntax = syntax;
+    this.nfa = nfa;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the syntax is invalid or uses an unsupported data type
+   */
+  public static ValueSyntaxValidator compile(String syntax) {
+    return new ValueSyntaxValidator(syntax, Nfa.compile(ValueSyntaxParser.parse(syntax)));
+  }
+
+  /**
+   * Compiles the validators whose format is an exact value definition syntax: the multiplier validators.
+   * The format of the other validators only documents them, so they are returned as is.
+   * <p>
+   * Like {@link HashMultiplierValidator}, and unlike the {@code #} multiplier of its format, the compiled equivalent
+   * of a {@link HashMultiplierValidator} accepts a trailing comma.
+   */
+  public static Validator compiledEquivalent(Validator validator) {
+    try {
+      if (validator instanceof HashMultiplierValidator) {
+        String syntax = validator.getValidatorFormat();
+        return new ValueSyntaxValidator(syntax, Nfa.compile(ValueSyntaxParser.parse(syntax + " ,?")));
+      }
+      if (validator instanceof MultiplierValidator || validator instanceof PlusMultiplierValidator) {
+        return compile(validator.getValidatorFormat());
+      }
+    } catch (IllegalArgumentException e) {
+      return validator;
+    }
+    return validator;
+  }
+
+  @Override
+  public boolean isValid(ValueTree valueTree) {
+    return nfa.matches(valueTree.sanitizedValueElements());
+  }
+
+  @Override
+  public String getValidatorFormat() {
+    return syntax;
+  }
+
+}
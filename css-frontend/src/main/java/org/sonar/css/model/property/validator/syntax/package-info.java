@@ -17,36 +17,7 @@
  * along with this program; if not, write to the Free Software Foundation,
  * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
  */
-package org.sonar.css.visitors.metrics;
+@ParametersAreNonnullByDefault
+package org.sonar.css.model.property.validator.syntax;
 
-import com.google.common.collect.ImmutableList;
-
-import java.util.List;
-
-import org.sonar.plugins.css.api.tree.Tree;
-import org.sonar.plugins.css.api.visitors.SubscriptionVisitor;
-
-public class FunctionsVisitor extends SubscriptionVisitor {
-
-  private int functions;
-
-  public FunctionsVisitor(Tree tree) {
-    functions = 0;
-    scanTree(tree);
-  }
-
-  @Override
-  public List<Tree.Kind> nodesToVisit() {
-    return ImmutableList.of(Tree.Kind.SELECTOR, Tree.Kind.AT_RULE);
-  }
-
-  @Override
-  public void visitNode(Tree tree) {
-    functions++;
-  }
-
-  public int getNumberOfFunctions() {
-    return functions;
-  }
-
-}
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -19,6 +19,8 @@
  */
 package org.sonar.css.model.property.validator.valueelement;
 
+import com.google.common.collect.ImmutableList;
+
 import org.sonar.css.model.Color;
 import org.sonar.css.model.function.standard.Hsl;
 import org.sonar.css.model.function.standard.Hsla;
@@ -30,14 +32,23 @@ import org.sonar.plugins.css.api.tree.Tree;
 
 public class ColorValidator implements ValueElementValidator {
 
+  private static final ValueElementValidator COLOR_KEYWORD_VALIDATOR = new IdentifierValidator(
+    ImmutableList.<String>builder()
+      .addAll(Color.SVG_COLORS)
+      .addAll(Color.CSS4_COLORS)
+      .addAll(Color.CSS2_SYSTEM_COLORS)
+      .add("transparent", "currentcolor")
+      .build());
+
+  private static final ValueElementValidator COLOR_FUNCTION_VALIDATOR = new FunctionValidator(Rgb.class, Rgba.class, Hsl.class, Hsla.class);
+
+  private static final ValueElementValidator HASH_VALIDATOR = new HashValidator();
+
   @Override
   public boolean isValid(Tree valueElement) {
-    return new IdentifierValidator(Color.SVG_COLORS).isValid(valueElement)
-      || new IdentifierValidator(Color.CSS4_COLORS).isValid(valueElement)
-      || new IdentifierValidator(Color.CSS2_SYSTEM_COLORS).isValid(valueElement)
-      || new IdentifierValidator("transparent", "currentcolor").isValid(valueElement)
-      || new FunctionValidator(Rgb.class, Rgba.class, Hsl.class, Hsla.class).isValid(valueElement)
-      || new HashValidator().isValid(valueElement);
+    return COLOR_KEYWORD_VALIDATOR.isValid(valueElement)
+      || COLOR_FUNCTION_VALIDATOR.isValid(valueElement)
+      || HASH_VALIDATOR.isValid(valueElement);
   }
 
   @Override
@@ -27,7 +27,20 @@ public class HashValidator implements ValueElementValidator {
 
   @Override
   public boolean isValid(Tree tree) {
-    return tree instanceof HashTree && ((HashTree) tree).value().text().matches("^([A-Fa-f0-9]{6}|[A-Fa-f0-9]{3})$");
+    return tree instanceof HashTree && isHexColor(((HashTree) tree).value().text());
+  }
+
+  private static boolean isHexColor(String text) {
+    if (text.length() != 3 && text.length() != 6) {
+      return false;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F')) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
@@ -22,6 +22,7 @@ package org.sonar.css.model.property.validator.valueelement;
 import java.util.Arrays;
 import java.util.List;
 
+import org.sonar.css.model.KeywordSet;
 import org.sonar.css.model.property.validator.ValueElementValidator;
 import org.sonar.plugins.css.api.tree.IdentifierTree;
 import org.sonar.plugins.css.api.tree.Tree;
@@ -29,13 +30,15 @@ import org.sonar.plugins.css.api.tree.Tree;
 public class IdentifierValidator implements ValueElementValidator {
 
   private final List<String> allowedValues;
+  private final KeywordSet allowedKeywords;
 
   public IdentifierValidator(String... allowedValues) {
-    this.allowedValues = Arrays.asList(allowedValues);
+    this(Arrays.asList(allowedValues));
   }
 
   public IdentifierValidator(List<String> allowedValues) {
     this.allowedValues = allowedValues;
+    this.allowedKeywords = KeywordSet.of(allowedValues);
   }
 
   @Override
@@ -44,7 +47,7 @@ public class IdentifierValidator implements ValueElementValidator {
       if (allowedValues.isEmpty() || ((IdentifierTree) tree).isVendorPrefixed()) {
         return true;
       }
-      return allowedValues.contains(((IdentifierTree) tree).text().toLowerCase());
+      return allowedKeywords.contains(((IdentifierTree) tree).text());
     }
     return false;
   }
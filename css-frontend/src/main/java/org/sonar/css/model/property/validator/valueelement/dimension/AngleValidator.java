@@ -24,7 +24,7 @@ import org.sonar.css.model.Unit;
 public class AngleValidator extends DimensionValidator {
 
   public AngleValidator() {
-    super(false, Unit.ANGLE_UNITS);
+    super(false, Unit.Type.ANGLE);
   }
 
   @Override
@@ -19,8 +19,9 @@
  */
 package org.sonar.css.model.property.validator.valueelement.dimension;
 
-import java.util.List;
+import java.util.Set;
 
+import org.sonar.css.model.Unit;
 import org.sonar.css.model.function.standard.Calc;
 import org.sonar.css.model.property.validator.ValueElementValidator;
 import org.sonar.css.model.property.validator.valueelement.function.FunctionValidator;
@@ -30,12 +31,14 @@ import org.sonar.plugins.css.api.tree.Tree;
 
 public abstract class DimensionValidator implements ValueElementValidator {
 
+  private static final FunctionValidator CALC_FUNCTION_VALIDATOR = new FunctionValidator(Calc.class);
+
   private final boolean positiveOnly;
-  private final List<String> units;
+  private final Set<Unit> units;
 
-  public DimensionValidator(boolean positiveOnly, List<String> units) {
+  public DimensionValidator(boolean positiveOnly, Unit.Type unitType) {
     this.positiveOnly = positiveOnly;
-    this.units = units;
+    this.units = Unit.unitsOf(unitType);
   }
 
   public boolean isPositiveOnly() {
@@ -46,13 +49,14 @@ public abstract class DimensionValidator implements ValueElementValidator {
   public boolean isValid(Tree tree) {
 
     if (tree instanceof DimensionTree) {
-      if (!units.contains(((DimensionTree) tree).unit().text())) {
+      Unit unit = ((DimensionTree) tree).unit().standardUnit();
+      if (unit == null || !units.contains(unit)) {
         return false;
       }
       return isPositiveOnly() ? ((DimensionTree) tree).value().isPositive() : true;
     }
 
-    if (new FunctionValidator(Calc.class).isValid(tree)) {
+    if (CALC_FUNCTION_VALIDATOR.isValid(tree)) {
       return true;
     }
 
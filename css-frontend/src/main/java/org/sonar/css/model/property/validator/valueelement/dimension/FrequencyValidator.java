@@ -24,7 +24,7 @@ import org.sonar.css.model.Unit;
 public class FrequencyValidator extends DimensionValidator {
 
   public FrequencyValidator() {
-    super(true, Unit.FREQUENCY_UNITS);
+    super(true, Unit.Type.FREQUENCY);
   }
 
   @Override
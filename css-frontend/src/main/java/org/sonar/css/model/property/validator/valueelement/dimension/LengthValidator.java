@@ -24,7 +24,7 @@ import org.sonar.css.model.Unit;
 public class LengthValidator extends DimensionValidator {
 
   public LengthValidator(boolean positiveOnly) {
-    super(positiveOnly, Unit.LENGTH_UNITS);
+    super(positiveOnly, Unit.Type.LENGTH);
   }
 
   @Override
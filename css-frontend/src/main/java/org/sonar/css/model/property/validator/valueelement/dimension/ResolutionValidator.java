@@ -24,7 +24,7 @@ import org.sonar.css.model.Unit;
 public class ResolutionValidator extends DimensionValidator {
 
   public ResolutionValidator() {
-    super(true, Unit.RESOLUTION_UNITS);
+    super(true, Unit.Type.RESOLUTION);
   }
 
   @Override
@@ -24,7 +24,7 @@ import org.sonar.css.model.Unit;
 public class TimeValidator extends DimensionValidator {
 
   public TimeValidator(boolean positiveOnly) {
-    super(positiveOnly, Unit.TIME_UNITS);
+    super(positiveOnly, Unit.Type.TIME);
   }
 
   @Override
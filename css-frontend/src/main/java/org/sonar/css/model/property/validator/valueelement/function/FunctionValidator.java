@@ -37,7 +37,11 @@ public class FunctionValidator implements ValueElementValidator {
   private final List<Class<? extends StandardFunction>> alwaysAllowedFunctions = Arrays.asList(Var.class, Expression.class);
 
   public FunctionValidator(Class<? extends StandardFunction>... allowedFunctions) {
-    this.allowedFunctions.addAll(Arrays.asList(allowedFunctions));
+    this(Arrays.asList(allowedFunctions));
+  }
+
+  public FunctionValidator(List<Class<? extends StandardFunction>> allowedFunctions) {
+    this.allowedFunctions.addAll(allowedFunctions);
   }
 
   @Override
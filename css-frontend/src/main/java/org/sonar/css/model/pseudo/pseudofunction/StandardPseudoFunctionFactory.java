@@ -19,54 +19,44 @@
  */
 package org.sonar.css.model.pseudo.pseudofunction;
 
-import com.google.common.collect.ImmutableSet;
+import java.util.List;
 
-import java.util.*;
-
-import org.sonar.css.model.pseudo.pseudofunction.standard.*;
+import org.sonar.css.model.StandardCssObjectRegistry;
+import org.sonar.css.model.UnknownCssObjectCache;
 
 public class StandardPseudoFunctionFactory {
 
-  private static final Set<Class> ALL_PSEUDO_FUNCTION_CLASSES = ImmutableSet.of(
-    Any.class,
-    Current.class,
-    Dir.class,
-    Drop.class,
-    Has.class,
-    Lang.class,
-    Matches.class,
-    Not.class,
-    NthChild.class,
-    NthColumn.class,
-    NthLastChild.class,
-    NthLastColumn.class,
-    NthLastOfType.class,
-    NthOfType.class);
-
-  private static final Map<String, StandardPseudoFunction> ALL = new HashMap<>();
-
-  static {
-    try {
-      StandardPseudoFunction standardFunction;
-      for (Class clazz : ALL_PSEUDO_FUNCTION_CLASSES) {
-        standardFunction = (StandardPseudoFunction) clazz.newInstance();
-        ALL.put(standardFunction.getName(), standardFunction);
-      }
-    } catch (InstantiationException | IllegalAccessException e) {
-      throw new IllegalStateException("CSS pseudo-function full list cannot be created.", e);
-    }
-  }
+  private static final StandardCssObjectRegistry<StandardPseudoFunction> REGISTRY = new StandardCssObjectRegistry<>(
+    "CSS pseudo-function",
+    StandardPseudoFunction.class,
+    "org.sonar.css.model.pseudo.pseudofunction.standard.",
+    "any", "Any",
+    "current", "Current",
+    "dir", "Dir",
+    "drop", "Drop",
+    "has", "Has",
+    "lang", "Lang",
+    "matches", "Matches",
+    "not", "Not",
+    "nth-child", "NthChild",
+    "nth-column", "NthColumn",
+    "nth-last-child", "NthLastChild",
+    "nth-last-column", "NthLastColumn",
+    "nth-last-of-type", "NthLastOfType",
+    "nth-of-type", "NthOfType");
+
+  private static final UnknownCssObjectCache<UnknownPseudoFunction> UNKNOWN_PSEUDO_FUNCTIONS = new UnknownCssObjectCache<>(UnknownPseudoFunction::new);
 
   private StandardPseudoFunctionFactory() {
   }
 
   public static StandardPseudoFunction getByName(String functionName) {
-    StandardPseudoFunction standardPseudoFunction = ALL.get(functionName.toLowerCase(Locale.ENGLISH));
-    return standardPseudoFunction != null ? standardPseudoFunction : new UnknownPseudoFunction(functionName);
+    StandardPseudoFunction standardPseudoFunction = REGISTRY.get(functionName);
+    return standardPseudoFunction != null ? standardPseudoFunction : UNKNOWN_PSEUDO_FUNCTIONS.get(functionName);
   }
 
   public static List<StandardPseudoFunction> getAll() {
-    return new ArrayList<>(ALL.values());
+    return REGISTRY.getAll();
   }
 
 }
@@ -19,95 +19,84 @@
  */
 package org.sonar.css.model.pseudo.pseudoidentifier;
 
-import com.google.common.collect.ImmutableSet;
+import java.util.List;
 
-import java.util.*;
-
-import org.sonar.css.model.pseudo.pseudoidentifier.standard.*;
-import org.sonar.css.model.pseudo.pseudoidentifier.standard.Optional;
+import org.sonar.css.model.StandardCssObjectRegistry;
+import org.sonar.css.model.UnknownCssObjectCache;
 
 public class StandardPseudoIdentifierFactory {
 
-  private static final Set<Class> ALL_PSEUDO_IDENTIFIER_CLASSES = ImmutableSet.of(
-    Active.class,
-    After.class,
-    AnyLink.class,
-    Backdrop.class,
-    Before.class,
-    Blank.class,
-    Checked.class,
-    Current.class,
-    Default.class,
-    Disabled.class,
-    Drop.class,
-    Empty.class,
-    Enabled.class,
-    First.class,
-    FirstChild.class,
-    FirstLetter.class,
-    FirstLine.class,
-    FirstOfType.class,
-    Focus.class,
-    FocusWithin.class,
-    Fullscreen.class,
-    Future.class,
-    GrammarError.class,
-    Hover.class,
-    InactiveSelection.class,
-    Indeterminate.class,
-    InRange.class,
-    Invalid.class,
-    LastChild.class,
-    LastOfType.class,
-    Left.class,
-    Link.class,
-    Marker.class,
-    OnlyChild.class,
-    OnlyOfType.class,
-    Optional.class,
-    OutOfRange.class,
-    Past.class,
-    Paused.class,
-    Placeholder.class,
-    PlaceholderShown.class,
-    Playing.class,
-    ReadOnly.class,
-    ReadWrite.class,
-    Required.class,
-    Right.class,
-    Root.class,
-    Scope.class,
-    Selection.class,
-    SpellingError.class,
-    Target.class,
-    UserInvalid.class,
-    Valid.class,
-    Visited.class);
-
-  private static final Map<String, StandardPseudoIdentifier> ALL = new HashMap<>();
+  private static final StandardCssObjectRegistry<StandardPseudoIdentifier> REGISTRY = new StandardCssObjectRegistry<>(
+    "CSS pseudo-identifier",
+    StandardPseudoIdentifier.class,
+    "org.sonar.css.model.pseudo.pseudoidentifier.standard.",
+    "active", "Active",
+    "after", "After",
+    "any-link", "AnyLink",
+    "backdrop", "Backdrop",
+    "before", "Before",
+    "blank", "Blank",
+    "checked", "Checked",
+    "current", "Current",
+    "default", "Default",
+    "disabled", "Disabled",
+    "drop", "Drop",
+    "empty", "Empty",
+    "enabled", "Enabled",
+    "first", "First",
+    "first-child", "FirstChild",
+    "first-letter", "FirstLetter",
+    "first-line", "FirstLine",
+    "first-of-type", "FirstOfType",
+    "focus", "Focus",
+    "focus-within", "FocusWithin",
+    "fullscreen", "Fullscreen",
+    "future", "Future",
+    "grammar-error", "GrammarError",
+    "hover", "Hover",
+    "in-range", "InRange",
+    "inactive-selection", "InactiveSelection",
+    "indeterminate", "Indeterminate",
+    "invalid", "Invalid",
+    "last-child", "LastChild",
+    "last-of-type", "LastOfType",
+    "left", "Left",
+    "link", "Link",
+    "marker", "Marker",
+    "only-child", "OnlyChild",
+    "only-of-type", "OnlyOfType",
+    "optional", "Optional",
+    "out-of-range", "OutOfRange",
+    "past", "Past",
+    "paused", "Paused",
+    "placeholder", "Placeholder",
+    "placeholder-shown", "PlaceholderShown",
+    "playing", "Playing",
+    "read-only", "ReadOnly",
+    "read-write", "ReadWrite",
+    "required", "Required",
+    "right", "Right",
+    "root", "Root",
+    "scope", "Scope",
+    "selection", "Selection",
+    "spelling-error", "SpellingError",
+    "target", "Target",
+    "user-invalid", "UserInvalid",
+    "valid", "Valid",
+    "visited", "Visited");
 
-  static {
-    try {
-      StandardPseudoIdentifier standardPseudoIdentifier;
-      for (Class clazz : ALL_PSEUDO_IDENTIFIER_CLASSES) {
-        standardPseudoIdentifier = (StandardPseudoIdentifier) clazz.newInstance();
-        ALL.put(standardPseudoIdentifier.getName(), standardPseudoIdentifier);
-      }
-    } catch (InstantiationException | IllegalAccessException e) {
-      throw new IllegalStateException("CSS pseudo-identifier full list cannot be created.", e);
-    }
-  }
+  private static final UnknownCssObjectCache<UnknownPseudoIdentifier> UNKNOWN_PSEUDO_IDENTIFIERS = new UnknownCssObjectCache<>(UnknownPseudoIdentifier::new);
 
   private StandardPseudoIdentifierFactory() {
   }
 
   public static StandardPseudoIdentifier getByName(String identifier) {
-    StandardPseudoIdentifier standardPseudoIdentifier = ALL.get(identifier.toLowerCase(Locale.ENGLISH));
-    return standardPseudoIdentifier != null ? standardPseudoIdentifier : new UnknownPseudoIdentifier(identifier);
+    StandardPseudoIdentifier standardPseudoIdentifier = REGISTRY.get(identifier);
+    return standardPseudoIdentifier != null ? standardPseudoIdentifier : UNKNOWN_PSEUDO_IDENTIFIERS.get(identifier);
   }
 
   public static List<StandardPseudoIdentifier> getAll() {
-    return new ArrayList<>(ALL.values());
+    return REGISTRY.getAll();
   }
 
 }
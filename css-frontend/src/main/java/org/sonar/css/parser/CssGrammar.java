@@ -93,26 +93,60 @@ public class CssGrammar {
             AT_KEYWORD()))));
   }
 
+  /**
+   * Alternatives are grouped by the first character they can start with so that only the ones that can
+   * match are attempted. Within each group, the original order of the alternatives is kept.
+   */
   public Tree ANY() {
     return b.<Tree>nonterminal().is(
       b.firstOf(
-        URI(),
-        FUNCTION(),
+        IDENTIFIER_STARTING_VALUE(),
+        MINUS_STARTING_VALUE(),
+        NUMERIC(),
         PSEUDO_SELECTOR(),
         PARENTHESIS_BLOCK(),
         BRACKET_BLOCK(),
-        PERCENTAGE(),
-        DIMENSION(),
-        NUMBER(),
         STRING(),
         HASH(),
-        UNICODE_RANGE(),
-        IDENTIFIER(),
         IMPORTANT(),
         b.token(CssLexicalGrammar.COLON),
         DELIMITER()));
   }
 
+  public Tree IDENTIFIER_STARTING_VALUE() {
+    return b.<Tree>nonterminal().is(
+      f.identifierStartingValue(
+        b.token(CssLexicalGrammar.IDENTIFIER_START_LOOKAHEAD),
+        b.firstOf(
+          URI(),
+          FUNCTION(),
+          UNICODE_RANGE(),
+          IDENTIFIER())));
+  }
+
+  public Tree MINUS_STARTING_VALUE() {
+    return b.<Tree>nonterminal().is(
+      f.minusStartingValue(
+        b.token(CssLexicalGrammar.MINUS_LOOKAHEAD),
+        b.firstOf(
+          FUNCTION(),
+          NUMERIC(),
+          IDENTIFIER())));
+  }
+
+  /**
+   * Number, percentage or dimension: the number is matched once and the tree is then picked from what follows it.
+   */
+  public Tree NUMERIC() {
+    return b.<Tree>nonterminal().is(
+      f.numeric(
+        NUMBER(),
+        b.optional(
+          b.<Tree>firstOf(
+            b.token(CssLexicalGrammar.PERCENTAGE_SYMBOL),
+            UNIT()))));
+  }
+
   public ParenthesisBlockTree PARENTHESIS_BLOCK() {
     return b.<ParenthesisBlockTree>nonterminal(CssLexicalGrammar.PARENTHESIS_BLOCK_TREE).is(
       f.parenthesisBlock(
@@ -137,13 +171,17 @@ public class CssGrammar {
   public SyntaxList<DeclarationTree> DECLARATION_LIST() {
     return b.<SyntaxList<DeclarationTree>>nonterminal().is(
       b.firstOf(
-        f.declarationList(DECLARATION(), b.token(CssLexicalGrammar.SEMICOLON), DECLARATION_LIST()),
-        f.declarationList(DECLARATION(), b.token(CssLexicalGrammar.SEMICOLON)),
-        f.declarationList(b.token(CssLexicalGrammar.SEMICOLON), DECLARATION_LIST()),
-        f.declarationList(b.token(CssLexicalGrammar.SEMICOLON)),
+        f.declarationList(b.oneOrMore(DECLARATION_LIST_ENTRY()), b.optional(DECLARATION())),
         f.declarationList(DECLARATION())));
   }
 
+  public SyntaxList<DeclarationTree> DECLARATION_LIST_ENTRY() {
+    return b.<SyntaxList<DeclarationTree>>nonterminal().is(
+      b.firstOf(
+        f.declarationList(DECLARATION(), b.token(CssLexicalGrammar.SEMICOLON)),
+        f.declarationList(b.token(CssLexicalGrammar.SEMICOLON))));
+  }
+
   public DeclarationTree DECLARATION() {
     return b.<DeclarationTree>nonterminal(CssLexicalGrammar.DECLARATION).is(
       b.firstOf(
@@ -0,0 +1,1128 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.parser;
+
+import com.sonar.sslr.api.GenericTokenType;
+import com.sonar.sslr.api.RecognitionException;
+import com.sonar.sslr.api.Token;
+import com.sonar.sslr.api.TokenType;
+import com.sonar.sslr.api.Trivia;
+import com.sonar.sslr.api.typed.Input;
+import com.sonar.sslr.api.typed.Optional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+import org.sonar.css.tree.impl.InternalSyntaxSpacing;
+import org.sonar.css.tree.impl.InternalSyntaxToken;
+import org.sonar.css.tree.impl.SelectorCombinationList;
+import org.sonar.css.tree.impl.SyntaxList;
+import org.sonar.plugins.css.api.tree.*;
+import org.sonar.sslr.internal.matchers.ImmutableInputBuffer;
+import org.sonar.sslr.parser.ParseError;
+import org.sonar.sslr.parser.ParseErrorFormatter;
+
+/**
+ * Hand-written recursive descent parser, based on the {@link CssTokenizer} scanners, that builds the same trees as
+ * the parsers created by {@link CssParserBuilder} without going through the SSLR grammar.
+ * <p>
+ * Each method parses the rule of {@link CssGrammar} or {@link CssLexicalGrammar} it is named after, with the same
+ * ordered choices and backtracking, and builds its tree with {@link TreeFactory}. Tokens and comments are created
+ * with {@link CssNodeBuilder}; those of the alternatives that are backtracked from are forgotten. As in the SSLR
+ * parser, the comments of a token are the ones between the previous token and itself.
+ * <p>
+ * Parse errors are located as SSLR locates them: at the furthest position at which a rule failed, ignoring the
+ * failures within lookaheads and tokens.
+ * <p>
+ * Not thread-safe, but a parser can parse any number of files one after the other.
+ */
+public class CssHandWrittenParser {
+
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+  private char[] chars;
+  private Input input;
+  private CssNodeBuilder nodeBuilder;
+  private TreeFactory f;
+
+  private int pos;
+
+  /* Tokens of the current alternative: end index of each one and count of tokens and comments recorded up to it */
+  private int tokenCount;
+  private int[] tokenEnds = new int[64];
+  private int[] recordedTokenCounts = new int[64];
+
+  private int failIndex;
+  private int errorIndex;
+  private int ignoreErrors;
+  private int lookaheadCompoundSelector;
+
+  /**
+   * @throws RecognitionException if the source cannot be parsed
+   */
+  public Tree parse(String source) {
+    chars = source.toCharArray();
+    input = new Input(chars);
+    nodeBuilder = new CssNodeBuilder();
+    f = new TreeFactory(nodeBuilder);
+    pos = 0;
+    tokenCount = 0;
+    errorIndex = -1;
+    ignoreErrors = 0;
+    lookaheadCompoundSelector = -1;
+    try {
+      Tree tree = stylesheet();
+      if (tree == null) {
+        throw parseError();
+      }
+      return tree;
+    } finally {
+      chars = null;
+      input = null;
+      nodeBuilder = null;
+      f = null;
+    }
+  }
+
+  private RecognitionException parseError() {
+    ImmutableInputBuffer inputBuffer = new ImmutableInputBuffer(chars);
+    String message = new ParseErrorFormatter().format(new ParseError(inputBuffer, errorIndex));
+    return new RecognitionException(inputBuffer.getPosition(errorIndex).getLine(), message);
+  }
+
+  /* Backtracking */
+
+  private long mark() {
+    return ((long) tokenCount << 32) | pos;
+  }
+
+  private void reset(long mark) {
+    pos = (int) mark;
+    int count = (int) (mark >>> 32);
+    if (count < tokenCount) {
+      tokenCount = count;
+      nodeBuilder.forgetTokensFrom(count == 0 ? 0 : recordedTokenCounts[count - 1]);
+    }
+  }
+
+  /**
+   * Backtracks to {@code mark} if the alternative failed.
+   */
+  @Nullable
+  private <T> T orReset(long mark, @Nullable T result) {
+    if (result == null) {
+      reset(mark);
+    }
+    return result;
+  }
+
+  /* Failures */
+
+  /**
+   * Failure of the current rule at {@code index}.
+   */
+  @Nullable
+  private <T> T fail(int index) {
+    failIndex = index;
+    if (ignoreErrors == 0 && index > errorIndex) {
+      errorIndex = index;
+    }
+    return null;
+  }
+
+  /**
+   * Failure of the current rule where its last attempted sub-rule failed.
+   */
+  @Nullable
+  private <T> T fail() {
+    return fail(failIndex);
+  }
+
+  /* Tokens */
+
+  @Nullable
+  private InternalSyntaxToken scanned(int scannerResult) {
+    return scannerResult >= 0 ? token(scannerResult, null) : fail(CssTokenizer.failureIndex(scannerResult));
+  }
+
+  private InternalSyntaxToken token(int end, @Nullable TokenType type) {
+    int start = pos;
+    int previousTokenEnd = tokenCount == 0 ? 0 : tokenEnds[tokenCount - 1];
+    InternalSyntaxToken token = (InternalSyntaxToken) nodeBuilder.createTerminal(input, start, end, comments(previousTokenEnd, start), type);
+    if (tokenCount == tokenEnds.length) {
+      tokenEnds = Arrays.copyOf(tokenEnds, tokenCount * 2);
+      recordedTokenCounts = Arrays.copyOf(recordedTokenCounts, tokenCount * 2);
+    }
+    tokenEnds[tokenCount] = end;
+    recordedTokenCounts[tokenCount] = nodeBuilder.recordedTokenCount();
+    tokenCount++;
+    pos = end;
+    return token;
+  }
+
+  private List<Trivia> comments(int start, int end) {
+    List<Trivia> comments = Collections.emptyList();
+    int index = CssTokenizer.whitespaces(chars, start);
+    while (index < end) {
+      int commentEnd = CssTokenizer.comment(chars, index);
+      if (commentEnd < 0) {
+        break;
+      }
+      if (comments.isEmpty()) {
+        comments = new ArrayList<>();
+      }
+      int[] lineAndColumn = input.lineAndColumnAt(index);
+      comments.add(Trivia.createComment(Token.builder()
+        .setType(GenericTokenType.COMMENT)
+        .setValueAndOriginalValue(input.substring(index, commentEnd))
+        .setLine(lineAndColumn[0])
+        .setColumn(lineAndColumn[1] - 1)
+        .setURI(input.uri())
+        .build()));
+      index = CssTokenizer.whitespaces(chars, commentEnd);
+    }
+    return comments;
+  }
+
+  /**
+   * SPACING, which fails to match a last comment where it ends.
+   */
+  private void spacing() {
+    pos = CssTokenizer.spacing(chars, pos);
+    if (ignoreErrors == 0 && pos > errorIndex) {
+      errorIndex = pos;
+    }
+  }
+
+  @Nullable
+  private InternalSyntaxToken literal(String value) {
+    return scanned(CssTokenizer.literal(chars, pos, value));
+  }
+
+  @Nullable
+  private InternalSyntaxToken spacedLiteral(String value) {
+    spacing();
+    return literal(value);
+  }
+
+  @Nullable
+  private InternalSyntaxToken spacedCaseInsensitiveLiteral(String lowerCaseValue) {
+    spacing();
+    return scanned(CssTokenizer.caseInsensitive(chars, pos, lowerCaseValue));
+  }
+
+  private static <T> Optional<T> optional(@Nullable T value) {
+    return value == null ? Optional.<T>absent() : Optional.of(value);
+  }
+
+  private static <T> Optional<List<T>> nonEmpty(List<T> values) {
+    return values.isEmpty() ? Optional.<List<T>>absent() : Optional.of(values);
+  }
+
+  /* Statements */
+
+  @Nullable
+  private StyleSheetTree stylesheet() {
+    Optional<SyntaxToken> byteOrderMark = Optional.absent();
+    if (CssTokenizer.isChar(chars, 0, BYTE_ORDER_MARK)) {
+      byteOrderMark = Optional.<SyntaxToken>of(token(1, null));
+    } else {
+      fail(0);
+    }
+
+    List<StatementTree> statements = new ArrayList<>();
+    while (true) {
+      long mark = mark();
+      StatementTree statement = orReset(mark, atRule());
+      if (statement == null) {
+        statement = orReset(mark, ruleset());
+      }
+      if (statement == null) {
+        break;
+      }
+      statements.add(statement);
+    }
+
+    spacing();
+    if (pos != chars.length) {
+      return fail(pos);
+    }
+    return f.stylesheet(byteOrderMark, nonEmpty(statements), token(pos, GenericTokenType.EOF));
+  }
+
+  @Nullable
+  private AtRuleTree atRule() {
+    AtKeywordTree atKeyword = atKeyword();
+    if (atKeyword == null) {
+      return fail();
+    }
+    List<Tree> prelude = zeroOrMoreAny();
+    long mark = mark();
+    AtRuleBlockTree block = orReset(mark, atRuleBlock());
+    mark = mark();
+    SyntaxToken semicolon = orReset(mark, spacedLiteral(";"));
+    return f.atRule(atKeyword, nonEmpty(prelude), optional(block), optional(semicolon));
+  }
+
+  @Nullable
+  private RulesetTree ruleset() {
+    // The leading spacing is not part of the tree
+    spacing();
+    long mark = mark();
+    SelectorsTree selectors = orReset(mark, selectors());
+    RulesetBlockTree block = rulesetBlock();
+    if (block == null) {
+      return fail();
+    }
+    return f.ruleset(Optional.<SyntaxToken>absent(), optional(selectors), block);
+  }
+
+  @Nullable
+  private AtRuleBlockTree atRuleBlock() {
+    SyntaxToken openCurlyBrace = spacedLiteral("{");
+    if (openCurlyBrace == null) {
+      return fail();
+    }
+    List<Tree> content = new ArrayList<>();
+    while (true) {
+      long mark = mark();
+      Tree tree = orReset(mark, declarations());
+      if (tree == null) {
+        tree = orReset(mark, atRule());
+      }
+      if (tree == null) {
+        tree = orReset(mark, ruleset());
+      }
+      if (tree == null) {
+        break;
+      }
+      content.add(tree);
+    }
+    SyntaxToken closeCurlyBrace = spacedLiteral("}");
+    if (closeCurlyBrace == null) {
+      return fail();
+    }
+    return f.atRuleBlock(openCurlyBrace, nonEmpty(content), closeCurlyBrace);
+  }
+
+  @Nullable
+  private RulesetBlockTree rulesetBlock() {
+    SyntaxToken openCurlyBrace = spacedLiteral("{");
+    if (openCurlyBrace == null) {
+      return fail();
+    }
+    long mark = mark();
+    DeclarationsTree declarations = orReset(mark, declarations());
+    SyntaxToken closeCurlyBrace = spacedLiteral("}");
+    if (closeCurlyBrace == null) {
+      return fail();
+    }
+    return f.rulesetBlock(openCurlyBrace, optional(declarations), closeCurlyBrace);
+  }
+
+  /* Declarations */
+
+  @Nullable
+  private DeclarationsTree declarations() {
+    SyntaxList<DeclarationTree> declarationList = declarationList();
+    if (declarationList == null) {
+      return fail();
+    }
+    return f.declarations(declarationList);
+  }
+
+  /**
+   * Entries made of a declaration and a semicolon, or of a semicolon, and an optional last declaration without
+   * semicolon, or a single declaration. Each declaration is only parsed once: parsing it again at the same position,
+   * as the grammar does when the semicolon is missing, would build the same tree.
+   */
+  @Nullable
+  private SyntaxList<DeclarationTree> declarationList() {
+    List<SyntaxList<DeclarationTree>> entries = new ArrayList<>();
+    DeclarationTree declaration;
+    int declarationFailIndex;
+    while (true) {
+      long mark = mark();
+      declaration = orReset(mark, declaration());
+      declarationFailIndex = failIndex;
+      if (declaration != null) {
+        long afterDeclaration = mark();
+        SyntaxToken semicolon = orReset(afterDeclaration, spacedLiteral(";"));
+        if (semicolon == null) {
+          break;
+        }
+        entries.add(f.declarationList(declaration, semicolon));
+      } else {
+        SyntaxToken semicolon = orReset(mark, spacedLiteral(";"));
+        if (semicolon == null) {
+          break;
+        }
+        entries.add(f.declarationList(semicolon));
+      }
+    }
+    if (!entries.isEmpty()) {
+      return f.declarationList(entries, optional(declaration));
+    }
+    return declaration == null ? fail(declarationFailIndex) : f.declarationList(declaration);
+  }
+
+  @Nullable
+  private DeclarationTree declaration() {
+    long mark = mark();
+    DeclarationTree declaration = orReset(mark, variableDeclaration());
+    if (declaration == null) {
+      declaration = propertyDeclaration();
+    }
+    return declaration == null ? fail() : declaration;
+  }
+
+  @Nullable
+  private PropertyDeclarationTree propertyDeclaration() {
+    IdentifierTree identifier = identifier();
+    if (identifier == null) {
+      return fail();
+    }
+    PropertyTree property = f.property(identifier);
+    SyntaxToken colon = spacedLiteral(":");
+    if (colon == null) {
+      return fail();
+    }
+    ValueTree value = value();
+    if (value == null) {
+      return fail();
+    }
+    return f.propertyDeclaration(property, colon, value);
+  }
+
+  @Nullable
+  private VariableDeclarationTree variableDeclaration() {
+    VariableTree variable = variable();
+    if (variable == null) {
+      return fail();
+    }
+    SyntaxToken colon = spacedLiteral(":");
+    if (colon == null) {
+      return fail();
+    }
+    ValueTree value = value();
+    if (value == null) {
+      return fail();
+    }
+    return f.variableDeclaration(variable, colon, value);
+  }
+
+  @Nullable
+  private VariableTree variable() {
+    SyntaxToken variablePrefix = spacedLiteral("--");
+    if (variablePrefix == null) {
+      return fail();
+    }
+    IdentifierTree identifier = identifierNoWs();
+    if (identifier == null) {
+      return fail();
+    }
+    return f.variable(variablePrefix, identifier);
+  }
+
+  @Nullable
+  private ValueTree value() {
+    List<Tree> valueElements = new ArrayList<>();
+    while (true) {
+      long mark = mark();
+      Tree valueElement = orReset(mark, any());
+      if (valueElement == null) {
+        valueElement = orReset(mark, rulesetBlock());
+      }
+      if (valueElement == null) {
+        valueElement = orReset(mark, atKeyword());
+      }
+      if (valueElement == null) {
+        break;
+      }
+      valueElements.add(valueElement);
+    }
+    return valueElements.isEmpty() ? fail() : f.value(valueElements);
+  }
+
+  /* Values */
+
+  private List<Tree> zeroOrMoreAny() {
+    List<Tree> trees = new ArrayList<>();
+    while (true) {
+      long mark = mark();
+      Tree tree = orReset(mark, any());
+      if (tree == null) {
+        return trees;
+      }
+      trees.add(tree);
+    }
+  }
+
+  @Nullable
+  private Tree any() {
+    long mark = mark();
+    Tree tree = orReset(mark, identifierStartingValue());
+    if (tree == null) {
+      tree = orReset(mark, minusStartingValue());
+    }
+    if (tree == null) {
+      tree = orReset(mark, numeric());
+    }
+    if (tree == null) {
+      tree = orReset(mark, pseudoSelector());
+    }
+    if (tree == null) {
+      tree = orReset(mark, parenthesisBlock());
+    }
+    if (tree == null) {
+      tree = orReset(mark, bracketBlock());
+    }
+    if (tree == null) {
+      tree = orReset(mark, string());
+    }
+    if (tree == null) {
+      tree = orReset(mark, hash());
+    }
+    if (tree == null) {
+      tree = orReset(mark, important());
+    }
+    if (tree == null) {
+      tree = orReset(mark, spacedLiteral(":"));
+    }
+    if (tree == null) {
+      tree = delimiter();
+    }
+    return tree == null ? fail() : tree;
+  }
+
+  @Nullable
+  private Tree identifierStartingValue() {
+    int lookahead = CssTokenizer.spacing(chars, pos);
+    if (CssTokenizer.isChar(chars, lookahead, '-') || CssTokenizer.nmstart(chars, lookahead) < 0) {
+      return fail(pos);
+    }
+    long mark = mark();
+    Tree tree = orReset(mark, uri());
+    if (tree == null) {
+      tree = orReset(mark, function());
+    }
+    if (tree == null) {
+      tree = orReset(mark, unicodeRange());
+    }
+    if (tree == null) {
+      tree = identifier();
+    }
+    return tree == null ? fail() : tree;
+  }
+
+  @Nullable
+  private Tree minusStartingValue() {
+    if (!CssTokenizer.isChar(chars, CssTokenizer.spacing(chars, pos), '-')) {
+      return fail(pos);
+    }
+    long mark = mark();
+    Tree tree = orReset(mark, function());
+    if (tree == null) {
+      tree = orReset(mark, numeric());
+    }
+    if (tree == null) {
+      tree = identifier();
+    }
+    return tree == null ? fail() : tree;
+  }
+
+  @Nullable
+  private Tree numeric() {
+    NumberTree number = number();
+    if (number == null) {
+      return fail();
+    }
+    long mark = mark();
+    Tree percentageSymbolOrUnit = orReset(mark, literal("%"));
+    if (percentageSymbolOrUnit == null) {
+      percentageSymbolOrUnit = orReset(mark, unit());
+    }
+    return f.numeric(number, optional(percentageSymbolOrUnit));
+  }
+
+  @Nullable
+  private ParenthesisBlockTree parenthesisBlock() {
+    SyntaxToken openParenthesis = spacedLiteral("(");
+    if (openParenthesis == null) {
+      return fail();
+    }
+    List<Tree> content = zeroOrMoreAny();
+    SyntaxToken closeParenthesis = spacedLiteral(")");
+    if (closeParenthesis == null) {
+      return fail();
+    }
+    return f.parenthesisBlock(openParenthesis, nonEmpty(content), closeParenthesis);
+  }
+
+  @Nullable
+  private BracketBlockTree bracketBlock() {
+    SyntaxToken openBracket = spacedLiteral("[");
+    if (openBracket == null) {
+      return fail();
+    }
+    List<Tree> content = zeroOrMoreAny();
+    SyntaxToken closeBracket = spacedLiteral("]");
+    if (closeBracket == null) {
+      return fail();
+    }
+    return f.bracketBlock(openBracket, nonEmpty(content), closeBracket);
+  }
+
+  @Nullable
+  private FunctionTree function() {
+    IdentifierTree functionName = identifier();
+    if (functionName == null) {
+      return fail();
+    }
+    SyntaxToken openParenthesis = literal("(");
+    if (openParenthesis == null) {
+      return fail();
+    }
+    List<Tree> parameterElements = zeroOrMoreAny();
+    SyntaxToken closeParenthesis = spacedLiteral(")");
+    if (closeParenthesis == null) {
+      return fail();
+    }
+    return f.function(functionName, openParenthesis, nonEmpty(parameterElements), closeParenthesis);
+  }
+
+  @Nullable
+  private UriTree uri() {
+    SyntaxToken urlFunction = spacedCaseInsensitiveLiteral("url");
+    if (urlFunction == null) {
+      return fail();
+    }
+    SyntaxToken openParenthesis = literal("(");
+    if (openParenthesis == null) {
+      return fail();
+    }
+    long mark = mark();
+    StringTree string = orReset(mark, string());
+    UriContentTree uriContent = string != null ? f.uriContent(string) : f.uriContent(token(CssTokenizer.uriContent(chars, pos), null));
+    SyntaxToken closeParenthesis = spacedLiteral(")");
+    if (closeParenthesis == null) {
+      return fail();
+    }
+    return f.uri(urlFunction, openParenthesis, uriContent, closeParenthesis);
+  }
+
+  @Nullable
+  private UnicodeRangeTree unicodeRange() {
+    spacing();
+    SyntaxToken unicodeRange = scanned(CssTokenizer.unicodeRange(chars, pos));
+    return unicodeRange == null ? fail() : f.unicodeRange(unicodeRange);
+  }
+
+  @Nullable
+  private PercentageTree percentage() {
+    NumberTree number = number();
+    if (number == null) {
+      return fail();
+    }
+    SyntaxToken percentageSymbol = literal("%");
+    if (percentageSymbol == null) {
+      return fail();
+    }
+    return f.percentage(number, percentageSymbol);
+  }
+
+  @Nullable
+  private UnitTree unit() {
+    SyntaxToken unit = scanned(CssTokenizer.unit(chars, pos));
+    return unit == null ? fail() : f.unit(unit);
+  }
+
+  @Nullable
+  private HashTree hash() {
+    SyntaxToken hashSymbol = spacedLiteral("#");
+    if (hashSymbol == null) {
+      return fail();
+    }
+    SyntaxToken name = scanned(CssTokenizer.name(chars, pos));
+    if (name == null) {
+      return fail();
+    }
+    return f.hash(hashSymbol, name);
+  }
+
+  @Nullable
+  private ImportantTree important() {
+    SyntaxToken exclamationMark = spacedLiteral("!");
+    if (exclamationMark == null) {
+      return fail();
+    }
+    SyntaxToken importantKeyword = spacedCaseInsensitiveLiteral("important");
+    if (importantKeyword == null) {
+      return fail();
+    }
+    return f.important(exclamationMark, importantKeyword);
+  }
+
+  @Nullable
+  private AtKeywordTree atKeyword() {
+    SyntaxToken atSymbol = spacedLiteral("@");
+    if (atSymbol == null) {
+      return fail();
+    }
+    IdentifierTree keyword = identifierNoWs();
+    if (keyword == null) {
+      return fail();
+    }
+    return f.atKeyword(atSymbol, keyword);
+  }
+
+  @Nullable
+  private IdentifierTree identifier() {
+    spacing();
+    SyntaxToken identifier = scanned(CssTokenizer.ident(chars, pos));
+    return identifier == null ? fail() : f.identifier(identifier);
+  }
+
+  @Nullable
+  private IdentifierTree identifierNoWs() {
+    SyntaxToken identifier = scanned(CssTokenizer.ident(chars, pos));
+    return identifier == null ? fail() : f.identifierNoWs(identifier);
+  }
+
+  @Nullable
+  private StringTree string() {
+    spacing();
+    SyntaxToken string = scanned(CssTokenizer.string(chars, pos));
+    return string == null ? fail() : f.string(string);
+  }
+
+  @Nullable
+  private NumberTree number() {
+    spacing();
+    SyntaxToken number = scanned(CssTokenizer.num(chars, pos));
+    return number == null ? fail() : f.number(number);
+  }
+
+  @Nullable
+  private DelimiterTree delimiter() {
+    spacing();
+    SyntaxToken delimiter = scanned(CssTokenizer.delim(chars, pos));
+    return delimiter == null ? fail() : f.delimiter(delimiter);
+  }
+
+  /* Selectors */
+
+  @Nullable
+  private SelectorsTree selectors() {
+    List<SelectorTree> selectors = new ArrayList<>();
+    List<SyntaxToken> commas = new ArrayList<>();
+    SelectorTree selector = selector();
+    if (selector == null) {
+      return fail();
+    }
+    selectors.add(selector);
+    while (true) {
+      long mark = mark();
+      SyntaxToken comma = comma();
+      selector = comma == null ? null : selector();
+      if (orReset(mark, selector) == null) {
+        break;
+      }
+      commas.add(comma);
+      selectors.add(selector);
+    }
+
+    int last = selectors.size() - 1;
+    SyntaxList<SelectorTree> selectorList = f.selectorList(selectors.get(last));
+    for (int i = last - 1; i >= 0; i--) {
+      selectorList = f.selectorList(selectors.get(i), commas.get(i), selectorList);
+    }
+    return f.selectors(selectorList);
+  }
+
+  @Nullable
+  private SyntaxToken comma() {
+    SyntaxToken comma = spacedLiteral(",");
+    if (comma == null) {
+      return fail();
+    }
+    spacing();
+    return comma;
+  }
+
+  @Nullable
+  private SelectorTree selector() {
+    SelectorCombinationList selectorCombinationList = selectorCombinationList();
+    return selectorCombinationList == null ? fail() : f.selector(selectorCombinationList);
+  }
+
+  @Nullable
+  private SelectorCombinationList selectorCombinationList() {
+    List<CompoundSelectorTree> selectors = new ArrayList<>();
+    List<SelectorCombinatorTree> combinators = new ArrayList<>();
+    CompoundSelectorTree selector = compoundSelector();
+    if (selector == null) {
+      return fail();
+    }
+    selectors.add(selector);
+    while (true) {
+      long mark = mark();
+      SelectorCombinatorTree combinator = selectorCombinator();
+      selector = combinator == null ? null : compoundSelectorAfterCombinator();
+      if (orReset(mark, selector) == null) {
+        break;
+      }
+      combinators.add(combinator);
+      selectors.add(selector);
+    }
+
+    int last = selectors.size() - 1;
+    SelectorCombinationList selectorCombinationList = f.selectorCombinationList(selectors.get(last));
+    for (int i = last - 1; i >= 0; i--) {
+      selectorCombinationList = f.selectorCombinationList(selectors.get(i), combinators.get(i), selectorCombinationList);
+    }
+    return selectorCombinationList;
+  }
+
+  /**
+   * When the combinator is a whitespace, the compound selector has already been matched by its lookahead. SSLR then
+   * reuses the memoized match, so the failures within the compound selector are not reported again.
+   */
+  @Nullable
+  private CompoundSelectorTree compoundSelectorAfterCombinator() {
+    if (pos != lookaheadCompoundSelector) {
+      return compoundSelector();
+    }
+    lookaheadCompoundSelector = -1;
+    ignoreErrors++;
+    CompoundSelectorTree selector = compoundSelector();
+    ignoreErrors--;
+    return selector;
+  }
+
+  @Nullable
+  private SelectorCombinatorTree selectorCombinator() {
+    long mark = mark();
+    SyntaxToken combinator = orReset(mark, combinator(">>"));
+    if (combinator == null) {
+      combinator = orReset(mark, combinator(">"));
+    }
+    if (combinator == null) {
+      combinator = orReset(mark, combinator("||"));
+    }
+    if (combinator == null) {
+      combinator = orReset(mark, combinator("+"));
+    }
+    if (combinator == null) {
+      combinator = orReset(mark, combinator("~"));
+    }
+    if (combinator == null) {
+      combinator = descendantCombinatorWhitespace();
+    }
+    return combinator == null ? fail() : f.selectorCombinator(combinator);
+  }
+
+  @Nullable
+  private SyntaxToken combinator(String value) {
+    SyntaxToken combinator = spacedLiteral(value);
+    if (combinator == null) {
+      return fail();
+    }
+    spacing();
+    return combinator;
+  }
+
+  /**
+   * Token made of the spacing before a compound selector, that is not followed by another combinator.
+   */
+  @Nullable
+  private SyntaxToken descendantCombinatorWhitespace() {
+    int end = CssTokenizer.spacing(chars, pos);
+    if (CssTokenizer.isChar(chars, end, '>') || CssTokenizer.isChar(chars, end, '+') || CssTokenizer.isChar(chars, end, '~')) {
+      return fail(end);
+    }
+    long mark = mark();
+    pos = end;
+    ignoreErrors++;
+    CompoundSelectorTree lookahead = compoundSelector();
+    ignoreErrors--;
+    reset(mark);
+    if (lookahead == null) {
+      return fail(end);
+    }
+    lookaheadCompoundSelector = end;
+    return token(end, null);
+  }
+
+  @Nullable
+  private CompoundSelectorTree compoundSelector() {
+    List<SimpleSelectorTree> selectors = new ArrayList<>();
+    while (true) {
+      long mark = mark();
+      SimpleSelectorTree selector = orReset(mark, keyframesSelector());
+      if (selector == null) {
+        selector = orReset(mark, classSelector());
+      }
+      if (selector == null) {
+        selector = orReset(mark, idSelector());
+      }
+      if (selector == null) {
+        selector = orReset(mark, pseudoSelectorNoWs());
+      }
+      if (selector == null) {
+        selector = orReset(mark, attributeSelector());
+      }
+      if (selector == null) {
+        selector = orReset(mark, typeSelector());
+      }
+      if (selector == null) {
+        break;
+      }
+      selectors.add(selector);
+    }
+    return selectors.isEmpty() ? fail() : f.compoundSelector(selectors);
+  }
+
+  @Nullable
+  private KeyframesSelectorTree keyframesSelector() {
+    long mark = mark();
+    Tree selector = orReset(mark, spacedCaseInsensitiveLiteral("from"));
+    if (selector == null) {
+      selector = orReset(mark, spacedCaseInsensitiveLiteral("to"));
+    }
+    if (selector == null) {
+      selector = percentage();
+    }
+    return selector == null ? fail() : f.keyframesSelector(selector);
+  }
+
+  @Nullable
+  private ClassSelectorTree classSelector() {
+    SyntaxToken dot = literal(".");
+    if (dot == null) {
+      return fail();
+    }
+    IdentifierTree className = identifierNoWs();
+    if (className == null) {
+      return fail();
+    }
+    return f.classSelector(dot, className);
+  }
+
+  @Nullable
+  private IdSelectorTree idSelector() {
+    SyntaxToken hash = literal("#");
+    if (hash == null) {
+      return fail();
+    }
+    IdentifierTree identifier = identifierNoWs();
+    if (identifier == null) {
+      return fail();
+    }
+    return f.idSelector(hash, identifier);
+  }
+
+  @Nullable
+  private TypeSelectorTree typeSelector() {
+    long mark = mark();
+    NamespaceTree namespace = orReset(mark, namespace());
+    IdentifierTree identifier = identifierNoWs();
+    if (identifier == null) {
+      return fail();
+    }
+    return f.typeSelector(optional(namespace), identifier);
+  }
+
+  @Nullable
+  private NamespaceTree namespace() {
+    long mark = mark();
+    IdentifierTree namespace = orReset(mark, identifierNoWs());
+    SyntaxToken pipe = literal("|");
+    if (pipe == null) {
+      return fail();
+    }
+    return f.namespace(optional(namespace), pipe);
+  }
+
+  @Nullable
+  private PseudoSelectorTree pseudoSelector() {
+    // The leading spacing is not part of the tree
+    spacing();
+    PseudoComponentTree pseudo = pseudoComponent();
+    return pseudo == null ? fail() : f.pseudoSelector(pseudo);
+  }
+
+  @Nullable
+  private PseudoSelectorTree pseudoSelectorNoWs() {
+    PseudoComponentTree pseudo = pseudoComponent();
+    return pseudo == null ? fail() : f.pseudoSelector(pseudo);
+  }
+
+  @Nullable
+  private PseudoComponentTree pseudoComponent() {
+    long mark = mark();
+    PseudoComponentTree pseudo = orReset(mark, pseudoFunction());
+    if (pseudo == null) {
+      pseudo = pseudoIdentifier();
+    }
+    return pseudo;
+  }
+
+  @Nullable
+  private PseudoFunctionTree pseudoFunction() {
+    SyntaxToken prefix = pseudoPrefix();
+    if (prefix == null) {
+      return fail();
+    }
+    IdentifierTree pseudoFunctionName = identifierNoWs();
+    if (pseudoFunctionName == null) {
+      return fail();
+    }
+    SyntaxToken openParenthesis = literal("(");
+    if (openParenthesis == null) {
+      return fail();
+    }
+    List<Tree> parameterElements = zeroOrMoreAny();
+    SyntaxToken closeParenthesis = spacedLiteral(")");
+    if (closeParenthesis == null) {
+      return fail();
+    }
+    return f.pseudoFunction(prefix, pseudoFunctionName, openParenthesis, nonEmpty(parameterElements), closeParenthesis);
+  }
+
+  @Nullable
+  private PseudoIdentifierTree pseudoIdentifier() {
+    SyntaxToken prefix = pseudoPrefix();
+    if (prefix == null) {
+      return fail();
+    }
+    IdentifierTree identifier = identifierNoWs();
+    if (identifier == null) {
+      return fail();
+    }
+    return f.pseudoIdentifier(prefix, identifier);
+  }
+
+  @Nullable
+  private SyntaxToken pseudoPrefix() {
+    int end = CssTokenizer.literal(chars, pos, "::");
+    return scanned(end >= 0 ? end : CssTokenizer.literal(chars, pos, ":"));
+  }
+
+  @Nullable
+  private AttributeSelectorTree attributeSelector() {
+    long mark = mark();
+    AttributeSelectorTree selector = orReset(mark, attributeSelectorWithoutNamespace());
+    if (selector == null) {
+      selector = attributeSelectorWithNamespace();
+    }
+    return selector == null ? fail() : selector;
+  }
+
+  @Nullable
+  private AttributeSelectorTree attributeSelectorWithoutNamespace() {
+    SyntaxToken openBracket = literal("[");
+    if (openBracket == null) {
+      return fail();
+    }
+    IdentifierTree attribute = identifier();
+    if (attribute == null) {
+      return fail();
+    }
+    long mark = mark();
+    AttributeMatcherExpressionTree matcherExpression = orReset(mark, attributeMatcherExpression());
+    SyntaxToken closeBracket = spacedLiteral("]");
+    if (closeBracket == null) {
+      return fail();
+    }
+    return f.attributeSelector(openBracket, attribute, optional(matcherExpression), closeBracket);
+  }
+
+  @Nullable
+  private AttributeSelectorTree attributeSelectorWithNamespace() {
+    SyntaxToken openBracket = literal("[");
+    if (openBracket == null) {
+      return fail();
+    }
+    int spacingStart = pos;
+    spacing();
+    InternalSyntaxSpacing spacing = new InternalSyntaxSpacing(spacingStart, pos);
+    NamespaceTree namespace = namespace();
+    if (namespace == null) {
+      return fail();
+    }
+    IdentifierTree attribute = identifierNoWs();
+    if (attribute == null) {
+      return fail();
+    }
+    long mark = mark();
+    AttributeMatcherExpressionTree matcherExpression = orReset(mark, attributeMatcherExpression());
+    SyntaxToken closeBracket = spacedLiteral("]");
+    if (closeBracket == null) {
+      return fail();
+    }
+    return f.attributeSelector(openBracket, spacing, namespace, attribute, optional(matcherExpression), closeBracket);
+  }
+
+  @Nullable
+  private AttributeMatcherExpressionTree attributeMatcherExpression() {
+    AttributeMatcherTree attributeMatcher = attributeMatcher();
+    if (attributeMatcher == null) {
+      return fail();
+    }
+    long mark = mark();
+    Tree toMatch = orReset(mark, string());
+    if (toMatch == null) {
+      toMatch = identifier();
+    }
+    if (toMatch == null) {
+      return fail();
+    }
+    mark = mark();
+    SyntaxToken flag = orReset(mark, spacedLiteral("i"));
+    return f.attributeMatcherExpression(attributeMatcher, toMatch, optional(flag == null ? null : f.caseInsensitiveFlag(flag)));
+  }
+
+  @Nullable
+  private AttributeMatcherTree attributeMatcher() {
+    long mark = mark();
+    SyntaxToken matcher = orReset(mark, spacedLiteral("|="));
+    if (matcher == null) {
+      matcher = orReset(mark, spacedLiteral("~="));
+    }
+    if (matcher == null) {
+      matcher = orReset(mark, spacedLiteral("="));
+    }
+    if (matcher == null) {
+      matcher = orReset(mark, spacedLiteral("*="));
+    }
+    if (matcher == null) {
+      matcher = orReset(mark, spacedLiteral("^="));
+    }
+    if (matcher == null) {
+      matcher = spacedLiteral("$=");
+    }
+    return matcher == null ? fail() : f.attributeMatcher(matcher);
+  }
+
+}
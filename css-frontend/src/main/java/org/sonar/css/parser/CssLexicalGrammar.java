@@ -145,6 +145,10 @@ public enum CssLexicalGrammar implements GrammarRuleKey {
   BOM,
   EOF,
 
+  /* Lookaheads */
+  IDENTIFIER_START_LOOKAHEAD,
+  MINUS_LOOKAHEAD,
+
   /* Macros */
   _IDENT,
   _NMSTART,
@@ -283,6 +287,9 @@ public enum CssLexicalGrammar implements GrammarRuleKey {
     b.rule(BOM).is("\ufeff");
     b.rule(EOF).is(SPACING, b.token(GenericTokenType.EOF, b.endOfInput()));
 
+    b.rule(IDENTIFIER_START_LOOKAHEAD).is(b.next(SPACING, b.nextNot("-"), _NMSTART));
+    b.rule(MINUS_LOOKAHEAD).is(b.next(SPACING, "-"));
+
   }
 
   private static void spacing(LexerlessGrammarBuilder b) {
@@ -24,18 +24,31 @@ import com.sonar.sslr.api.*;
 import com.sonar.sslr.api.typed.Input;
 import com.sonar.sslr.api.typed.NodeBuilder;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.sonar.css.tree.impl.InternalSyntaxSpacing;
 import org.sonar.css.tree.impl.InternalSyntaxToken;
 import org.sonar.css.tree.impl.InternalSyntaxTrivia;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
 import org.sonar.plugins.css.api.tree.SyntaxTrivia;
 import org.sonar.sslr.grammar.GrammarRuleKey;
 
+/**
+ * Not thread-safe: a node builder must only be used by one parser at a time.
+ * <p>
+ * The SSLR parser only creates the terminals of the final tree, in source order, so the node builder also records
+ * the tokens and comments of the current input as they are created: see {@link #takeTokens()}.
+ * {@link CssHandWrittenParser} forgets the ones of the alternatives it backtracks from.
+ */
 public class CssNodeBuilder implements NodeBuilder {
 
   private static final char BYTE_ORDER_MARK = '\uFEFF';
 
+  private final List<SyntaxToken> tokens = new ArrayList<>();
+  private Input currentInput;
+  private boolean hasByteOrderMark;
+
   @Override
   public Object createNonTerminal(GrammarRuleKey ruleKey, Rule rule, List<Object> children, int startIndex, int endIndex) {
     for (Object child : children) {
@@ -48,25 +61,60 @@ public class CssNodeBuilder implements NodeBuilder {
 
   @Override
   public Object createTerminal(Input input, int startIndex, int endIndex, List<Trivia> trivias, TokenType type) {
-    char[] fileChars = input.input();
-    boolean hasByteOrderMark = fileChars.length > 0 && fileChars[0] == BYTE_ORDER_MARK;
+    if (input != currentInput) {
+      currentInput = input;
+      char[] fileChars = input.input();
+      hasByteOrderMark = fileChars.length > 0 && fileChars[0] == BYTE_ORDER_MARK;
+      tokens.clear();
+    }
+
     boolean isEof = GenericTokenType.EOF.equals(type);
     LineColumnValue lineColumnValue = tokenPosition(input, startIndex, endIndex);
-    return new InternalSyntaxToken(
+    InternalSyntaxToken token = new InternalSyntaxToken(
       lineColumnValue.line,
       column(hasByteOrderMark, lineColumnValue.line, lineColumnValue.column),
       lineColumnValue.value,
-      createTrivias(trivias, hasByteOrderMark),
+      createTrivias(trivias),
       isEof,
       isByteOrderMark(input, startIndex, endIndex));
+    tokens.add(token);
+    return token;
+  }
+
+  /**
+   * Number of tokens and comments recorded for the current input.
+   */
+  int recordedTokenCount() {
+    return tokens.size();
+  }
+
+  /**
+   * Forgets the tokens and comments recorded after the first {@code count} ones, for parsers that create the tokens
+   * of alternatives they later backtrack from.
+   */
+  void forgetTokensFrom(int count) {
+    tokens.subList(count, tokens.size()).clear();
+  }
+
+  /**
+   * Returns the tokens and comments created since the start of the current input, in source order, and forgets
+   * them so that the node builder retains neither the tree nor the input once parsing is over.
+   */
+  public SyntaxToken[] takeTokens() {
+    SyntaxToken[] result = tokens.toArray(new SyntaxToken[tokens.size()]);
+    tokens.clear();
+    currentInput = null;
+    return result;
   }
 
-  private static List<SyntaxTrivia> createTrivias(List<Trivia> trivias, boolean hasByteOrderMark) {
+  private List<SyntaxTrivia> createTrivias(List<Trivia> trivias) {
     List<SyntaxTrivia> result = Lists.newArrayList();
     for (Trivia trivia : trivias) {
       Token trivialToken = trivia.getToken();
       int column = column(hasByteOrderMark, trivialToken.getLine(), trivialToken.getColumn());
-      result.add(InternalSyntaxTrivia.create(trivialToken.getValue(), trivialToken.getLine(), column));
+      SyntaxTrivia syntaxTrivia = InternalSyntaxTrivia.create(trivialToken.getValue(), trivialToken.getLine(), column);
+      result.add(syntaxTrivia);
+      tokens.add(syntaxTrivia);
     }
     return result;
   }
@@ -80,12 +128,12 @@ public class CssNodeBuilder implements NodeBuilder {
 
   private static LineColumnValue tokenPosition(Input input, int startIndex, int endIndex) {
     int[] lineAndColumn = input.lineAndColumnAt(startIndex);
-    String value = input.substring(startIndex, endIndex);
+    String value = new String(input.input(), startIndex, endIndex - startIndex);
     return new LineColumnValue(lineAndColumn[0], lineAndColumn[1] - 1, value);
   }
 
   private static boolean isByteOrderMark(Input input, int startIndex, int endIndex) {
-    return (Character.toString(BYTE_ORDER_MARK)).equals(input.substring(startIndex, endIndex));
+    return endIndex - startIndex == 1 && input.input()[startIndex] == BYTE_ORDER_MARK;
   }
 
   private static class LineColumnValue {
@@ -27,6 +27,14 @@ import java.nio.charset.Charset;
 import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.sslr.grammar.GrammarRuleKey;
 
+/**
+ * Building a parser is expensive: the grammar is created, intercepted and compiled for each new parser.
+ * Parsers are not thread-safe but can parse any number of files one after the other, so callers analyzing
+ * several files should build one parser per worker and keep it for the whole analysis, or share a
+ * {@link CssParserFactory}.
+ * <p>
+ * {@link CssHandWrittenParser} builds the same trees without any grammar to build.
+ */
 public class CssParserBuilder {
 
   private CssParserBuilder() {
@@ -42,12 +50,13 @@ public class CssParserBuilder {
   }
 
   private static ActionParser<Tree> createParser(Charset charset, GrammarRuleKey rootRule) {
+    CssNodeBuilder nodeBuilder = new CssNodeBuilder();
     return new ActionParser<>(
       charset,
       CssLexicalGrammar.createGrammar(),
       CssGrammar.class,
-      new TreeFactory(),
-      new CssNodeBuilder(),
+      new TreeFactory(nodeBuilder),
+      nodeBuilder,
       rootRule);
   }
 
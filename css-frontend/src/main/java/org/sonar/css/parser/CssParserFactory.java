@@ -0,0 +1,70 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.parser;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.sonar.sslr.api.typed.ActionParser;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.sonar.plugins.css.api.tree.Tree;
+
+/**
+ * Thread-safe source of stylesheet parsers, meant to be shared by all the code parsing many small files, such as the
+ * check tests. Building a parser is expensive (see {@link CssParserBuilder}), so the factory hands the parsers it has
+ * built out again: it builds as many parsers as there are concurrent parses, not one per file.
+ * <p>
+ * An SSLR parser keeps the internal parse state of its last input reachable until it is dropped: the regular
+ * expression matchers of its compiled grammar still reference it, which amounts to a few hundred bytes per character
+ * of input. So the factory only takes a parser back after a successful parse of at most
+ * {@link #MAX_REUSED_INPUT_LENGTH} characters: a parser that parsed a larger input, or failed, is dropped.
+ */
+public final class CssParserFactory {
+
+  static final int MAX_REUSED_INPUT_LENGTH = 32 * 1024;
+
+  private final Queue<ActionParser<Tree>> idleParsers = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Parses the given stylesheet with an idle parser, or with a new one if all the parsers built so far are in use.
+   *
+   * @throws com.sonar.sslr.api.RecognitionException if the source cannot be parsed
+   */
+  public Tree parse(String source) {
+    ActionParser<Tree> parser = idleParsers.poll();
+    if (parser == null) {
+      // The charset of a parser is only used to read files: the factory parses strings
+      parser = CssParserBuilder.createParser(Charsets.UTF_8);
+    }
+    Tree tree = parser.parse(source);
+    if (source.length() <= MAX_REUSED_INPUT_LENGTH) {
+      idleParsers.add(parser);
+    }
+    return tree;
+  }
+
+  @VisibleForTesting
+  int idleParserCount() {
+    return idleParsers.size();
+  }
+
+}
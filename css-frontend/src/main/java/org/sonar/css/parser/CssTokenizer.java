@@ -0,0 +1,458 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.parser;
+
+import java.util.Arrays;
+
+/**
+ * Hand-written, table-driven scanners for the tokens and macros of {@link CssLexicalGrammar}, used by
+ * {@link CssHandWrittenParser}.
+ * <p>
+ * Each scanner accepts exactly the text accepted by the regular expression, or the combination of expressions,
+ * it stands for. Characters are looked up in a table of character classes instead of going through java.util.regex
+ * and composite macros such as identifiers and strings are scanned in a single pass. As with regular expressions,
+ * negated character classes consume whole code points.
+ * <p>
+ * A scanner returns the index at which its match ends or, if there is no match, {@link #failure(int)} of the index at
+ * which the expressions it stands for fail, so that parse errors are located at the same position.
+ */
+final class CssTokenizer {
+
+  /* [\s] */
+  private static final int WHITESPACE = 1;
+  /* [ \t\r\n\f] */
+  private static final int W = 1 << 1;
+  /* [_a-zA-Z] */
+  private static final int NMSTART = 1 << 2;
+  /* [_a-zA-Z0-9-] */
+  private static final int NMCHAR = 1 << 3;
+  /* [0-9] */
+  private static final int DIGIT = 1 << 4;
+  /* [0-9a-f] */
+  private static final int HEX = 1 << 5;
+  /* [!#$%&*-\[\]-~] */
+  private static final int URL = 1 << 6;
+  /* ["'{}()\[\]:; \t\r\n\f] */
+  private static final int NOT_DELIM = 1 << 7;
+  /* [\n\r\f] */
+  private static final int NEWLINE = 1 << 8;
+
+  private static final int[] ASCII_CLASSES = new int[128];
+
+  private static final String[] UNITS = {"em", "ex", "ch", "rem", "vw", "vh", "vmin", "vmax", "cm", "mm", "in", "px", "pt", "pc", "ms", "s",
+    "hz", "db", "khz", "deg", "grad", "rad", "turn", "dpi", "dpcm", "dppx"};
+
+  /* Units by lower-cased first character, in the order in which they are tried by the lexical grammar */
+  private static final String[][] UNITS_BY_FIRST_CHAR = new String[128][];
+
+  static {
+    set(" \t\n\u000B\f\r", WHITESPACE);
+    set(" \t\r\n\f", W);
+    set("_", NMSTART | NMCHAR);
+    set("-", NMCHAR);
+    set("abcdef", HEX);
+    set("\"'{}()[]:; \t\r\n\f", NOT_DELIM);
+    set("\n\r\f", NEWLINE);
+    set("!#$%&", URL);
+    for (char c = 'a'; c <= 'z'; c++) {
+      ASCII_CLASSES[c] |= NMSTART | NMCHAR;
+      ASCII_CLASSES[Character.toUpperCase(c)] |= NMSTART | NMCHAR;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      ASCII_CLASSES[c] |= DIGIT | HEX | NMCHAR;
+    }
+    for (char c = '*'; c <= '['; c++) {
+      ASCII_CLASSES[c] |= URL;
+    }
+    for (char c = ']'; c <= '~'; c++) {
+      ASCII_CLASSES[c] |= URL;
+    }
+
+    for (String unit : UNITS) {
+      String[] units = UNITS_BY_FIRST_CHAR[unit.charAt(0)];
+      if (units == null) {
+        units = new String[] {unit};
+      } else {
+        units = Arrays.copyOf(units, units.length + 1);
+        units[units.length - 1] = unit;
+      }
+      UNITS_BY_FIRST_CHAR[unit.charAt(0)] = units;
+    }
+  }
+
+  private CssTokenizer() {
+  }
+
+  /**
+   * Result of a scanner that fails at {@code index}.
+   */
+  static int failure(int index) {
+    return -1 - index;
+  }
+
+  /**
+   * Index at which a scanner failed, given its negative result.
+   */
+  static int failureIndex(int result) {
+    return -1 - result;
+  }
+
+  private static void set(String chars, int charClass) {
+    for (int i = 0; i < chars.length(); i++) {
+      ASCII_CLASSES[chars.charAt(i)] |= charClass;
+    }
+  }
+
+  private static boolean is(char[] input, int index, int charClass) {
+    if (index >= input.length) {
+      return false;
+    }
+    char c = input[index];
+    return c < 128 && (ASCII_CLASSES[c] & charClass) != 0;
+  }
+
+  static boolean isChar(char[] input, int index, char c) {
+    return index < input.length && input[index] == c;
+  }
+
+  private static int toLowerCase(char c) {
+    return c >= 'A' && c <= 'Z' ? (c + ('a' - 'A')) : c;
+  }
+
+  /**
+   * End of the code point starting at {@code index}: a surrogate pair counts as a single character.
+   */
+  private static int codePointEnd(char[] input, int index) {
+    if (Character.isHighSurrogate(input[index]) && index + 1 < input.length && Character.isLowSurrogate(input[index + 1])) {
+      return index + 2;
+    }
+    return index + 1;
+  }
+
+  private static int skip(char[] input, int start, int charClass) {
+    int index = start;
+    while (is(input, index, charClass)) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * {@code [\s]*+}: never fails.
+   */
+  static int whitespaces(char[] input, int start) {
+    return skip(input, start, WHITESPACE);
+  }
+
+  /**
+   * {@code /\*[\s\S]*?\*}{@code /} or {@code <!--[\s\S]*?-->}
+   */
+  static int comment(char[] input, int start) {
+    int end = -1;
+    if (isChar(input, start, '/') && isChar(input, start + 1, '*')) {
+      end = endOf(input, start + 2, "*/");
+    } else if (isChar(input, start, '<') && isChar(input, start + 1, '!') && isChar(input, start + 2, '-') && isChar(input, start + 3, '-')) {
+      end = endOf(input, start + 4, "-->");
+    }
+    return end >= 0 ? end : failure(start);
+  }
+
+  /**
+   * End of the spacing starting at {@code start}: whitespaces and comments.
+   */
+  static int spacing(char[] input, int start) {
+    int index = whitespaces(input, start);
+    int end = comment(input, index);
+    while (end >= 0) {
+      index = whitespaces(input, end);
+      end = comment(input, index);
+    }
+    return index;
+  }
+
+  private static int endOf(char[] input, int from, String terminator) {
+    int last = input.length - terminator.length();
+    for (int index = from; index <= last; index++) {
+      if (startsWith(input, index, terminator)) {
+        return index + terminator.length();
+      }
+    }
+    return -1;
+  }
+
+  private static boolean startsWith(char[] input, int index, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (input[index + i] != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@code value}, case-sensitive.
+   */
+  static int literal(char[] input, int start, String value) {
+    if (input.length - start >= value.length() && startsWith(input, start, value)) {
+      return start + value.length();
+    }
+    return failure(start);
+  }
+
+  /**
+   * {@code (?i)value}, for a lower-case {@code value}: only the case of ASCII letters is ignored.
+   */
+  static int caseInsensitive(char[] input, int start, String lowerCaseValue) {
+    if (input.length - start < lowerCaseValue.length()) {
+      return failure(start);
+    }
+    for (int i = 0; i < lowerCaseValue.length(); i++) {
+      if (toLowerCase(input[start + i]) != lowerCaseValue.charAt(i)) {
+        return failure(start);
+      }
+    }
+    return start + lowerCaseValue.length();
+  }
+
+  /**
+   * {@code _IDENT}: {@code _NMSTART _NMCHAR*}
+   */
+  static int ident(char[] input, int start) {
+    int index = nmstart(input, start);
+    if (index < 0) {
+      return failure(start);
+    }
+    return nmchars(input, index);
+  }
+
+  /**
+   * {@code NAME}: {@code _NMCHAR+}
+   */
+  static int name(char[] input, int start) {
+    int end = nmchars(input, start);
+    return end == start ? failure(start) : end;
+  }
+
+  private static int nmchars(char[] input, int start) {
+    int index = start;
+    int next = nmchar(input, index);
+    while (next >= 0) {
+      index = next;
+      next = nmchar(input, index);
+    }
+    return index;
+  }
+
+  /**
+   * {@code _NMSTART}: {@code (?i)[_a-z]}, {@code -}, {@code *}, {@code _NONASCII} or {@code _ESCAPE}
+   */
+  static int nmstart(char[] input, int start) {
+    if (is(input, start, NMSTART) || isChar(input, start, '-') || isChar(input, start, '*')) {
+      return start + 1;
+    }
+    return nonAsciiOrEscape(input, start);
+  }
+
+  private static int nmchar(char[] input, int start) {
+    if (is(input, start, NMCHAR)) {
+      return start + 1;
+    }
+    return nonAsciiOrEscape(input, start);
+  }
+
+  private static int nonAsciiOrEscape(char[] input, int start) {
+    int end = nonAscii(input, start);
+    return end >= 0 ? end : escape(input, start);
+  }
+
+  /**
+   * {@code _NONASCII}: {@code [^\x00-\xED]}
+   */
+  private static int nonAscii(char[] input, int start) {
+    if (start < input.length && input[start] > '\u00ED') {
+      return codePointEnd(input, start);
+    }
+    return failure(start);
+  }
+
+  /**
+   * {@code _UNICODE}: {@code \\[0-9a-f]{1,6}(\r\n|[ \n\r\t\f])?}
+   */
+  private static int unicode(char[] input, int start) {
+    if (!isChar(input, start, '\\') || !is(input, start + 1, HEX)) {
+      return failure(start);
+    }
+    int index = start + 1;
+    int max = start + 7;
+    while (index < max && is(input, index, HEX)) {
+      index++;
+    }
+    if (isChar(input, index, '\r') && isChar(input, index + 1, '\n')) {
+      return index + 2;
+    } else if (is(input, index, W)) {
+      return index + 1;
+    }
+    return index;
+  }
+
+  /**
+   * {@code _ESCAPE}: {@code _UNICODE} or {@code \\[^\n\r\f0-9a-f]}
+   */
+  private static int escape(char[] input, int start) {
+    int end = unicode(input, start);
+    if (end >= 0) {
+      return end;
+    }
+    if (isChar(input, start, '\\') && start + 1 < input.length && !is(input, start + 1, NEWLINE | HEX)) {
+      return codePointEnd(input, start + 1);
+    }
+    return failure(start);
+  }
+
+  /**
+   * {@code _NUM}: {@code [-+]?([0-9]*\.[0-9]+|[0-9]+)}
+   */
+  static int num(char[] input, int start) {
+    int index = start;
+    if (isChar(input, index, '-') || isChar(input, index, '+')) {
+      index++;
+    }
+    int integerEnd = skip(input, index, DIGIT);
+    if (isChar(input, integerEnd, '.') && is(input, integerEnd + 1, DIGIT)) {
+      return skip(input, integerEnd + 1, DIGIT);
+    }
+    return integerEnd > index ? integerEnd : failure(index);
+  }
+
+  /**
+   * {@code _STRING1} or {@code _STRING2}: a double-quoted or single-quoted string.
+   */
+  static int string(char[] input, int start) {
+    int end = string(input, start, '"');
+    return end >= 0 ? end : string(input, start, '\'');
+  }
+
+  private static int string(char[] input, int start, char quote) {
+    if (!isChar(input, start, quote)) {
+      return failure(start);
+    }
+    int index = start + 1;
+    while (index < input.length) {
+      char c = input[index];
+      int next;
+      if (c != quote && c != '\\' && !is(input, index, NEWLINE)) {
+        next = codePointEnd(input, index);
+      } else if (c == '\\') {
+        next = newLine(input, index + 1);
+        if (next < 0) {
+          next = escape(input, index);
+        }
+      } else {
+        next = -1;
+      }
+      if (next < 0) {
+        break;
+      }
+      index = next;
+    }
+    return isChar(input, index, quote) ? (index + 1) : failure(index);
+  }
+
+  private static int newLine(char[] input, int start) {
+    if (isChar(input, start, '\r') && isChar(input, start + 1, '\n')) {
+      return start + 2;
+    } else if (is(input, start, NEWLINE)) {
+      return start + 1;
+    }
+    return failure(start);
+  }
+
+  /**
+   * {@code u\+[0-9a-f?]{1,6}(-[0-9a-f]{1,6})?}
+   */
+  static int unicodeRange(char[] input, int start) {
+    if (!isChar(input, start, 'u') || !isChar(input, start + 1, '+')) {
+      return failure(start);
+    }
+    int index = start + 2;
+    int max = index + 6;
+    while (index < max && (is(input, index, HEX) || isChar(input, index, '?'))) {
+      index++;
+    }
+    if (index == start + 2) {
+      return failure(start);
+    }
+    if (isChar(input, index, '-') && is(input, index + 1, HEX)) {
+      int rangeEnd = index + 1;
+      int rangeMax = rangeEnd + 6;
+      while (rangeEnd < rangeMax && is(input, rangeEnd, HEX)) {
+        rangeEnd++;
+      }
+      return rangeEnd;
+    }
+    return index;
+  }
+
+  /**
+   * {@code URI_CONTENT_LITERAL}: {@code _W ([!#$%&*-\[\]-~]+ | _NONASCII | _ESCAPE)* _W}, never fails.
+   */
+  static int uriContent(char[] input, int start) {
+    int index = skip(input, start, W);
+    while (true) {
+      int next = is(input, index, URL) ? (index + 1) : nonAsciiOrEscape(input, index);
+      if (next < 0) {
+        break;
+      }
+      index = next;
+    }
+    return skip(input, index, W);
+  }
+
+  /**
+   * {@code UNIT_LITERAL}: the units are tried in the order of the lexical grammar, ignoring the case of ASCII letters.
+   */
+  static int unit(char[] input, int start) {
+    if (start >= input.length) {
+      return failure(start);
+    }
+    int firstChar = toLowerCase(input[start]);
+    String[] units = firstChar < 128 ? UNITS_BY_FIRST_CHAR[firstChar] : null;
+    if (units != null) {
+      for (String unit : units) {
+        int end = caseInsensitive(input, start, unit);
+        if (end >= 0) {
+          return end;
+        }
+      }
+    }
+    return failure(start);
+  }
+
+  /**
+   * {@code [^"'\{\}\(\)\[\]:; \t\r\n\f]}
+   */
+  static int delim(char[] input, int start) {
+    if (start < input.length && !is(input, start, NOT_DELIM)) {
+      return codePointEnd(input, start);
+    }
+    return failure(start);
+  }
+
+}
@@ -28,8 +28,22 @@ import org.sonar.plugins.css.api.tree.*;
 
 public class TreeFactory {
 
+  private final CssNodeBuilder nodeBuilder;
+
+  /**
+   * Required by the parser, which subclasses the tree factory to record the grammar actions. Trees are built by
+   * the instance created with the node builder of the parser.
+   */
+  public TreeFactory() {
+    this(new CssNodeBuilder());
+  }
+
+  public TreeFactory(CssNodeBuilder nodeBuilder) {
+    this.nodeBuilder = nodeBuilder;
+  }
+
   public StyleSheetTree stylesheet(Optional<SyntaxToken> byteOrderMark, Optional<List<StatementTree>> statements, SyntaxToken eof) {
-    return new StyleSheetTreeImpl(byteOrderMark.orNull(), statements.orNull(), eof);
+    return new StyleSheetTreeImpl(byteOrderMark.orNull(), statements.orNull(), eof, nodeBuilder.takeTokens());
   }
 
   public AtRuleTree atRule(AtKeywordTree atKeyword, Optional<List<Tree>> prelude, Optional<AtRuleBlockTree> block, Optional<SyntaxToken> semicolon) {
@@ -60,12 +74,17 @@ public class TreeFactory {
     return new SyntaxList<>(declaration, semicolon, null);
   }
 
-  public SyntaxList<DeclarationTree> declarationList(DeclarationTree declaration, SyntaxToken semicolon, SyntaxList<DeclarationTree> next) {
-    return new SyntaxList<>(declaration, semicolon, next);
-  }
-
-  public SyntaxList<DeclarationTree> declarationList(SyntaxToken semicolon, SyntaxList<DeclarationTree> next) {
-    return new SyntaxList<>(null, semicolon, next);
+  /**
+   * Links the entries of a declaration list, each made of an optional declaration and a semicolon,
+   * and the optional last declaration that is not followed by a semicolon.
+   */
+  public SyntaxList<DeclarationTree> declarationList(List<SyntaxList<DeclarationTree>> entries, Optional<DeclarationTree> lastDeclaration) {
+    SyntaxList<DeclarationTree> next = lastDeclaration.isPresent() ? new SyntaxList<>(lastDeclaration.get(), null, null) : null;
+    for (int i = entries.size() - 1; i >= 0; i--) {
+      SyntaxList<DeclarationTree> entry = entries.get(i);
+      next = new SyntaxList<>(entry.element(), entry.separatorToken(), next);
+    }
+    return next;
   }
 
   public SyntaxList<DeclarationTree> declarationList(SyntaxToken semicolon) {
@@ -227,6 +246,25 @@ public class TreeFactory {
     return new DimensionTreeImpl(value, unit);
   }
 
+  public Tree numeric(NumberTree value, Optional<Tree> percentageSymbolOrUnit) {
+    if (!percentageSymbolOrUnit.isPresent()) {
+      return value;
+    }
+    Tree suffix = percentageSymbolOrUnit.get();
+    if (suffix instanceof UnitTree) {
+      return new DimensionTreeImpl(value, (UnitTree) suffix);
+    }
+    return new PercentageTreeImpl(value, (SyntaxToken) suffix);
+  }
+
+  public Tree identifierStartingValue(Tree lookahead, Tree value) {
+    return value;
+  }
+
+  public Tree minusStartingValue(Tree lookahead, Tree value) {
+    return value;
+  }
+
   public StringTree string(SyntaxToken string) {
     return new StringTreeImpl(string);
   }
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.AtKeywordTree;
 import org.sonar.plugins.css.api.tree.IdentifierTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
@@ -45,8 +41,20 @@ public class AtKeywordTreeImpl extends CssTree implements AtKeywordTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(atSymbol, keyword);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return atSymbol;
+      case 1:
+        return keyword;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
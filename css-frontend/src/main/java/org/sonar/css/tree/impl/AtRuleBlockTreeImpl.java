@@ -19,10 +19,7 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import javax.annotation.Nullable;
 
@@ -57,15 +54,23 @@ public class AtRuleBlockTreeImpl extends CssTree implements AtRuleBlockTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    if (content != null) {
-      return Iterators.concat(
-        Iterators.singletonIterator(openCurlyBrace),
-        content.iterator(),
-        Iterators.singletonIterator(closeCurlyBrace));
-    } else {
-      return Iterators.forArray(openCurlyBrace, closeCurlyBrace);
+  public int childCount() {
+    return content == null ? 2 : content.size() + 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    int count = childCount();
+    if (index < 0 || index >= count) {
+      throw noChildAt(index);
+    }
+    if (index == 0) {
+      return openCurlyBrace;
+    }
+    if (index == count - 1) {
+      return closeCurlyBrace;
     }
+    return content.get(index - 1);
   }
 
   @Override
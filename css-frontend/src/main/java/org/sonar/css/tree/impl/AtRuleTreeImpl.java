@@ -19,11 +19,7 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import javax.annotation.Nullable;
 
 import org.sonar.css.model.Vendor;
@@ -56,15 +52,26 @@ public class AtRuleTreeImpl extends CssTree implements AtRuleTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    if (preludes != null) {
-      return Iterators.concat(
-        Iterators.singletonIterator(atKeyword),
-        preludes.iterator(),
-        Iterators.forArray(block, semicolon));
-    } else {
-      return Iterators.forArray(atKeyword, block);
+  public int childCount() {
+    return preludes == null ? 2 : preludes.size() + 3;
+  }
+
+  @Override
+  public Tree child(int index) {
+    int count = childCount();
+    if (index < 0 || index >= count) {
+      throw noChildAt(index);
     }
+    if (index == 0) {
+      return atKeyword;
+    }
+    if (preludes == null || index == count - 2) {
+      return block;
+    }
+    if (index == count - 1) {
+      return semicolon;
+    }
+    return preludes.get(index - 1);
   }
 
   @Override
@@ -112,12 +119,7 @@ public class AtRuleTreeImpl extends CssTree implements AtRuleTree {
   }
 
   private Vendor setVendor() {
-    for (Vendor v : Vendor.values()) {
-      if (atKeyword.keyword().text().toLowerCase(Locale.ENGLISH).startsWith(v.getPrefix())) {
-        return v;
-      }
-    }
-    return null;
+    return Vendor.fromPrefixOf(atKeyword.keyword().text());
   }
 
   private StandardAtRule setStandardAtRule() {
@@ -19,9 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import javax.annotation.Nullable;
 
 import org.sonar.plugins.css.api.tree.AttributeMatcherExpressionTree;
@@ -48,8 +45,22 @@ public class AttributeMatcherExpressionTreeImpl extends CssTree implements Attri
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(attributeMatcher, toMatch, caseInsensitiveFlag);
+  public int childCount() {
+    return 3;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return attributeMatcher;
+      case 1:
+        return toMatch;
+      case 2:
+        return caseInsensitiveFlag;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.AttributeMatcherTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
 import org.sonar.plugins.css.api.tree.Tree;
@@ -42,8 +38,16 @@ public class AttributeMatcherTreeImpl extends CssTree implements AttributeMatche
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.singletonIterator(matcher);
+  public int childCount() {
+    return 1;
+  }
+
+  @Override
+  public Tree child(int index) {
+    if (index != 0) {
+      throw noChildAt(index);
+    }
+    return matcher;
   }
 
   @Override
@@ -19,9 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import javax.annotation.Nullable;
 
 import org.sonar.plugins.css.api.tree.*;
@@ -50,8 +47,26 @@ public class AttributeSelectorTreeImpl extends CssTree implements AttributeSelec
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(openBracket, namespace, attribute, matcherExpression, closeBracket);
+  public int childCount() {
+    return 5;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return openBracket;
+      case 1:
+        return namespace;
+      case 2:
+        return attribute;
+      case 3:
+        return matcherExpression;
+      case 4:
+        return closeBracket;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
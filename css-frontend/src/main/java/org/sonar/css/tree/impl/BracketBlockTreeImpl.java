@@ -19,9 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import java.util.List;
 import javax.annotation.Nullable;
 
@@ -48,15 +45,23 @@ public class BracketBlockTreeImpl extends CssTree implements BracketBlockTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    if (content != null) {
-      return Iterators.concat(
-        Iterators.singletonIterator(openBracket),
-        content.iterator(),
-        Iterators.singletonIterator(closeBracket));
-    } else {
-      return Iterators.forArray(openBracket, closeBracket);
+  public int childCount() {
+    return content == null ? 2 : content.size() + 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    int count = childCount();
+    if (index < 0 || index >= count) {
+      throw noChildAt(index);
+    }
+    if (index == 0) {
+      return openBracket;
+    }
+    if (index == count - 1) {
+      return closeBracket;
     }
+    return content.get(index - 1);
   }
 
   @Override
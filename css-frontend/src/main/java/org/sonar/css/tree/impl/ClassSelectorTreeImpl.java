@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.ClassSelectorTree;
 import org.sonar.plugins.css.api.tree.IdentifierTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
@@ -45,8 +41,20 @@ public class ClassSelectorTreeImpl extends CssTree implements ClassSelectorTree
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(dot, className);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return dot;
+      case 1:
+        return className;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
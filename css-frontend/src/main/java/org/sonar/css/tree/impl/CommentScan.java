@@ -0,0 +1,176 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.tree.impl;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Result of a single in-place walk over the text of a comment: comment lines, NOSONAR lines and the bounds of the
+ * words, i.e. runs of letters. Lines are stored as offsets from the first line of the comment.
+ */
+public final class CommentScan {
+
+  private static final String NOSONAR = "NOSONAR";
+
+  private final String text;
+  private final int line;
+  private final int contentStart;
+  private final int contentEnd;
+  private final BitSet commentLineOffsets = new BitSet();
+  private final BitSet noSonarLineOffsets = new BitSet();
+  private int[] wordBounds = new int[8];
+  private int wordCount;
+
+  private CommentScan(String text, int line) {
+    this.text = text;
+    this.line = line;
+    if (text.startsWith("/*")) {
+      contentStart = 2;
+      contentEnd = Math.max(contentStart, text.length() - 2);
+    } else if (text.startsWith("<!--")) {
+      contentStart = 4;
+      contentEnd = Math.max(contentStart, text.length() - 3);
+    } else {
+      throw new IllegalArgumentException("Not a comment: " + text);
+    }
+    scan();
+  }
+
+  public static CommentScan of(String text, int line) {
+    return new CommentScan(text, line);
+  }
+
+  /**
+   * Sets the comment lines in the given line set. A comment line has a letter or a digit and no NOSONAR tag.
+   */
+  public void addCommentLines(BitSet lines) {
+    addLines(commentLineOffsets, lines);
+  }
+
+  /**
+   * Sets the lines containing a NOSONAR tag in the given line set.
+   */
+  public void addNoSonarLines(BitSet lines) {
+    addLines(noSonarLineOffsets, lines);
+  }
+
+  /**
+   * Returns the index of the first case-insensitive occurrence of the given string in the text of the comment, or -1.
+   * An occurrence of a string made of letters lies inside a word, so only the words at least as long as the string
+   * are searched.
+   */
+  public int indexOfIgnoreCase(String str) {
+    if (!isWord(str)) {
+      return indexOfIgnoreCase(str, 0, text.length());
+    }
+    for (int i = 0; i < wordCount; i++) {
+      int index = indexOfIgnoreCase(str, wordBounds[2 * i], wordBounds[2 * i + 1]);
+      if (index != -1) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private int indexOfIgnoreCase(String str, int start, int end) {
+    for (int i = start; i <= end - str.length(); i++) {
+      if (text.regionMatches(true, i, str, 0, str.length())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isWord(String str) {
+    if (str.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < str.length(); i++) {
+      if (!Character.isLetter(str.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void scan() {
+    int lineOffset = 0;
+    boolean hasContent = false;
+    boolean hasNoSonar = false;
+    int wordStart = -1;
+
+    for (int i = contentStart; i < contentEnd; i++) {
+      char c = text.charAt(i);
+      if (Character.isLetter(c)) {
+        if (wordStart == -1) {
+          wordStart = i;
+        }
+      } else if (wordStart != -1) {
+        addWord(wordStart, i);
+        wordStart = -1;
+      }
+      if (c == '\n' || c == '\r') {
+        endLine(lineOffset, hasContent, hasNoSonar);
+        if (c == '\r' && i + 1 < contentEnd && text.charAt(i + 1) == '\n') {
+          i++;
+        }
+        lineOffset++;
+        hasContent = false;
+        hasNoSonar = false;
+      } else if (Character.isLetterOrDigit(c)) {
+        hasContent = true;
+        hasNoSonar |= c == 'N' && matches(NOSONAR, i);
+      }
+    }
+    if (wordStart != -1) {
+      addWord(wordStart, contentEnd);
+    }
+    endLine(lineOffset, hasContent, hasNoSonar);
+  }
+
+  private void addWord(int start, int end) {
+    if (2 * wordCount == wordBounds.length) {
+      wordBounds = Arrays.copyOf(wordBounds, 2 * wordBounds.length);
+    }
+    wordBounds[2 * wordCount] = start;
+    wordBounds[2 * wordCount + 1] = end;
+    wordCount++;
+  }
+
+  private boolean matches(String tag, int index) {
+    return index + tag.length() <= contentEnd && text.regionMatches(index, tag, 0, tag.length());
+  }
+
+  private void endLine(int lineOffset, boolean hasContent, boolean hasNoSonar) {
+    if (hasNoSonar) {
+      noSonarLineOffsets.set(lineOffset);
+    } else if (hasContent) {
+      commentLineOffsets.set(lineOffset);
+    }
+  }
+
+  private void addLines(BitSet lineOffsets, BitSet lines) {
+    for (int offset = lineOffsets.nextSetBit(0); offset >= 0; offset = lineOffsets.nextSetBit(offset + 1)) {
+      lines.set(line + offset);
+    }
+  }
+
+}
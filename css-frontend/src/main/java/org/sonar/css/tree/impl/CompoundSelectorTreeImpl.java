@@ -19,9 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import java.util.List;
 
 import org.sonar.plugins.css.api.tree.CompoundSelectorTree;
@@ -43,8 +40,13 @@ public class CompoundSelectorTreeImpl extends CssTree implements CompoundSelecto
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.concat(selectors.iterator());
+  public int childCount() {
+    return selectors.size();
+  }
+
+  @Override
+  public Tree child(int index) {
+    return selectors.get(index);
   }
 
   @Override
@@ -20,6 +20,7 @@
 package org.sonar.css.tree.impl;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.sonar.plugins.css.api.tree.SyntaxToken;
 import org.sonar.plugins.css.api.tree.Tree;
@@ -44,20 +45,38 @@ public abstract class CssTree implements Tree {
 
   public abstract Kind getKind();
 
+  /**
+   * Number of children of this node, including the {@code null} ones. Leaves have no children.
+   */
+  public abstract int childCount();
+
+  /**
+   * Child of this node at the given index, which may be {@code null}. Unlike {@link #childrenIterator()}, it does
+   * not allocate anything, so traversals should use it.
+   *
+   * @throws IndexOutOfBoundsException if the index is not lower than {@link #childCount()}
+   */
+  public abstract Tree child(int index);
+
   /**
    * Creates iterator for children of this node.
    * Note that iterator may contain {@code null} elements.
    *
    * @throws UnsupportedOperationException if {@link #isLeaf()} returns {@code true}
    */
-  public abstract Iterator<Tree> childrenIterator();
+  public Iterator<Tree> childrenIterator() {
+    if (isLeaf()) {
+      throw new UnsupportedOperationException();
+    }
+    return new ChildrenIterator(this);
+  }
 
   @Override
   public String treeValue() {
     StringBuilder value = new StringBuilder();
-    Iterator<Tree> children = childrenIterator();
-    while (children.hasNext()) {
-      value.append(children.next().treeValue());
+    int childCount = childCount();
+    for (int i = 0; i < childCount; i++) {
+      value.append(child(i).treeValue());
     }
     return value.toString();
   }
@@ -67,30 +86,57 @@ public abstract class CssTree implements Tree {
   }
 
   public SyntaxToken getLastToken() {
-    SyntaxToken lastToken = null;
-    Iterator<Tree> childrenIterator = childrenIterator();
-    while (childrenIterator.hasNext()) {
-      CssTree child = (CssTree) childrenIterator.next();
+    for (int i = childCount() - 1; i >= 0; i--) {
+      CssTree child = (CssTree) child(i);
       if (child != null) {
         SyntaxToken childLastToken = child.getLastToken();
         if (childLastToken != null) {
-          lastToken = childLastToken;
+          return childLastToken;
         }
       }
     }
-    return lastToken;
+    return null;
   }
 
   public SyntaxToken getFirstToken() {
-    Iterator<Tree> childrenIterator = childrenIterator();
-    Tree child;
-    do {
-      if (childrenIterator.hasNext()) {
-        child = childrenIterator.next();
-      } else {
-        throw new IllegalStateException("Tree has no non-null children " + getKind());
+    int childCount = childCount();
+    for (int i = 0; i < childCount; i++) {
+      Tree child = child(i);
+      if (child != null) {
+        return ((CssTree) child).getFirstToken();
       }
-    } while (child == null);
-    return ((CssTree) child).getFirstToken();
+    }
+    throw new IllegalStateException("Tree has no non-null children " + getKind());
+  }
+
+  protected IndexOutOfBoundsException noChildAt(int index) {
+    return new IndexOutOfBoundsException("Index: " + index + ", child count of " + getKind() + ": " + childCount());
   }
+
+  private static class ChildrenIterator implements Iterator<Tree> {
+
+    private final CssTree tree;
+    private final int childCount;
+    private int index = 0;
+
+    ChildrenIterator(CssTree tree) {
+      this.tree = tree;
+      this.childCount = tree.childCount();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < childCount;
+    }
+
+    @Override
+    public Tree next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return tree.child(index++);
+    }
+
+  }
+
 }
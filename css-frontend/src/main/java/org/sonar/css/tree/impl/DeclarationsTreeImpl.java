@@ -20,9 +20,7 @@
 package org.sonar.css.tree.impl;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.sonar.plugins.css.api.tree.*;
@@ -39,11 +37,12 @@ public class DeclarationsTreeImpl extends CssTree implements DeclarationsTree {
 
   public DeclarationsTreeImpl(@Nullable SyntaxList<DeclarationTree> declarationSyntaxList) {
     this.declarationSyntaxList = declarationSyntaxList;
-    this.allDeclarations = buildDeclarationList();
-    this.variableDeclarations = buildVariableDeclarationList();
-    this.propertyDeclarations = buildPropertyDeclarationList();
-    this.emptyDeclarations = buildEmptyDeclarationList();
-    this.allTrees = buildAllTreeList();
+    this.allDeclarations = new ArrayList<>();
+    this.variableDeclarations = new ArrayList<>();
+    this.propertyDeclarations = new ArrayList<>();
+    this.emptyDeclarations = new ArrayList<>();
+    this.allTrees = new ArrayList<>();
+    indexDeclarations();
   }
 
   @Override
@@ -52,8 +51,13 @@ public class DeclarationsTreeImpl extends CssTree implements DeclarationsTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return allTrees.iterator();
+  public int childCount() {
+    return allTrees.size();
+  }
+
+  @Override
+  public Tree child(int index) {
+    return allTrees.get(index);
   }
 
   @Override
@@ -87,83 +91,30 @@ public class DeclarationsTreeImpl extends CssTree implements DeclarationsTree {
     return declarationSyntaxList;
   }
 
-  private List<VariableDeclarationTree> buildVariableDeclarationList() {
-    return allDeclarations.stream()
-      .filter(tree -> tree instanceof VariableDeclarationTree)
-      .map(tree -> (VariableDeclarationTree) tree)
-      .collect(Collectors.toList());
-  }
-
-  private List<PropertyDeclarationTree> buildPropertyDeclarationList() {
-    return allDeclarations.stream().filter(tree -> tree instanceof PropertyDeclarationTree)
-      .map(tree -> (PropertyDeclarationTree) tree)
-      .collect(Collectors.toList());
-  }
-
-  private List<Tree> buildAllTreeList() {
-    List<Tree> all = new ArrayList<>();
-
-    if (declarationSyntaxList != null) {
-      if (declarationSyntaxList.element() != null) {
-        all.add(declarationSyntaxList.element());
-      }
-      if (declarationSyntaxList.separatorToken() != null) {
-        all.add(declarationSyntaxList.separatorToken());
-      }
-
-      SyntaxList<Tree> nextSyntaxList = declarationSyntaxList.next();
-      while (nextSyntaxList != null) {
-        all.add(nextSyntaxList.element());
-        if (nextSyntaxList.separatorToken() != null) {
-          all.add(nextSyntaxList.separatorToken());
+  /**
+   * Sorts the declarations by kind in a single walk of the syntax list.
+   */
+  private void indexDeclarations() {
+    SyntaxList<DeclarationTree> syntaxList = declarationSyntaxList;
+    while (syntaxList != null) {
+      DeclarationTree declaration = syntaxList.element();
+      if (declaration != null) {
+        allTrees.add(declaration);
+        allDeclarations.add(declaration);
+        Kind kind = ((CssTree) declaration).getKind();
+        if (kind == Kind.PROPERTY_DECLARATION) {
+          propertyDeclarations.add((PropertyDeclarationTree) declaration);
+        } else if (kind == Kind.VARIABLE_DECLARATION) {
+          variableDeclarations.add((VariableDeclarationTree) declaration);
         }
-        nextSyntaxList = nextSyntaxList.next();
+      } else {
+        emptyDeclarations.add(syntaxList.separatorToken());
       }
-    }
-
-    return all;
-  }
-
-  private List<DeclarationTree> buildDeclarationList() {
-    List<DeclarationTree> declarationList = new ArrayList<>();
-
-    if (declarationSyntaxList != null) {
-
-      if (declarationSyntaxList.element() != null) {
-        declarationList.add(declarationSyntaxList.element());
-      }
-
-      SyntaxList<DeclarationTree> nextSyntaxList = declarationSyntaxList.next();
-      while (nextSyntaxList != null) {
-        if (nextSyntaxList.element() != null) {
-          declarationList.add(nextSyntaxList.element());
-        }
-        nextSyntaxList = nextSyntaxList.next();
+      if (syntaxList.separatorToken() != null) {
+        allTrees.add(syntaxList.separatorToken());
       }
+      syntaxList = syntaxList.next();
     }
-
-    return declarationList;
-  }
-
-  private List<SyntaxToken> buildEmptyDeclarationList() {
-    List<SyntaxToken> emptyDeclarationList = new ArrayList<>();
-
-    if (declarationSyntaxList != null) {
-
-      if (declarationSyntaxList.element() == null) {
-        emptyDeclarationList.add(declarationSyntaxList.separatorToken());
-      }
-
-      SyntaxList<DeclarationTree> nextSyntaxList = declarationSyntaxList.next();
-      while (nextSyntaxList != null) {
-        if (nextSyntaxList.element() == null) {
-          emptyDeclarationList.add(nextSyntaxList.separatorToken());
-        }
-        nextSyntaxList = nextSyntaxList.next();
-      }
-    }
-
-    return emptyDeclarationList;
   }
 
 }
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.DimensionTree;
 import org.sonar.plugins.css.api.tree.NumberTree;
 import org.sonar.plugins.css.api.tree.Tree;
@@ -45,8 +41,20 @@ public class DimensionTreeImpl extends CssTree implements DimensionTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(value, unit);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return value;
+      case 1:
+        return unit;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
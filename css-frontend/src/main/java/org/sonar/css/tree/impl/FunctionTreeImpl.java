@@ -19,11 +19,7 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import javax.annotation.Nullable;
 
 import org.sonar.css.model.Vendor;
@@ -60,15 +56,26 @@ public class FunctionTreeImpl extends CssTree implements FunctionTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    if (parameterElements != null) {
-      return Iterators.concat(
-        Iterators.forArray(function, openParenthesis),
-        parameterElements.iterator(),
-        Iterators.singletonIterator(closeParenthesis));
-    } else {
-      return Iterators.forArray(function, openParenthesis, closeParenthesis);
+  public int childCount() {
+    return parameterElements == null ? 3 : parameterElements.size() + 3;
+  }
+
+  @Override
+  public Tree child(int index) {
+    int count = childCount();
+    if (index < 0 || index >= count) {
+      throw noChildAt(index);
     }
+    if (index == 0) {
+      return function;
+    }
+    if (index == 1) {
+      return openParenthesis;
+    }
+    if (index == count - 1) {
+      return closeParenthesis;
+    }
+    return parameterElements.get(index - 2);
   }
 
   @Override
@@ -112,12 +119,7 @@ public class FunctionTreeImpl extends CssTree implements FunctionTree {
   }
 
   private Vendor setVendor() {
-    for (Vendor v : Vendor.values()) {
-      if (function.text().toLowerCase(Locale.ENGLISH).startsWith(v.getPrefix())) {
-        return v;
-      }
-    }
-    return null;
+    return Vendor.fromPrefixOf(function.text());
   }
 
   private StandardFunction setStandardFunction() {
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.HashTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
 import org.sonar.plugins.css.api.tree.Tree;
@@ -44,8 +40,20 @@ public class HashTreeImpl extends CssTree implements HashTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(hashSymbol, value);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return hashSymbol;
+      case 1:
+        return value;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.IdSelectorTree;
 import org.sonar.plugins.css.api.tree.IdentifierTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
@@ -45,8 +41,20 @@ public class IdSelectorTreeImpl extends CssTree implements IdSelectorTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(hashSymbol, identifier);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return hashSymbol;
+      case 1:
+        return identifier;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -19,8 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import java.util.Locale;
-
 import org.sonar.css.model.Vendor;
 import org.sonar.plugins.css.api.tree.IdentifierTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
@@ -56,12 +54,7 @@ public class IdentifierTreeImpl extends LiteralTreeImpl implements IdentifierTre
   }
 
   private Vendor setVendorPrefix() {
-    for (Vendor v : Vendor.values()) {
-      if (text().toLowerCase(Locale.ENGLISH).startsWith(v.getPrefix())) {
-        return v;
-      }
-    }
-    return null;
+    return Vendor.fromPrefixOf(text());
   }
 
 }
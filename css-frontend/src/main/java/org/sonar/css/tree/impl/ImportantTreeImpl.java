@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.ImportantTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
 import org.sonar.plugins.css.api.tree.Tree;
@@ -44,8 +40,20 @@ public class ImportantTreeImpl extends CssTree implements ImportantTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(exclamationMark, importantKeyWord);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return exclamationMark;
+      case 1:
+        return importantKeyWord;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -20,7 +20,6 @@
 package org.sonar.css.tree.impl;
 
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 import org.sonar.plugins.css.api.tree.SyntaxSpacing;
@@ -44,8 +43,13 @@ public class InternalSyntaxSpacing extends CssTree implements SyntaxSpacing {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    throw new UnsupportedOperationException();
+  public int childCount() {
+    return 0;
+  }
+
+  @Override
+  public Tree child(int index) {
+    throw noChildAt(index);
   }
 
   @Override
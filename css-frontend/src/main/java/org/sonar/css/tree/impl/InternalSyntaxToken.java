@@ -19,7 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import java.util.Iterator;
 import java.util.List;
 
 import org.sonar.plugins.css.api.tree.SyntaxToken;
@@ -34,8 +33,8 @@ public class InternalSyntaxToken extends CssTree implements SyntaxToken {
   private final String value;
   private final boolean isEOF;
   private final boolean isBOM;
-  private int endLine;
-  private int endColumn;
+  private final int endLine;
+  private final int endColumn;
   private final List<SyntaxTrivia> trivias;
 
   public InternalSyntaxToken(int line, int column, String value, List<SyntaxTrivia> trivias, boolean isEOF, boolean isBOM) {
@@ -45,17 +44,10 @@ public class InternalSyntaxToken extends CssTree implements SyntaxToken {
     this.column = column;
     this.isEOF = isEOF;
     this.isBOM = isBOM;
-    calculateEndOffsets();
-  }
-
-  private void calculateEndOffsets() {
-    String[] lines = value.split("\r\n|\n|\r", -1);
-    endColumn = column + value.length();
-    endLine = line + lines.length - 1;
 
-    if (endLine != line) {
-      endColumn = lines[lines.length - 1].length();
-    }
+    int lineTerminators = LineTerminators.count(value);
+    this.endLine = line + lineTerminators;
+    this.endColumn = lineTerminators == 0 ? column + value.length() : value.length() - LineTerminators.lastLineStart(value);
   }
 
   @Override
@@ -97,8 +89,13 @@ public class InternalSyntaxToken extends CssTree implements SyntaxToken {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    throw new UnsupportedOperationException();
+  public int childCount() {
+    return 0;
+  }
+
+  @Override
+  public Tree child(int index) {
+    throw noChildAt(index);
   }
 
   @Override
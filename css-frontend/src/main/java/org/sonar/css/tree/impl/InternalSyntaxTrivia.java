@@ -20,7 +20,6 @@
 package org.sonar.css.tree.impl;
 
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 import org.sonar.plugins.css.api.tree.SyntaxToken;
@@ -32,25 +31,19 @@ public class InternalSyntaxTrivia extends CssTree implements SyntaxTrivia {
 
   private final String comment;
   private final int column;
-  private int startLine;
-  private int endLine;
-  private int endColumn;
+  private final int startLine;
+  private final int endLine;
+  private final int endColumn;
+  private CommentScan commentScan;
 
   public InternalSyntaxTrivia(String comment, int startLine, int column) {
     this.comment = comment;
     this.startLine = startLine;
     this.column = column;
-    calculateEndOffsets();
-  }
-
-  private void calculateEndOffsets() {
-    String[] lines = comment.split("\r\n|\n|\r", -1);
-    endColumn = column + comment.length();
-    endLine = startLine + lines.length - 1;
 
-    if (endLine != startLine) {
-      endColumn = lines[lines.length - 1].length();
-    }
+    int lineTerminators = LineTerminators.count(comment);
+    this.endLine = startLine + lineTerminators;
+    this.endColumn = lineTerminators == 0 ? column + comment.length() : comment.length() - LineTerminators.lastLineStart(comment);
   }
 
   @Override
@@ -68,6 +61,19 @@ public class InternalSyntaxTrivia extends CssTree implements SyntaxTrivia {
     return comment;
   }
 
+  /**
+   * @return the scan of this comment, computed on first call and shared by all the visitors of the file. The scan
+   * is immutable, so a scan computed concurrently by another thread is as good as this one.
+   */
+  public CommentScan commentScan() {
+    CommentScan scan = commentScan;
+    if (scan == null) {
+      scan = CommentScan.of(comment, startLine);
+      commentScan = scan;
+    }
+    return scan;
+  }
+
   @Override
   public List<SyntaxTrivia> trivias() {
     return Collections.emptyList();
@@ -94,8 +100,13 @@ public class InternalSyntaxTrivia extends CssTree implements SyntaxTrivia {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    throw new UnsupportedOperationException();
+  public int childCount() {
+    return 0;
+  }
+
+  @Override
+  public Tree child(int index) {
+    throw noChildAt(index);
   }
 
   public static SyntaxTrivia create(String comment, int startLine, int column) {
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.KeyframesSelectorTree;
 import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitor;
@@ -41,8 +37,16 @@ public class KeyframesSelectorTreeImpl extends CssTree implements KeyframesSelec
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.singletonIterator(selector);
+  public int childCount() {
+    return 1;
+  }
+
+  @Override
+  public Tree child(int index) {
+    if (index != 0) {
+      throw noChildAt(index);
+    }
+    return selector;
   }
 
   @Override
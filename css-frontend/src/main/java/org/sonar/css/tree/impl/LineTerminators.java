@@ -17,42 +17,44 @@
  * along with this program; if not, write to the Free Software Foundation,
  * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
  */
-package org.sonar.css.visitors.metrics;
+package org.sonar.css.tree.impl;
 
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Sets;
-
-import java.util.List;
-import java.util.Set;
-
-import org.sonar.css.tree.impl.InternalSyntaxToken;
-import org.sonar.plugins.css.api.tree.Tree;
-import org.sonar.plugins.css.api.visitors.SubscriptionVisitor;
-
-public class LinesOfCodeVisitor extends SubscriptionVisitor {
-
-  private Set<Integer> linesOfCode = Sets.newHashSet();
-
-  public LinesOfCodeVisitor(Tree tree) {
-    linesOfCode.clear();
-    scanTree(tree);
-  }
+/**
+ * Locates the line terminators ("\r\n", "\n" or "\r") of token and trivia values without any allocation.
+ */
+final class LineTerminators {
 
-  @Override
-  public List<Tree.Kind> nodesToVisit() {
-    return ImmutableList.of(Tree.Kind.TOKEN);
+  private LineTerminators() {
   }
 
-  @Override
-  public void visitNode(Tree tree) {
-    InternalSyntaxToken token = (InternalSyntaxToken) tree;
-    if (!token.isEOF() && !token.isBOM()) {
-      linesOfCode.add(token.line());
+  static int count(String text) {
+    int count = 0;
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (c == '\n') {
+        count++;
+      } else if (c == '\r') {
+        count++;
+        if (i + 1 < length && text.charAt(i + 1) == '\n') {
+          i++;
+        }
+      }
     }
+    return count;
   }
 
-  public int getNumberOfLinesOfCode() {
-    return linesOfCode.size();
+  /**
+   * @return the index of the first character after the last line terminator, or 0 if there is no line terminator
+   */
+  static int lastLineStart(String text) {
+    for (int i = text.length() - 1; i >= 0; i--) {
+      char c = text.charAt(i);
+      if (c == '\n' || c == '\r') {
+        return i + 1;
+      }
+    }
+    return 0;
   }
 
 }
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.LiteralTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
 import org.sonar.plugins.css.api.tree.Tree;
@@ -38,8 +34,16 @@ public abstract class LiteralTreeImpl extends CssTree implements LiteralTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.singletonIterator(value);
+  public int childCount() {
+    return 1;
+  }
+
+  @Override
+  public Tree child(int index) {
+    if (index != 0) {
+      throw noChildAt(index);
+    }
+    return value;
   }
 
   @Override
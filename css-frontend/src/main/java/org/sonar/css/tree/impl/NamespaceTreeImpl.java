@@ -19,9 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import javax.annotation.Nullable;
 
 import org.sonar.plugins.css.api.tree.IdentifierTree;
@@ -46,8 +43,20 @@ public class NamespaceTreeImpl extends CssTree implements NamespaceTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(namespace, pipe);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return namespace;
+      case 1:
+        return pipe;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -23,10 +23,70 @@ import org.sonar.plugins.css.api.tree.NumberTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
 import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitor;
 
+/**
+ * The number is parsed once, when the tree is built.
+ */
 public class NumberTreeImpl extends LiteralTreeImpl implements NumberTree {
 
+  private static final int MAX_EXACT_DIGITS = 15;
+  private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+  private final double doubleValue;
+  private final long integerValue;
+  private final boolean zero;
+  private final boolean integer;
+
   public NumberTreeImpl(SyntaxToken number) {
     super(number);
+    String text = number.text();
+
+    int index = 0;
+    boolean negative = false;
+    if (index < text.length() && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+      negative = text.charAt(index) == '-';
+      index++;
+    }
+    long mantissa = 0;
+    int significantDigits = 0;
+    int integerDigits = 0;
+    int fractionDigits = 0;
+    boolean hasDecimalPoint = false;
+    boolean allZeros = true;
+    boolean wellFormed = true;
+    for (; index < text.length() && wellFormed; index++) {
+      char c = text.charAt(index);
+      if (c >= '0' && c <= '9') {
+        allZeros &= c == '0';
+        if (mantissa != 0 || c != '0') {
+          significantDigits++;
+        }
+        if (significantDigits <= MAX_EXACT_DIGITS) {
+          mantissa = mantissa * 10 + (c - '0');
+        }
+        if (hasDecimalPoint) {
+          fractionDigits++;
+        } else {
+          integerDigits++;
+        }
+      } else if (c == '.' && !hasDecimalPoint) {
+        hasDecimalPoint = true;
+      } else {
+        wellFormed = false;
+      }
+    }
+    // [+-]?[0-9]+ or [+-]?[0-9]*\.[0-9]+
+    wellFormed &= hasDecimalPoint ? fractionDigits > 0 : integerDigits > 0;
+
+    if (wellFormed && significantDigits <= MAX_EXACT_DIGITS && fractionDigits < POWERS_OF_TEN.length) {
+      // Both the mantissa and the power of ten are exactly represented as doubles: the division is correctly rounded
+      double absoluteValue = mantissa / POWERS_OF_TEN[fractionDigits];
+      doubleValue = negative ? -absoluteValue : absoluteValue;
+    } else {
+      doubleValue = Double.valueOf(text);
+    }
+    integerValue = Math.round(doubleValue);
+    zero = wellFormed && allZeros;
+    integer = wellFormed && !hasDecimalPoint;
   }
 
   @Override
@@ -41,17 +101,17 @@ public class NumberTreeImpl extends LiteralTreeImpl implements NumberTree {
 
   @Override
   public double doubleValue() {
-    return Double.valueOf(text());
+    return doubleValue;
   }
 
   @Override
   public long integerValue() {
-    return Math.round(Double.valueOf(text()));
+    return integerValue;
   }
 
   @Override
   public boolean isZero() {
-    return text().matches("([\\-\\+])?[0]*(\\.[0]+)?");
+    return zero;
   }
 
   @Override
@@ -61,12 +121,12 @@ public class NumberTreeImpl extends LiteralTreeImpl implements NumberTree {
 
   @Override
   public boolean isInteger() {
-    return text().matches("[\\-\\+]?[0-9]+");
+    return integer;
   }
 
   @Override
   public boolean isPositive() {
-    return doubleValue() >= 0;
+    return doubleValue >= 0;
   }
 
 }
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.NumberTree;
 import org.sonar.plugins.css.api.tree.PercentageTree;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
@@ -45,8 +41,20 @@ public class PercentageTreeImpl extends CssTree implements PercentageTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(value, percentageSymbol);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return value;
+      case 1:
+        return percentageSymbol;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
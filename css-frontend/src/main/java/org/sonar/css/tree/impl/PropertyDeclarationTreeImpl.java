@@ -19,13 +19,13 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import java.util.List;
+import javax.annotation.Nullable;
 
 import org.sonar.css.model.function.standard.Expression;
 import org.sonar.css.model.function.standard.Var;
+import org.sonar.css.model.property.StandardProperty;
+import org.sonar.css.model.property.validator.PropertyValueValidationCache;
 import org.sonar.css.model.property.validator.Validator;
 import org.sonar.css.model.property.validator.ValueElementValidator;
 import org.sonar.css.model.property.validator.ValueValidator;
@@ -36,9 +36,18 @@ import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitor;
 
 public class PropertyDeclarationTreeImpl extends CssTree implements PropertyDeclarationTree {
 
+  private static final ValueElementValidator CSS_WIDE_KEYWORD_VALIDATOR = new IdentifierValidator("inherit", "initial", "unset");
+  private static final ValueElementValidator VARIABLE_FUNCTION_VALIDATOR = new FunctionValidator(Var.class, Expression.class);
+
+  /**
+   * Longer values are validated without going through {@link PropertyValueValidationCache}: they hardly ever repeat.
+   */
+  private static final int MAXIMUM_CACHED_VALUE_LENGTH = 200;
+
   private final PropertyTree property;
   private final SyntaxToken colon;
   private final ValueTree value;
+  private Boolean valid;
 
   public PropertyDeclarationTreeImpl(PropertyTree property, SyntaxToken colon, ValueTree value) {
     this.property = property;
@@ -52,8 +61,22 @@ public class PropertyDeclarationTreeImpl extends CssTree implements PropertyDecl
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(property, colon, value);
+  public int childCount() {
+    return 3;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return property;
+      case 1:
+        return colon;
+      case 2:
+        return value;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -78,7 +101,26 @@ public class PropertyDeclarationTreeImpl extends CssTree implements PropertyDecl
 
   @Override
   public boolean isValid() {
-    List<Validator> validators = property.standardProperty().getValidators();
+    if (valid == null) {
+      valid = computeValidity();
+    }
+    return valid;
+  }
+
+  private boolean computeValidity() {
+    StandardProperty standardProperty = property.standardProperty();
+    if (standardProperty.getValidators().isEmpty()) {
+      return true;
+    }
+    String normalizedValue = normalizedValue();
+    if (normalizedValue == null) {
+      return validate();
+    }
+    return PropertyValueValidationCache.isValid(standardProperty, normalizedValue, this::validate);
+  }
+
+  private boolean validate() {
+    List<Validator> validators = property.standardProperty().getEnabledValidators();
     List<Tree> valueElements = value.sanitizedValueElements();
     int numberOfValueElements = valueElements.size();
 
@@ -105,12 +147,44 @@ public class PropertyDeclarationTreeImpl extends CssTree implements PropertyDecl
       }
     }
 
-    return new IdentifierValidator("inherit", "initial", "unset").isValid(valueElements.get(0))
-      || new FunctionValidator(Var.class, Expression.class).isValid(valueElements.get(0));
+    return CSS_WIDE_KEYWORD_VALIDATOR.isValid(valueElements.get(0))
+      || VARIABLE_FUNCTION_VALIDATOR.isValid(valueElements.get(0));
+  }
+
+  /**
+   * @return the value tokens separated by a single space where they are separated by whitespaces or comments,
+   * or {@code null} if the value is longer than {@link #MAXIMUM_CACHED_VALUE_LENGTH}
+   */
+  @Nullable
+  private String normalizedValue() {
+    StringBuilder normalizedValue = new StringBuilder();
+    return appendTokens(value, normalizedValue, new SyntaxToken[1]) ? normalizedValue.toString() : null;
+  }
+
+  private static boolean appendTokens(Tree tree, StringBuilder normalizedValue, SyntaxToken[] previousToken) {
+    if (tree instanceof SyntaxToken) {
+      SyntaxToken token = (SyntaxToken) tree;
+      if (previousToken[0] != null
+        && (previousToken[0].endLine() != token.line() || previousToken[0].endColumn() != token.column())) {
+        normalizedValue.append(' ');
+      }
+      normalizedValue.append(token.text());
+      previousToken[0] = token;
+      return normalizedValue.length() <= MAXIMUM_CACHED_VALUE_LENGTH;
+    }
+    CssTree cssTree = (CssTree) tree;
+    int childCount = cssTree.childCount();
+    for (int i = 0; i < childCount; i++) {
+      Tree child = cssTree.child(i);
+      if (child != null && !appendTokens(child, normalizedValue, previousToken)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   private boolean hasOnlyPropertyValueElementValidators() {
-    for (Validator validator : property.standardProperty().getValidators()) {
+    for (Validator validator : property.standardProperty().getEnabledValidators()) {
       if (!(validator instanceof ValueElementValidator)) {
         return false;
       }
@@ -19,11 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-import java.util.Locale;
-
 import org.sonar.css.model.Vendor;
 import org.sonar.css.model.property.StandardProperty;
 import org.sonar.css.model.property.StandardPropertyFactory;
@@ -52,8 +47,16 @@ public class PropertyTreeImpl extends CssTree implements PropertyTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.singletonIterator(property);
+  public int childCount() {
+    return 1;
+  }
+
+  @Override
+  public Tree child(int index) {
+    if (index != 0) {
+      throw noChildAt(index);
+    }
+    return property;
   }
 
   @Override
@@ -105,12 +108,7 @@ public class PropertyTreeImpl extends CssTree implements PropertyTree {
   }
 
   private Vendor setVendorPrefix() {
-    for (Vendor v : Vendor.values()) {
-      if (property.text().toLowerCase(Locale.ENGLISH).startsWith(v.getPrefix())) {
-        return v;
-      }
-    }
-    return null;
+    return Vendor.fromPrefixOf(property.text());
   }
 
   private StandardProperty setStandardProperty() {
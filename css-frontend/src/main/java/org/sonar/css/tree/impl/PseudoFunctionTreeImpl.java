@@ -19,11 +19,7 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import javax.annotation.Nullable;
 
 import org.sonar.css.model.Vendor;
@@ -63,15 +59,29 @@ public class PseudoFunctionTreeImpl extends CssTree implements PseudoFunctionTre
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    if (parameterElements != null) {
-      return Iterators.concat(
-        Iterators.forArray(prefix, function, openParenthesis),
-        parameterElements.iterator(),
-        Iterators.singletonIterator(closeParenthesis));
-    } else {
-      return Iterators.forArray(prefix, function, openParenthesis, closeParenthesis);
+  public int childCount() {
+    return parameterElements == null ? 4 : parameterElements.size() + 4;
+  }
+
+  @Override
+  public Tree child(int index) {
+    int count = childCount();
+    if (index < 0 || index >= count) {
+      throw noChildAt(index);
+    }
+    if (index == 0) {
+      return prefix;
     }
+    if (index == 1) {
+      return function;
+    }
+    if (index == 2) {
+      return openParenthesis;
+    }
+    if (index == count - 1) {
+      return closeParenthesis;
+    }
+    return parameterElements.get(index - 3);
   }
 
   @Override
@@ -120,12 +130,7 @@ public class PseudoFunctionTreeImpl extends CssTree implements PseudoFunctionTre
   }
 
   private Vendor setVendor() {
-    for (Vendor v : Vendor.values()) {
-      if (function.text().toLowerCase(Locale.ENGLISH).startsWith(v.getPrefix())) {
-        return v;
-      }
-    }
-    return null;
+    return Vendor.fromPrefixOf(function.text());
   }
 
   private StandardPseudoFunction setStandardFunction() {
@@ -19,11 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-import java.util.Locale;
-
 import org.sonar.css.model.Vendor;
 import org.sonar.css.model.pseudo.pseudoidentifier.StandardPseudoIdentifier;
 import org.sonar.css.model.pseudo.pseudoidentifier.StandardPseudoIdentifierFactory;
@@ -54,8 +49,20 @@ public class PseudoIdentifierTreeImpl extends CssTree implements PseudoIdentifie
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(prefix, identifier);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return prefix;
+      case 1:
+        return identifier;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -89,12 +96,7 @@ public class PseudoIdentifierTreeImpl extends CssTree implements PseudoIdentifie
   }
 
   private Vendor setVendor() {
-    for (Vendor v : Vendor.values()) {
-      if (identifier.text().toLowerCase(Locale.ENGLISH).startsWith(v.getPrefix())) {
-        return v;
-      }
-    }
-    return null;
+    return Vendor.fromPrefixOf(identifier.text());
   }
 
   private StandardPseudoIdentifier setStandardPseudoIdentifier() {
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.PseudoComponentTree;
 import org.sonar.plugins.css.api.tree.PseudoSelectorTree;
 import org.sonar.plugins.css.api.tree.Tree;
@@ -42,8 +38,16 @@ public class PseudoSelectorTreeImpl extends CssTree implements PseudoSelectorTre
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.singletonIterator(element);
+  public int childCount() {
+    return 1;
+  }
+
+  @Override
+  public Tree child(int index) {
+    if (index != 0) {
+      throw noChildAt(index);
+    }
+    return element;
   }
 
   @Override
@@ -19,9 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import javax.annotation.Nullable;
 
 import org.sonar.plugins.css.api.tree.DeclarationsTree;
@@ -48,8 +45,22 @@ public class RulesetBlockTreeImpl extends CssTree implements RulesetBlockTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(openCurlyBrace, declarations, closeCurlyBrace);
+  public int childCount() {
+    return 3;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return openCurlyBrace;
+      case 1:
+        return declarations;
+      case 2:
+        return closeCurlyBrace;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -19,9 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import javax.annotation.Nullable;
 
 import org.sonar.plugins.css.api.tree.RulesetBlockTree;
@@ -46,8 +43,20 @@ public class RulesetTreeImpl extends CssTree implements RulesetTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(selectors, block);
+  public int childCount() {
+    return 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return selectors;
+      case 1:
+        return block;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -20,7 +20,6 @@
 package org.sonar.css.tree.impl;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import javax.annotation.Nullable;
 
@@ -47,8 +46,13 @@ public class SelectorsTreeImpl extends CssTree implements SelectorsTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return allTrees.iterator();
+  public int childCount() {
+    return allTrees.size();
+  }
+
+  @Override
+  public Tree child(int index) {
+    return allTrees.get(index);
   }
 
   @Override
@@ -19,10 +19,9 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -35,12 +34,14 @@ public class StyleSheetTreeImpl extends CssTree implements StyleSheetTree {
   private final SyntaxToken byteOrderMark;
   private final SyntaxToken eof;
   private final List<StatementTree> statements;
+  private final List<SyntaxToken> tokens;
   private List<AtRuleTree> atRules;
   private List<RulesetTree> rulesets;
 
-  public StyleSheetTreeImpl(@Nullable SyntaxToken byteOrderMark, @Nullable List<StatementTree> statements, SyntaxToken eof) {
+  public StyleSheetTreeImpl(@Nullable SyntaxToken byteOrderMark, @Nullable List<StatementTree> statements, SyntaxToken eof, SyntaxToken[] tokens) {
     this.byteOrderMark = byteOrderMark;
     this.eof = eof;
+    this.tokens = Collections.unmodifiableList(Arrays.asList(tokens));
 
     if (statements != null) {
       this.statements = statements;
@@ -58,15 +59,23 @@ public class StyleSheetTreeImpl extends CssTree implements StyleSheetTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    if (statements != null) {
-      return Iterators.concat(
-        Iterators.singletonIterator(byteOrderMark),
-        statements.iterator(),
-        Iterators.singletonIterator(eof));
-    } else {
-      return Iterators.forArray(byteOrderMark, eof);
+  public int childCount() {
+    return statements == null ? 2 : statements.size() + 2;
+  }
+
+  @Override
+  public Tree child(int index) {
+    int count = childCount();
+    if (index < 0 || index >= count) {
+      throw noChildAt(index);
     }
+    if (index == 0) {
+      return byteOrderMark;
+    }
+    if (index == count - 1) {
+      return eof;
+    }
+    return statements.get(index - 1);
   }
 
   @Override
@@ -89,6 +98,11 @@ public class StyleSheetTreeImpl extends CssTree implements StyleSheetTree {
     return atRules;
   }
 
+  @Override
+  public List<SyntaxToken> tokens() {
+    return tokens;
+  }
+
   @Override
   public void accept(DoubleDispatchVisitor visitor) {
     visitor.visitStyleSheet(this);
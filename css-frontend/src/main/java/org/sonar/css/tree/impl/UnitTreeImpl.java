@@ -19,14 +19,20 @@
  */
 package org.sonar.css.tree.impl;
 
+import javax.annotation.Nullable;
+
+import org.sonar.css.model.Unit;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
 import org.sonar.plugins.css.api.tree.UnitTree;
 import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitor;
 
 public class UnitTreeImpl extends LiteralTreeImpl implements UnitTree {
 
+  private final Unit standardUnit;
+
   public UnitTreeImpl(SyntaxToken unit) {
     super(unit);
+    standardUnit = Unit.fromText(unit.text());
   }
 
   @Override
@@ -39,4 +45,10 @@ public class UnitTreeImpl extends LiteralTreeImpl implements UnitTree {
     visitor.visitUnit(this);
   }
 
+  @Override
+  @Nullable
+  public Unit standardUnit() {
+    return standardUnit;
+  }
+
 }
@@ -19,9 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
 import javax.annotation.Nullable;
 
 import org.sonar.plugins.css.api.tree.StringTree;
@@ -51,12 +48,16 @@ public class UriContentTreeImpl extends CssTree implements UriContentTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    if (string != null) {
-      return Iterators.singletonIterator(string);
-    } else {
-      return Iterators.singletonIterator(ident);
+  public int childCount() {
+    return 1;
+  }
+
+  @Override
+  public Tree child(int index) {
+    if (index != 0) {
+      throw noChildAt(index);
     }
+    return string != null ? string : ident;
   }
 
   @Override
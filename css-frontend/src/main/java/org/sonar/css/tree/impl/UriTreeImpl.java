@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.SyntaxToken;
 import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.plugins.css.api.tree.UriContentTree;
@@ -49,8 +45,24 @@ public class UriTreeImpl extends CssTree implements UriTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(urlFunction, openParenthesis, uriContent, closeParenthesis);
+  public int childCount() {
+    return 4;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return urlFunction;
+      case 1:
+        return openParenthesis;
+      case 2:
+        return uriContent;
+      case 3:
+        return closeParenthesis;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
@@ -19,20 +19,26 @@
  */
 package org.sonar.css.tree.impl;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.sonar.plugins.css.api.tree.ImportantTree;
 import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.plugins.css.api.tree.ValueTree;
 import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitor;
 
 public class ValueTreeImpl extends CssTree implements ValueTree {
 
+  private static final Map<Class<?>, Kind[]> KINDS_BY_TREE_TYPE = new ConcurrentHashMap<>();
+
   private final List<Tree> allValueElements;
   private final List<Tree> sanitizedValueElements;
+  private volatile Map<Kind, List<Tree>> valueElementsByKind;
 
   public ValueTreeImpl(List<Tree> allValueElements) {
     this.allValueElements = allValueElements;
@@ -45,8 +51,13 @@ public class ValueTreeImpl extends CssTree implements ValueTree {
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return allValueElements.iterator();
+  public int childCount() {
+    return allValueElements.size();
+  }
+
+  @Override
+  public Tree child(int index) {
+    return allValueElements.get(index);
   }
 
   @Override
@@ -65,25 +76,96 @@ public class ValueTreeImpl extends CssTree implements ValueTree {
   }
 
   @Override
+  public List<Tree> valueElementsOfKind(Kind kind) {
+    List<Tree> valueElements = valueElementsByKind().get(kind);
+    return valueElements != null ? valueElements : Collections.emptyList();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
   public <T extends Tree> List<T> valueElementsOfType(Class<T> treeType) {
-    return allValueElements.stream()
-      .filter(e -> treeType.isAssignableFrom(e.getClass()))
-      .map(treeType::cast)
-      .collect(Collectors.toList());
+    if (!treeType.isInterface()) {
+      return filterValueElements(treeType);
+    }
+    Kind[] kinds = kindsOf(treeType);
+    Map<Kind, List<Tree>> index = valueElementsByKind();
+    List<Tree> singleKindValueElements = null;
+    for (Kind kind : kinds) {
+      List<Tree> valueElements = index.get(kind);
+      if (valueElements != null) {
+        if (singleKindValueElements != null) {
+          return filterValueElements(kinds);
+        }
+        singleKindValueElements = valueElements;
+      }
+    }
+    return singleKindValueElements != null ? (List<T>) singleKindValueElements : Collections.emptyList();
   }
 
   @Override
   public <T extends Tree> Optional<T> firstValueElementOfType(Class<T> treeType) {
-    return allValueElements.stream()
-      .filter(e -> treeType.isAssignableFrom(e.getClass()))
-      .map(treeType::cast)
-      .findFirst();
+    List<T> valueElements = valueElementsOfType(treeType);
+    return valueElements.isEmpty() ? Optional.empty() : Optional.of(valueElements.get(0));
+  }
+
+  /**
+   * Index of the value elements by kind, built on first query. Each tree implementation has a single kind,
+   * so a kind maps to a single implementation class.
+   */
+  private Map<Kind, List<Tree>> valueElementsByKind() {
+    Map<Kind, List<Tree>> index = valueElementsByKind;
+    if (index == null) {
+      index = new EnumMap<>(Kind.class);
+      for (Tree valueElement : allValueElements) {
+        index.computeIfAbsent(((CssTree) valueElement).getKind(), k -> new ArrayList<>(2)).add(valueElement);
+      }
+      for (Map.Entry<Kind, List<Tree>> entry : index.entrySet()) {
+        entry.setValue(Collections.unmodifiableList(entry.getValue()));
+      }
+      valueElementsByKind = index;
+    }
+    return index;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T extends Tree> List<T> filterValueElements(Kind[] kinds) {
+    List<T> valueElements = new ArrayList<>();
+    for (Tree valueElement : allValueElements) {
+      Kind valueElementKind = ((CssTree) valueElement).getKind();
+      for (Kind kind : kinds) {
+        if (kind == valueElementKind) {
+          valueElements.add((T) valueElement);
+          break;
+        }
+      }
+    }
+    return Collections.unmodifiableList(valueElements);
+  }
+
+  private <T extends Tree> List<T> filterValueElements(Class<T> treeType) {
+    List<T> valueElements = new ArrayList<>();
+    for (Tree valueElement : allValueElements) {
+      if (treeType.isInstance(valueElement)) {
+        valueElements.add(treeType.cast(valueElement));
+      }
+    }
+    return Collections.unmodifiableList(valueElements);
+  }
+
+  private static Kind[] kindsOf(Class<?> treeType) {
+    return KINDS_BY_TREE_TYPE.computeIfAbsent(treeType, t -> Arrays.stream(Kind.values())
+      .filter(kind -> t.isAssignableFrom(kind.getAssociatedInterface()))
+      .toArray(Kind[]::new));
   }
 
   private List<Tree> buildSanitizedList() {
-    return allValueElements.stream()
-      .filter(e -> !ImportantTree.class.isAssignableFrom(e.getClass()))
-      .collect(Collectors.toList());
+    List<Tree> sanitized = new ArrayList<>(allValueElements.size());
+    for (Tree valueElement : allValueElements) {
+      if (((CssTree) valueElement).getKind() != Kind.IMPORTANT) {
+        sanitized.add(valueElement);
+      }
+    }
+    return sanitized;
   }
 
 }
@@ -19,10 +19,6 @@
  */
 package org.sonar.css.tree.impl;
 
-import com.google.common.collect.Iterators;
-
-import java.util.Iterator;
-
 import org.sonar.plugins.css.api.tree.*;
 import org.sonar.plugins.css.api.visitors.DoubleDispatchVisitor;
 
@@ -44,8 +40,22 @@ public class VariableDeclarationTreeImpl extends CssTree implements VariableDecl
   }
 
   @Override
-  public Iterator<Tree> childrenIterator() {
-    return Iterators.forArray(variable, colon, value);
+  public int childCount() {
+    return 3;
+  }
+
+  @Override
+  public Tree child(int index) {
+    switch (index) {
+      case 0:
+        return variable;
+      case 1:
+        return colon;
+      case 2:
+        return value;
+      default:
+        throw noChildAt(index);
+    }
   }
 
   @Override
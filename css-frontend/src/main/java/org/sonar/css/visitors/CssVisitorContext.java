@@ -21,6 +21,7 @@ package org.sonar.css.visitors;
 
 import java.io.File;
 
+import org.sonar.css.FileContent;
 import org.sonar.css.tree.impl.CssTree;
 import org.sonar.plugins.css.api.visitors.TreeVisitorContext;
 
@@ -28,10 +29,12 @@ public class CssVisitorContext implements TreeVisitorContext {
 
   private final CssTree tree;
   private final File file;
+  private final FileContent fileContent;
 
-  public CssVisitorContext(CssTree tree, File file) {
+  public CssVisitorContext(CssTree tree, File file, FileContent fileContent) {
     this.tree = tree;
     this.file = file;
+    this.fileContent = fileContent;
   }
 
   @Override
@@ -44,4 +47,9 @@ public class CssVisitorContext implements TreeVisitorContext {
     return file;
   }
 
+  @Override
+  public FileContent getFileContent() {
+    return fileContent;
+  }
+
 }
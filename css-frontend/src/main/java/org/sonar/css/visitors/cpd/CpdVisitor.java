@@ -31,10 +31,12 @@ import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.cpd.NewCpdTokens;
 import org.sonar.css.tree.impl.InternalSyntaxToken;
 import org.sonar.plugins.css.api.tree.SyntaxToken;
+import org.sonar.plugins.css.api.tree.SyntaxTrivia;
 import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.plugins.css.api.visitors.SubscriptionVisitor;
+import org.sonar.plugins.css.api.visitors.TokenStreamVisitor;
 
-public class CpdVisitor extends SubscriptionVisitor {
+public class CpdVisitor extends SubscriptionVisitor implements TokenStreamVisitor {
 
   private final FileSystem fileSystem;
   private final SensorContext sensorContext;
@@ -48,7 +50,7 @@ public class CpdVisitor extends SubscriptionVisitor {
 
   @Override
   public List<Tree.Kind> nodesToVisit() {
-    return ImmutableList.of(Tree.Kind.TOKEN);
+    return ImmutableList.of();
   }
 
   @Override
@@ -64,18 +66,22 @@ public class CpdVisitor extends SubscriptionVisitor {
   }
 
   @Override
-  public void visitNode(Tree tree) {
-    if (((InternalSyntaxToken) tree).isEOF()) {
+  public void visitToken(SyntaxToken token) {
+    if (((InternalSyntaxToken) token).isEOF()) {
       return;
     }
 
-    if (((InternalSyntaxToken) tree).isBOM()) {
+    if (((InternalSyntaxToken) token).isBOM()) {
       return;
     }
 
-    SyntaxToken token = (SyntaxToken) tree;
     TextRange range = inputFile.newRange(token.line(), token.column(), token.endLine(), token.endColumn());
     cpdTokens.addToken(range, token.text());
   }
 
+  @Override
+  public void visitComment(SyntaxTrivia comment) {
+    // Comments are not part of the duplication detection.
+  }
+
 }
@@ -21,18 +21,17 @@ package org.sonar.css.visitors.highlighter;
 
 import com.google.common.collect.ImmutableList;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.sonar.api.batch.fs.FileSystem;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.highlighting.NewHighlighting;
 import org.sonar.api.batch.sensor.highlighting.TypeOfText;
-import org.sonar.css.tree.impl.InternalSyntaxToken;
 import org.sonar.plugins.css.api.tree.*;
 import org.sonar.plugins.css.api.visitors.SubscriptionVisitor;
+import org.sonar.plugins.css.api.visitors.TokenStreamVisitor;
 
-public class SyntaxHighlighterVisitor extends SubscriptionVisitor {
+public class SyntaxHighlighterVisitor extends SubscriptionVisitor implements TokenStreamVisitor {
 
   private final SensorContext sensorContext;
   private final FileSystem fileSystem;
@@ -51,8 +50,7 @@ public class SyntaxHighlighterVisitor extends SubscriptionVisitor {
       Tree.Kind.VARIABLE,
       Tree.Kind.AT_KEYWORD,
       Tree.Kind.CLASS_SELECTOR,
-      Tree.Kind.ID_SELECTOR,
-      Tree.Kind.TOKEN);
+      Tree.Kind.ID_SELECTOR);
   }
 
   @Override
@@ -67,50 +65,38 @@ public class SyntaxHighlighterVisitor extends SubscriptionVisitor {
 
   @Override
   public void visitNode(Tree tree) {
-    List<SyntaxToken> tokens = new ArrayList<>();
-    TypeOfText code = null;
-
     if (tree.is(Tree.Kind.STRING)) {
-      tokens.add(((StringTree) tree).value());
-      code = TypeOfText.STRING;
+      highlight(((StringTree) tree).value(), TypeOfText.STRING);
 
     } else if (tree.is(Tree.Kind.PROPERTY)) {
-      tokens.add(((PropertyTree) tree).property().value());
-      code = TypeOfText.CONSTANT;
+      highlight(((PropertyTree) tree).property().value(), TypeOfText.CONSTANT);
 
     } else if (tree.is(Tree.Kind.VARIABLE)) {
-      tokens.add(((VariableTree) tree).variable().value());
-      tokens.add(((VariableTree) tree).variablePrefix());
-      code = TypeOfText.CONSTANT;
+      highlight(((VariableTree) tree).variable().value(), TypeOfText.CONSTANT);
+      highlight(((VariableTree) tree).variablePrefix(), TypeOfText.CONSTANT);
 
     } else if (tree.is(Tree.Kind.CLASS_SELECTOR)) {
-      tokens.add(((ClassSelectorTree) tree).className().value());
-      tokens.add(((ClassSelectorTree) tree).dot());
-      code = TypeOfText.KEYWORD_LIGHT;
+      highlight(((ClassSelectorTree) tree).className().value(), TypeOfText.KEYWORD_LIGHT);
+      highlight(((ClassSelectorTree) tree).dot(), TypeOfText.KEYWORD_LIGHT);
 
     } else if (tree.is(Tree.Kind.ID_SELECTOR)) {
-      tokens.add(((IdSelectorTree) tree).identifier().value());
-      tokens.add(((IdSelectorTree) tree).hashSymbol());
-      code = TypeOfText.KEYWORD_LIGHT;
+      highlight(((IdSelectorTree) tree).identifier().value(), TypeOfText.KEYWORD_LIGHT);
+      highlight(((IdSelectorTree) tree).hashSymbol(), TypeOfText.KEYWORD_LIGHT);
 
     } else if (tree.is(Tree.Kind.AT_KEYWORD)) {
-      tokens.add(((AtKeywordTree) tree).keyword().value());
-      tokens.add(((AtKeywordTree) tree).atSymbol());
-      code = TypeOfText.PREPROCESS_DIRECTIVE;
-
-    } else if (tree.is(Tree.Kind.TOKEN)) {
-      highlightComments((InternalSyntaxToken) tree);
+      highlight(((AtKeywordTree) tree).keyword().value(), TypeOfText.PREPROCESS_DIRECTIVE);
+      highlight(((AtKeywordTree) tree).atSymbol(), TypeOfText.PREPROCESS_DIRECTIVE);
     }
+  }
 
-    for (SyntaxToken token : tokens) {
-      highlight(token, code);
-    }
+  @Override
+  public void visitToken(SyntaxToken token) {
+    // Tokens are highlighted from the tree nodes they belong to.
   }
 
-  private void highlightComments(InternalSyntaxToken token) {
-    for (SyntaxTrivia trivia : token.trivias()) {
-      highlight(trivia, TypeOfText.COMMENT);
-    }
+  @Override
+  public void visitComment(SyntaxTrivia comment) {
+    highlight(comment, TypeOfText.COMMENT);
   }
 
   private void highlight(SyntaxToken token, TypeOfText type) {
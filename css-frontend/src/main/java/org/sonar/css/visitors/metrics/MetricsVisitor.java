@@ -22,7 +22,10 @@ package org.sonar.css.visitors.metrics;
 import com.google.common.collect.ImmutableList;
 
 import java.io.Serializable;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.sonar.api.batch.fs.FileSystem;
 import org.sonar.api.batch.fs.InputFile;
@@ -30,15 +33,33 @@ import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.issue.NoSonarFilter;
 import org.sonar.api.measures.CoreMetrics;
 import org.sonar.api.measures.Metric;
+import org.sonar.css.tree.impl.CommentScan;
+import org.sonar.css.tree.impl.CssTree;
+import org.sonar.css.tree.impl.InternalSyntaxToken;
+import org.sonar.css.tree.impl.InternalSyntaxTrivia;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
+import org.sonar.plugins.css.api.tree.SyntaxTrivia;
 import org.sonar.plugins.css.api.tree.Tree;
 import org.sonar.plugins.css.api.visitors.SubscriptionVisitor;
+import org.sonar.plugins.css.api.visitors.TokenStreamVisitor;
 
-public class MetricsVisitor extends SubscriptionVisitor {
+/**
+ * Computes all the file measures in the traversal that drives this visitor: lines of code, comment lines and
+ * NOSONAR lines from the token stream, statements, complexity and functions from the tree. Lines are collected in
+ * bit sets indexed by line number.
+ */
+public class MetricsVisitor extends SubscriptionVisitor implements TokenStreamVisitor {
 
   private final SensorContext sensorContext;
   private final FileSystem fileSystem;
   private final NoSonarFilter noSonarFilter;
+  private final BitSet linesOfCode = new BitSet();
+  private final BitSet commentLines = new BitSet();
+  private final BitSet noSonarLines = new BitSet();
   private InputFile inputFile;
+  private int statements;
+  private int complexity;
+  private int functions;
 
   public MetricsVisitor(SensorContext sensorContext, NoSonarFilter noSonarFilter) {
     this.sensorContext = sensorContext;
@@ -48,34 +69,81 @@ public class MetricsVisitor extends SubscriptionVisitor {
 
   @Override
   public List<Tree.Kind> nodesToVisit() {
-    return ImmutableList.of(Tree.Kind.STYLESHEET);
+    return ImmutableList.of(
+      Tree.Kind.AT_KEYWORD,
+      Tree.Kind.PROPERTY_DECLARATION,
+      Tree.Kind.VARIABLE_DECLARATION,
+      Tree.Kind.SELECTOR,
+      Tree.Kind.CLASS_SELECTOR,
+      Tree.Kind.ATTRIBUTE_SELECTOR,
+      Tree.Kind.TYPE_SELECTOR,
+      Tree.Kind.ID_SELECTOR,
+      Tree.Kind.PSEUDO_SELECTOR,
+      Tree.Kind.KEYFRAMES_SELECTOR,
+      Tree.Kind.AT_RULE);
   }
 
   @Override
   public void visitFile(Tree tree) {
     this.inputFile = fileSystem.inputFile(fileSystem.predicates().is(getContext().getFile()));
+    linesOfCode.clear();
+    commentLines.clear();
+    noSonarLines.clear();
+    statements = 0;
+    complexity = 0;
+    functions = 0;
   }
 
   @Override
-  public void leaveFile(Tree tree) {
-    LinesOfCodeVisitor linesOfCodeVisitor = new LinesOfCodeVisitor(tree);
-    saveMetricOnFile(CoreMetrics.NCLOC, linesOfCodeVisitor.getNumberOfLinesOfCode());
-
-    CommentLinesVisitor commentLinesVisitor = new CommentLinesVisitor(tree);
-    saveMetricOnFile(CoreMetrics.COMMENT_LINES, commentLinesVisitor.getNumberOfCommentLines());
-    noSonarFilter.noSonarInFile(inputFile, commentLinesVisitor.getNoSonarLines());
+  public void visitNode(Tree tree) {
+    switch (((CssTree) tree).getKind()) {
+      case AT_KEYWORD:
+      case PROPERTY_DECLARATION:
+      case VARIABLE_DECLARATION:
+        statements++;
+        break;
+      case SELECTOR:
+        statements++;
+        functions++;
+        break;
+      case AT_RULE:
+        complexity++;
+        functions++;
+        break;
+      default:
+        complexity++;
+        break;
+    }
+  }
 
-    StatementsVisitor statementsVisitor = new StatementsVisitor(tree);
-    saveMetricOnFile(CoreMetrics.STATEMENTS, statementsVisitor.getNumberOfStatements());
+  @Override
+  public void leaveFile(Tree tree) {
+    saveMetricOnFile(CoreMetrics.NCLOC, linesOfCode.cardinality());
+    saveMetricOnFile(CoreMetrics.COMMENT_LINES, commentLines.cardinality());
+    noSonarFilter.noSonarInFile(inputFile, toSet(noSonarLines));
+    saveMetricOnFile(CoreMetrics.STATEMENTS, statements);
+    saveMetricOnFile(CoreMetrics.COMPLEXITY_IN_FUNCTIONS, complexity);
+    saveMetricOnFile(CoreMetrics.COMPLEXITY, complexity);
+    saveMetricOnFile(CoreMetrics.FUNCTIONS, functions);
+  }
 
-    ComplexityInFunctionsVisitor complexityInFunctionsVisitor = new ComplexityInFunctionsVisitor(tree);
-    saveMetricOnFile(CoreMetrics.COMPLEXITY_IN_FUNCTIONS, complexityInFunctionsVisitor.getComplexityInFunctions());
+  @Override
+  public void visitToken(SyntaxToken token) {
+    InternalSyntaxToken internalToken = (InternalSyntaxToken) token;
+    if (!internalToken.isEOF() && !internalToken.isBOM()) {
+      linesOfCode.set(token.line());
+    }
+  }
 
-    ComplexityVisitor complexityVisitor = new ComplexityVisitor(tree);
-    saveMetricOnFile(CoreMetrics.COMPLEXITY, complexityVisitor.getComplexity());
+  @Override
+  public void visitComment(SyntaxTrivia comment) {
+    CommentScan commentScan = ((InternalSyntaxTrivia) comment).commentScan();
+    commentScan.addCommentLines(commentLines);
+    commentScan.addNoSonarLines(noSonarLines);
+  }
 
-    FunctionsVisitor functionsVisitor = new FunctionsVisitor(tree);
-    saveMetricOnFile(CoreMetrics.FUNCTIONS, functionsVisitor.getNumberOfFunctions());
+  private static Set<Integer> toSet(BitSet lines) {
+    return lines.stream().boxed().collect(Collectors.toSet());
   }
 
   private <T extends Serializable> void saveMetricOnFile(Metric metric, T value) {
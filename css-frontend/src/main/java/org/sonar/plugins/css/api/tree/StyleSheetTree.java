@@ -31,4 +31,10 @@ public interface StyleSheetTree extends Tree {
 
   List<AtRuleTree> atRules();
 
+  /**
+   * @return All the tokens and comments of the file in source order, including the byte order mark and the end of
+   * file tokens. Comments are {@link SyntaxTrivia} and come right before the token they are attached to.
+   */
+  List<SyntaxToken> tokens();
+
 }
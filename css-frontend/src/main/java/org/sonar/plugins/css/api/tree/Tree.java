@@ -69,7 +69,7 @@ public interface Tree {
     AT_KEYWORD(AtKeywordTree.class),
     HASH(HashTree.class),
     UNIT(UnitTree.class),
-    VARIABLE(StringTree.class),
+    VARIABLE(VariableTree.class),
     STRING(StringTree.class),
     IDENTIFIER(IdentifierTree.class),
     NUMBER(NumberTree.class),
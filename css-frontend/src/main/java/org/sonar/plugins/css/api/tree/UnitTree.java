@@ -19,5 +19,16 @@
  */
 package org.sonar.plugins.css.api.tree;
 
+import javax.annotation.Nullable;
+
+import org.sonar.css.model.Unit;
+
 public interface UnitTree extends LiteralTree {
+
+  /**
+   * @return the unit, resolved when the tree is built, or {@code null} if the unit is not a known unit
+   */
+  @Nullable
+  Unit standardUnit();
+
 }
@@ -35,7 +35,14 @@ public interface ValueTree extends Tree {
   List<Tree> valueElements();
 
   /**
-   * @return All value elements of a certain type.
+   * @return All value elements of a certain kind, in source order. The returned list is unmodifiable
+   * and may be shared between calls: copy it before modifying it.
+   */
+  List<Tree> valueElementsOfKind(Tree.Kind kind);
+
+  /**
+   * @return All value elements of a certain type, in source order. The returned list is unmodifiable
+   * and may be shared between calls: copy it before modifying it.
    */
   <T extends Tree> List<T> valueElementsOfType(Class<T> treeType);
 
@@ -21,7 +21,6 @@ package org.sonar.plugins.css.api.visitors;
 
 import com.google.common.base.Preconditions;
 
-import java.util.Iterator;
 import java.util.List;
 import javax.annotation.Nullable;
 
@@ -51,12 +50,11 @@ public abstract class DoubleDispatchVisitor implements TreeVisitor {
   }
 
   protected void scanChildren(Tree tree) {
-    Iterator<Tree> childrenIterator = ((CssTree) tree).childrenIterator();
+    CssTree cssTree = (CssTree) tree;
+    int childCount = cssTree.childCount();
 
-    Tree child;
-
-    while (childrenIterator.hasNext()) {
-      child = childrenIterator.next();
+    for (int i = 0; i < childCount; i++) {
+      Tree child = cssTree.child(i);
       if (child != null) {
         child.accept(this);
       }
@@ -20,9 +20,9 @@
 package org.sonar.plugins.css.api.visitors;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 
 import org.sonar.css.tree.impl.CssTree;
@@ -31,7 +31,9 @@ import org.sonar.plugins.css.api.tree.Tree;
 public abstract class SubscriptionVisitor implements TreeVisitor {
 
   private TreeVisitorContext context;
-  private Collection<Tree.Kind> nodesToVisit;
+  private List<Tree.Kind> subscriptions;
+  private boolean[] subscribedKinds;
+  private boolean[] kindsToEnter;
 
   public abstract List<Tree.Kind> nodesToVisit();
 
@@ -61,15 +63,53 @@ public abstract class SubscriptionVisitor implements TreeVisitor {
   public final void scanTree(TreeVisitorContext context) {
     this.context = context;
     visitFile(context.getTopTree());
+    if (this instanceof TokenStreamVisitor) {
+      TokenStreamScanner.scanTokens(context.getTopTree(), Collections.singletonList((TokenStreamVisitor) this));
+    }
     scanTree(context.getTopTree());
     leaveFile(context.getTopTree());
   }
 
+  /**
+   * Called by {@link SubscriptionVisitorWalker} before walking the tree of a file.
+   */
+  void startFile(TreeVisitorContext context) {
+    this.context = context;
+    visitFile(context.getTopTree());
+  }
+
+  /**
+   * Called by {@link SubscriptionVisitorWalker} after walking the tree of a file.
+   */
+  void endFile() {
+    leaveFile(context.getTopTree());
+  }
+
+  /**
+   * The subtrees that cannot contain any of the subscribed kinds are not walked.
+   */
   public void scanTree(Tree tree) {
-    nodesToVisit = nodesToVisit();
+    subscriptions();
     visit(tree);
   }
 
+  /**
+   * Subscriptions are read once from {@link #nodesToVisit()}, on first use.
+   */
+  List<Tree.Kind> subscriptions() {
+    if (subscriptions == null) {
+      List<Tree.Kind> kinds = ImmutableList.copyOf(nodesToVisit());
+      boolean[] subscribed = new boolean[Tree.Kind.values().length];
+      for (Tree.Kind kind : kinds) {
+        subscribed[kind.ordinal()] = true;
+      }
+      kindsToEnter = SubtreeKinds.kindsToEnter(kinds);
+      subscribedKinds = subscribed;
+      subscriptions = kinds;
+    }
+    return subscriptions;
+  }
+
   private void visit(Tree tree) {
     boolean isSubscribed = isSubscribed(tree);
     if (isSubscribed) {
@@ -81,20 +121,23 @@ public abstract class SubscriptionVisitor implements TreeVisitor {
     }
   }
 
+  /**
+   * Can be overridden to skip some of the trees of the subscribed kinds, but not to visit trees of other kinds.
+   * It is also called by {@link SubscriptionVisitorWalker}.
+   */
   protected boolean isSubscribed(Tree tree) {
-    return nodesToVisit.contains(((CssTree) tree).getKind());
+    return subscribedKinds[((CssTree) tree).getKind().ordinal()];
   }
 
   private void visitChildren(Tree tree) {
     CssTree cssTree = (CssTree) tree;
+    int childCount = cssTree.childCount();
 
-    if (!cssTree.isLeaf()) {
-      for (Iterator<Tree> iter = cssTree.childrenIterator(); iter.hasNext();) {
-        Tree next = iter.next();
+    for (int i = 0; i < childCount; i++) {
+      CssTree child = (CssTree) cssTree.child(i);
 
-        if (next != null) {
-          visit(next);
-        }
+      if (child != null && kindsToEnter[child.getKind().ordinal()]) {
+        visit(child);
       }
     }
   }
@@ -41,6 +41,17 @@ public abstract class SubscriptionVisitorCheck extends SubscriptionVisitor imple
     return issues.getList();
   }
 
+  @Override
+  void startFile(TreeVisitorContext context) {
+    validateParameters();
+    issues.reset();
+    super.startFile(context);
+  }
+
+  List<Issue> fileIssues() {
+    return issues.getList();
+  }
+
   @Override
   public PreciseIssue addPreciseIssue(Tree tree, String message) {
     return issues.addPreciseIssue(getContext().getFile(), tree, message);
@@ -0,0 +1,147 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.plugins.css.api.visitors;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+import org.sonar.css.tree.impl.CssTree;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.issue.Issue;
+
+/**
+ * Drives several {@link SubscriptionVisitor} in a single depth-first traversal of the tree instead of
+ * one traversal per visitor. Subscriptions are read once from {@link SubscriptionVisitor#nodesToVisit()}
+ * when the walker is created, and {@link SubscriptionVisitor#isSubscribed(Tree)} is called for each tree of a
+ * subscribed kind, as in a separate traversal. The subtrees that cannot contain any kind subscribed to by one of
+ * the visitors are not walked. The {@link TokenStreamVisitor}s are fed the tokens of the file in one linear
+ * pass before the walk of the tree.
+ */
+public class SubscriptionVisitorWalker {
+
+  private final List<SubscriptionVisitor> visitors;
+  private final List<TokenStreamVisitor> tokenStreamVisitors = new ArrayList<>();
+  /**
+   * Indexed by the ordinal of a kind, {@code null} when no visitor subscribed to the kind.
+   */
+  private final SubscriptionVisitor[][] subscribersByKind = new SubscriptionVisitor[Tree.Kind.values().length][];
+  private final boolean[] kindsToEnter;
+
+  public SubscriptionVisitorWalker(List<? extends SubscriptionVisitor> visitors) {
+    this.visitors = ImmutableList.copyOf(visitors);
+
+    Set<Tree.Kind> subscribedKinds = EnumSet.noneOf(Tree.Kind.class);
+    for (SubscriptionVisitor visitor : this.visitors) {
+      if (visitor instanceof TokenStreamVisitor) {
+        tokenStreamVisitors.add((TokenStreamVisitor) visitor);
+      }
+      for (Tree.Kind kind : ImmutableSet.copyOf(visitor.subscriptions())) {
+        subscribedKinds.add(kind);
+        subscribersByKind[kind.ordinal()] = append(subscribersByKind[kind.ordinal()], visitor);
+      }
+    }
+    kindsToEnter = SubtreeKinds.kindsToEnter(subscribedKinds);
+  }
+
+  public void scanTree(TreeVisitorContext context) {
+    for (SubscriptionVisitor visitor : visitors) {
+      visitor.startFile(context);
+    }
+
+    if (!tokenStreamVisitors.isEmpty()) {
+      TokenStreamScanner.scanTokens(context.getTopTree(), tokenStreamVisitors);
+    }
+
+    visit(context.getTopTree());
+
+    for (SubscriptionVisitor visitor : visitors) {
+      visitor.endFile();
+    }
+  }
+
+  /**
+   * Scans the tree and returns the issues raised by the visitors that are checks, in the order of the visitors.
+   */
+  public List<Issue> scanFile(TreeVisitorContext context) {
+    scanTree(context);
+
+    List<Issue> issues = new ArrayList<>();
+    for (SubscriptionVisitor visitor : visitors) {
+      if (visitor instanceof SubscriptionVisitorCheck) {
+        issues.addAll(((SubscriptionVisitorCheck) visitor).fileIssues());
+      }
+    }
+    return issues;
+  }
+
+  private void visit(CssTree tree) {
+    SubscriptionVisitor[] subscribers = subscribersByKind[tree.getKind().ordinal()];
+
+    if (subscribers == null) {
+      visitChildren(tree);
+      return;
+    }
+
+    boolean[] subscribed = new boolean[subscribers.length];
+    for (int i = 0; i < subscribers.length; i++) {
+      subscribed[i] = subscribers[i].isSubscribed(tree);
+      if (subscribed[i]) {
+        subscribers[i].visitNode(tree);
+      }
+    }
+
+    visitChildren(tree);
+
+    for (int i = 0; i < subscribers.length; i++) {
+      if (subscribed[i]) {
+        subscribers[i].leaveNode(tree);
+      }
+    }
+  }
+
+  private void visitChildren(CssTree tree) {
+    int childCount = tree.childCount();
+
+    for (int i = 0; i < childCount; i++) {
+      CssTree child = (CssTree) tree.child(i);
+
+      if (child != null && kindsToEnter[child.getKind().ordinal()]) {
+        visit(child);
+      }
+    }
+  }
+
+  private static SubscriptionVisitor[] append(@Nullable SubscriptionVisitor[] subscribers, SubscriptionVisitor visitor) {
+    if (subscribers == null) {
+      return new SubscriptionVisitor[] {visitor};
+    }
+    SubscriptionVisitor[] result = Arrays.copyOf(subscribers, subscribers.length + 1);
+    result[subscribers.length] = visitor;
+    return result;
+  }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.plugins.css.api.visitors;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.sonar.plugins.css.api.tree.Tree.Kind;
+
+import static org.sonar.plugins.css.api.tree.Tree.Kind.*;
+
+/**
+ * Kinds of trees that can be found below a tree of a given kind, as built by the parser. It lets the subscription
+ * visitors skip the subtrees that cannot contain any of the kinds they subscribed to.
+ * <p>
+ * The table of children mirrors the grammar and the children of the tree implementations, and
+ * must be updated with them.
+ */
+final class SubtreeKinds {
+
+  private static final Kind[] KINDS = Kind.values();
+
+  /**
+   * Kinds of the components of a value, function, block or at-rule prelude.
+   */
+  private static final EnumSet<Kind> ANY = EnumSet.of(IDENTIFIER, URI, FUNCTION, UNICODE_RANGE, NUMBER, PERCENTAGE, DIMENSION,
+    PSEUDO_SELECTOR, PARENTHESIS_BLOCK, BRACKET_BLOCK, STRING, HASH, IMPORTANT, DELIMITER, TOKEN);
+
+  private static final Map<Kind, EnumSet<Kind>> CHILDREN = new EnumMap<>(Kind.class);
+
+  static {
+    children(STYLESHEET, AT_RULE, RULESET, TOKEN);
+    children(AT_RULE, anyOr(AT_KEYWORD, AT_RULE_BLOCK));
+    children(RULESET, SELECTORS, RULESET_BLOCK);
+    children(RULESET_BLOCK, DECLARATIONS, TOKEN);
+    children(AT_RULE_BLOCK, DECLARATIONS, AT_RULE, RULESET, TOKEN);
+    children(PARENTHESIS_BLOCK, ANY);
+    children(BRACKET_BLOCK, ANY);
+    children(DECLARATIONS, PROPERTY_DECLARATION, VARIABLE_DECLARATION, TOKEN);
+    children(PROPERTY_DECLARATION, PROPERTY, VALUE, TOKEN);
+    children(VARIABLE_DECLARATION, VARIABLE, VALUE, TOKEN);
+    children(PROPERTY, IDENTIFIER);
+    children(FUNCTION, ANY);
+    children(VALUE, anyOr(RULESET_BLOCK, AT_KEYWORD));
+    children(SELECTORS, SELECTOR, TOKEN);
+    children(SELECTOR, COMPOUND_SELECTOR, SELECTOR_COMBINATOR);
+    children(SELECTOR_COMBINATOR, TOKEN);
+    children(COMPOUND_SELECTOR, KEYFRAMES_SELECTOR, CLASS_SELECTOR, ID_SELECTOR, PSEUDO_SELECTOR, ATTRIBUTE_SELECTOR, TYPE_SELECTOR);
+    children(TYPE_SELECTOR, NAMESPACE, IDENTIFIER);
+    children(KEYFRAMES_SELECTOR, PERCENTAGE, TOKEN);
+    children(CLASS_SELECTOR, IDENTIFIER, TOKEN);
+    children(ID_SELECTOR, IDENTIFIER, TOKEN);
+    children(PSEUDO_SELECTOR, PSEUDO_FUNCTION, PSEUDO_IDENTIFIER);
+    children(PSEUDO_FUNCTION, ANY);
+    children(PSEUDO_IDENTIFIER, IDENTIFIER, TOKEN);
+    children(ATTRIBUTE_SELECTOR, NAMESPACE, IDENTIFIER, ATTRIBUTE_MATCHER_EXPRESSION, TOKEN);
+    children(ATTRIBUTE_MATCHER_EXPRESSION, ATTRIBUTE_MATCHER, STRING, IDENTIFIER, CASE_INSENSITIVE_FLAG);
+    children(ATTRIBUTE_MATCHER, TOKEN);
+    children(NAMESPACE, IDENTIFIER, TOKEN);
+    children(URI, URI_CONTENT, TOKEN);
+    children(URI_CONTENT, STRING, TOKEN);
+    children(PERCENTAGE, NUMBER, TOKEN);
+    children(UNICODE_RANGE, TOKEN);
+    children(DIMENSION, NUMBER, UNIT);
+    children(IMPORTANT, TOKEN);
+    children(AT_KEYWORD, IDENTIFIER, TOKEN);
+    children(HASH, TOKEN);
+    children(UNIT, TOKEN);
+    children(VARIABLE, IDENTIFIER, TOKEN);
+    children(STRING, TOKEN);
+    children(IDENTIFIER, TOKEN);
+    children(NUMBER, TOKEN);
+    children(DELIMITER, TOKEN);
+    children(CASE_INSENSITIVE_FLAG, TOKEN);
+  }
+
+  /**
+   * Indexed by the ordinal of the kind of a tree, then by the ordinal of the kind of a tree that can be found below it.
+   */
+  private static final boolean[][] BELOW = below();
+
+  private SubtreeKinds() {
+  }
+
+  /**
+   * Returns, indexed by the ordinal of a kind, whether a tree of this kind or any tree below it can be of one of
+   * the given kinds, i.e. whether a visitor subscribed to these kinds must enter a tree of this kind.
+   */
+  static boolean[] kindsToEnter(Collection<Kind> subscribedKinds) {
+    boolean[] result = new boolean[KINDS.length];
+    for (Kind kind : KINDS) {
+      boolean[] below = BELOW[kind.ordinal()];
+      for (Kind subscribedKind : subscribedKinds) {
+        if (kind == subscribedKind || below[subscribedKind.ordinal()]) {
+          result[kind.ordinal()] = true;
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
+  static Set<Kind> kindsBelow(Kind kind) {
+    Set<Kind> result = EnumSet.noneOf(Kind.class);
+    for (Kind other : KINDS) {
+      if (BELOW[kind.ordinal()][other.ordinal()]) {
+        result.add(other);
+      }
+    }
+    return result;
+  }
+
+  private static void children(Kind parent, Kind first, Kind... others) {
+    children(parent, EnumSet.of(first, others));
+  }
+
+  private static void children(Kind parent, EnumSet<Kind> children) {
+    CHILDREN.put(parent, children);
+  }
+
+  private static EnumSet<Kind> anyOr(Kind... others) {
+    EnumSet<Kind> kinds = EnumSet.copyOf(ANY);
+    Collections.addAll(kinds, others);
+    return kinds;
+  }
+
+  /**
+   * Transitive closure of the table of children.
+   */
+  private static boolean[][] below() {
+    boolean[][] below = new boolean[KINDS.length][KINDS.length];
+    for (Map.Entry<Kind, EnumSet<Kind>> entry : CHILDREN.entrySet()) {
+      for (Kind child : entry.getValue()) {
+        below[entry.getKey().ordinal()][child.ordinal()] = true;
+      }
+    }
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (boolean[] kindsBelow : below) {
+        for (int child = 0; child < KINDS.length; child++) {
+          if (kindsBelow[child]) {
+            changed |= addAll(kindsBelow, below[child]);
+          }
+        }
+      }
+    }
+    return below;
+  }
+
+  private static boolean addAll(boolean[] target, boolean[] source) {
+    boolean changed = false;
+    for (int i = 0; i < source.length; i++) {
+      if (source[i] && !target[i]) {
+        target[i] = true;
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+}
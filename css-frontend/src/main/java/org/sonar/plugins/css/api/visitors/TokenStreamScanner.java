@@ -0,0 +1,82 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.plugins.css.api.visitors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.sonar.css.tree.impl.CssTree;
+import org.sonar.plugins.css.api.tree.StyleSheetTree;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
+import org.sonar.plugins.css.api.tree.SyntaxTrivia;
+import org.sonar.plugins.css.api.tree.Tree;
+
+/**
+ * Feeds the tokens and comments of a file to {@link TokenStreamVisitor}s in a single linear pass.
+ */
+final class TokenStreamScanner {
+
+  private TokenStreamScanner() {
+  }
+
+  static void scanTokens(Tree topTree, List<? extends TokenStreamVisitor> visitors) {
+    for (SyntaxToken token : tokens(topTree)) {
+      if (token instanceof SyntaxTrivia) {
+        for (TokenStreamVisitor visitor : visitors) {
+          visitor.visitComment((SyntaxTrivia) token);
+        }
+      } else {
+        for (TokenStreamVisitor visitor : visitors) {
+          visitor.visitToken(token);
+        }
+      }
+    }
+  }
+
+  /**
+   * The parser records the tokens of whole stylesheets only, so the tokens of any other tree are collected from it.
+   */
+  private static List<SyntaxToken> tokens(Tree tree) {
+    if (tree instanceof StyleSheetTree) {
+      return ((StyleSheetTree) tree).tokens();
+    }
+    List<SyntaxToken> tokens = new ArrayList<>();
+    addTokens(tree, tokens);
+    return tokens;
+  }
+
+  private static void addTokens(Tree tree, List<SyntaxToken> tokens) {
+    if (tree instanceof SyntaxToken) {
+      SyntaxToken token = (SyntaxToken) tree;
+      tokens.addAll(token.trivias());
+      tokens.add(token);
+    } else {
+      CssTree cssTree = (CssTree) tree;
+      int childCount = cssTree.childCount();
+      for (int i = 0; i < childCount; i++) {
+        Tree child = cssTree.child(i);
+        if (child != null) {
+          addTokens(child, tokens);
+        }
+      }
+    }
+  }
+
+}
@@ -17,36 +17,24 @@
  * along with this program; if not, write to the Free Software Foundation,
  * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
  */
-package org.sonar.css.visitors.metrics;
-
-import com.google.common.collect.ImmutableList;
-
-import java.util.List;
+package org.sonar.plugins.css.api.visitors;
 
+import org.sonar.plugins.css.api.tree.StyleSheetTree;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
+import org.sonar.plugins.css.api.tree.SyntaxTrivia;
 import org.sonar.plugins.css.api.tree.Tree;
-import org.sonar.plugins.css.api.visitors.SubscriptionVisitor;
-
-public class StatementsVisitor extends SubscriptionVisitor {
 
-  private int statements;
-
-  public StatementsVisitor(Tree tree) {
-    statements = 0;
-    scanTree(tree);
-  }
-
-  @Override
-  public List<Tree.Kind> nodesToVisit() {
-    return ImmutableList.of(Tree.Kind.AT_KEYWORD, Tree.Kind.PROPERTY_DECLARATION, Tree.Kind.VARIABLE_DECLARATION, Tree.Kind.SELECTOR);
-  }
+/**
+ * To be implemented by a {@link SubscriptionVisitor} that only needs the tokens and comments of a file, in source
+ * order, rather than their place in the tree. The tokens are read from {@link StyleSheetTree#tokens()} in a single
+ * linear pass shared by all the token stream visitors driven by a {@link SubscriptionVisitorWalker}, between
+ * {@link SubscriptionVisitor#visitFile(Tree)} and the walk of the tree. The same applies to a visitor scanning a file
+ * on its own with {@link SubscriptionVisitor#scanTree(TreeVisitorContext)}.
+ */
+public interface TokenStreamVisitor {
 
-  @Override
-  public void visitNode(Tree tree) {
-    statements++;
-  }
+  void visitToken(SyntaxToken token);
 
-  public int getNumberOfStatements() {
-    return statements;
-  }
+  void visitComment(SyntaxTrivia comment);
 
 }
@@ -21,6 +21,7 @@ package org.sonar.plugins.css.api.visitors;
 
 import java.io.File;
 
+import org.sonar.css.FileContent;
 import org.sonar.css.tree.impl.CssTree;
 
 public interface TreeVisitorContext {
@@ -35,4 +36,9 @@ public interface TreeVisitorContext {
    */
   File getFile();
 
+  /**
+   * @return the decoded content of the current file, as read by the parser
+   */
+  FileContent getFileContent();
+
 }
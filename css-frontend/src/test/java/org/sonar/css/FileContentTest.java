@@ -0,0 +1,92 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.CharStreams;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class FileContentTest {
+
+  @Test
+  public void should_split_lines_like_guava() throws IOException {
+    String[] texts = {
+      "",
+      "a",
+      "a\n",
+      "\n",
+      "\n\n",
+      "a\nb",
+      "a\r\nb\r\n",
+      "a\rb\r",
+      "a\r\r\nb\n\rc",
+      "\uFEFFa { color: red; }\n\tb { }  \r\n"};
+
+    for (String text : texts) {
+      assertThat(lines(new FileContent(text))).isEqualTo(CharStreams.readLines(new StringReader(text)));
+    }
+  }
+
+  @Test
+  public void should_compute_line_lengths() {
+    FileContent fileContent = new FileContent("abc\r\n\nde");
+    assertThat(fileContent.lineCount()).isEqualTo(3);
+    assertThat(fileContent.lineLength(1)).isEqualTo(3);
+    assertThat(fileContent.lineLength(2)).isEqualTo(0);
+    assertThat(fileContent.lineLength(3)).isEqualTo(2);
+  }
+
+  @Test
+  public void should_detect_byte_order_mark() {
+    assertThat(new FileContent("\uFEFFa").startsWithBOM()).isTrue();
+    assertThat(new FileContent("a\uFEFF").startsWithBOM()).isFalse();
+    assertThat(new FileContent("").startsWithBOM()).isFalse();
+  }
+
+  @Test
+  public void should_read_file() {
+    FileContent fileContent = FileContent.read(new File("src/test/resources/starting-with-bom.css"), Charsets.UTF_8);
+    assertThat(fileContent.startsWithBOM()).isTrue();
+    assertThat(fileContent.lineCount()).isGreaterThan(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_on_line_out_of_range() {
+    new FileContent("a\nb").line(3);
+  }
+
+  private static List<String> lines(FileContent fileContent) {
+    List<String> lines = new ArrayList<>();
+    for (int i = 1; i <= fileContent.lineCount(); i++) {
+      lines.add(fileContent.line(i));
+    }
+    return lines;
+  }
+
+}
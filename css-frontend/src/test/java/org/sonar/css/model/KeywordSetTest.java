@@ -0,0 +1,92 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class KeywordSetTest {
+
+  @Test
+  public void should_match_keywords_ignoring_ascii_case() {
+    KeywordSet keywords = KeywordSet.of(ImmutableList.of("red", "DarkBlue", "currentcolor"));
+    assertThat(keywords.contains("red")).isTrue();
+    assertThat(keywords.contains("RED")).isTrue();
+    assertThat(keywords.contains("darkblue")).isTrue();
+    assertThat(keywords.contains("DARKblue")).isTrue();
+    assertThat(keywords.contains("currentColor")).isTrue();
+    assertThat(keywords.contains(new StringBuilder("Red"))).isTrue();
+  }
+
+  @Test
+  public void should_not_match_other_text() {
+    KeywordSet keywords = KeywordSet.of(ImmutableList.of("red", "indigo"));
+    assertThat(keywords.contains("")).isFalse();
+    assertThat(keywords.contains("re")).isFalse();
+    assertThat(keywords.contains("redd")).isFalse();
+    assertThat(keywords.contains("blue")).isFalse();
+    assertThat(keywords.contains("ındıgo")).isFalse();
+    assertThat(keywords.contains("Ked")).isFalse();
+  }
+
+  @Test
+  public void should_ignore_duplicates() {
+    KeywordSet keywords = KeywordSet.of(ImmutableList.of("red", "RED", "blue", "red"));
+    assertThat(keywords.size()).isEqualTo(2);
+    assertThat(keywords.contains("Blue")).isTrue();
+  }
+
+  @Test
+  public void should_return_position_of_first_occurrence() {
+    KeywordSet keywords = KeywordSet.of(ImmutableList.of("red", "RED", "blue", "red"));
+    assertThat(keywords.indexOf("Red")).isEqualTo(0);
+    assertThat(keywords.indexOf("BLUE")).isEqualTo(2);
+    assertThat(keywords.indexOf("green")).isEqualTo(-1);
+  }
+
+  @Test
+  public void empty_set() {
+    KeywordSet keywords = KeywordSet.of(ImmutableList.<String>of());
+    assertThat(keywords.size()).isEqualTo(0);
+    assertThat(keywords.contains("red")).isFalse();
+    assertThat(keywords.contains("")).isFalse();
+  }
+
+  @Test
+  public void should_contain_all_colors() {
+    List<String> colors = new ArrayList<>();
+    colors.addAll(Color.SVG_COLORS);
+    colors.addAll(Color.CSS2_SYSTEM_COLORS);
+    KeywordSet keywords = KeywordSet.of(colors);
+    assertThat(keywords.size()).isEqualTo(colors.size());
+    for (String color : colors) {
+      assertThat(keywords.contains(color)).isTrue();
+      assertThat(keywords.contains(color.toUpperCase())).isTrue();
+    }
+    assertThat(keywords.contains("rebeccapurple")).isFalse();
+  }
+
+}
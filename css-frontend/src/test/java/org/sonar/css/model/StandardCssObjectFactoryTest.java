@@ -0,0 +1,82 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.sonar.css.model.atrule.StandardAtRule;
+import org.sonar.css.model.function.StandardFunction;
+import org.sonar.css.model.property.StandardProperty;
+import org.sonar.css.model.property.StandardPropertyFactory;
+import org.sonar.css.model.pseudo.StandardPseudoComponent;
+import org.sonar.css.model.pseudo.pseudofunction.StandardPseudoFunction;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class StandardCssObjectFactoryTest {
+
+  @Test
+  public void should_return_all_standard_css_objects_sorted_by_name() {
+    List<StandardCssObject> properties = StandardCssObjectFactory.getStandardCssObjects(StandardProperty.class);
+    assertThat(properties).hasSize(StandardPropertyFactory.getAll().size());
+    assertThat(names(properties)).isEqualTo(names(properties).stream().sorted().collect(Collectors.toList()));
+    assertThat(StandardCssObjectFactory.getStandardCssObjects(StandardProperty.class)).isSameAs(properties);
+
+    assertThat(StandardCssObjectFactory.getStandardCssObjects(StandardFunction.class)).isNotEmpty();
+    assertThat(StandardCssObjectFactory.getStandardCssObjects(StandardAtRule.class)).isNotEmpty();
+    assertThat(StandardCssObjectFactory.getStandardCssObjects(StandardPseudoComponent.class))
+      .isEqualTo(StandardCssObjectFactory.getStandardCssObjects(StandardPseudoFunction.class));
+  }
+
+  @Test
+  public void indexes_should_match_filters() {
+    for (Class<? extends StandardCssObject> type : new Class[] {StandardProperty.class, StandardFunction.class, StandardAtRule.class, StandardPseudoComponent.class}) {
+      assertThat(StandardCssObjectFactory.getExperimentalStandardCssObjects(type))
+        .isEqualTo(StandardCssObjectFactory.getStandardCssObjects(type, StandardCssObject::isExperimental));
+      assertThat(StandardCssObjectFactory.getObsoleteStandardCssObjects(type))
+        .isEqualTo(StandardCssObjectFactory.getStandardCssObjects(type, StandardCssObject::isObsolete));
+      assertThat(StandardCssObjectFactory.getVendorPrefixedStandardCssObjects(type))
+        .isEqualTo(StandardCssObjectFactory.getStandardCssObjects(type, StandardCssObject::hasVendors));
+      for (Vendor vendor : Vendor.values()) {
+        assertThat(StandardCssObjectFactory.getStandardCssObjects(type, vendor))
+          .isEqualTo(StandardCssObjectFactory.getStandardCssObjects(type, o -> o.getVendors().contains(vendor)));
+      }
+    }
+    assertThat(StandardCssObjectFactory.getExperimentalStandardCssObjects(StandardProperty.class)).isNotEmpty();
+    assertThat(StandardCssObjectFactory.getStandardCssObjects(StandardProperty.class, Vendor.WEBKIT)).isNotEmpty();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void indexes_should_be_immutable() {
+    StandardCssObjectFactory.getObsoleteStandardCssObjects(StandardProperty.class).clear();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_on_unknown_type() {
+    StandardCssObjectFactory.getStandardCssObjects(StandardCssObject.class);
+  }
+
+  private static List<String> names(List<StandardCssObject> standardCssObjects) {
+    return standardCssObjects.stream().map(StandardCssObject::getName).collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.sonar.css.model.atrule.StandardAtRuleFactory;
+import org.sonar.css.model.function.StandardFunctionFactory;
+import org.sonar.css.model.property.StandardPropertyFactory;
+import org.sonar.css.model.pseudo.pseudofunction.StandardPseudoFunctionFactory;
+import org.sonar.css.model.pseudo.pseudoidentifier.StandardPseudoIdentifierFactory;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class StandardCssObjectRegistryTest {
+
+  private static final String PREFIX = StandardCssObjectRegistryTest.class.getName() + "$";
+
+  @Test
+  public void should_instantiate_entries_lazily_and_once() {
+    StandardCssObjectRegistry<StandardCssObject> registry = new StandardCssObjectRegistry<>(
+      "test object", StandardCssObject.class, PREFIX,
+      "first-object", "FirstObject",
+      "second", "SecondObject");
+
+    int instantiations = FirstObject.instantiations;
+    assertThat(registry.size()).isEqualTo(2);
+    assertThat(registry.contains("first-object")).isTrue();
+    assertThat(FirstObject.instantiations).isEqualTo(instantiations);
+
+    StandardCssObject first = registry.get("first-object");
+    assertThat(first).isInstanceOf(FirstObject.class);
+    assertThat(first.getName()).isEqualTo("first-object");
+    assertThat(registry.get("first-object")).isSameAs(first);
+    assertThat(registry.get("First-OBJECT")).isSameAs(first);
+    assertThat(FirstObject.instantiations).isEqualTo(instantiations + 1);
+
+    assertThat(registry.get("second").getName()).isEqualTo("second");
+    assertThat(registry.getAll()).containsExactly(first, registry.get("second"));
+    assertThat(FirstObject.instantiations).isEqualTo(instantiations + 1);
+  }
+
+  @Test
+  public void should_not_find_unknown_entries() {
+    StandardCssObjectRegistry<StandardCssObject> registry = new StandardCssObjectRegistry<>(
+      "test object", StandardCssObject.class, PREFIX,
+      "first-object", "FirstObject");
+    assertThat(registry.get("first")).isNull();
+    assertThat(registry.get("second")).isNull();
+    assertThat(registry.contains("second")).isFalse();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_on_duplicated_names() {
+    new StandardCssObjectRegistry<>("test object", StandardCssObject.class, PREFIX, "first-object", "FirstObject", "first-object", "SecondObject");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_on_missing_class_name() {
+    new StandardCssObjectRegistry<>("test object", StandardCssObject.class, PREFIX, "first-object", "FirstObject", "second");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void should_fail_on_unknown_class() {
+    new StandardCssObjectRegistry<>("test object", StandardCssObject.class, PREFIX, "unknown", "Unknown").get("unknown");
+  }
+
+  @Test
+  public void name_should_be_derived_from_class_name_outside_registry() {
+    assertThat(new FirstObject().getName()).isEqualTo("first-object");
+  }
+
+  @Test
+  public void registries_should_list_every_standard_css_object_class() throws Exception {
+    assertRegistryListsEveryClass("property", name -> StandardPropertyFactory.getByName(name).getClass(), StandardPropertyFactory.getAll());
+    assertRegistryListsEveryClass("function", name -> StandardFunctionFactory.getByName(name).getClass(), StandardFunctionFactory.getAll());
+    assertRegistryListsEveryClass("atrule", name -> StandardAtRuleFactory.getByName(name).getClass(), StandardAtRuleFactory.getAll());
+    assertRegistryListsEveryClass("pseudo/pseudofunction", name -> StandardPseudoFunctionFactory.getByName(name).getClass(),
+      StandardPseudoFunctionFactory.getAll());
+    assertRegistryListsEveryClass("pseudo/pseudoidentifier", name -> StandardPseudoIdentifierFactory.getByName(name).getClass(),
+      StandardPseudoIdentifierFactory.getAll());
+  }
+
+  /**
+   * Compares the registry to the classes of the 'standard' package. On mismatch, the failure message is the
+   * expected registry content.
+   */
+  private static void assertRegistryListsEveryClass(String modelPackage, Function<String, Class<?>> getByName, List<? extends StandardCssObject> all)
+    throws ReflectiveOperationException, URISyntaxException {
+    String packageName = "org/sonar/css/model/" + modelPackage + "/standard";
+    File[] classFiles = new File(StandardCssObjectRegistryTest.class.getClassLoader().getResource(packageName).toURI())
+      .listFiles((dir, fileName) -> fileName.endsWith(".class") && !fileName.contains("$") && !fileName.startsWith("package-info"));
+
+    Map<String, Class<?>> expected = new TreeMap<>();
+    for (File classFile : classFiles) {
+      Class<?> clazz = Class.forName(packageName.replace('/', '.') + "." + classFile.getName().replace(".class", ""));
+      expected.put(((StandardCssObject) clazz.newInstance()).getName(), clazz);
+    }
+    Map<String, Class<?>> actual = new TreeMap<>();
+    for (StandardCssObject standardCssObject : all) {
+      actual.put(standardCssObject.getName(), standardCssObject.getClass());
+    }
+
+    String expectedRegistry = expected.entrySet().stream()
+      .map(e -> "\"" + e.getKey() + "\", \"" + e.getValue().getSimpleName() + "\"")
+      .collect(Collectors.joining(",\n"));
+    assertThat(actual).as(expectedRegistry).isEqualTo(expected);
+    for (Map.Entry<String, Class<?>> entry : expected.entrySet()) {
+      assertThat(getByName.apply(entry.getKey())).isEqualTo(entry.getValue());
+    }
+  }
+
+  public static class FirstObject extends StandardCssObject {
+
+    private static int instantiations;
+
+    public FirstObject() {
+      instantiations++;
+    }
+
+  }
+
+  public static class SecondObject extends StandardCssObject {
+  }
+
+}
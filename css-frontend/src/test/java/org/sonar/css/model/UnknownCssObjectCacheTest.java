@@ -0,0 +1,49 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model;
+
+import org.junit.Test;
+import org.sonar.css.model.property.UnknownProperty;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class UnknownCssObjectCacheTest {
+
+  @Test
+  public void should_return_one_unknown_object_per_lower_case_name() {
+    UnknownCssObjectCache<UnknownProperty> cache = new UnknownCssObjectCache<>(UnknownProperty::new);
+    UnknownProperty property = cache.get("Foo-Bar");
+    assertThat(property.getName()).isEqualTo("foo-bar");
+    assertThat(cache.get("foo-bar")).isSameAs(property);
+    assertThat(cache.get("FOO-BAR")).isSameAs(property);
+    assertThat(cache.get("foo-baz")).isNotSameAs(property);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_be_bounded() {
+    UnknownCssObjectCache<UnknownProperty> cache = new UnknownCssObjectCache<>(UnknownProperty::new);
+    for (int i = 0; i < UnknownCssObjectCache.MAXIMUM_SIZE + 100; i++) {
+      cache.get("property-" + i);
+    }
+    assertThat(cache.size()).isLessThanOrEqualTo(UnknownCssObjectCache.MAXIMUM_SIZE);
+  }
+
+}
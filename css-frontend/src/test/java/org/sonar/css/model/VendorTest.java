@@ -0,0 +1,58 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model;
+
+import java.util.Locale;
+
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class VendorTest {
+
+  @Test
+  public void should_find_vendor_from_prefix_ignoring_ascii_case() {
+    for (Vendor vendor : Vendor.values()) {
+      assertThat(Vendor.fromPrefixOf(vendor.getPrefix() + "transform")).isSameAs(vendor);
+      assertThat(Vendor.fromPrefixOf(vendor.getPrefix().toUpperCase(Locale.ENGLISH) + "TRANSFORM")).isSameAs(vendor);
+      assertThat(Vendor.fromPrefixOf(vendor.getPrefix())).isSameAs(vendor);
+    }
+    assertThat(Vendor.fromPrefixOf("-WebKit-box-shadow")).isSameAs(Vendor.WEBKIT);
+    assertThat(Vendor.fromPrefixOf("mso-ansi-language")).isSameAs(Vendor.MICROSOFT_OFFICE);
+    assertThat(Vendor.fromPrefixOf("Prince-image-resolution")).isSameAs(Vendor.YES_LOGIC);
+    assertThat(Vendor.fromPrefixOf("-o-transition")).isSameAs(Vendor.OPERA);
+  }
+
+  @Test
+  public void should_not_find_vendor_from_other_text() {
+    assertThat(Vendor.fromPrefixOf("")).isNull();
+    assertThat(Vendor.fromPrefixOf("-")).isNull();
+    assertThat(Vendor.fromPrefixOf("a")).isNull();
+    assertThat(Vendor.fromPrefixOf("--webkit-")).isNull();
+    assertThat(Vendor.fromPrefixOf("-x-transform")).isNull();
+    assertThat(Vendor.fromPrefixOf("webkit-transform")).isNull();
+    assertThat(Vendor.fromPrefixOf("-webkit")).isNull();
+    assertThat(Vendor.fromPrefixOf("-mo-")).isNull();
+    assertThat(Vendor.fromPrefixOf("-1-")).isNull();
+    assertThat(Vendor.fromPrefixOf("color")).isNull();
+    assertThat(Vendor.fromPrefixOf("-é-")).isNull();
+  }
+
+}
@@ -24,6 +24,7 @@ import org.sonar.css.model.function.standard.RepeatingLinearGradient;
 import org.sonar.css.model.function.standard.Rotatex;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class StandardFunctionFactoryTest {
 
@@ -80,6 +81,14 @@ public class StandardFunctionFactoryTest {
     assertEquals(function.isObsolete(), false);
   }
 
+  @Test
+  public void should_return_the_same_unknown_function_object_for_the_same_name() {
+    StandardFunction function = StandardFunctionFactory.getByName("myFunction");
+    assertEquals(UnknownFunction.class, function.getClass());
+    assertEquals("myfunction", function.getName());
+    assertSame(function, StandardFunctionFactory.getByName("MYFUNCTION"));
+  }
+
   @Test
   public void number_of_standard_functions() {
     assertEquals(110, StandardFunctionFactory.getAll().size());
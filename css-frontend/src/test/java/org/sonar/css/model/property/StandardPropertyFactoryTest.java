@@ -28,6 +28,7 @@ import org.sonar.css.model.property.standard.BorderEnd;
 import org.sonar.css.model.property.standard.TransitionProperty;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class StandardPropertyFactoryTest {
 
@@ -91,6 +92,19 @@ public class StandardPropertyFactoryTest {
     assertEquals(property.isObsolete(), false);
   }
 
+  @Test
+  public void should_return_the_same_unknown_property_object_for_the_same_name() {
+    StandardProperty property = StandardPropertyFactory.getByName("My-Custom-Property");
+    assertSame(property, StandardPropertyFactory.getByName("my-custom-property"));
+    assertSame(property, StandardPropertyFactory.getByName("MY-CUSTOM-PROPERTY"));
+    assertEquals("my-custom-property", property.getName());
+  }
+
+  @Test
+  public void should_return_the_same_standard_property_object_whatever_the_case() {
+    assertSame(StandardPropertyFactory.getByName("border"), StandardPropertyFactory.getByName("BoRdEr"));
+  }
+
   @Test
   public void number_of_standard_properties() {
     assertEquals(614, StandardPropertyFactory.getAll().size());
@@ -0,0 +1,105 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model.property;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class StandardPropertySetTest {
+
+  @Test
+  public void add_contains_and_clear() {
+    StandardPropertySet set = new StandardPropertySet();
+    assertThat(set.isEmpty()).isTrue();
+
+    assertThat(set.add(StandardPropertyFactory.getByName("margin-top"))).isTrue();
+    assertThat(set.add(StandardPropertyFactory.getByName("margin-top"))).isFalse();
+    assertThat(set.add(StandardPropertyFactory.getByName("zoom"))).isTrue();
+    assertThat(set.add(StandardPropertyFactory.getByName("my-unknown-property"))).isFalse();
+
+    assertThat(set.size()).isEqualTo(2);
+    assertThat(set.contains(StandardPropertyFactory.getByName("margin-top"))).isTrue();
+    assertThat(set.contains(StandardPropertyFactory.getByName("zoom"))).isTrue();
+    assertThat(set.contains(StandardPropertyFactory.getByName("margin-left"))).isFalse();
+    assertThat(set.contains(StandardPropertyFactory.getByName("my-unknown-property"))).isFalse();
+
+    set.clear();
+    assertThat(set.isEmpty()).isTrue();
+    assertThat(set.contains(StandardPropertyFactory.getByName("zoom"))).isFalse();
+  }
+
+  @Test
+  public void ids_should_be_iterated_in_ascending_order() {
+    StandardPropertySet set = new StandardPropertySet();
+    set.add(StandardPropertyFactory.getByName("zoom"));
+    set.add(StandardPropertyFactory.getByName("accelerator"));
+    set.add(StandardPropertyFactory.getByName("color"));
+
+    List<Integer> ids = new ArrayList<>();
+    for (int id = set.nextId(0); id >= 0; id = set.nextId(id + 1)) {
+      ids.add(id);
+    }
+    assertThat(ids).containsExactly(
+      StandardPropertyFactory.getByName("accelerator").getId(),
+      StandardPropertyFactory.getByName("color").getId(),
+      StandardPropertyFactory.getByName("zoom").getId());
+    assertThat(set.nextId(StandardPropertyFactory.size())).isEqualTo(-1);
+  }
+
+  @Test
+  public void ids_should_be_dense() {
+    List<StandardProperty> all = StandardPropertyFactory.getAll();
+    for (int i = 0; i < all.size(); i++) {
+      assertThat(all.get(i).getId()).isEqualTo(i);
+    }
+    assertThat(StandardPropertyFactory.size()).isEqualTo(all.size());
+    assertThat(StandardPropertyFactory.getByName("my-unknown-property").getId()).isEqualTo(-1);
+  }
+
+  @Test
+  public void shorthand_property_sets() {
+    StandardProperty margin = StandardPropertyFactory.getByName("margin");
+    StandardPropertySet longhands = margin.getShorthandForPropertySet();
+    assertThat(longhands.size()).isEqualTo(4);
+
+    StandardPropertySet declared = new StandardPropertySet();
+    for (String name : ImmutableList.of("margin-top", "margin-right", "margin-bottom", "color")) {
+      declared.add(StandardPropertyFactory.getByName(name));
+    }
+    assertThat(declared.containsAll(longhands)).isFalse();
+    declared.add(StandardPropertyFactory.getByName("margin-left"));
+    assertThat(declared.containsAll(longhands)).isTrue();
+
+    assertThat(StandardPropertyFactory.getShorthandProperties()).contains(margin);
+    assertThat(StandardPropertyFactory.getShorthandProperties()).excludes(StandardPropertyFactory.getByName("margin-top"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shorthand_property_sets_should_be_unmodifiable() {
+    StandardPropertyFactory.getByName("margin").getShorthandForPropertySet().add(StandardPropertyFactory.getByName("color"));
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model.property.validator;
+
+import com.google.common.cache.CacheStats;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sonar.css.model.property.StandardProperty;
+import org.sonar.css.model.property.StandardPropertyFactory;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class PropertyValueValidationCacheTest {
+
+  private final StandardProperty color = StandardPropertyFactory.getByName("color");
+  private final StandardProperty display = StandardPropertyFactory.getByName("display");
+
+  @Before
+  public void setUp() {
+    PropertyValueValidationCache.clear();
+  }
+
+  @Test
+  public void should_validate_each_value_once() {
+    AtomicInteger validations = new AtomicInteger();
+    CacheStats before = PropertyValueValidationCache.stats();
+
+    assertThat(PropertyValueValidationCache.isValid(color, "red", () -> validations.incrementAndGet() > 0)).isTrue();
+    assertThat(PropertyValueValidationCache.isValid(color, "red", () -> validations.incrementAndGet() > 0)).isTrue();
+    assertThat(PropertyValueValidationCache.isValid(color, "block", () -> validations.incrementAndGet() < 0)).isFalse();
+    assertThat(PropertyValueValidationCache.isValid(color, "block", () -> validations.incrementAndGet() < 0)).isFalse();
+    assertThat(PropertyValueValidationCache.isValid(display, "block", () -> validations.incrementAndGet() > 0)).isTrue();
+
+    CacheStats stats = PropertyValueValidationCache.stats().minus(before);
+    assertThat(validations.get()).isEqualTo(3);
+    assertThat(stats.hitCount()).isEqualTo(2);
+    assertThat(stats.missCount()).isEqualTo(3);
+    assertThat(PropertyValueValidationCache.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void should_be_bounded() {
+    for (int i = 0; i < PropertyValueValidationCache.MAXIMUM_SIZE * 2; i++) {
+      PropertyValueValidationCache.isValid(color, Integer.toString(i), () -> false);
+    }
+    assertThat(PropertyValueValidationCache.size()).isLessThanOrEqualTo(PropertyValueValidationCache.MAXIMUM_SIZE);
+  }
+
+}
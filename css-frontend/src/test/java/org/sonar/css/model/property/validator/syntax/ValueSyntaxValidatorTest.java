@@ -0,0 +1,316 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.model.property.validator.syntax;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.sonar.sslr.api.typed.ActionParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+import org.sonar.css.model.property.StandardProperty;
+import org.sonar.css.model.property.StandardPropertyFactory;
+import org.sonar.css.model.property.validator.Validator;
+import org.sonar.css.model.property.validator.ValueValidator;
+import org.sonar.css.parser.CssLexicalGrammar;
+import org.sonar.css.parser.CssParserBuilder;
+import org.sonar.css.tree.impl.CssTree;
+import org.sonar.plugins.css.api.tree.PropertyDeclarationTree;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.tree.ValueTree;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Fail.fail;
+
+public class ValueSyntaxValidatorTest {
+
+  private static final ActionParser<Tree> VALUE_PARSER = CssParserBuilder.createTestParser(Charsets.UTF_8, CssLexicalGrammar.VALUE);
+  private static final ActionParser<Tree> STYLESHEET_PARSER = CssParserBuilder.createParser(Charsets.UTF_8);
+
+  @After
+  public void disable_compiled_validators() {
+    StandardProperty.enableCompiledValidators(false);
+  }
+
+  @Test
+  public void keywords_and_data_types() {
+    ValueSyntaxValidator validator = ValueSyntaxValidator.compile("auto | <length>(>=0) | <color>");
+    assertValid(validator, "auto", "AUTO", "-moz-auto", "10px", "0", "red", "#fff");
+    assertInvalid(validator, "none", "-10px", "10%", "auto auto", "auto 10px");
+  }
+
+  @Test
+  public void juxtaposition() {
+    ValueSyntaxValidator validator = ValueSyntaxValidator.compile("<length> <percentage> auto");
+    assertValid(validator, "1px 10% auto");
+    assertInvalid(validator, "1px 10%", "10% 1px auto", "1px 10% auto auto");
+  }
+
+  @Test
+  public void all_of_in_any_order() {
+    ValueSyntaxValidator validator = ValueSyntaxValidator.compile("<length> && <color>");
+    assertValid(validator, "1px red", "red 1px");
+    assertInvalid(validator, "1px", "red", "1px 1px", "red 1px red");
+  }
+
+  @Test
+  public void some_of_in_any_order() {
+    ValueSyntaxValidator validator = ValueSyntaxValidator.compile("<length> || <color> || auto");
+    assertValid(validator, "1px", "red", "auto", "red 1px", "auto red 1px", "1px auto");
+    assertInvalid(validator, "1px 1px", "red auto red", "none");
+  }
+
+  @Test
+  public void precedence() {
+    ValueSyntaxValidator validator = ValueSyntaxValidator.compile("a b | c || d && e");
+    assertValid(validator, "a b", "c", "d e", "e d", "c d e", "d e c");
+    assertInvalid(validator, "a", "b", "d", "a b c");
+
+    validator = ValueSyntaxValidator.compile("a [ b | c ]");
+    assertValid(validator, "a b", "a c");
+    assertInvalid(validator, "a", "b", "c");
+  }
+
+  @Test
+  public void multipliers() {
+    assertValid(ValueSyntaxValidator.compile("a b?"), "a", "a b");
+    assertInvalid(ValueSyntaxValidator.compile("a b?"), "a b b");
+
+    assertValid(ValueSyntaxValidator.compile("a b*"), "a", "a b", "a b b b");
+    assertInvalid(ValueSyntaxValidator.compile("a b*"), "b", "a b a");
+
+    assertValid(ValueSyntaxValidator.compile("a+"), "a", "a a a");
+    assertInvalid(ValueSyntaxValidator.compile("a+"), "a b");
+
+    assertValid(ValueSyntaxValidator.compile("[ a | <length> ]{1,4}"), "a", "1px a", "a a 1px 1px");
+    assertInvalid(ValueSyntaxValidator.compile("[ a | <length> ]{1,4}"), "a a a a a", "b");
+
+    assertValid(ValueSyntaxValidator.compile("a{2}"), "a a");
+    assertInvalid(ValueSyntaxValidator.compile("a{2}"), "a", "a a a");
+
+    assertValid(ValueSyntaxValidator.compile("a{2,}"), "a a", "a a a a a");
+    assertInvalid(ValueSyntaxValidator.compile("a{2,}"), "a");
+
+    assertValid(ValueSyntaxValidator.compile("[ a b ]?"), "a b");
+    assertInvalid(ValueSyntaxValidator.compile("[ a b ]?"), "a", "a b a b");
+  }
+
+  @Test
+  public void comma_separated_lists() {
+    ValueSyntaxValidator validator = ValueSyntaxValidator.compile("<time>(>=0)#");
+    assertValid(validator, "1s", "1s, 2ms", "1s,2s,3s");
+    assertInvalid(validator, "-1s", "1s 2s", "1s,", ", 1s", "1s,,2s");
+
+    validator = (ValueSyntaxValidator) StandardPropertyFactory.getByName("transition-duration").getCompiledValidators().get(0);
+    assertThat(validator.getValidatorFormat()).isEqualTo("<time>(>=0)#");
+    assertValid(validator, "1s", "1s, 2ms", "1s,");
+    assertInvalid(validator, "1s 2s", ", 1s", "1s,,2s", "1s,,");
+
+    validator = ValueSyntaxValidator.compile("[ a <length>? ]#");
+    assertValid(validator, "a", "a 1px", "a, a 1px, a");
+    assertInvalid(validator, "a 1px 1px", "1px");
+
+    validator = ValueSyntaxValidator.compile("a [, a]*");
+    assertValid(validator, "a", "a, a, a");
+    assertInvalid(validator, "a a", "a,");
+
+    validator = ValueSyntaxValidator.compile("a#{2,3}");
+    assertValid(validator, "a, a", "a, a, a");
+    assertInvalid(validator, "a", "a, a, a, a");
+  }
+
+  @Test
+  public void functions() {
+    ValueSyntaxValidator validator = ValueSyntaxValidator.compile("ease | <function>(cubic-bezier | steps)");
+    assertValid(validator, "ease", "steps(2)", "cubic-bezier(0.1, 0.7, 1.0, 0.1)", "var(--timing)", "-webkit-foo(1)");
+    assertInvalid(validator, "rgb(1, 2, 3)", "linear");
+  }
+
+  @Test
+  public void format() {
+    assertThat(ValueSyntaxValidator.compile("[ a | <length> ]{1,4}").getValidatorFormat()).isEqualTo("[ a | <length> ]{1,4}");
+  }
+
+  @Test
+  public void invalid_syntax() {
+    assertInvalidSyntax("");
+    assertInvalidSyntax("a |");
+    assertInvalidSyntax("[ a | b");
+    assertInvalidSyntax("a ]");
+    assertInvalidSyntax("a{2,1}");
+    assertInvalidSyntax("a{x}");
+    assertInvalidSyntax("<length");
+    assertInvalidSyntax("<unknown-data-type>");
+    assertInvalidSyntax("<color>(>=0)");
+    assertInvalidSyntax("<length>(<0)");
+    assertInvalidSyntax("<function>(unknown-function)");
+    assertInvalidSyntax("a || b || c || d || e || f");
+  }
+
+  @Test
+  public void compiled_validators_of_standard_properties() {
+    StandardProperty margin = StandardPropertyFactory.getByName("margin");
+    assertThat(margin.getCompiledValidators()).hasSize(margin.getValidators().size());
+    assertThat(margin.getCompiledValidators().get(0)).isInstanceOf(ValueSyntaxValidator.class);
+    assertThat(margin.getCompiledValidators().get(0).getValidatorFormat()).isEqualTo(margin.getValidators().get(0).getValidatorFormat());
+    assertThat(margin.getCompiledValidators()).isSameAs(margin.getCompiledValidators());
+
+    StandardProperty border = StandardPropertyFactory.getByName("border-top");
+    assertThat(border.getCompiledValidators()).isEqualTo(border.getValidators());
+
+    StandardProperty color = StandardPropertyFactory.getByName("color");
+    assertThat(color.getCompiledValidators()).isEqualTo(color.getValidators());
+  }
+
+  @Test
+  public void compiled_validators_should_agree_with_hand_written_validators() {
+    String[] valueElements = {"red", "#fff", "0", "1px", "-1px", "10%", "-5%", "2", "-2", "1.5", "auto", "none", "thin", "solid",
+      "'s'", "url(a.png)", "ease", "steps(2)", "normal", "multiply", "1s", "-1s", "clip", "ellipsis", "repeat", "fill", "x",
+      "inherit", "linear-gradient(red, blue)", "-webkit-box", "1em", "medium", "dotted", ",", "/", "var(--a)"};
+    Random random = new Random(42);
+    String[] values = new String[3000];
+    for (int i = 0; i < values.length; i++) {
+      StringBuilder value = new StringBuilder(valueElements[random.nextInt(valueElements.length)]);
+      int length = random.nextInt(6);
+      for (int j = 0; j < length; j++) {
+        value.append(' ').append(valueElements[random.nextInt(valueElements.length)]);
+      }
+      values[i] = value.toString();
+    }
+
+    int compiledValidators = 0;
+    for (StandardProperty property : StandardPropertyFactory.getAll()) {
+      List<Validator> validators = property.getValidators();
+      List<Validator> compiled = property.getCompiledValidators();
+      for (int i = 0; i < validators.size(); i++) {
+        if (compiled.get(i) != validators.get(i)) {
+          compiledValidators++;
+          for (String value : values) {
+            assertSameValidity(property, (ValueValidator) validators.get(i), (ValueValidator) compiled.get(i), parse(value));
+          }
+        }
+      }
+    }
+    assertThat(compiledValidators).isGreaterThan(10);
+  }
+
+  @Test
+  public void compiled_validators_should_agree_with_hand_written_validators_on_test_resources() throws IOException {
+    int values = 0;
+    // Test resources of all the modules
+    for (File file : Files.fileTreeTraverser().preOrderTraversal(new File(".."))) {
+      String path = file.getPath().replace(File.separatorChar, '/');
+      if (file.isFile() && path.endsWith(".css") && path.contains("/src/test/resources/") && !path.contains("/target/")) {
+        List<PropertyDeclarationTree> declarations = new ArrayList<>();
+        try {
+          collectPropertyDeclarations(STYLESHEET_PARSER.parse(Files.toString(file, Charsets.UTF_8)), declarations);
+        } catch (RuntimeException e) {
+          // Files with parsing errors on purpose
+        }
+        for (PropertyDeclarationTree declaration : declarations) {
+          StandardProperty property = declaration.property().standardProperty();
+          List<Validator> validators = property.getValidators();
+          List<Validator> compiled = property.getCompiledValidators();
+          for (int i = 0; i < validators.size(); i++) {
+            if (compiled.get(i) != validators.get(i)) {
+              assertSameValidity(property, (ValueValidator) validators.get(i), (ValueValidator) compiled.get(i), declaration.value());
+              values++;
+            }
+          }
+        }
+      }
+    }
+    assertThat(values).isGreaterThan(300);
+  }
+
+  @Test
+  public void declarations_should_be_validated_with_the_enabled_validators() {
+    List<PropertyDeclarationTree> declarations = new ArrayList<>();
+    collectPropertyDeclarations(STYLESHEET_PARSER.parse("a{transition-duration:1s,2s}"), declarations);
+    PropertyDeclarationTree declaration = declarations.get(0);
+    StandardProperty property = declaration.property().standardProperty();
+
+    assertThat(property.getEnabledValidators()).isSameAs(property.getValidators());
+    assertThat(declaration.isValid()).isTrue();
+
+    StandardProperty.enableCompiledValidators(true);
+    assertThat(property.getEnabledValidators()).isSameAs(property.getCompiledValidators());
+    assertThat(property.getEnabledValidators().get(0)).isInstanceOf(ValueSyntaxValidator.class);
+
+    StandardProperty.enableCompiledValidators(false);
+    assertThat(property.getEnabledValidators()).isSameAs(property.getValidators());
+  }
+
+  private static void assertSameValidity(StandardProperty property, ValueValidator validator, ValueValidator compiled, ValueTree value) {
+    assertThat(compiled.isValid(value))
+      .as(property.getName() + ": " + value.treeValue())
+      .isEqualTo(validator.isValid(value));
+  }
+
+  private static void collectPropertyDeclarations(Tree tree, List<PropertyDeclarationTree> declarations) {
+    if (tree instanceof PropertyDeclarationTree) {
+      declarations.add((PropertyDeclarationTree) tree);
+      return;
+    }
+    CssTree cssTree = (CssTree) tree;
+    if (!cssTree.isLeaf()) {
+      Iterator<Tree> children = cssTree.childrenIterator();
+      while (children.hasNext()) {
+        Tree child = children.next();
+        if (child != null) {
+          collectPropertyDeclarations(child, declarations);
+        }
+      }
+    }
+  }
+
+  private static void assertValid(ValueSyntaxValidator validator, String... values) {
+    for (String value : values) {
+      assertThat(validator.isValid(parse(value))).as(value).isTrue();
+    }
+  }
+
+  private static void assertInvalid(ValueSyntaxValidator validator, String... values) {
+    for (String value : values) {
+      assertThat(validator.isValid(parse(value))).as(value).isFalse();
+    }
+  }
+
+  private static void assertInvalidSyntax(String syntax) {
+    try {
+      ValueSyntaxValidator.compile(syntax);
+      fail("Syntax should be invalid: " + syntax);
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isNotEmpty();
+    }
+  }
+
+  private static ValueTree parse(String value) {
+    return (ValueTree) VALUE_PARSER.parse(value);
+  }
+
+}
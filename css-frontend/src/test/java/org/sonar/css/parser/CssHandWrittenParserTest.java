@@ -0,0 +1,176 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.parser;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.sonar.sslr.api.RecognitionException;
+import com.sonar.sslr.api.typed.ActionParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.Test;
+import org.sonar.css.tree.impl.CssTree;
+import org.sonar.css.tree.impl.InternalSyntaxToken;
+import org.sonar.plugins.css.api.tree.StyleSheetTree;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
+import org.sonar.plugins.css.api.tree.SyntaxTrivia;
+import org.sonar.plugins.css.api.tree.Tree;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Differential test: the hand-written parser must build exactly the same trees, and fail with exactly the same
+ * errors, as the SSLR parser.
+ */
+public class CssHandWrittenParserTest {
+
+  private static final String[] FRAGMENTS = {
+    "a", "Z", "-", "--", "*", "_", "i", "from", "TO", "url(", "URL(", "u+", "u+0-7F", "u+4??",
+    "0", "1.5", "50%", ".", "+", "#", "@", "@media", "!", "!important", "!IMPORTANT", "%", "px", "Hz", "khz", "DPPX", "vmin", "s",
+    "\\", "\\41 ", "\\e9\r\n", "\\abcdef0", "\\A", "\\\n", "\\\r\n", "\\\f",
+    "\"", "'", "(", ")", "[", "]", "{", "}", ":", "::", ";", ",", "~", "|", "=", "|=", "~=", "*=", "^=", "$=",
+    ">", ">>", "||", "$", "^", "?", "a b", "a > b", ".c", "#d", "[e]", ":hover", "::after", ":not(", "ns|f",
+    " ", " ", "\t", "\n", "\r\n", "\r", "\f", "\u000B", "/*", "*/", "/* c */", "<!--", "-->",
+    "\u00E9", "\u00ED", "\u00EE", "\uD83D\uDE00", "\uD83D", "\uDE00", "\u212A"};
+
+  private static final String[] TEMPLATES = {
+    "%s", "a{p:%s}", "%s{}", "%s{p:v}", "@media %s{a{p:v}}", "@m %s;", "a[%s]{}", "a{p:url(%s)}", "a{p:\"%s\"}", "a{%s:v}",
+    "a{p:v;%s}", "a %s b{}"};
+
+  private final ActionParser<Tree> sslrParser = CssParserBuilder.createParser(Charsets.UTF_8);
+  private final CssHandWrittenParser handWrittenParser = new CssHandWrittenParser();
+
+  @Test
+  public void should_build_identical_trees_on_test_resources() throws IOException {
+    int files = 0;
+    for (File file : Files.fileTreeTraverser().preOrderTraversal(new File("src/test/resources"))) {
+      if (file.isFile() && file.getName().endsWith(".css")) {
+        assertIdenticalTrees(Files.toString(file, Charsets.UTF_8));
+        files++;
+      }
+    }
+    assertThat(files).isGreaterThan(0);
+  }
+
+  @Test
+  public void should_build_identical_trees_on_edge_cases() {
+    assertIdenticalTrees("");
+    assertIdenticalTrees("\uFEFF");
+    assertIdenticalTrees("\uFEFFa{color:red}");
+    assertIdenticalTrees("/* comment */ <!-- cdo --> a { color : red ; /**/ } /* unclosed");
+    assertIdenticalTrees("a /* c */ b /* d */ > /* e */ c , /* f */ d { }");
+    assertIdenticalTrees("a{width:10PX;height:1.5Em;margin:-.5rem +2vmin;transition:1S 200ms;f:2KHZ 3hz 4db}");
+    assertIdenticalTrees("a{unicode-range:u+0-7F,u+4??,u+0025-00FF;content:\"\\\"\\\r\n\\41 \\e9\"}");
+    assertIdenticalTrees("a{background:url( \"a.png\" ) url(a\\(b.png) url( a.png ) URL(\u00E9.png) url(\uD83D\uDE00)}");
+    assertIdenticalTrees(".\\31 0,#\\@id,.\u00EE\uD83D\uDE00,-a,*b,_c{}");
+    assertIdenticalTrees("a{color:red !IMPORTANT}@keyframes k{FROM{top:0}to{top:1px}50%{top:2px}}");
+    assertIdenticalTrees("a{;;p:v;;q:w}b{p:v}c{;}d{p:v;}");
+    assertIdenticalTrees("a{--main-color:#06c;p:var(--main-color) calc(1px + 2%)}");
+    assertIdenticalTrees("ns|a, *|b, |c, [ns|d], [ |e], [f=g i], [h~=\"i\"], [j|=k], [l^=m], [n$=o], [p*=q] {}");
+    assertIdenticalTrees("a:not(.b) ::selection, a:nth-child(2n+1)::after, a >> b || c + d ~ e {}");
+    assertIdenticalTrees("@media screen and (max-width:100px){a{p:v}@page{margin:1cm}}@import url(a.css);@charset \"UTF-8\";");
+    assertIdenticalTrees("a{p:1. .1 1.a 'unclosed\n}");
+    assertIdenticalTrees("a{p:\uD83D b:\uDE00}");
+    assertIdenticalTrees("a{p:v} \\");
+    assertIdenticalTrees("a b");
+    assertIdenticalTrees("a  > {}");
+    assertIdenticalTrees("a  [ {}");
+    assertIdenticalTrees("a{p:v}}");
+  }
+
+  @Test
+  public void should_build_identical_trees_on_random_stylesheets() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10000; i++) {
+      StringBuilder fragments = new StringBuilder();
+      int length = 1 + random.nextInt(12);
+      for (int j = 0; j < length; j++) {
+        fragments.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+      }
+      assertIdenticalTrees(String.format(TEMPLATES[random.nextInt(TEMPLATES.length)], fragments));
+    }
+  }
+
+  @Test
+  public void should_parse_several_files_with_the_same_parser() {
+    assertIdenticalTrees("a{");
+    assertIdenticalTrees("a{p:v}");
+    assertIdenticalTrees("/* c */");
+  }
+
+  private void assertIdenticalTrees(String source) {
+    assertThat(parse(source, true)).as(source).isEqualTo(parse(source, false));
+  }
+
+  private String parse(String source, boolean handWritten) {
+    try {
+      Tree tree = handWritten ? handWrittenParser.parse(source) : sslrParser.parse(source);
+      StringBuilder dump = new StringBuilder();
+      dump(tree, dump);
+      for (SyntaxToken token : ((StyleSheetTree) tree).tokens()) {
+        dump.append("token");
+        dump(token, dump);
+        dump.append('\n');
+      }
+      return dump.toString();
+    } catch (RecognitionException e) {
+      return e.getLine() + ": " + e.getMessage();
+    }
+  }
+
+  private static void dump(Tree tree, StringBuilder dump) {
+    if (tree == null) {
+      dump.append("null\n");
+      return;
+    }
+    CssTree cssTree = (CssTree) tree;
+    dump.append(cssTree.getKind()).append(' ').append(tree.getClass().getSimpleName());
+    if (tree instanceof SyntaxToken) {
+      SyntaxToken token = (SyntaxToken) tree;
+      dump(token, dump);
+      for (SyntaxTrivia trivia : token.trivias()) {
+        dump.append(" trivia");
+        dump(trivia, dump);
+      }
+    }
+    dump.append('\n');
+    if (!cssTree.isLeaf()) {
+      Iterator<Tree> children = cssTree.childrenIterator();
+      while (children.hasNext()) {
+        dump(children.next(), dump);
+      }
+    }
+  }
+
+  private static void dump(SyntaxToken token, StringBuilder dump) {
+    dump.append(" [").append(token.text()).append("] ")
+      .append(token.line()).append(':').append(token.column()).append('-')
+      .append(token.endLine()).append(':').append(token.endColumn());
+    if (token instanceof InternalSyntaxToken) {
+      InternalSyntaxToken internalToken = (InternalSyntaxToken) token;
+      dump.append(internalToken.isEOF() ? " eof" : "").append(internalToken.isBOM() ? " bom" : "");
+    }
+  }
+
+}
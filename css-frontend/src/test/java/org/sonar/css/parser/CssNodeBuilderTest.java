@@ -0,0 +1,85 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.parser;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.sonar.sslr.api.typed.ActionParser;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.sonar.plugins.css.api.tree.RulesetTree;
+import org.sonar.plugins.css.api.tree.StyleSheetTree;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
+import org.sonar.plugins.css.api.tree.Tree;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class CssNodeBuilderTest {
+
+  private static final String RULESET = ".a{color:red}";
+  private static final int NUMBER_OF_RULESETS = 20000;
+
+  private final ActionParser<Tree> parser = CssParserBuilder.createParser(Charsets.UTF_8);
+
+  @Test
+  public void should_compute_positions_on_large_minified_stylesheet() {
+    String stylesheet = Strings.repeat(RULESET, NUMBER_OF_RULESETS);
+    assertLastCloseCurlyBrace(parse(stylesheet), 1, RULESET.length() * NUMBER_OF_RULESETS - 1);
+  }
+
+  @Test
+  public void should_compute_byte_order_mark_once_per_file() {
+    String stylesheet = Strings.repeat(RULESET, 10);
+
+    StyleSheetTree withBOM = parse("\uFEFF" + stylesheet);
+    assertThat(withBOM.hasByteOrderMark()).isTrue();
+    assertLastCloseCurlyBrace(withBOM, 1, RULESET.length() * 10 - 1);
+
+    StyleSheetTree withoutBOM = parse(stylesheet);
+    assertThat(withoutBOM.hasByteOrderMark()).isFalse();
+    assertLastCloseCurlyBrace(withoutBOM, 1, RULESET.length() * 10 - 1);
+  }
+
+  @Test
+  public void should_compute_positions_on_several_lines() {
+    StyleSheetTree tree = parse(RULESET + "\n" + RULESET + "\r\n  " + RULESET + "\r" + RULESET);
+    List<RulesetTree> rulesets = tree.rulesets();
+    assertThat(rulesets).hasSize(4);
+
+    SyntaxToken closeCurlyBrace = rulesets.get(2).block().closeCurlyBrace();
+    assertThat(closeCurlyBrace.line()).isEqualTo(3);
+    assertThat(closeCurlyBrace.column()).isEqualTo(RULESET.length() + 1);
+    assertLastCloseCurlyBrace(tree, 4, RULESET.length() - 1);
+  }
+
+  private StyleSheetTree parse(String stylesheet) {
+    return (StyleSheetTree) parser.parse(stylesheet);
+  }
+
+  private static void assertLastCloseCurlyBrace(StyleSheetTree tree, int line, int column) {
+    List<RulesetTree> rulesets = tree.rulesets();
+    SyntaxToken closeCurlyBrace = rulesets.get(rulesets.size() - 1).block().closeCurlyBrace();
+    assertThat(closeCurlyBrace.line()).isEqualTo(line);
+    assertThat(closeCurlyBrace.column()).isEqualTo(column);
+  }
+
+}
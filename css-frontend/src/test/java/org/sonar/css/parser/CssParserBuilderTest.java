@@ -17,43 +17,30 @@
  * along with this program; if not, write to the Free Software Foundation,
  * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
  */
-package org.sonar.css.visitors.metrics;
+package org.sonar.css.parser;
 
-import com.google.common.collect.ImmutableList;
-
-import java.util.List;
+import com.google.common.base.Charsets;
+import com.sonar.sslr.api.typed.ActionParser;
 
+import org.junit.Test;
+import org.sonar.plugins.css.api.tree.StyleSheetTree;
 import org.sonar.plugins.css.api.tree.Tree;
-import org.sonar.plugins.css.api.visitors.SubscriptionVisitor;
 
-public class ComplexityVisitor extends SubscriptionVisitor {
+import static org.fest.assertions.Assertions.assertThat;
 
-  private int complexity;
+public class CssParserBuilderTest {
 
-  public ComplexityVisitor(Tree tree) {
-    complexity = 0;
-    scanTree(tree);
-  }
+  @Test
+  public void should_parse_several_files_with_the_same_parser() {
+    ActionParser<Tree> parser = CssParserBuilder.createParser(Charsets.UTF_8);
 
-  @Override
-  public List<Tree.Kind> nodesToVisit() {
-    return ImmutableList.of(
-      Tree.Kind.CLASS_SELECTOR,
-      Tree.Kind.ATTRIBUTE_SELECTOR,
-      Tree.Kind.TYPE_SELECTOR,
-      Tree.Kind.ID_SELECTOR,
-      Tree.Kind.PSEUDO_SELECTOR,
-      Tree.Kind.KEYFRAMES_SELECTOR,
-      Tree.Kind.AT_RULE);
-  }
-
-  @Override
-  public void visitNode(Tree tree) {
-    complexity++;
-  }
+    StyleSheetTree first = (StyleSheetTree) parser.parse("a{color:red}");
+    StyleSheetTree second = (StyleSheetTree) parser.parse("\n\nb{color:blue}");
 
-  public int getComplexity() {
-    return complexity;
+    assertThat(first.rulesets()).hasSize(1);
+    assertThat(first.rulesets().get(0).block().closeCurlyBrace().line()).isEqualTo(1);
+    assertThat(second.rulesets()).hasSize(1);
+    assertThat(second.rulesets().get(0).block().closeCurlyBrace().line()).isEqualTo(3);
   }
 
 }
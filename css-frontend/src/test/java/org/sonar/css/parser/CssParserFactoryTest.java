@@ -0,0 +1,91 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.parser;
+
+import com.google.common.base.Strings;
+import com.sonar.sslr.api.RecognitionException;
+
+import org.junit.Test;
+import org.sonar.plugins.css.api.tree.StyleSheetTree;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class CssParserFactoryTest {
+
+  private final CssParserFactory factory = new CssParserFactory();
+
+  @Test
+  public void should_reuse_the_parser_after_a_small_input() {
+    StyleSheetTree first = (StyleSheetTree) factory.parse("a{color:red}");
+    StyleSheetTree second = (StyleSheetTree) factory.parse("\n\nb{color:blue}");
+
+    assertThat(factory.idleParserCount()).isEqualTo(1);
+    assertThat(first.rulesets()).hasSize(1);
+    assertThat(first.rulesets().get(0).block().closeCurlyBrace().line()).isEqualTo(1);
+    assertThat(second.rulesets()).hasSize(1);
+    assertThat(second.rulesets().get(0).block().closeCurlyBrace().line()).isEqualTo(3);
+  }
+
+  @Test
+  public void should_drop_the_parser_after_a_large_input() {
+    factory.parse("a{color:red}");
+    String largeStyleSheet = "a{}" + Strings.repeat(" ", CssParserFactory.MAX_REUSED_INPUT_LENGTH);
+
+    assertThat(((StyleSheetTree) factory.parse(largeStyleSheet)).rulesets()).hasSize(1);
+    assertThat(factory.idleParserCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_drop_the_parser_after_a_parsing_error() {
+    factory.parse("a{color:red}");
+    try {
+      factory.parse("a{");
+      fail();
+    } catch (RecognitionException e) {
+      // expected
+    }
+    assertThat(factory.idleParserCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_share_parsers_between_threads() throws Exception {
+    Thread[] threads = new Thread[4];
+    StyleSheetTree[] trees = new StyleSheetTree[threads.length];
+    for (int i = 0; i < threads.length; i++) {
+      int index = i;
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 20; j++) {
+          trees[index] = (StyleSheetTree) factory.parse(Strings.repeat("\n", index) + "a{color:red}");
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(factory.idleParserCount()).isGreaterThan(0).isLessThanOrEqualTo(threads.length);
+    for (int i = 0; i < threads.length; i++) {
+      assertThat(trees[i].rulesets().get(0).block().closeCurlyBrace().line()).isEqualTo(i + 1);
+    }
+  }
+
+}
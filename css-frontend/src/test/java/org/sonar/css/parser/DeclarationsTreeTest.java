@@ -19,8 +19,11 @@
  */
 package org.sonar.css.parser;
 
+import com.google.common.base.Strings;
 import org.junit.Test;
 import org.sonar.plugins.css.api.tree.DeclarationsTree;
+import org.sonar.plugins.css.api.tree.PropertyDeclarationTree;
+import org.sonar.plugins.css.api.tree.VariableDeclarationTree;
 
 import static org.fest.assertions.Assertions.assertThat;
 
@@ -105,6 +108,32 @@ public class DeclarationsTreeTest extends TreeTest {
     assertThat(tree.emptyDeclarations()).hasSize(4);
   }
 
+  @Test
+  public void large_number_of_declarations() {
+    int numberOfDeclarations = 100000;
+    DeclarationsTree tree = checkParsed(Strings.repeat("color:green;", numberOfDeclarations) + ";--myvar:blabla");
+
+    assertThat(tree.propertyDeclarations()).hasSize(numberOfDeclarations);
+    assertThat(tree.variableDeclarations()).hasSize(1);
+    assertThat(tree.emptyDeclarations()).hasSize(1);
+    assertThat(tree.allDeclarations()).hasSize(numberOfDeclarations + 1);
+    assertThat(tree.allDeclarations().get(numberOfDeclarations - 1)).isInstanceOf(PropertyDeclarationTree.class);
+    assertThat(tree.allDeclarations().get(numberOfDeclarations - 1).colon().column()).isEqualTo((numberOfDeclarations - 1) * "color:green;".length() + "color".length());
+    assertThat(tree.allDeclarations().get(numberOfDeclarations)).isInstanceOf(VariableDeclarationTree.class);
+  }
+
+  @Test
+  public void declarations_in_source_order() {
+    DeclarationsTree tree = checkParsed(";color:green;--myvar:blabla;;width:1px");
+
+    assertThat(tree.allDeclarations()).hasSize(3);
+    assertThat(tree.allDeclarations().get(0)).isSameAs(tree.propertyDeclarations().get(0));
+    assertThat(tree.allDeclarations().get(1)).isSameAs(tree.variableDeclarations().get(0));
+    assertThat(tree.allDeclarations().get(2)).isSameAs(tree.propertyDeclarations().get(1));
+    assertThat(tree.emptyDeclarations()).hasSize(2);
+    assertThat(tree.treeValue()).isEqualTo(";color:green;--myvar:blabla;;width:1px");
+  }
+
   @Test
   public void notDeclarations() {
     checkNotParsed("color");
@@ -108,6 +108,42 @@ public class NumberTreeTest extends TreeTest {
     checkParsed("-0.11");
   }
 
+  @Test
+  public void zero_and_integer_flags() {
+    NumberTree tree;
+
+    tree = checkParsed("-.000");
+    assertThat(tree.isZero()).isTrue();
+    assertThat(tree.isInteger()).isFalse();
+
+    tree = checkParsed("000");
+    assertThat(tree.isZero()).isTrue();
+    assertThat(tree.isInteger()).isTrue();
+
+    tree = checkParsed("0.001");
+    assertThat(tree.isZero()).isFalse();
+    assertThat(tree.isInteger()).isFalse();
+
+    tree = checkParsed("-12");
+    assertThat(tree.isInteger()).isTrue();
+    assertThat(tree.integerValue()).isEqualTo(-12);
+
+    tree = checkParsed("2.5");
+    assertThat(tree.isInteger()).isFalse();
+    assertThat(tree.integerValue()).isEqualTo(3);
+  }
+
+  @Test
+  public void values_should_be_parsed_as_by_double_value_of() {
+    String[] numbers = {"0.1", "0.3", "1.0000000000000002", "123456789012345", "1234567890123456789", "99999999999999999999.5",
+      "-0.000000000000000000001", "3.14159265358979323846", ".123456789012345", "0.0000123456789012345", "+4503599627370497.5"};
+    for (String number : numbers) {
+      NumberTree tree = checkParsed(number);
+      assertThat(tree.doubleValue()).as(number).isEqualTo(Double.valueOf(number));
+      assertThat(tree.integerValue()).as(number).isEqualTo(Math.round(Double.valueOf(number)));
+    }
+  }
+
   @Test
   public void notNumber() {
     checkNotParsed("+");
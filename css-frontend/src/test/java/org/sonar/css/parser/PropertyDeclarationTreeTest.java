@@ -58,6 +58,29 @@ public class PropertyDeclarationTreeTest extends TreeTest {
     checkParsed(" color : 123");
   }
 
+  @Test
+  public void validity() {
+    assertThat(checkParsed("color:red").isValid()).isTrue();
+    assertThat(checkParsed("color: RED").isValid()).isTrue();
+    assertThat(checkParsed("color: 10px").isValid()).isFalse();
+    assertThat(checkParsed("color: red blue").isValid()).isFalse();
+    assertThat(checkParsed("color: inherit").isValid()).isTrue();
+    assertThat(checkParsed("color: var(--main-color)").isValid()).isTrue();
+    assertThat(checkParsed("color: rgb(1, 2, 3)").isValid()).isTrue();
+    assertThat(checkParsed("color: rgb(1,2,3)").isValid()).isTrue();
+    assertThat(checkParsed("color: rgb (1, 2, 3)").isValid()).isFalse();
+    assertThat(checkParsed("color: rgb/* comment */(1, 2, 3)").isValid()).isFalse();
+    assertThat(checkParsed("color: rgb(1, 2, 3)").isValid()).isTrue();
+    assertThat(checkParsed("unknown-property: 10px").isValid()).isTrue();
+  }
+
+  @Test
+  public void validity_is_computed_once() {
+    PropertyDeclarationTree tree = checkParsed("margin: 0 auto");
+    assertThat(tree.isValid()).isTrue();
+    assertThat(tree.isValid()).isTrue();
+  }
+
   @Test
   public void notPropertyDeclaration() {
     checkNotParsed("color");
@@ -23,9 +23,17 @@ import com.google.common.base.Charsets;
 import com.google.common.io.Files;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.Test;
+import org.sonar.css.tree.impl.CssTree;
+import org.sonar.css.tree.impl.InternalSyntaxToken;
 import org.sonar.plugins.css.api.tree.StyleSheetTree;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
+import org.sonar.plugins.css.api.tree.SyntaxTrivia;
+import org.sonar.plugins.css.api.tree.Tree;
 
 import static org.fest.assertions.Assertions.assertThat;
 
@@ -65,11 +73,46 @@ public class StyleSheetTreeTest extends TreeTest {
     checkParsed(new File("src/test/resources/starting-with-bom.css"));
   }
 
+  @Test
+  public void tokens() throws Exception {
+    StyleSheetTree tree = (StyleSheetTree) parser().parse("/* a */ .b { color: red; } /* c */");
+    assertThat(tree.tokens()).hasSize(11);
+    assertThat(tree.tokens().get(0)).isInstanceOf(SyntaxTrivia.class);
+    assertThat(tree.tokens().get(0).text()).isEqualTo("/* a */");
+    assertThat(tree.tokens().get(1).text()).isEqualTo(".");
+    assertThat(tree.tokens().get(2).text()).isEqualTo("b");
+    assertThat(tree.tokens().get(9).text()).isEqualTo("/* c */");
+    assertThat(((InternalSyntaxToken) tree.tokens().get(10)).isEOF()).isTrue();
+
+    tree = (StyleSheetTree) parser().parse("\ufeff.a{}");
+    assertThat(((InternalSyntaxToken) tree.tokens().get(0)).isBOM()).isTrue();
+
+    tree = checkParsed(new File("src/test/resources/animate.css"));
+    assertThat(tree.tokens()).isEqualTo(tokensOf(tree));
+  }
+
   @Test
   public void notStylesheet() {
     checkNotParsed("abc");
   }
 
+  private static List<SyntaxToken> tokensOf(Tree tree) {
+    List<SyntaxToken> tokens = new ArrayList<>();
+    if (tree instanceof SyntaxToken) {
+      tokens.addAll(((SyntaxToken) tree).trivias());
+      tokens.add((SyntaxToken) tree);
+    } else {
+      Iterator<Tree> children = ((CssTree) tree).childrenIterator();
+      while (children.hasNext()) {
+        Tree child = children.next();
+        if (child != null) {
+          tokens.addAll(tokensOf(child));
+        }
+      }
+    }
+    return tokens;
+  }
+
   private void checkParsed(String toParse) {
     parser().parse(toParse);
   }
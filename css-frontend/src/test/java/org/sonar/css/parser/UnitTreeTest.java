@@ -20,6 +20,7 @@
 package org.sonar.css.parser;
 
 import org.junit.Test;
+import org.sonar.css.model.Unit;
 import org.sonar.plugins.css.api.tree.UnitTree;
 
 import static org.fest.assertions.Assertions.assertThat;
@@ -91,6 +92,16 @@ public class UnitTreeTest extends TreeTest {
     checkParsed("khz");
   }
 
+  @Test
+  public void standard_unit() {
+    for (Unit unit : Unit.values()) {
+      assertThat(checkParsed(unit.getText()).standardUnit()).isSameAs(unit);
+    }
+    assertThat(checkParsed("PX").standardUnit()).isNull();
+    assertThat(checkParsed("hz").standardUnit()).isNull();
+    assertThat(checkParsed("dB").standardUnit()).isNull();
+  }
+
   @Test
   public void notUnit() {
     checkNotParsed("abc");
@@ -100,10 +111,11 @@ public class UnitTreeTest extends TreeTest {
     checkNotParsed("abc ");
   }
 
-  private void checkParsed(String toParse) {
+  private UnitTree checkParsed(String toParse) {
     UnitTree tree = (UnitTree) parser().parse(toParse);
     assertThat(tree.value()).isNotNull();
     assertThat(tree.text()).isEqualTo(toParse);
+    return tree;
   }
 
 }
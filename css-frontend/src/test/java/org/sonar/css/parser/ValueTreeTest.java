@@ -19,8 +19,21 @@
  */
 package org.sonar.css.parser;
 
+import java.util.List;
+
 import org.junit.Test;
+import org.sonar.css.tree.impl.IdentifierTreeImpl;
+import org.sonar.plugins.css.api.tree.DelimiterTree;
+import org.sonar.plugins.css.api.tree.DimensionTree;
 import org.sonar.plugins.css.api.tree.FunctionTree;
+import org.sonar.plugins.css.api.tree.IdentifierTree;
+import org.sonar.plugins.css.api.tree.LiteralTree;
+import org.sonar.plugins.css.api.tree.NumberTree;
+import org.sonar.plugins.css.api.tree.PercentageTree;
+import org.sonar.plugins.css.api.tree.StringTree;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.tree.UnicodeRangeTree;
+import org.sonar.plugins.css.api.tree.UriTree;
 import org.sonar.plugins.css.api.tree.ValueTree;
 
 import static org.fest.assertions.Assertions.assertThat;
@@ -53,6 +66,61 @@ public class ValueTreeTest extends TreeTest {
     assertThat(tree.sanitizedValueElements().get(1)).isInstanceOf(FunctionTree.class);
   }
 
+  @Test
+  public void value_elements_by_first_character() {
+    ValueTree tree = checkParsed("10 10% 10px -10 -10% -10px - -a -a(1) a a(1) url(a.png) u+0025 *a \\31 a +.5em");
+    assertThat(tree.valueElements()).hasSize(16);
+    assertThat(tree.valueElements().get(0)).isInstanceOf(NumberTree.class);
+    assertThat(tree.valueElements().get(1)).isInstanceOf(PercentageTree.class);
+    assertThat(tree.valueElements().get(2)).isInstanceOf(DimensionTree.class);
+    assertThat(tree.valueElements().get(3)).isInstanceOf(NumberTree.class);
+    assertThat(tree.valueElements().get(4)).isInstanceOf(PercentageTree.class);
+    assertThat(tree.valueElements().get(5)).isInstanceOf(DimensionTree.class);
+    assertThat(tree.valueElements().get(6)).isInstanceOf(IdentifierTree.class);
+    assertThat(tree.valueElements().get(7)).isInstanceOf(IdentifierTree.class);
+    assertThat(tree.valueElements().get(8)).isInstanceOf(FunctionTree.class);
+    assertThat(tree.valueElements().get(9)).isInstanceOf(IdentifierTree.class);
+    assertThat(tree.valueElements().get(10)).isInstanceOf(FunctionTree.class);
+    assertThat(tree.valueElements().get(11)).isInstanceOf(UriTree.class);
+    assertThat(tree.valueElements().get(12)).isInstanceOf(UnicodeRangeTree.class);
+    assertThat(tree.valueElements().get(13)).isInstanceOf(IdentifierTree.class);
+    assertThat(tree.valueElements().get(14)).isInstanceOf(IdentifierTree.class);
+    assertThat(tree.valueElements().get(15)).isInstanceOf(DimensionTree.class);
+
+    tree = checkParsed("1 / 2");
+    assertThat(tree.valueElements()).hasSize(3);
+    assertThat(tree.valueElements().get(1)).isInstanceOf(DelimiterTree.class);
+  }
+
+  @Test
+  public void value_elements_of_kind() {
+    ValueTree tree = checkParsed("url(a.png) 10px a 'b' url(c.png) !important");
+    assertThat(tree.valueElementsOfKind(Tree.Kind.URI)).hasSize(2);
+    assertThat(tree.valueElementsOfKind(Tree.Kind.URI).get(1).treeValue()).isEqualTo("url(c.png)");
+    assertThat(tree.valueElementsOfKind(Tree.Kind.IMPORTANT)).hasSize(1);
+    assertThat(tree.valueElementsOfKind(Tree.Kind.FUNCTION)).isEmpty();
+  }
+
+  @Test
+  public void value_elements_of_type() {
+    ValueTree tree = checkParsed("url(a.png) 10px a 'b' url(c.png) 5 !important");
+    assertThat(tree.valueElementsOfType(UriTree.class)).hasSize(2);
+    assertThat(tree.valueElementsOfType(UriTree.class).get(0).treeValue()).isEqualTo("url(a.png)");
+    assertThat(tree.valueElementsOfType(FunctionTree.class)).isEmpty();
+    assertThat(tree.valueElementsOfType(Tree.class)).hasSize(7);
+    assertThat(tree.valueElementsOfType(IdentifierTreeImpl.class)).hasSize(1);
+
+    List<LiteralTree> literals = tree.valueElementsOfType(LiteralTree.class);
+    assertThat(literals).hasSize(3);
+    assertThat(literals.get(0)).isInstanceOf(IdentifierTree.class);
+    assertThat(literals.get(1)).isInstanceOf(StringTree.class);
+    assertThat(literals.get(2)).isInstanceOf(NumberTree.class);
+
+    assertThat(tree.firstValueElementOfType(UriTree.class).get().treeValue()).isEqualTo("url(a.png)");
+    assertThat(tree.firstValueElementOfType(LiteralTree.class).get()).isInstanceOf(IdentifierTree.class);
+    assertThat(tree.firstValueElementOfType(FunctionTree.class).isPresent()).isFalse();
+  }
+
   private ValueTree checkParsed(String toParse) {
     ValueTree tree = (ValueTree) parser().parse(toParse);
     assertThat(tree).isNotNull();
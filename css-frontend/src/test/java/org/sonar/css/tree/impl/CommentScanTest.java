@@ -0,0 +1,91 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.tree.impl;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class CommentScanTest {
+
+  @Test
+  public void comment_lines() {
+    assertThat(commentLines("/* a */", 3)).isEqualTo(lines(3));
+    assertThat(commentLines("/* */", 3)).isEqualTo(lines());
+    assertThat(commentLines("/* *** */", 3)).isEqualTo(lines());
+    assertThat(commentLines("/*\n a\n\n b\r\n c\r d */", 1)).isEqualTo(lines(2, 4, 5, 6));
+    assertThat(commentLines("<!--\n a\n-->", 5)).isEqualTo(lines(6));
+    assertThat(commentLines("/* NOSONAR\n a */", 1)).isEqualTo(lines(2));
+  }
+
+  @Test
+  public void nosonar_lines() {
+    assertThat(noSonarLines("/* NOSONAR */", 7)).isEqualTo(lines(7));
+    assertThat(noSonarLines("/* a\n b NOSONAR c\n d */", 7)).isEqualTo(lines(8));
+    assertThat(noSonarLines("/* nosonar */", 7)).isEqualTo(lines());
+    assertThat(noSonarLines("/* NOSONA\nR */", 7)).isEqualTo(lines());
+  }
+
+  @Test
+  public void index_of_ignore_case() {
+    assertThat(CommentScan.of("/* a TODO b */", 1).indexOfIgnoreCase("todo")).isEqualTo(5);
+    assertThat(CommentScan.of("/* TODOS todo */", 1).indexOfIgnoreCase("TODO")).isEqualTo(3);
+    assertThat(CommentScan.of("/* a\n\tfixme*/", 1).indexOfIgnoreCase("FIXME")).isEqualTo(6);
+    assertThat(CommentScan.of("<!--TODO-->", 1).indexOfIgnoreCase("TODO")).isEqualTo(4);
+    assertThat(CommentScan.of("/* TOD O */", 1).indexOfIgnoreCase("TODO")).isEqualTo(-1);
+    assertThat(CommentScan.of("/* a */", 1).indexOfIgnoreCase("TODO")).isEqualTo(-1);
+    assertThat(CommentScan.of("/* a: b */", 1).indexOfIgnoreCase("A: B")).isEqualTo(3);
+    assertThat(CommentScan.of("/* a */", 1).indexOfIgnoreCase("")).isEqualTo(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void not_a_comment() {
+    CommentScan.of("a", 1);
+  }
+
+  @Test
+  public void scan_is_shared() {
+    InternalSyntaxTrivia trivia = new InternalSyntaxTrivia("/* a */", 1, 0);
+    assertThat(trivia.commentScan()).isSameAs(trivia.commentScan());
+  }
+
+  private static BitSet commentLines(String comment, int line) {
+    BitSet lines = new BitSet();
+    CommentScan.of(comment, line).addCommentLines(lines);
+    return lines;
+  }
+
+  private static BitSet noSonarLines(String comment, int line) {
+    BitSet lines = new BitSet();
+    CommentScan.of(comment, line).addNoSonarLines(lines);
+    return lines;
+  }
+
+  private static BitSet lines(int... lineNumbers) {
+    BitSet lines = new BitSet();
+    for (int lineNumber : lineNumbers) {
+      lines.set(lineNumber);
+    }
+    return lines;
+  }
+
+}
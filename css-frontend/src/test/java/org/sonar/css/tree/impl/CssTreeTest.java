@@ -0,0 +1,153 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.tree.impl;
+
+import com.google.common.base.Charsets;
+import com.sonar.sslr.api.typed.ActionParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.sonar.css.parser.CssParserBuilder;
+import org.sonar.plugins.css.api.tree.AtRuleTree;
+import org.sonar.plugins.css.api.tree.StyleSheetTree;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
+import org.sonar.plugins.css.api.tree.Tree;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class CssTreeTest {
+
+  private final ActionParser<Tree> parser = CssParserBuilder.createParser(Charsets.UTF_8);
+
+  @Test
+  public void children_of_at_rules() {
+    StyleSheetTree tree = (StyleSheetTree) parser.parse("@media screen { .a { color: red } }\n@b;");
+    CssTree media = (CssTree) tree.atRules().get(0);
+    CssTree atRuleWithoutPrelude = (CssTree) tree.atRules().get(1);
+
+    assertThat(media.childCount()).isEqualTo(4);
+    assertThat(media.child(0)).isSameAs(((AtRuleTree) media).atKeyword());
+    assertThat(media.child(1).is(Tree.Kind.IDENTIFIER)).isTrue();
+    assertThat(media.child(2)).isSameAs(((AtRuleTree) media).block());
+    assertThat(media.child(3)).isNull();
+
+    assertThat(atRuleWithoutPrelude.childCount()).isEqualTo(2);
+    assertThat(atRuleWithoutPrelude.child(1)).isNull();
+  }
+
+  @Test
+  public void leaves_have_no_children() {
+    CssTree token = (CssTree) ((CssTree) parser.parse("a{}")).getFirstToken();
+
+    assertThat(token.isLeaf()).isTrue();
+    assertThat(token.childCount()).isEqualTo(0);
+    assertOutOfBounds(token, 0);
+    try {
+      token.childrenIterator();
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void indexed_children_list_the_tokens_in_source_order() throws IOException {
+    File[] files = new File("src/test/resources").listFiles((dir, name) -> name.endsWith(".css"));
+    assertThat(files).isNotEmpty();
+
+    Map<String, String> sources = new LinkedHashMap<>();
+    for (File file : files) {
+      sources.put(file.getName(), new String(Files.readAllBytes(file.toPath()), Charsets.UTF_8));
+    }
+    sources.put("kinds missing from the files", "@namespace svg url(http://www.w3.org/2000/svg);\n"
+      + ":root { --main-color: #06c; }\n"
+      + "#header [type=\"a\" i], svg|circle, [xlink|href] { color: var(--main-color); unicode-range: u+0025-00ff; }");
+
+    Set<Tree.Kind> visitedKinds = EnumSet.noneOf(Tree.Kind.class);
+    for (Map.Entry<String, String> source : sources.entrySet()) {
+      StyleSheetTree tree = (StyleSheetTree) parser.parse(source.getValue());
+      List<SyntaxToken> leaves = new ArrayList<>();
+      collectLeaves((CssTree) tree, leaves, visitedKinds);
+
+      List<SyntaxToken> tokens = new ArrayList<>();
+      for (SyntaxToken token : tree.tokens()) {
+        if (!(token instanceof InternalSyntaxTrivia)) {
+          tokens.add(token);
+        }
+      }
+      assertThat(leaves).as(source.getKey()).isEqualTo(tokens);
+      for (int i = 1; i < leaves.size(); i++) {
+        assertThat(isBefore(leaves.get(i - 1), leaves.get(i))).as(source.getKey() + " at line " + leaves.get(i).line()).isTrue();
+      }
+      assertThat(((CssTree) tree).getFirstToken()).isSameAs(tokens.get(0));
+      assertThat(((CssTree) tree).getLastToken()).isSameAs(tokens.get(tokens.size() - 1));
+    }
+    assertThat(EnumSet.complementOf(EnumSet.copyOf(visitedKinds))).containsOnly(Tree.Kind.TOKEN, Tree.Kind.TRIVIA, Tree.Kind.SPACING);
+  }
+
+  /**
+   * Collects the tokens reached through {@link CssTree#child(int)}, and checks that {@link CssTree#childrenIterator()}
+   * returns the same children.
+   */
+  private static void collectLeaves(CssTree tree, List<SyntaxToken> leaves, Set<Tree.Kind> visitedKinds) {
+    if (tree.isLeaf()) {
+      leaves.add((SyntaxToken) tree);
+      return;
+    }
+    visitedKinds.add(tree.getKind());
+    int childCount = tree.childCount();
+    Iterator<Tree> children = tree.childrenIterator();
+    for (int i = 0; i < childCount; i++) {
+      Tree child = tree.child(i);
+      assertThat(children.next()).isSameAs(child);
+      if (child != null) {
+        collectLeaves((CssTree) child, leaves, visitedKinds);
+      }
+    }
+    assertThat(children.hasNext()).isFalse();
+    assertOutOfBounds(tree, -1);
+    assertOutOfBounds(tree, childCount);
+  }
+
+  private static boolean isBefore(SyntaxToken token, SyntaxToken next) {
+    return token.line() < next.line() || (token.line() == next.line() && token.column() + token.text().length() <= next.column());
+  }
+
+  private static void assertOutOfBounds(CssTree tree, int index) {
+    try {
+      tree.child(index);
+      fail(tree.getKind() + " " + index);
+    } catch (IndexOutOfBoundsException e) {
+      // expected
+    }
+  }
+
+}
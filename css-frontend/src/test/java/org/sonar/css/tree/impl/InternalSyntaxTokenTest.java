@@ -0,0 +1,69 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.css.tree.impl;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class InternalSyntaxTokenTest {
+
+  private static final String[] VALUES = {
+    "",
+    "a",
+    "color",
+    "\n",
+    "\r\n",
+    "\r",
+    "\n\n",
+    "\r\r\n\n",
+    "/* a\nb */",
+    "/* a\r\nbc */",
+    "/* a\rbcd\n */",
+    "'abc\\\r\ndef'"};
+
+  @Test
+  public void should_compute_end_positions_of_tokens() {
+    for (String value : VALUES) {
+      InternalSyntaxToken token = new InternalSyntaxToken(3, 7, value, Collections.emptyList(), false, false);
+      assertEndPosition(token, value);
+    }
+  }
+
+  @Test
+  public void should_compute_end_positions_of_trivia() {
+    for (String value : VALUES) {
+      assertEndPosition(InternalSyntaxTrivia.create(value, 3, 7), value);
+    }
+  }
+
+  private static void assertEndPosition(SyntaxToken token, String value) {
+    String[] lines = value.split("\r\n|\n|\r", -1);
+    int expectedEndLine = 3 + lines.length - 1;
+    int expectedEndColumn = lines.length == 1 ? 7 + value.length() : lines[lines.length - 1].length();
+
+    assertThat(token.endLine()).as(value).isEqualTo(expectedEndLine);
+    assertThat(token.endColumn()).as(value).isEqualTo(expectedEndColumn);
+  }
+
+}
@@ -20,6 +20,7 @@
 package org.sonar.css.visitors.metrics;
 
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableSet;
 
 import java.io.File;
 
@@ -34,12 +35,16 @@ import org.sonar.css.tree.impl.CssTree;
 import org.sonar.plugins.css.api.visitors.TreeVisitorContext;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class MetricsVisitorTest {
 
   private SensorContextTester context;
+  private NoSonarFilter noSonarFilter;
 
   private void setUp(String fileName) {
     File moduleBaseDir = new File("src/test/resources/metrics/");
@@ -52,7 +57,8 @@ public class MetricsVisitorTest {
 
     context.fileSystem().add(inputFile);
 
-    MetricsVisitor metricsVisitor = new MetricsVisitor(context, mock(NoSonarFilter.class));
+    noSonarFilter = mock(NoSonarFilter.class);
+    MetricsVisitor metricsVisitor = new MetricsVisitor(context, noSonarFilter);
 
     TreeVisitorContext treeVisitorContext = mock(TreeVisitorContext.class);
     when(treeVisitorContext.getFile()).thenReturn(inputFile.file());
@@ -70,6 +76,17 @@ public class MetricsVisitorTest {
     assertThat(context.measure(componentKey, CoreMetrics.COMMENT_LINES).value()).isEqualTo(4);
     assertThat(context.measure(componentKey, CoreMetrics.STATEMENTS).value()).isEqualTo(11);
     assertThat(context.measure(componentKey, CoreMetrics.FUNCTIONS).value()).isEqualTo(6);
+    verify(noSonarFilter).noSonarInFile(any(InputFile.class), eq(ImmutableSet.of(10)));
+  }
+
+  @Test
+  public void test_comment_lines_with_mixed_line_endings() {
+    setUp("comments.css");
+
+    String componentKey = "moduleKey:comments.css";
+    assertThat(context.measure(componentKey, CoreMetrics.NCLOC).value()).isEqualTo(3);
+    assertThat(context.measure(componentKey, CoreMetrics.COMMENT_LINES).value()).isEqualTo(3);
+    verify(noSonarFilter).noSonarInFile(any(InputFile.class), eq(ImmutableSet.of(3, 9)));
   }
 
   @Test
@@ -0,0 +1,236 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.plugins.css.api.visitors;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.sonar.css.parser.CssParserBuilder;
+import org.sonar.css.tree.impl.CssTree;
+import org.sonar.plugins.css.api.tree.IdentifierTree;
+import org.sonar.plugins.css.api.tree.SyntaxToken;
+import org.sonar.plugins.css.api.tree.SyntaxTrivia;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.issue.Issue;
+import org.sonar.plugins.css.api.visitors.issue.PreciseIssue;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SubscriptionVisitorWalkerTest {
+
+  private static final String CSS = "/* a */ .a { color: red; width: calc(1px + 2%); }\n@media screen { .b { margin: 0 auto !important; } }";
+
+  @Test
+  public void should_call_the_same_callbacks_as_separate_traversals() {
+    TreeVisitorContext context = context();
+
+    List<RecordingVisitor> separateVisitors = recordingVisitors();
+    for (RecordingVisitor visitor : separateVisitors) {
+      visitor.scanTree(context);
+    }
+
+    List<RecordingVisitor> walkedVisitors = recordingVisitors();
+    new SubscriptionVisitorWalker(walkedVisitors).scanTree(context);
+
+    for (int i = 0; i < separateVisitors.size(); i++) {
+      assertThat(walkedVisitors.get(i).events).isEqualTo(separateVisitors.get(i).events);
+    }
+    assertThat(walkedVisitors.get(0).events).isNotEmpty();
+  }
+
+  @Test
+  public void should_consult_overridden_subscriptions_as_separate_traversals() {
+    TreeVisitorContext context = context();
+
+    RecordingVisitor separateVisitor = new FirstLineVisitor();
+    separateVisitor.scanTree(context);
+
+    RecordingVisitor walkedVisitor = new FirstLineVisitor();
+    new SubscriptionVisitorWalker(ImmutableList.of(walkedVisitor, new RecordingVisitor(Tree.Kind.RULESET))).scanTree(context);
+
+    assertThat(walkedVisitor.events).isEqualTo(separateVisitor.events);
+    assertThat(walkedVisitor.events).isEqualTo(ImmutableList.of("visitFile", "visit RULESET", "leave RULESET", "leaveFile"));
+  }
+
+  @Test
+  public void should_return_the_same_issues_as_separate_traversals() {
+    TreeVisitorContext context = context();
+
+    List<Issue> separateIssues = new ArrayList<>();
+    for (IdentifierCheck check : identifierChecks()) {
+      separateIssues.addAll(check.scanFile(context));
+    }
+
+    SubscriptionVisitorWalker walker = new SubscriptionVisitorWalker(identifierChecks());
+    List<Issue> walkedIssues = walker.scanFile(context);
+
+    assertThat(walkedIssues).isNotEmpty();
+    assertThat(messages(walkedIssues)).isEqualTo(messages(separateIssues));
+
+    // Issues of the previous scan are not reported again
+    assertThat(walker.scanFile(context)).hasSize(walkedIssues.size());
+  }
+
+  @Test
+  public void should_feed_the_token_stream_before_the_walk_of_the_tree() {
+    TreeVisitorContext context = context();
+
+    TokenRecordingVisitor separateVisitor = new TokenRecordingVisitor();
+    separateVisitor.scanTree(context);
+
+    TokenRecordingVisitor walkedVisitor = new TokenRecordingVisitor();
+    TokenRecordingVisitor otherWalkedVisitor = new TokenRecordingVisitor();
+    new SubscriptionVisitorWalker(ImmutableList.of(walkedVisitor, new RecordingVisitor(Tree.Kind.RULESET), otherWalkedVisitor)).scanTree(context);
+
+    assertThat(walkedVisitor.events).isEqualTo(separateVisitor.events);
+    assertThat(otherWalkedVisitor.events).isEqualTo(separateVisitor.events);
+    assertThat(walkedVisitor.events.get(0)).isEqualTo("visitFile");
+    assertThat(walkedVisitor.events.get(1)).isEqualTo("comment /* a */");
+    assertThat(walkedVisitor.events.get(2)).isEqualTo("token .");
+    assertThat(walkedVisitor.events.subList(walkedVisitor.events.size() - 4, walkedVisitor.events.size()))
+      .isEqualTo(ImmutableList.of("token ", "visit RULESET", "visit RULESET", "leaveFile"));
+  }
+
+  private static TreeVisitorContext context() {
+    TreeVisitorContext context = mock(TreeVisitorContext.class);
+    when(context.getFile()).thenReturn(new File("walker.css"));
+    when(context.getTopTree()).thenReturn((CssTree) CssParserBuilder.createParser(Charsets.UTF_8).parse(CSS));
+    return context;
+  }
+
+  private static List<RecordingVisitor> recordingVisitors() {
+    return ImmutableList.of(
+      new RecordingVisitor(Tree.Kind.RULESET, Tree.Kind.PROPERTY_DECLARATION),
+      new RecordingVisitor(Tree.Kind.FUNCTION, Tree.Kind.DIMENSION, Tree.Kind.PERCENTAGE),
+      new RecordingVisitor(Tree.Kind.PROPERTY_DECLARATION, Tree.Kind.IMPORTANT),
+      new RecordingVisitor(Tree.Kind.CLASS_SELECTOR, Tree.Kind.CLASS_SELECTOR));
+  }
+
+  private static List<IdentifierCheck> identifierChecks() {
+    return ImmutableList.of(new IdentifierCheck("first"), new IdentifierCheck("second"));
+  }
+
+  private static List<String> messages(List<Issue> issues) {
+    return issues.stream()
+      .map(issue -> ((PreciseIssue) issue).primaryLocation().message())
+      .collect(Collectors.toList());
+  }
+
+  private static class RecordingVisitor extends SubscriptionVisitor {
+
+    private final List<Tree.Kind> kinds;
+    protected final List<String> events = new ArrayList<>();
+
+    RecordingVisitor(Tree.Kind... kinds) {
+      this.kinds = ImmutableList.copyOf(kinds);
+    }
+
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+      return kinds;
+    }
+
+    @Override
+    public void visitFile(Tree tree) {
+      events.add("visitFile");
+    }
+
+    @Override
+    public void visitNode(Tree tree) {
+      events.add("visit " + ((CssTree) tree).getKind());
+    }
+
+    @Override
+    public void leaveNode(Tree tree) {
+      events.add("leave " + ((CssTree) tree).getKind());
+    }
+
+    @Override
+    public void leaveFile(Tree tree) {
+      events.add("leaveFile");
+    }
+
+  }
+
+  private static class FirstLineVisitor extends RecordingVisitor {
+
+    FirstLineVisitor() {
+      super(Tree.Kind.RULESET);
+    }
+
+    @Override
+    protected boolean isSubscribed(Tree tree) {
+      return super.isSubscribed(tree) && ((CssTree) tree).getLine() == 1;
+    }
+
+  }
+
+  private static class TokenRecordingVisitor extends RecordingVisitor implements TokenStreamVisitor {
+
+    TokenRecordingVisitor() {
+      super(Tree.Kind.RULESET);
+    }
+
+    @Override
+    public void leaveNode(Tree tree) {
+      // Only the visits are recorded
+    }
+
+    @Override
+    public void visitToken(SyntaxToken token) {
+      events.add("token " + token.text());
+    }
+
+    @Override
+    public void visitComment(SyntaxTrivia comment) {
+      events.add("comment " + comment.text());
+    }
+
+  }
+
+  private static class IdentifierCheck extends SubscriptionVisitorCheck {
+
+    private final String name;
+
+    IdentifierCheck(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+      return ImmutableList.of(Tree.Kind.IDENTIFIER);
+    }
+
+    @Override
+    public void visitNode(Tree tree) {
+      addPreciseIssue(tree, name + " " + ((IdentifierTree) tree).text());
+    }
+
+  }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.plugins.css.api.visitors;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.sonar.sslr.api.typed.ActionParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.Test;
+import org.sonar.css.parser.CssParserBuilder;
+import org.sonar.css.tree.impl.CssTree;
+import org.sonar.plugins.css.api.tree.Tree;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class SubtreeKindsTest {
+
+  private final ActionParser<Tree> parser = CssParserBuilder.createParser(Charsets.UTF_8);
+
+  @Test
+  public void kinds_below() {
+    assertThat(SubtreeKinds.kindsBelow(Tree.Kind.IDENTIFIER)).containsOnly(Tree.Kind.TOKEN);
+    assertThat(SubtreeKinds.kindsBelow(Tree.Kind.TOKEN)).isEmpty();
+    assertThat(SubtreeKinds.kindsBelow(Tree.Kind.STYLESHEET)).excludes(Tree.Kind.STYLESHEET, Tree.Kind.TRIVIA, Tree.Kind.SPACING);
+    assertThat(SubtreeKinds.kindsBelow(Tree.Kind.SELECTORS)).contains(Tree.Kind.PSEUDO_FUNCTION, Tree.Kind.FUNCTION)
+      .excludes(Tree.Kind.DECLARATIONS, Tree.Kind.VALUE);
+    assertThat(SubtreeKinds.kindsBelow(Tree.Kind.VALUE)).contains(Tree.Kind.PROPERTY_DECLARATION)
+      .excludes(Tree.Kind.RULESET, Tree.Kind.SELECTOR);
+  }
+
+  @Test
+  public void kinds_to_enter() {
+    boolean[] kindsToEnter = SubtreeKinds.kindsToEnter(ImmutableList.of(Tree.Kind.SELECTOR));
+
+    assertThat(kindsToEnter[Tree.Kind.STYLESHEET.ordinal()]).isTrue();
+    assertThat(kindsToEnter[Tree.Kind.SELECTOR.ordinal()]).isTrue();
+    assertThat(kindsToEnter[Tree.Kind.RULESET_BLOCK.ordinal()]).isFalse();
+    assertThat(kindsToEnter[Tree.Kind.COMPOUND_SELECTOR.ordinal()]).isFalse();
+    assertThat(kindsToEnter[Tree.Kind.TOKEN.ordinal()]).isFalse();
+  }
+
+  @Test
+  public void parsed_trees_only_contain_the_declared_kinds() throws IOException {
+    File[] files = new File("src/test/resources").listFiles((dir, name) -> name.endsWith(".css"));
+    assertThat(files).isNotEmpty();
+
+    for (File file : files) {
+      assertDeclaredKinds((CssTree) parser.parse(new String(Files.readAllBytes(file.toPath()), Charsets.UTF_8)));
+    }
+    assertDeclaredKinds((CssTree) parser.parse(
+      "@font-face { src: url(\"a.woff\"); unicode-range: U+0025-00FF; }\n"
+        + "@keyframes k { from { a: b } 50% { a: c } }\n"
+        + "@page :first { margin: 1in; @top-left { content: \"x\" } }\n"
+        + "ns|a[ns|b^=\"c\" i] > .d + #e ~ f:not(.g)::after { --v: calc(-1px + 2%) !important; h: [i] j(k) #fff 'l' / }\n"
+        + ".m { --n: { o: p } }"));
+  }
+
+  /**
+   * Returns the kinds found in the tree, and checks that the kinds found below each tree are declared.
+   */
+  private static Set<Tree.Kind> assertDeclaredKinds(CssTree tree) {
+    Set<Tree.Kind> kinds = EnumSet.of(tree.getKind());
+    if (!tree.isLeaf()) {
+      Set<Tree.Kind> kindsBelow = EnumSet.noneOf(Tree.Kind.class);
+      for (Iterator<Tree> iter = tree.childrenIterator(); iter.hasNext();) {
+        Tree child = iter.next();
+        if (child != null) {
+          kindsBelow.addAll(assertDeclaredKinds((CssTree) child));
+        }
+      }
+      assertThat(SubtreeKinds.kindsBelow(tree.getKind())).as(tree.getKind().toString()).contains(kindsBelow.toArray());
+      kinds.addAll(kindsBelow);
+    }
+    return kinds;
+  }
+
+}
@@ -19,10 +19,14 @@
  */
 package org.sonar.plugins.css;
 
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -37,7 +41,9 @@ import org.sonar.plugins.css.api.visitors.TreeVisitor;
 public class CssChecks {
 
   private final CheckFactory checkFactory;
-  private Set<Checks<CssCheck>> checksByRepository = Sets.newHashSet();
+  private Set<Checks<CssCheck>> checksByRepository = Sets.newLinkedHashSet();
+  private final ListMultimap<String, Class<?>> checkClassesByRepository = LinkedListMultimap.create();
+  private final Map<CssCheck, RuleKey> ruleKeysOfCopies = new IdentityHashMap<>();
 
   private CssChecks(CheckFactory checkFactory) {
     this.checkFactory = checkFactory;
@@ -52,6 +58,9 @@ public class CssChecks {
       .<CssCheck>create(repositoryKey)
       .addAnnotatedChecks(checkClass));
 
+    for (Class<?> clazz : checkClass) {
+      checkClassesByRepository.put(repositoryKey, clazz);
+    }
     return this;
   }
 
@@ -82,6 +91,27 @@ public class CssChecks {
       .collect(Collectors.toList());
   }
 
+  /**
+   * Creates new instances of the same checks, so that they can be run concurrently with this set of checks.
+   * Rule keys of the checks of the copy can be retrieved through {@link #ruleKeyFor(CssCheck)} on this object.
+   */
+  public CssChecks copy() {
+    CssChecks copy = new CssChecks(checkFactory);
+    for (String repositoryKey : checkClassesByRepository.keySet()) {
+      List<Class<?>> checkClasses = checkClassesByRepository.get(repositoryKey);
+      Checks<CssCheck> checks = checkFactory
+        .<CssCheck>create(repositoryKey)
+        .addAnnotatedChecks(checkClasses);
+
+      copy.checksByRepository.add(checks);
+      copy.checkClassesByRepository.putAll(repositoryKey, checkClasses);
+      for (CssCheck check : checks.all()) {
+        ruleKeysOfCopies.put(check, checks.ruleKey(check));
+      }
+    }
+    return copy;
+  }
+
   @Nullable
   public RuleKey ruleKeyFor(CssCheck check) {
     RuleKey ruleKey;
@@ -93,7 +123,8 @@ public class CssChecks {
         return ruleKey;
       }
     }
-    return null;
+
+    return ruleKeysOfCopies.get(check);
   }
 
 }
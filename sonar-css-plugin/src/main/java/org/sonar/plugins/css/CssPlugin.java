@@ -22,6 +22,7 @@ package org.sonar.plugins.css;
 import org.sonar.api.Plugin;
 import org.sonar.api.Properties;
 import org.sonar.api.Property;
+import org.sonar.api.PropertyType;
 
 @Properties({
   @Property(
@@ -36,12 +37,38 @@ import org.sonar.api.Property;
     name = "Minimum number of tokens to start detecting duplication",
     description = "Set a value lower than the default one set in SonarQube (100) because CSS is less verbose than other languages.",
     global = false, project = false),
+  @Property(
+    key = CssPlugin.ANALYSIS_THREADS_KEY,
+    name = "Number of analysis threads",
+    description = "Number of threads used to analyze CSS files. Leave empty to use as many threads as available processors. Set to 1 to analyze files sequentially.",
+    type = PropertyType.INTEGER,
+    global = true, project = true),
+  @Property(
+    key = CssPlugin.HAND_WRITTEN_PARSER_KEY,
+    defaultValue = "false",
+    name = "Hand-written parser",
+    description = "Parse files with the hand-written parser instead of the SSLR grammar. Both build identical syntax trees and report identical parsing errors.",
+    type = PropertyType.BOOLEAN,
+    global = true, project = true),
+  @Property(
+    key = CssPlugin.COMPILED_VALUE_SYNTAX_KEY,
+    defaultValue = "false",
+    name = "Compiled value syntax",
+    description = "Validate property values against automata compiled from their value definition syntax instead of the hand-written validators, where the syntax is exact. Both accept the same values.",
+    type = PropertyType.BOOLEAN,
+    global = true, project = true),
 })
 public class CssPlugin implements Plugin {
 
   public static final String FILE_SUFFIXES_KEY = "sonar.css.file.suffixes";
   public static final String FILE_SUFFIXES_DEFAULT_VALUE = "css";
 
+  public static final String ANALYSIS_THREADS_KEY = "sonar.css.analysis.threads";
+
+  public static final String HAND_WRITTEN_PARSER_KEY = "sonar.css.analysis.handWrittenParser";
+
+  public static final String COMPILED_VALUE_SYNTAX_KEY = "sonar.css.analysis.compiledValueSyntax";
+
   @Override
   public void define(Context context) {
     context.addExtensions(
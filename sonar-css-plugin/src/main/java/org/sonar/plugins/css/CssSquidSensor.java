@@ -20,14 +20,21 @@
 package org.sonar.plugins.css;
 
 import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.sonar.sslr.api.RecognitionException;
-import com.sonar.sslr.api.typed.ActionParser;
 
 import java.io.File;
 import java.io.InterruptedIOException;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
@@ -47,16 +54,13 @@ import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
 import org.sonar.css.checks.CheckList;
 import org.sonar.css.checks.ParsingErrorCheck;
-import org.sonar.css.parser.CssParserBuilder;
-import org.sonar.css.tree.impl.CssTree;
-import org.sonar.css.visitors.CharsetAwareVisitor;
-import org.sonar.css.visitors.CssVisitorContext;
+import org.sonar.css.model.property.StandardProperty;
 import org.sonar.css.visitors.cpd.CpdVisitor;
 import org.sonar.css.visitors.highlighter.SyntaxHighlighterVisitor;
 import org.sonar.css.visitors.metrics.MetricsVisitor;
 import org.sonar.plugins.css.api.CssCheck;
 import org.sonar.plugins.css.api.CustomCssRulesDefinition;
-import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorWalker;
 import org.sonar.plugins.css.api.visitors.TreeVisitor;
 import org.sonar.plugins.css.api.visitors.issue.Issue;
 import org.sonar.squidbridge.ProgressReport;
@@ -68,7 +72,6 @@ public class CssSquidSensor implements Sensor {
 
   private final FileSystem fileSystem;
   private final CssChecks checks;
-  private final ActionParser<Tree> parser;
   private final FilePredicate mainFilePredicate;
   private final NoSonarFilter noSonarFilter;
   private IssueSaver issueSaver;
@@ -85,8 +88,6 @@ public class CssSquidSensor implements Sensor {
       fileSystem.predicates().hasType(InputFile.Type.MAIN),
       fileSystem.predicates().hasLanguage(CssLanguage.KEY));
 
-    this.parser = CssParserBuilder.createParser(fileSystem.encoding());
-
     this.checks = CssChecks.createCssChecks(checkFactory)
       .addChecks(CheckList.REPOSITORY_KEY, CheckList.getChecks())
       .addCustomChecks(customRulesDefinition);
@@ -104,75 +105,150 @@ public class CssSquidSensor implements Sensor {
 
   @Override
   public void execute(SensorContext sensorContext) {
-    List<TreeVisitor> treeVisitors = Lists.newArrayList();
-    treeVisitors.addAll(checks.visitorChecks());
-    treeVisitors.add(new SyntaxHighlighterVisitor(sensorContext));
-    treeVisitors.add(new CpdVisitor(sensorContext));
-    treeVisitors.add(new MetricsVisitor(sensorContext, noSonarFilter));
+    SubscriptionVisitorWalker sensorVisitors = new SubscriptionVisitorWalker(ImmutableList.of(
+      new SyntaxHighlighterVisitor(sensorContext),
+      new CpdVisitor(sensorContext),
+      new MetricsVisitor(sensorContext, noSonarFilter)));
 
-    setParsingErrorCheckIfActivated(treeVisitors);
+    setParsingErrorCheckIfActivated(checks.visitorChecks());
+    StandardProperty.enableCompiledValidators(sensorContext.settings().getBoolean(CssPlugin.COMPILED_VALUE_SYNTAX_KEY));
 
     ProgressReport progressReport = new ProgressReport("Report about progress of CSS analyzer", TimeUnit.SECONDS.toMillis(10));
     progressReport.start(Lists.newArrayList(fileSystem.files(mainFilePredicate)));
 
     issueSaver = new IssueSaver(sensorContext, checks);
-    List<Issue> issues = new ArrayList<>();
+    List<InputFile> inputFiles = Lists.newArrayList(fileSystem.inputFiles(mainFilePredicate));
+    int threads = analysisThreads(sensorContext);
 
     boolean success = false;
     try {
-      for (InputFile inputFile : fileSystem.inputFiles(mainFilePredicate)) {
+      if (threads > 1) {
+        analyzeFilesInParallel(sensorContext, inputFiles, sensorVisitors, progressReport, threads);
+      } else {
+        analyzeFiles(sensorContext, inputFiles, sensorVisitors, progressReport);
+      }
+      success = true;
+    } finally {
+      stopProgressReport(progressReport, success);
+    }
+  }
+
+  private void analyzeFiles(SensorContext sensorContext, List<InputFile> inputFiles, SubscriptionVisitorWalker visitors, ProgressReport progressReport) {
+    FileAnalyzer fileAnalyzer = new FileAnalyzer(fileSystem.encoding(), checks, handWrittenParser(sensorContext));
+
+    for (InputFile inputFile : inputFiles) {
+      if (isExcluded(inputFile.file())) {
+        LOG.info("File " + inputFile.file().getAbsolutePath() + " is excluded from the analysis.");
+      } else {
+        scanFile(sensorContext, analyzeFile(fileAnalyzer, inputFile), visitors);
+      }
+      progressReport.nextFile();
+    }
+  }
+
+  /**
+   * Files are parsed and checked concurrently by workers owning their own parser and check instances.
+   * Results are then consumed in the same order as in a sequential analysis, on the calling thread,
+   * so that issues and measures are saved exactly as in a sequential analysis.
+   * At most {@code 2 * threads} files are submitted ahead of the file being consumed, so that only
+   * a bounded number of trees and issues are kept in memory at the same time.
+   */
+  private void analyzeFilesInParallel(SensorContext sensorContext, List<InputFile> inputFiles, SubscriptionVisitorWalker visitors, ProgressReport progressReport,
+    int threads) {
+    BlockingQueue<FileAnalyzer> fileAnalyzers = new ArrayBlockingQueue<>(threads);
+    boolean handWrittenParser = handWrittenParser(sensorContext);
+    for (int i = 0; i < threads; i++) {
+      fileAnalyzers.add(new FileAnalyzer(fileSystem.encoding(), checks.copy(), handWrittenParser));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    int maxPendingAnalyses = 2 * threads;
+
+    try {
+      Deque<Future<FileAnalysis>> pendingAnalyses = new ArrayDeque<>();
+      int nextFileToSubmit = 0;
+
+      for (InputFile inputFile : inputFiles) {
+        while (nextFileToSubmit < inputFiles.size() && pendingAnalyses.size() < maxPendingAnalyses) {
+          InputFile fileToSubmit = inputFiles.get(nextFileToSubmit);
+          if (!isExcluded(fileToSubmit.file())) {
+            pendingAnalyses.add(executor.submit(() -> analyzeFile(fileAnalyzers, fileToSubmit)));
+          }
+          nextFileToSubmit++;
+        }
+
         if (isExcluded(inputFile.file())) {
           LOG.info("File " + inputFile.file().getAbsolutePath() + " is excluded from the analysis.");
         } else {
-          issues.addAll(analyzeFile(sensorContext, inputFile, treeVisitors));
+          scanFile(sensorContext, waitFor(pendingAnalyses.remove()), visitors);
         }
         progressReport.nextFile();
       }
-      saveSingleFileIssues(issues);
-      success = true;
     } finally {
-      stopProgressReport(progressReport, success);
+      executor.shutdownNow();
     }
   }
 
-  private List<Issue> analyzeFile(SensorContext sensorContext, InputFile inputFile, List<TreeVisitor> visitors) {
+  private static FileAnalysis analyzeFile(BlockingQueue<FileAnalyzer> fileAnalyzers, InputFile inputFile) throws InterruptedException {
+    FileAnalyzer fileAnalyzer = fileAnalyzers.take();
     try {
-      CssTree cssTree = (CssTree) parser.parse(new File(inputFile.absolutePath()));
-      return scanFile(inputFile, cssTree, visitors);
+      return analyzeFile(fileAnalyzer, inputFile);
+    } finally {
+      fileAnalyzers.add(fileAnalyzer);
+    }
+  }
+
+  private static FileAnalysis analyzeFile(FileAnalyzer fileAnalyzer, InputFile inputFile) {
+    try {
+      return fileAnalyzer.analyze(inputFile);
 
     } catch (RecognitionException e) {
       checkInterrupted(e);
-      LOG.error("Unable to parse file: " + inputFile.absolutePath());
-      LOG.error(e.getMessage());
-      processRecognitionException(e, sensorContext, inputFile);
+      return FileAnalysis.notParsed(inputFile, e);
 
     } catch (Exception e) {
       checkInterrupted(e);
       throw new AnalysisException("Unable to analyze file: " + inputFile.absolutePath(), e);
     }
-    return new ArrayList<>();
   }
 
-  private List<Issue> scanFile(InputFile inputFile, CssTree tree, List<TreeVisitor> visitors) {
-    CssVisitorContext context = new CssVisitorContext(tree, inputFile.file());
-    List<Issue> issues = new ArrayList<>();
-    for (TreeVisitor visitor : visitors) {
-      if (visitor instanceof CharsetAwareVisitor) {
-        ((CharsetAwareVisitor) visitor).setCharset(fileSystem.encoding());
-      }
-      if (visitor instanceof CssCheck) {
-        issues.addAll(((CssCheck) visitor).scanFile(context));
-      } else {
-        visitor.scanTree(context);
-      }
+  private void scanFile(SensorContext sensorContext, FileAnalysis fileAnalysis, SubscriptionVisitorWalker visitors) {
+    if (!fileAnalysis.isParsed()) {
+      RecognitionException e = fileAnalysis.parsingError();
+      LOG.error("Unable to parse file: " + fileAnalysis.inputFile().absolutePath());
+      LOG.error(e.getMessage());
+      processRecognitionException(e, sensorContext, fileAnalysis.inputFile());
+      return;
     }
-    return issues;
+
+    visitors.scanTree(fileAnalysis.context());
+    saveSingleFileIssues(fileAnalysis.issues());
   }
 
   private void saveSingleFileIssues(List<Issue> issues) {
     issues.forEach(issueSaver::saveIssue);
   }
 
+  private static int analysisThreads(SensorContext sensorContext) {
+    int threads = sensorContext.settings().getInt(CssPlugin.ANALYSIS_THREADS_KEY);
+    return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+  }
+
+  private static boolean handWrittenParser(SensorContext sensorContext) {
+    return sensorContext.settings().getBoolean(CssPlugin.HAND_WRITTEN_PARSER_KEY);
+  }
+
+  private static FileAnalysis waitFor(Future<FileAnalysis> fileAnalysis) {
+    try {
+      return fileAnalysis.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AnalysisException("Analysis cancelled", e);
+    } catch (ExecutionException e) {
+      throw Throwables.propagate(e.getCause());
+    }
+  }
+
   private boolean isExcluded(File file) {
     return file.getName().endsWith("-min.css") || file.getName().endsWith(".min.css");
   }
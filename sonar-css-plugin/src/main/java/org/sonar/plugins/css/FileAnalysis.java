@@ -0,0 +1,79 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.plugins.css;
+
+import com.google.common.base.Preconditions;
+import com.sonar.sslr.api.RecognitionException;
+
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.css.visitors.CssVisitorContext;
+import org.sonar.plugins.css.api.visitors.issue.Issue;
+
+/**
+ * Outcome of the analysis of a single file by a {@link FileAnalyzer}: either the parsed tree and the issues
+ * raised by the checks, or the parsing error.
+ */
+class FileAnalysis {
+
+  private final InputFile inputFile;
+  private final CssVisitorContext context;
+  private final List<Issue> issues;
+  private final RecognitionException parsingError;
+
+  private FileAnalysis(InputFile inputFile, @Nullable CssVisitorContext context, List<Issue> issues, @Nullable RecognitionException parsingError) {
+    this.inputFile = inputFile;
+    this.context = context;
+    this.issues = issues;
+    this.parsingError = parsingError;
+  }
+
+  static FileAnalysis parsed(InputFile inputFile, CssVisitorContext context, List<Issue> issues) {
+    return new FileAnalysis(inputFile, context, issues, null);
+  }
+
+  static FileAnalysis notParsed(InputFile inputFile, RecognitionException parsingError) {
+    return new FileAnalysis(inputFile, null, Collections.emptyList(), parsingError);
+  }
+
+  InputFile inputFile() {
+    return inputFile;
+  }
+
+  boolean isParsed() {
+    return parsingError == null;
+  }
+
+  CssVisitorContext context() {
+    return Preconditions.checkNotNull(context);
+  }
+
+  List<Issue> issues() {
+    return issues;
+  }
+
+  RecognitionException parsingError() {
+    return Preconditions.checkNotNull(parsingError);
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * SonarQube CSS Plugin
+ * Copyright (C) 2013-2016 Tamas Kende and David RACODON
+ * mailto: kende.tamas@gmail.com and david.racodon@gmail.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.plugins.css;
+
+import com.sonar.sslr.api.typed.ActionParser;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.css.FileContent;
+import org.sonar.css.parser.CssHandWrittenParser;
+import org.sonar.css.parser.CssParserBuilder;
+import org.sonar.css.tree.impl.CssTree;
+import org.sonar.css.visitors.CharsetAwareVisitor;
+import org.sonar.css.visitors.CssVisitorContext;
+import org.sonar.plugins.css.api.CssCheck;
+import org.sonar.plugins.css.api.tree.Tree;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitor;
+import org.sonar.plugins.css.api.visitors.SubscriptionVisitorWalker;
+import org.sonar.plugins.css.api.visitors.TreeVisitor;
+import org.sonar.plugins.css.api.visitors.issue.Issue;
+
+/**
+ * Parses files and runs checks on them. An analyzer owns its parser and its check instances,
+ * so it must not be shared between threads: create one analyzer per worker.
+ * All the subscription checks are run together in a single traversal of each tree.
+ */
+class FileAnalyzer {
+
+  private final Charset charset;
+  private final Function<String, Tree> parser;
+  private final SubscriptionVisitorWalker subscriptionWalker;
+  private final List<TreeVisitor> otherVisitors = new ArrayList<>();
+
+  FileAnalyzer(Charset charset, CssChecks checks, boolean handWrittenParser) {
+    this.charset = charset;
+    if (handWrittenParser) {
+      this.parser = new CssHandWrittenParser()::parse;
+    } else {
+      ActionParser<Tree> sslrParser = CssParserBuilder.createParser(charset);
+      this.parser = sslrParser::parse;
+    }
+
+    List<SubscriptionVisitor> subscriptionVisitors = new ArrayList<>();
+    for (TreeVisitor visitor : checks.visitorChecks()) {
+      if (visitor instanceof CharsetAwareVisitor) {
+        ((CharsetAwareVisitor) visitor).setCharset(charset);
+      }
+      if (visitor instanceof SubscriptionVisitor) {
+        subscriptionVisitors.add((SubscriptionVisitor) visitor);
+      } else {
+        otherVisitors.add(visitor);
+      }
+    }
+    this.subscriptionWalker = new SubscriptionVisitorWalker(subscriptionVisitors);
+  }
+
+  /**
+   * @throws com.sonar.sslr.api.RecognitionException if the file cannot be parsed
+   */
+  FileAnalysis analyze(InputFile inputFile) {
+    FileContent fileContent = FileContent.read(inputFile.file(), charset);
+    CssTree tree = (CssTree) parser.apply(fileContent.text());
+    CssVisitorContext context = new CssVisitorContext(tree, inputFile.file(), fileContent);
+
+    List<Issue> issues = new ArrayList<>(subscriptionWalker.scanFile(context));
+    for (TreeVisitor visitor : otherVisitors) {
+      if (visitor instanceof CssCheck) {
+        issues.addAll(((CssCheck) visitor).scanFile(context));
+      } else {
+        visitor.scanTree(context);
+      }
+    }
+    return FileAnalysis.parsed(inputFile, context, issues);
+  }
+
+}
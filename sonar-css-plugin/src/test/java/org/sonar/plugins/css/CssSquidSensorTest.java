@@ -21,7 +21,10 @@ package org.sonar.plugins.css;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import org.junit.After;
 import org.junit.Test;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.DefaultInputFile;
@@ -37,6 +40,9 @@ import org.sonar.api.issue.NoSonarFilter;
 import org.sonar.api.measures.CoreMetrics;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.css.checks.CheckList;
+import org.sonar.css.model.property.StandardProperty;
+import org.sonar.css.model.property.StandardPropertyFactory;
+import org.sonar.css.model.property.validator.syntax.ValueSyntaxValidator;
 
 import static org.fest.assertions.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -47,6 +53,11 @@ public class CssSquidSensorTest {
   private final SensorContextTester context = SensorContextTester.create(baseDir);
   private CheckFactory checkFactory = new CheckFactory(mock(ActiveRules.class));
 
+  @After
+  public void disable_compiled_validators() {
+    StandardProperty.enableCompiledValidators(false);
+  }
+
   @Test
   public void should_create_a_valid_sensor_descriptor() {
     DefaultSensorDescriptor descriptor = new DefaultSensorDescriptor();
@@ -153,6 +164,87 @@ public class CssSquidSensorTest {
     assertThat(context.measure("moduleKey:minified/test-min.css", CoreMetrics.NCLOC)).isNull();
   }
 
+  @Test
+  public void should_validate_property_values_with_the_compiled_value_syntax() {
+    inputFile("propertyValues.css");
+
+    ActiveRules activeRules = (new ActiveRulesBuilder())
+      .create(RuleKey.of(CheckList.REPOSITORY_KEY, "validate-property-value"))
+      .activate()
+      .build();
+    checkFactory = new CheckFactory(activeRules);
+    context.settings().setProperty(CssPlugin.COMPILED_VALUE_SYNTAX_KEY, true);
+
+    createCssSquidSensor().execute(context);
+
+    assertThat(StandardPropertyFactory.getByName("margin").getEnabledValidators().get(0)).isInstanceOf(ValueSyntaxValidator.class);
+    assertThat(context.allIssues()).hasSize(2);
+    assertThat(context.allIssues().stream().map(i -> i.primaryLocation().textRange().start().line()).collect(Collectors.toList())).containsOnly(3, 4);
+  }
+
+  @Test
+  public void should_save_the_same_issues_and_measures_in_sequential_and_parallel_modes() {
+    SensorContextTester sequentialContext = executeOnSeveralFiles(1, false);
+    SensorContextTester parallelContext = executeOnSeveralFiles(4, false);
+
+    assertThat(issues(parallelContext)).hasSize(7);
+    assertSameIssuesAndMeasures(parallelContext, sequentialContext);
+  }
+
+  @Test
+  public void should_save_the_same_issues_and_measures_with_the_hand_written_parser() {
+    SensorContextTester sslrParserContext = executeOnSeveralFiles(1, false);
+    SensorContextTester handWrittenParserContext = executeOnSeveralFiles(1, true);
+
+    assertThat(issues(handWrittenParserContext)).hasSize(7);
+    assertSameIssuesAndMeasures(handWrittenParserContext, sslrParserContext);
+  }
+
+  private void assertSameIssuesAndMeasures(SensorContextTester actualContext, SensorContextTester expectedContext) {
+    assertThat(issues(actualContext)).isEqualTo(issues(expectedContext));
+
+    for (String relativePath : new String[] {"issues.css", "issuesWithBOM.css", "measures.css", "measuresWithBOM.css"}) {
+      String key = "moduleKey:" + relativePath;
+      assertThat(actualContext.measure(key, CoreMetrics.NCLOC).value()).isEqualTo(expectedContext.measure(key, CoreMetrics.NCLOC).value());
+      assertThat(actualContext.measure(key, CoreMetrics.COMMENT_LINES).value()).isEqualTo(expectedContext.measure(key, CoreMetrics.COMMENT_LINES).value());
+      assertThat(actualContext.measure(key, CoreMetrics.COMPLEXITY).value()).isEqualTo(expectedContext.measure(key, CoreMetrics.COMPLEXITY).value());
+    }
+  }
+
+  private SensorContextTester executeOnSeveralFiles(int threads, boolean handWrittenParser) {
+    SensorContextTester sensorContext = SensorContextTester.create(baseDir);
+    sensorContext.settings().setProperty(CssPlugin.ANALYSIS_THREADS_KEY, threads);
+    sensorContext.settings().setProperty(CssPlugin.HAND_WRITTEN_PARSER_KEY, handWrittenParser);
+
+    for (String relativePath : new String[] {"issues.css", "issuesWithBOM.css", "measures.css", "measuresWithBOM.css", "parsingError.css"}) {
+      DefaultInputFile inputFile = new DefaultInputFile("moduleKey", relativePath)
+        .setModuleBaseDir(baseDir.toPath())
+        .setType(InputFile.Type.MAIN)
+        .setLanguage(CssLanguage.KEY);
+      sensorContext.fileSystem().add(inputFile);
+      inputFile.initMetadata(new FileMetadata().readMetadata(inputFile.file(), Charsets.UTF_8));
+    }
+
+    ActiveRules activeRules = (new ActiveRulesBuilder())
+      .create(RuleKey.of(CheckList.REPOSITORY_KEY, "S1135"))
+      .activate()
+      .create(RuleKey.of(CheckList.REPOSITORY_KEY, "important"))
+      .activate()
+      .create(RuleKey.of(CheckList.REPOSITORY_KEY, "S2260"))
+      .activate()
+      .build();
+    sensorContext.setActiveRules(activeRules);
+
+    new CssSquidSensor(sensorContext.fileSystem(), new CheckFactory(activeRules), new NoSonarFilter()).execute(sensorContext);
+    return sensorContext;
+  }
+
+  private static List<String> issues(SensorContextTester sensorContext) {
+    return sensorContext.allIssues().stream()
+      .map(i -> i.ruleKey() + " " + i.primaryLocation().inputComponent().key() + ":" + i.primaryLocation().textRange().start().line() + " " + i.primaryLocation().message())
+      .collect(Collectors.toList());
+  }
+
   private CssSquidSensor createCssSquidSensor() {
     return new CssSquidSensor(context.fileSystem(), checkFactory, new NoSonarFilter());
   }